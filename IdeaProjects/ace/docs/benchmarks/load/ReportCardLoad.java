@@ -0,0 +1,161 @@
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.LongStream;
+
+/**
+ * Same load as report-card.js, for hosts without k6 (JDK 21+, no dependencies):
+ *
+ *   java docs/benchmarks/load/ReportCardLoad.java
+ *
+ * Options (-DNAME=value): STUDENT_ID (required), USERNAME, PASSWORD, BASE_URL
+ * (http://localhost:8080), VUS (200), DURATION (2m, ISO-8601 or Ns/Nm),
+ * YEAR (2026), SEMESTER (1). Each VU is a virtual thread that sends one
+ * request at a time, 80% reportCard and 20% students page, like k6's
+ * constant-vus executor.
+ */
+public class ReportCardLoad {
+
+    private static final String REPORT_CARD = "query($studentId: ID!, $year: Int!, $semester: Int!) { "
+            + "reportCard(studentId: $studentId, year: $year, semester: $semester) { "
+            + "gpa attendancePercentage isApproved "
+            + "subjectGrades { subjectId average grades { score weight } } } }";
+
+    private static final String STUDENTS = "query { studentsConnection(first: 20) { edges { node { id fullName enrollmentNumber } } } }";
+
+    public static void main(String[] args) throws Exception {
+        String baseUrl = System.getProperty("BASE_URL", "http://localhost:8080");
+        String studentId = required("STUDENT_ID");
+        int vus = Integer.parseInt(System.getProperty("VUS", "200"));
+        Duration duration = duration(System.getProperty("DURATION", "2m"));
+        int year = Integer.parseInt(System.getProperty("YEAR", "2026"));
+        int semester = Integer.parseInt(System.getProperty("SEMESTER", "1"));
+
+        HttpClient client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(10))
+                .build();
+        URI uri = URI.create(baseUrl + "/graphql");
+
+        String token = login(client, uri, required("USERNAME"), required("PASSWORD"));
+        String reportCard = body(REPORT_CARD, "{\"studentId\":\"" + studentId + "\",\"year\":" + year
+                + ",\"semester\":" + semester + "}");
+        String students = body(STUDENTS, "{}");
+
+        AtomicLong errors = new AtomicLong();
+        List<Samples> samples = new ArrayList<>();
+        long end = System.nanoTime() + duration.toNanos();
+
+        List<Thread> threads = new ArrayList<>();
+        for (int i = 0; i < vus; i++) {
+            Samples own = new Samples();
+            samples.add(own);
+            threads.add(Thread.ofVirtual().start(() -> {
+                while (System.nanoTime() < end) {
+                    String payload = ThreadLocalRandom.current().nextDouble() < 0.8 ? reportCard : students;
+                    HttpRequest request = HttpRequest.newBuilder(uri)
+                            .timeout(Duration.ofSeconds(60))
+                            .header("Content-Type", "application/json")
+                            .header("Authorization", "Bearer " + token)
+                            .POST(HttpRequest.BodyPublishers.ofString(payload))
+                            .build();
+                    long start = System.nanoTime();
+                    boolean ok;
+                    try {
+                        HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
+                        ok = response.statusCode() == 200 && !response.body().contains("\"errors\"");
+                    } catch (Exception e) {
+                        ok = false;
+                    }
+                    own.add(System.nanoTime() - start);
+                    if (!ok) {
+                        errors.incrementAndGet();
+                    }
+                }
+            }));
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        long[] all = samples.stream().flatMapToLong(Samples::stream).sorted().toArray();
+        double seconds = duration.toNanos() / 1e9;
+        System.out.printf("vus=%d duration=%s requests=%d errors=%d%n", vus, duration, all.length, errors.get());
+        System.out.printf("req/s=%.1f avg=%.1fms p50=%.1fms p95=%.1fms p99=%.1fms max=%.1fms%n",
+                all.length / seconds,
+                Arrays.stream(all).average().orElse(0) / 1e6,
+                percentile(all, 0.50), percentile(all, 0.95), percentile(all, 0.99),
+                all.length > 0 ? all[all.length - 1] / 1e6 : 0);
+    }
+
+    private static double percentile(long[] sorted, double p) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int index = (int) Math.ceil(p * sorted.length) - 1;
+        return sorted[Math.max(0, index)] / 1e6;
+    }
+
+    private static String login(HttpClient client, URI uri, String username, String password) throws Exception {
+        String payload = body("mutation($input: LoginInput!) { login(input: $input) { token } }",
+                "{\"input\":{\"username\":\"" + username + "\",\"password\":\"" + password + "\"}}");
+        HttpResponse<String> response = client.send(HttpRequest.newBuilder(uri)
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(payload))
+                .build(), HttpResponse.BodyHandlers.ofString());
+        Matcher matcher = Pattern.compile("\"token\"\\s*:\\s*\"([^\"]+)\"").matcher(response.body());
+        if (!matcher.find()) {
+            throw new IllegalStateException("login failed: " + response.body());
+        }
+        return matcher.group(1);
+    }
+
+    private static String body(String query, String variables) {
+        return "{\"query\":\"" + query.replace("\"", "\\\"") + "\",\"variables\":" + variables + "}";
+    }
+
+    private static Duration duration(String value) {
+        if (value.startsWith("P")) {
+            return Duration.parse(value);
+        }
+        long amount = Long.parseLong(value.substring(0, value.length() - 1));
+        return value.endsWith("m") ? Duration.ofMinutes(amount) : Duration.ofSeconds(amount);
+    }
+
+    private static String required(String name) {
+        String value = System.getProperty(name);
+        if (value == null || value.isBlank()) {
+            throw new IllegalArgumentException(name + " is required (-D" + name + "=...)");
+        }
+        return value;
+    }
+
+    /**
+     * Latencies (ns) of one VU, written only by its thread.
+     */
+    private static final class Samples {
+
+        private long[] values = new long[1024];
+        private int count;
+
+        void add(long value) {
+            if (count == values.length) {
+                values = Arrays.copyOf(values, count * 2);
+            }
+            values[count++] = value;
+        }
+
+        LongStream stream() {
+            return Arrays.stream(values, 0, count);
+        }
+    }
+}
@@ -0,0 +1,67 @@
+// Load test of the GraphQL read path (reportCard + students page) for the
+// platform-thread vs virtual-thread comparison. See ../README.md.
+//
+//   k6 run -e STUDENT_ID=<uuid> -e USERNAME=admin -e PASSWORD=secret docs/benchmarks/load/report-card.js
+//
+// Options (-e NAME=value): BASE_URL (http://localhost:8080), VUS (200),
+// DURATION (2m), YEAR (2026), SEMESTER (1).
+import http from 'k6/http';
+import { check, fail } from 'k6';
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:8080';
+const STUDENT_ID = __ENV.STUDENT_ID;
+const YEAR = Number(__ENV.YEAR || 2026);
+const SEMESTER = Number(__ENV.SEMESTER || 1);
+
+export const options = {
+  scenarios: {
+    reads: {
+      executor: 'constant-vus',
+      vus: Number(__ENV.VUS || 200),
+      duration: __ENV.DURATION || '2m',
+    },
+  },
+  summaryTrendStats: ['avg', 'p(50)', 'p(95)', 'p(99)', 'max'],
+};
+
+const REPORT_CARD = `query($studentId: ID!, $year: Int!, $semester: Int!) {
+  reportCard(studentId: $studentId, year: $year, semester: $semester) {
+    gpa attendancePercentage isApproved
+    subjectGrades { subjectId average grades { score weight } }
+  }
+}`;
+
+const STUDENTS = `query { studentsConnection(first: 20) { edges { node { id fullName enrollmentNumber } } } }`;
+
+function graphql(token, query, variables) {
+  return http.post(`${BASE_URL}/graphql`, JSON.stringify({ query, variables }), {
+    headers: { 'Content-Type': 'application/json', Authorization: `Bearer ${token}` },
+  });
+}
+
+export function setup() {
+  if (!STUDENT_ID) {
+    fail('STUDENT_ID is required');
+  }
+  const login = http.post(`${BASE_URL}/graphql`, JSON.stringify({
+    query: 'mutation($input: LoginInput!) { login(input: $input) { token } }',
+    variables: { input: { username: __ENV.USERNAME, password: __ENV.PASSWORD } },
+  }), { headers: { 'Content-Type': 'application/json' } });
+
+  const token = login.json('data.login.token');
+  if (!token) {
+    fail(`login failed: ${login.body}`);
+  }
+  return { token };
+}
+
+export default function (data) {
+  const response = Math.random() < 0.8
+    ? graphql(data.token, REPORT_CARD, { studentId: STUDENT_ID, year: YEAR, semester: SEMESTER })
+    : graphql(data.token, STUDENTS, {});
+
+  check(response, {
+    'status 200': (r) => r.status === 200,
+    'no errors': (r) => !r.json('errors'),
+  });
+}
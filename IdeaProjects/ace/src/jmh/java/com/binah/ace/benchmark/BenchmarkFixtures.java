@@ -0,0 +1,90 @@
+package com.binah.ace.benchmark;
+
+import com.binah.ace.shared.valueobject.CPF;
+import com.binah.ace.shared.valueobject.Email;
+import com.binah.ace.student.domain.entity.Grade;
+import com.binah.ace.student.domain.entity.Student;
+import com.binah.ace.student.domain.enums.AssessmentType;
+import com.binah.ace.student.domain.enums.StudentStatus;
+import com.binah.ace.student.domain.valueobject.AcademicPeriod;
+import com.binah.ace.student.domain.valueobject.Enrollment;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+
+/**
+ * Deterministic test data shared by the benchmarks.
+ *
+ * @author Marcos Gustavo
+ */
+final class BenchmarkFixtures {
+
+    static final String VALID_CPF = "52998224725";
+    static final String FORMATTED_CPF = "529.982.247-25";
+    static final String VALID_EMAIL = "Maria.Silva@Escola.edu.br";
+
+    static final AcademicPeriod PERIOD = AcademicPeriod.of(2026, 1, 1);
+
+    private static final AssessmentType[] TYPES = AssessmentType.values();
+
+    private BenchmarkFixtures() {
+        throw new UnsupportedOperationException("Utility class");
+    }
+
+    /**
+     * Grades spread over 8 subjects, scores 0.00–10.00 and weights 0.50–3.00.
+     */
+    static List<Grade> grades(int count, long seed) {
+        Random random = new Random(seed);
+        UUID studentId = new UUID(seed, seed);
+        UUID[] subjects = new UUID[8];
+        for (int i = 0; i < subjects.length; i++) {
+            subjects[i] = new UUID(seed, i);
+        }
+
+        List<Grade> grades = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            grades.add(new Grade(
+                    new UUID(seed, 1_000 + i),
+                    studentId,
+                    subjects[i % subjects.length],
+                    TYPES[i % TYPES.length],
+                    PERIOD,
+                    BigDecimal.valueOf(random.nextInt(1_001), 2),
+                    BigDecimal.valueOf(50 + random.nextInt(251), 2),
+                    "Assessment " + i,
+                    LocalDate.of(2026, 3, 1).plusDays(i % 90),
+                    null,
+                    studentId,
+                    LocalDateTime.of(2026, 3, 1, 10, 0),
+                    LocalDateTime.of(2026, 3, 1, 10, 0)
+            ));
+        }
+        return grades;
+    }
+
+    static Student student() {
+        return new Student(
+                UUID.fromString("0f8fad5b-d9cb-469f-a165-70867728950e"),
+                "Maria da Conceição Silva",
+                new CPF(VALID_CPF),
+                new Email(VALID_EMAIL),
+                LocalDate.of(2010, 5, 17),
+                "+55 11 99999-0000",
+                "Rua das Flores, 123",
+                Enrollment.of("20260215-001", LocalDate.of(2026, 2, 15)),
+                StudentStatus.ACTIVE,
+                LocalDate.of(2026, 2, 15),
+                "José da Silva",
+                "+55 11 98888-0000",
+                new Email("jose.silva@example.com"),
+                LocalDateTime.of(2026, 2, 15, 9, 30),
+                LocalDateTime.of(2026, 2, 15, 9, 30)
+        );
+    }
+}
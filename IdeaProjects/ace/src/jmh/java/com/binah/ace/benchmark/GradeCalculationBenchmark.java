@@ -0,0 +1,64 @@
+package com.binah.ace.benchmark;
+
+import com.binah.ace.student.domain.entity.Grade;
+import com.binah.ace.student.domain.service.GpaCalculator;
+import com.binah.ace.student.domain.valueobject.GPA;
+import com.binah.ace.student.domain.valueobject.ReportCard;
+import com.binah.ace.student.interfaces.graphql.dto.ReportCardDTO;
+import org.openjdk.jmh.annotations.*;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Grade and report card hot paths, parameterized by the number of grades.
+ *
+ * @author Marcos Gustavo
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class GradeCalculationBenchmark {
+
+    @Param({"10", "100", "1000"})
+    private int gradeCount;
+
+    private List<Grade> grades;
+    private ReportCard reportCard;
+
+    @Setup
+    public void setUp() {
+        grades = BenchmarkFixtures.grades(gradeCount, 42);
+
+        Map<UUID, List<Grade>> gradesBySubject = grades.stream()
+                .collect(Collectors.groupingBy(Grade::getClassroomSubjectId));
+
+        reportCard = ReportCard.of(
+                UUID.randomUUID(),
+                "Maria da Conceição Silva",
+                "20260215-001",
+                BenchmarkFixtures.PERIOD,
+                GpaCalculator.weightedAverage(grades),
+                BigDecimal.valueOf(85.0),
+                true,
+                gradesBySubject
+        );
+    }
+
+    @Benchmark
+    public GPA calculateWeightedAverage() {
+        return GpaCalculator.weightedAverage(grades);
+    }
+
+    @Benchmark
+    public ReportCardDTO reportCardDtoFrom() {
+        return ReportCardDTO.from(reportCard);
+    }
+}
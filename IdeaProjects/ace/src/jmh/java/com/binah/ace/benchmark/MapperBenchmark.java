@@ -0,0 +1,62 @@
+package com.binah.ace.benchmark;
+
+import com.binah.ace.student.domain.entity.Grade;
+import com.binah.ace.student.domain.entity.Student;
+import com.binah.ace.student.infrastructure.persistence.jpa.GradeJpaEntity;
+import com.binah.ace.student.infrastructure.persistence.jpa.StudentJpaEntity;
+import com.binah.ace.student.infrastructure.persistence.mapper.GradeMapper;
+import com.binah.ace.student.infrastructure.persistence.mapper.StudentMapper;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Domain ↔ JPA mapping cost, including the value object re-validation
+ * done by toDomain.
+ *
+ * @author Marcos Gustavo
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class MapperBenchmark {
+
+    private final StudentMapper studentMapper = new StudentMapper();
+    private final GradeMapper gradeMapper = new GradeMapper();
+
+    private Student student;
+    private StudentJpaEntity studentEntity;
+    private Grade grade;
+    private GradeJpaEntity gradeEntity;
+
+    @Setup
+    public void setUp() {
+        student = BenchmarkFixtures.student();
+        studentEntity = studentMapper.toJpa(student);
+        grade = BenchmarkFixtures.grades(1, 7).get(0);
+        gradeEntity = gradeMapper.toJpa(grade);
+    }
+
+    @Benchmark
+    public Student studentToDomain() {
+        return studentMapper.toDomain(studentEntity);
+    }
+
+    @Benchmark
+    public Student studentRoundTrip() {
+        return studentMapper.toDomain(studentMapper.toJpa(student));
+    }
+
+    @Benchmark
+    public Grade gradeToDomain() {
+        return gradeMapper.toDomain(gradeEntity);
+    }
+
+    @Benchmark
+    public Grade gradeRoundTrip() {
+        return gradeMapper.toDomain(gradeMapper.toJpa(grade));
+    }
+}
@@ -0,0 +1,58 @@
+package com.binah.ace.benchmark;
+
+import com.binah.ace.shared.valueobject.CPF;
+import com.binah.ace.shared.valueobject.Email;
+import com.binah.ace.student.domain.valueobject.Enrollment;
+import com.binah.ace.student.domain.valueobject.GPA;
+import org.openjdk.jmh.annotations.*;
+
+import java.math.BigDecimal;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Construction and validation cost of the value objects.
+ *
+ * @author Marcos Gustavo
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ValueObjectBenchmark {
+
+    private final BigDecimal gpaValue = new BigDecimal("7.456");
+    private int sequence;
+
+    @Benchmark
+    public CPF cpfDigitsOnly() {
+        return new CPF(BenchmarkFixtures.VALID_CPF);
+    }
+
+    @Benchmark
+    public CPF cpfFormatted() {
+        return new CPF(BenchmarkFixtures.FORMATTED_CPF);
+    }
+
+    @Benchmark
+    public Email email() {
+        return new Email(BenchmarkFixtures.VALID_EMAIL);
+    }
+
+    @Benchmark
+    public Enrollment enrollmentGenerate() {
+        sequence = sequence % 999 + 1;
+        return Enrollment.generate(sequence);
+    }
+
+    @Benchmark
+    public GPA gpaFromBigDecimal() {
+        return new GPA(gpaValue);
+    }
+
+    @Benchmark
+    public GPA gpaFromDouble() {
+        return GPA.of(7.456);
+    }
+}
@@ -16,7 +16,7 @@ import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
 import java.util.List;
-import java.util.UUID;
+import java.util.Optional;
 
 /**
  * JWT authentication filter.
@@ -60,19 +60,17 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
                 return;
             }
 
-            // 3. Valida assinatura e expiração do token
-            if (!tokenProvider.validateToken(token)) {
+            // 3. Valida assinatura e expiração do token (uma única vez)
+            Optional<VerifiedToken> verified = tokenProvider.verify(token);
+            if (verified.isEmpty()) {
                 filterChain.doFilter(request, response);
                 return;
             }
 
-            // 4. Extrai userId do token
-            UUID userId = tokenProvider.getUserIdFromToken(token);
+            // 4. Valida se usuário ainda pode acessar
+            User user = validateTokenUseCase.execute(verified.get().userId());
 
-            // 5. Valida se usuário ainda pode acessar
-            User user = validateTokenUseCase.execute(userId);
-
-            // 6. Cria autenticação do Spring Security
+            // 5. Cria autenticação do Spring Security
             UsernamePasswordAuthenticationToken authentication =
                     new UsernamePasswordAuthenticationToken(
                             user.getId(),
@@ -84,7 +82,7 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
                     new WebAuthenticationDetailsSource().buildDetails(request)
             );
 
-            // 7. Seta no contexto de segurança
+            // 6. Seta no contexto de segurança
             SecurityContextHolder.getContext().setAuthentication(authentication);
 
         } catch (Exception e) {
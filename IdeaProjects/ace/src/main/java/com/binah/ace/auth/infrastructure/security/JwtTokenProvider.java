@@ -2,14 +2,29 @@ package com.binah.ace.auth.infrastructure.security;
 
 import com.binah.ace.auth.domain.entity.User;
 import com.binah.ace.shared.constants.SecurityConstants;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
+import java.nio.charset.StandardCharsets;
 import java.security.Key;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
 import java.util.Date;
+import java.util.HexFormat;
+import java.util.Optional;
 import java.util.UUID;
 
 /**
@@ -22,19 +37,44 @@ import java.util.UUID;
  *
  * Uses HMAC-SHA256 for signing.
  *
+ * Verified tokens are cached by their SHA-256 hash until they expire,
+ * so clients repeating the same bearer token are only verified once.
+ * The cache is a Caffeine cache bounded by ace.security.token-cache-size:
+ * lookups don't share a lock, and each entry expires at its token's exp.
+ *
  * @author Marcos Gustavo
  */
 @Component
 public class JwtTokenProvider {
 
     private final Key signingKey;
+    private final JwtParser parser;
+    private final Cache<String, VerifiedToken> verifiedTokens;
 
-    public JwtTokenProvider() {
+    public JwtTokenProvider(
+            MeterRegistry meterRegistry,
+            @Value("${ace.security.token-cache-size:10000}") long tokenCacheSize
+    ) {
         // Gera chave a partir do secret
         // Em produção, usar chave do application.properties
         this.signingKey = Keys.hmacShaKeyFor(
                 SecurityConstants.JWT_SECRET_KEY.getBytes()
         );
+
+        // Parser é imutável e thread-safe: construído uma única vez
+        this.parser = Jwts.parserBuilder()
+                .setSigningKey(signingKey)
+                .build();
+
+        // Cada entrada vence junto com o token (exp), nunca depois
+        this.verifiedTokens = Caffeine.newBuilder()
+                .maximumSize(tokenCacheSize)
+                .expireAfter(Expiry.creating((String key, VerifiedToken token) ->
+                        Duration.between(Instant.now(), token.expiresAt())))
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, verifiedTokens, "verified-tokens");
     }
 
     /**
@@ -71,6 +111,36 @@ public class JwtTokenProvider {
         return builder.compact();
     }
 
+    /**
+     * Verifies the token (signature and expiration) and returns its claims.
+     *
+     * @param token JWT token
+     * @return Verified claims, or empty if the token is invalid or expired
+     */
+    public Optional<VerifiedToken> verify(String token) {
+        if (token == null || token.isBlank()) {
+            return Optional.empty();
+        }
+
+        String cacheKey = hash(token);
+
+        // A expiração do Caffeine é aproximada: a checagem garante que nenhum token vencido passe
+        VerifiedToken cached = verifiedTokens.getIfPresent(cacheKey);
+        if (cached != null && !cached.isExpiredAt(Instant.now())) {
+            return Optional.of(cached);
+        }
+
+        VerifiedToken verified;
+        try {
+            verified = toVerifiedToken(parser.parseClaimsJws(token).getBody());
+        } catch (JwtException | IllegalArgumentException e) {
+            return Optional.empty();
+        }
+
+        verifiedTokens.put(cacheKey, verified);
+        return Optional.of(verified);
+    }
+
     /**
      * Extracts the user ID from the JWT token.
      *
@@ -78,8 +148,7 @@ public class JwtTokenProvider {
      * @return User UUID
      */
     public UUID getUserIdFromToken(String token) {
-        Claims claims = getClaims(token);
-        return UUID.fromString(claims.getSubject());
+        return verifyOrThrow(token).userId();
     }
 
     /**
@@ -89,8 +158,7 @@ public class JwtTokenProvider {
      * @return Username
      */
     public String getUsernameFromToken(String token) {
-        Claims claims = getClaims(token);
-        return claims.get("username", String.class);
+        return verifyOrThrow(token).username();
     }
 
     /**
@@ -100,8 +168,7 @@ public class JwtTokenProvider {
      * @return Role as string
      */
     public String getRoleFromToken(String token) {
-        Claims claims = getClaims(token);
-        return claims.get("role", String.class);
+        return verifyOrThrow(token).role();
     }
 
     /**
@@ -115,28 +182,34 @@ public class JwtTokenProvider {
      * @return {@code true} if the token is valid
      */
     public boolean validateToken(String token) {
-        try {
-            Jwts.parserBuilder()
-                    .setSigningKey(signingKey)
-                    .build()
-                    .parseClaimsJws(token);
-            return true;
-        } catch (Exception e) {
-            return false;
-        }
+        return verify(token).isPresent();
+    }
+
+    private VerifiedToken verifyOrThrow(String token) {
+        return verify(token).orElseThrow(() -> new JwtException("Invalid or expired token"));
+    }
+
+    private VerifiedToken toVerifiedToken(Claims claims) {
+        String entityId = claims.get(SecurityConstants.JWT_CLAIM_ENTITY_ID, String.class);
+
+        return new VerifiedToken(
+                UUID.fromString(claims.getSubject()),
+                claims.get("username", String.class),
+                claims.get("role", String.class),
+                entityId != null ? UUID.fromString(entityId) : null,
+                claims.getExpiration().toInstant()
+        );
     }
 
     /**
-     * Extracts the claims from the JWT token.
-     *
-     * @param token JWT token
-     * @return JWT claims
+     * SHA-256 of the token: the cache never holds usable credentials.
      */
-    private Claims getClaims(String token) {
-        return Jwts.parserBuilder()
-                .setSigningKey(signingKey)
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
+    private String hash(String token) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
     }
-}
\ No newline at end of file
+}
@@ -1,13 +1,21 @@
 package com.binah.ace.auth.infrastructure.security;
 
+import jakarta.servlet.DispatcherType;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.annotation.Order;
+import org.springframework.security.authentication.ProviderManager;
+import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
 import org.springframework.security.config.annotation.method.configuration.EnableMethodSecurity;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
+import org.springframework.security.config.Customizer;
 import org.springframework.security.config.http.SessionCreationPolicy;
+import org.springframework.security.core.userdetails.User;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.provisioning.InMemoryUserDetailsManager;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 
@@ -20,6 +28,9 @@ import org.springframework.security.web.authentication.UsernamePasswordAuthentic
  * - Public vs protected routes
  * - CORS
  * - CSRF (disabled for stateless APIs)
+ * - Actuator: health is public, the other endpoints (Prometheus scrape)
+ *   need HTTP basic with the scrape user (ace.actuator.username/password);
+ *   without a password nobody can read them
  *
  * @author Marcos Gustavo
  */
@@ -34,6 +45,47 @@ public class SecurityConfig {
         this.jwtAuthenticationFilter = jwtAuthenticationFilter;
     }
 
+    /**
+     * Security filter chain of the actuator endpoints.
+     *
+     * The scrape user has its own credentials (role METRICS) and no JWT,
+     * so metrics are not readable with an application login.
+     */
+    @Bean
+    @Order(1)
+    public SecurityFilterChain actuatorFilterChain(
+            HttpSecurity http,
+            @Value("${ace.actuator.username:prometheus}") String username,
+            @Value("${ace.actuator.password:}") String password
+    ) throws Exception {
+        InMemoryUserDetailsManager users = new InMemoryUserDetailsManager();
+        // Sem senha configurada nenhum usuário existe: o scrape é sempre negado
+        if (!password.isBlank()) {
+            users.createUser(User.withUsername(username)
+                    .password(passwordEncoder().encode(password))
+                    .roles("METRICS")
+                    .build());
+        }
+
+        DaoAuthenticationProvider provider = new DaoAuthenticationProvider(users);
+        provider.setPasswordEncoder(passwordEncoder());
+
+        http
+                .securityMatcher("/actuator/**")
+                .csrf(csrf -> csrf.disable())
+                .authorizeHttpRequests(auth -> auth
+                        .requestMatchers("/actuator/health").permitAll()
+                        .anyRequest().hasRole("METRICS")
+                )
+                .sessionManagement(session ->
+                        session.sessionCreationPolicy(SessionCreationPolicy.STATELESS)
+                )
+                .authenticationManager(new ProviderManager(provider))
+                .httpBasic(Customizer.withDefaults());
+
+        return http.build();
+    }
+
     /**
      * Configures the security filter chain.
      */
@@ -45,10 +97,13 @@ public class SecurityConfig {
 
                 // Configura autorização
                 .authorizeHttpRequests(auth -> auth
-                        // Rotas públicas (GraphQL schema, login, health check)
+                        // Rotas públicas (GraphQL schema, login)
                         .requestMatchers("/graphql").permitAll()
                         .requestMatchers("/graphiql").permitAll()
-                        .requestMatchers("/actuator/health").permitAll()
+
+                        // Já autorizadas no primeiro dispatch: a exportação em streaming termina num dispatch
+                        // ASYNC, que não passa de novo pelo filtro JWT
+                        .dispatcherTypeMatchers(DispatcherType.ASYNC, DispatcherType.ERROR).permitAll()
 
                         // Todas as outras rotas requerem autenticação
                         .anyRequest().authenticated()
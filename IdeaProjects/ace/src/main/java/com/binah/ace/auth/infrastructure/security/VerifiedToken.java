@@ -0,0 +1,25 @@
+package com.binah.ace.auth.infrastructure.security;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Claims of a JWT whose signature was already checked.
+ *
+ * @author Marcos Gustavo
+ */
+public record VerifiedToken(
+        UUID userId,
+        String username,
+        String role,
+        UUID entityId,
+        Instant expiresAt
+) {
+
+    /**
+     * Indicates whether the token is expired at the given instant.
+     */
+    public boolean isExpiredAt(Instant instant) {
+        return !expiresAt.isAfter(instant);
+    }
+}
@@ -0,0 +1,29 @@
+package com.binah.ace.shared.config;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Refuses to start the virtual-threads profile on a runtime below Java 21.
+ *
+ * Spring Boot silently ignores spring.threads.virtual.enabled on older
+ * runtimes, which would leave the application on the platform thread pools
+ * while application-virtual-threads.properties already lifted their limits.
+ *
+ * @author Marcos Gustavo
+ */
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnProperty(name = "spring.threads.virtual.enabled", havingValue = "true")
+public class VirtualThreadsConfig {
+
+    private static final int MIN_JAVA_VERSION = 21;
+
+    public VirtualThreadsConfig() {
+        int runtime = Runtime.version().feature();
+        if (runtime < MIN_JAVA_VERSION) {
+            throw new IllegalStateException(String.format(
+                    "spring.threads.virtual.enabled requires Java %d+, but the runtime is Java %d",
+                    MIN_JAVA_VERSION, runtime));
+        }
+    }
+}
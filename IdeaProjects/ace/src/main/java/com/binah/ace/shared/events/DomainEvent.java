@@ -1,5 +1,6 @@
 package com.binah.ace.shared.events;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import lombok.Getter;
 
 import java.time.LocalDateTime;
@@ -16,8 +17,12 @@ import java.util.UUID;
  *
  * Uso:
  * 1. Criar evento específico estendendo esta classe
- * 2. Publicar usando ApplicationEventPublisher
- * 3. Criar listener com @EventListener
+ * 2. Publicar usando DomainEventPublisher, dentro da transação do caso de uso
+ *    (o evento é gravado na tabela outbox_events junto com o agregado)
+ * 3. Criar listener com @EventListener recebendo DomainEventBatch<Evento>
+ *
+ * Eventos são serializados em JSON: subclasses precisam de um construtor
+ * {@code @JsonCreator} que receba também eventId e occurredOn.
  *
  *
  * @author Marcos Gustavo
@@ -28,10 +33,24 @@ public abstract class DomainEvent {
     private final LocalDateTime occurredOn;
 
     protected DomainEvent() {
-        this.eventId = UUID.randomUUID();
-        this.occurredOn = LocalDateTime.now();
+        this(UUID.randomUUID(), LocalDateTime.now());
+    }
+
+    /**
+     * Rebuilds an event read back from the outbox.
+     */
+    protected DomainEvent(UUID eventId, LocalDateTime occurredOn) {
+        this.eventId = eventId;
+        this.occurredOn = occurredOn;
     }
 
+    /**
+     * ID of the aggregate the event belongs to.
+     * Events of the same aggregate are delivered in the order they were published.
+     */
+    @JsonIgnore
+    public abstract UUID getAggregateId();
+
     @Override
     public String toString() {
         return String.format(
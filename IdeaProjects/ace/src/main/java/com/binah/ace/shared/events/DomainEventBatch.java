@@ -0,0 +1,34 @@
+package com.binah.ace.shared.events;
+
+import org.springframework.core.ResolvableType;
+import org.springframework.core.ResolvableTypeProvider;
+
+import java.util.List;
+
+/**
+ * Events of the same type delivered together by the outbox relay.
+ *
+ * Listeners subscribe by event type:
+ * {@code @EventListener void on(DomainEventBatch<GradePostedEvent> batch)}
+ *
+ * Delivery is at-least-once: when a listener fails, the database writes
+ * of every listener of the batch are rolled back and its events are
+ * delivered again, one by one. Side effects outside the database (files,
+ * in-memory state) are not rolled back and are repeated.
+ *
+ * @author Marcos Gustavo
+ */
+public record DomainEventBatch<T extends DomainEvent>(
+        Class<T> eventType,
+        List<T> events
+) implements ResolvableTypeProvider {
+
+    @Override
+    public ResolvableType getResolvableType() {
+        return ResolvableType.forClassWithGenerics(DomainEventBatch.class, eventType);
+    }
+
+    public int size() {
+        return events.size();
+    }
+}
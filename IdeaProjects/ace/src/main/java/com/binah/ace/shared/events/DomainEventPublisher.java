@@ -0,0 +1,24 @@
+package com.binah.ace.shared.events;
+
+import java.util.Collection;
+
+/**
+ * Publishes domain events through the transactional outbox.
+ *
+ * Must be called inside the transaction that changes the aggregate:
+ * the events are stored with it and only delivered after the commit.
+ *
+ * @author Marcos Gustavo
+ */
+public interface DomainEventPublisher {
+
+    /**
+     * Publishes a single event.
+     */
+    void publish(DomainEvent event);
+
+    /**
+     * Publishes several events with a single batched write.
+     */
+    void publishAll(Collection<? extends DomainEvent> events);
+}
@@ -0,0 +1,32 @@
+package com.binah.ace.shared.events.broadcast;
+
+import java.util.List;
+
+/**
+ * Receives the messages sent through ClusterBroadcast on a channel,
+ * on every node.
+ *
+ * Called from the broadcast thread: implementations must not block on
+ * slow work for long, or the following messages wait for them.
+ *
+ * @author Marcos Gustavo
+ */
+public interface BroadcastListener {
+
+    /**
+     * Channel to listen to (a lowercase SQL identifier).
+     */
+    String channel();
+
+    /**
+     * Messages of a transaction that committed, in the order they were sent.
+     */
+    void onMessages(List<String> messages);
+
+    /**
+     * Called when the broadcast connection was lost and is listening again:
+     * messages sent meanwhile were not received and must be caught up on.
+     */
+    default void onReconnected() {
+    }
+}
@@ -0,0 +1,220 @@
+package com.binah.ace.shared.events.broadcast;
+
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ResultSetExtractor;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Sends messages to every node of the cluster with Postgres LISTEN/NOTIFY.
+ *
+ * - send runs pg_notify in the caller's transaction: the messages reach
+ *   the nodes only if it commits, and after the data it wrote is visible
+ * - Each node keeps one connection of the pool listening to the channels
+ *   of the BroadcastListener beans, on a single daemon thread; messages
+ *   arrive in commit order, the sending node included
+ * - Messages sent while a node is disconnected are lost for that node:
+ *   after reconnecting, its listeners are told (onReconnected) so they
+ *   can catch up from the database
+ *
+ * Messages are short strings (IDs), packed newline-separated into
+ * payloads below the 8000-byte limit of NOTIFY.
+ *
+ * @author Marcos Gustavo
+ */
+@Component
+public class ClusterBroadcast implements SmartLifecycle {
+
+    private static final Logger log = LoggerFactory.getLogger(ClusterBroadcast.class);
+
+    private static final String NOTIFY_SQL = "SELECT pg_notify(?, ?)";
+    private static final int MAX_PAYLOAD_BYTES = 7000;
+    private static final String SEPARATOR = "\n";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final DataSource dataSource;
+    private final Map<String, List<BroadcastListener>> listenersByChannel;
+    private final Duration pollInterval;
+    private final Duration reconnectDelay;
+
+    private volatile boolean running;
+    private Thread listenerThread;
+
+    public ClusterBroadcast(
+            JdbcTemplate jdbcTemplate,
+            DataSource dataSource,
+            ObjectProvider<BroadcastListener> listeners,
+            @Value("${ace.broadcast.poll-interval:500ms}") Duration pollInterval,
+            @Value("${ace.broadcast.reconnect-delay:5s}") Duration reconnectDelay
+    ) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.dataSource = dataSource;
+        this.listenersByChannel = listeners.orderedStream()
+                .collect(Collectors.groupingBy(BroadcastListener::channel, LinkedHashMap::new, Collectors.toList()));
+        this.pollInterval = pollInterval;
+        this.reconnectDelay = reconnectDelay;
+    }
+
+    /**
+     * Sends the messages on the channel once the current transaction commits
+     * (right away without a transaction).
+     */
+    public void send(String channel, Collection<String> messages) {
+        for (String payload : pack(messages)) {
+            jdbcTemplate.query(NOTIFY_SQL, (ResultSetExtractor<Void>) rs -> null, channel, payload);
+        }
+    }
+
+    @Override
+    public void start() {
+        running = true;
+
+        if (listenersByChannel.isEmpty()) {
+            return;
+        }
+
+        listenerThread = new Thread(this::listen, "cluster-broadcast");
+        listenerThread.setDaemon(true);
+        listenerThread.start();
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+
+        if (listenerThread != null) {
+            listenerThread.interrupt();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * Listening loop: reconnects after reconnect-delay when the connection is lost.
+     */
+    private void listen() {
+        boolean reconnecting = false;
+
+        while (running) {
+            try (Connection connection = dataSource.getConnection()) {
+                connection.setAutoCommit(true);
+                try (Statement statement = connection.createStatement()) {
+                    for (String channel : listenersByChannel.keySet()) {
+                        statement.execute("LISTEN " + channel);
+                    }
+                }
+                log.info("📡 Listening to {}", listenersByChannel.keySet());
+
+                if (reconnecting) {
+                    listenersByChannel.values().forEach(listeners -> listeners.forEach(this::reconnected));
+                }
+                reconnecting = true;
+
+                PGConnection pgConnection = connection.unwrap(PGConnection.class);
+                while (running) {
+                    PGNotification[] notifications = pgConnection.getNotifications((int) pollInterval.toMillis());
+                    if (notifications != null && notifications.length > 0) {
+                        dispatch(notifications);
+                    }
+                }
+            } catch (SQLException e) {
+                if (!running) {
+                    return;
+                }
+                log.error("❌ Broadcast connection lost, reconnecting in {}", reconnectDelay, e);
+                try {
+                    Thread.sleep(reconnectDelay.toMillis());
+                } catch (InterruptedException interrupted) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+    }
+
+    private void dispatch(PGNotification[] notifications) {
+        // Mensagens seguidas do mesmo canal são entregues juntas
+        List<String> messages = new ArrayList<>();
+        String channel = null;
+
+        for (PGNotification notification : notifications) {
+            if (channel != null && !channel.equals(notification.getName())) {
+                deliver(channel, messages);
+                messages = new ArrayList<>();
+            }
+            channel = notification.getName();
+            messages.addAll(List.of(notification.getParameter().split(SEPARATOR)));
+        }
+
+        deliver(channel, messages);
+    }
+
+    private void deliver(String channel, List<String> messages) {
+        for (BroadcastListener listener : listenersByChannel.getOrDefault(channel, List.of())) {
+            try {
+                listener.onMessages(messages);
+            } catch (RuntimeException e) {
+                log.error("❌ {} failed to handle {} messages of {}",
+                        listener.getClass().getSimpleName(), messages.size(), channel, e);
+            }
+        }
+    }
+
+    private void reconnected(BroadcastListener listener) {
+        try {
+            listener.onReconnected();
+        } catch (RuntimeException e) {
+            log.error("❌ {} failed to catch up after reconnecting", listener.getClass().getSimpleName(), e);
+        }
+    }
+
+    /**
+     * Packs the messages into payloads of at most MAX_PAYLOAD_BYTES.
+     */
+    static List<String> pack(Collection<String> messages) {
+        List<String> payloads = new ArrayList<>();
+        StringBuilder payload = new StringBuilder();
+        int bytes = 0;
+
+        for (String message : messages) {
+            int size = message.getBytes(StandardCharsets.UTF_8).length + 1;
+            if (bytes > 0 && bytes + size > MAX_PAYLOAD_BYTES) {
+                payloads.add(payload.toString());
+                payload.setLength(0);
+                bytes = 0;
+            }
+            if (bytes > 0) {
+                payload.append(SEPARATOR);
+            }
+            payload.append(message);
+            bytes += size;
+        }
+
+        if (bytes > 0) {
+            payloads.add(payload.toString());
+        }
+        return payloads;
+    }
+}
@@ -0,0 +1,16 @@
+package com.binah.ace.shared.events.outbox;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Outbox configuration.
+ *
+ * Enables the scheduler that runs OutboxRelay.
+ *
+ * @author Marcos Gustavo
+ */
+@Configuration
+@EnableScheduling
+public class OutboxConfig {
+}
@@ -0,0 +1,70 @@
+package com.binah.ace.shared.events.outbox;
+
+import com.binah.ace.shared.events.DomainEvent;
+import com.binah.ace.shared.events.DomainEventPublisher;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * DomainEventPublisher that writes to the outbox_events table.
+ *
+ * MANDATORY propagation: publishing outside a transaction would
+ * deliver events of changes that may never be committed.
+ *
+ * @author Marcos Gustavo
+ */
+@Component
+public class OutboxDomainEventPublisher implements DomainEventPublisher {
+
+    private static final String INSERT_SQL = "INSERT INTO outbox_events " +
+            "(event_id, aggregate_id, event_type, payload, occurred_on, status, attempts, available_at) " +
+            "VALUES (?, ?, ?, CAST(? AS jsonb), ?, 'PENDING', 0, now())";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+
+    public OutboxDomainEventPublisher(JdbcTemplate jdbcTemplate, ObjectMapper objectMapper) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void publish(DomainEvent event) {
+        publishAll(List.of(event));
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void publishAll(Collection<? extends DomainEvent> events) {
+        if (events.isEmpty()) {
+            return;
+        }
+
+        List<? extends DomainEvent> rows = List.copyOf(events);
+
+        jdbcTemplate.batchUpdate(INSERT_SQL, rows, rows.size(), (ps, event) -> {
+            ps.setObject(1, event.getEventId());
+            ps.setObject(2, event.getAggregateId());
+            ps.setString(3, event.getClass().getName());
+            ps.setString(4, serialize(event));
+            ps.setTimestamp(5, Timestamp.valueOf(event.getOccurredOn()));
+        });
+    }
+
+    private String serialize(DomainEvent event) {
+        try {
+            return objectMapper.writeValueAsString(event);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Cannot serialize " + event, e);
+        }
+    }
+}
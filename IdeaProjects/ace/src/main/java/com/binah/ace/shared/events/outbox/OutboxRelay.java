@@ -0,0 +1,244 @@
+package com.binah.ace.shared.events.outbox;
+
+import com.binah.ace.shared.events.DomainEvent;
+import com.binah.ace.shared.events.DomainEventBatch;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Delivers the outbox events to the in-process listeners.
+ *
+ * Each poll claims up to ace.outbox.batch-size rows with
+ * FOR UPDATE SKIP LOCKED, so several nodes can run the relay without
+ * delivering the same row twice at the same time. Only the oldest pending
+ * event of each aggregate is claimed: a later event of the same aggregate
+ * waits until the previous one is processed (or given up), which keeps
+ * the per-aggregate order even across nodes and retries.
+ *
+ * Claimed rows are grouped by type and published as a DomainEventBatch,
+ * each group inside its own savepoint. When a group fails, its savepoint is
+ * rolled back (nothing its listeners wrote is kept, and a SQL error does not
+ * abort the relay transaction) and its events are delivered again one by
+ * one, each in its own savepoint, so only the failing events are retried:
+ * after ace.outbox.retry-backoff-ms × attempts, and marked FAILED after
+ * ace.outbox.max-attempts.
+ *
+ * Delivery is at-least-once: listeners must tolerate duplicates.
+ *
+ * @author Marcos Gustavo
+ */
+@Component
+public class OutboxRelay {
+
+    private static final Logger log = LoggerFactory.getLogger(OutboxRelay.class);
+
+    private static final String CLAIM_SQL = "SELECT o.position, o.event_type, o.payload::text AS payload, o.attempts " +
+            "FROM outbox_events o " +
+            "WHERE o.status = 'PENDING' AND o.available_at <= now() " +
+            "AND NOT EXISTS (SELECT 1 FROM outbox_events e " +
+            "WHERE e.aggregate_id = o.aggregate_id AND e.status = 'PENDING' AND e.position < o.position) " +
+            "ORDER BY o.position " +
+            "LIMIT ? " +
+            "FOR UPDATE OF o SKIP LOCKED";
+
+    private static final String PROCESSED_SQL =
+            "UPDATE outbox_events SET status = 'PROCESSED', processed_at = now(), last_error = NULL WHERE position = ?";
+
+    private static final String RETRY_SQL = "UPDATE outbox_events SET attempts = ?, last_error = ?, status = ?, " +
+            "available_at = now() + make_interval(secs => ?) WHERE position = ?";
+
+    private static final String CLEANUP_SQL =
+            "DELETE FROM outbox_events WHERE status = 'PROCESSED' AND processed_at < ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+    private final TransactionTemplate savepointTemplate;
+    private final int batchSize;
+    private final int maxAttempts;
+    private final long retryBackoffMs;
+    private final int retentionDays;
+
+    public OutboxRelay(
+            JdbcTemplate jdbcTemplate,
+            ObjectMapper objectMapper,
+            ApplicationEventPublisher eventPublisher,
+            PlatformTransactionManager transactionManager,
+            @Value("${ace.outbox.batch-size:100}") int batchSize,
+            @Value("${ace.outbox.max-attempts:10}") int maxAttempts,
+            @Value("${ace.outbox.retry-backoff-ms:5000}") long retryBackoffMs,
+            @Value("${ace.outbox.retention-days:7}") int retentionDays
+    ) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.objectMapper = objectMapper;
+        this.eventPublisher = eventPublisher;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.savepointTemplate = new TransactionTemplate(transactionManager);
+        this.savepointTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_NESTED);
+        this.batchSize = batchSize;
+        this.maxAttempts = maxAttempts;
+        this.retryBackoffMs = retryBackoffMs;
+        this.retentionDays = retentionDays;
+    }
+
+    /**
+     * Drains the outbox until a poll finds nothing to deliver.
+     */
+    @Scheduled(fixedDelayString = "${ace.outbox.poll-interval-ms:1000}")
+    public void poll() {
+        try {
+            Integer delivered;
+            do {
+                delivered = transactionTemplate.execute(status -> relayBatch());
+            } while (delivered != null && delivered == batchSize);
+        } catch (RuntimeException e) {
+            log.error("❌ Outbox relay failed: {}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Removes processed events older than ace.outbox.retention-days.
+     */
+    @Scheduled(cron = "${ace.outbox.cleanup-cron:0 0 3 * * *}")
+    public void cleanup() {
+        int removed = jdbcTemplate.update(CLEANUP_SQL, LocalDateTime.now().minusDays(retentionDays));
+        if (removed > 0) {
+            log.info("🧹 Removed {} processed outbox events", removed);
+        }
+    }
+
+    /**
+     * Claims, delivers and marks a single batch.
+     *
+     * @return Number of claimed rows
+     */
+    int relayBatch() {
+        List<OutboxRow> rows = jdbcTemplate.query(CLAIM_SQL, (rs, rowNum) -> new OutboxRow(
+                rs.getLong("position"),
+                rs.getString("event_type"),
+                rs.getString("payload"),
+                rs.getInt("attempts")
+        ), batchSize);
+
+        if (rows.isEmpty()) {
+            return 0;
+        }
+
+        // Agrupa por tipo mantendo a ordem da outbox
+        Map<String, List<OutboxRow>> rowsByType = new LinkedHashMap<>();
+        for (OutboxRow row : rows) {
+            rowsByType.computeIfAbsent(row.eventType(), type -> new ArrayList<>()).add(row);
+        }
+
+        rowsByType.forEach(this::deliver);
+
+        return rows.size();
+    }
+
+    private void deliver(String eventType, List<OutboxRow> rows) {
+        Class<? extends DomainEvent> type;
+        try {
+            type = Class.forName(eventType).asSubclass(DomainEvent.class);
+        } catch (ClassNotFoundException | ClassCastException e) {
+            log.warn("⚠️ Unknown outbox event type {}: {}", eventType, e.getMessage());
+            rows.forEach(row -> scheduleRetry(row, e));
+            return;
+        }
+
+        RuntimeException failure = publishInSavepoint(type, rows);
+        if (failure == null) {
+            rows.forEach(this::markProcessed);
+            return;
+        }
+
+        log.warn("⚠️ Delivery of {} {} events failed: {}", rows.size(), eventType, failure.getMessage());
+        if (rows.size() == 1) {
+            scheduleRetry(rows.get(0), failure);
+            return;
+        }
+
+        // Isola o evento com problema: os demais do grupo não gastam tentativas
+        for (OutboxRow row : rows) {
+            RuntimeException error = publishInSavepoint(type, List.of(row));
+            if (error == null) {
+                markProcessed(row);
+            } else {
+                scheduleRetry(row, error);
+            }
+        }
+    }
+
+    /**
+     * Publishes the events inside a savepoint of the relay transaction.
+     *
+     * @return The listener's failure, after rolling back to the savepoint; null on success
+     */
+    private RuntimeException publishInSavepoint(Class<? extends DomainEvent> eventType, List<OutboxRow> rows) {
+        try {
+            savepointTemplate.executeWithoutResult(status -> {
+                publish(eventType, rows);
+                // Erros de flush do JPA também devem cair dentro do savepoint
+                status.flush();
+            });
+            return null;
+        } catch (RuntimeException e) {
+            return e;
+        }
+    }
+
+    private <T extends DomainEvent> void publish(Class<T> eventType, List<OutboxRow> rows) {
+        List<T> events = new ArrayList<>(rows.size());
+        for (OutboxRow row : rows) {
+            events.add(deserialize(row, eventType));
+        }
+
+        eventPublisher.publishEvent(new DomainEventBatch<>(eventType, List.copyOf(events)));
+    }
+
+    private <T extends DomainEvent> T deserialize(OutboxRow row, Class<T> eventType) {
+        try {
+            return objectMapper.readValue(row.payload(), eventType);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Cannot deserialize outbox event " + row.position(), e);
+        }
+    }
+
+    private void markProcessed(OutboxRow row) {
+        jdbcTemplate.update(PROCESSED_SQL, row.position());
+    }
+
+    private void scheduleRetry(OutboxRow row, Exception error) {
+        int attempts = row.attempts() + 1;
+        boolean exhausted = attempts >= maxAttempts;
+
+        jdbcTemplate.update(RETRY_SQL,
+                attempts,
+                String.valueOf(error.getMessage()),
+                (exhausted ? OutboxStatus.FAILED : OutboxStatus.PENDING).name(),
+                retryBackoffMs * attempts / 1000.0,
+                row.position());
+
+        if (exhausted) {
+            log.error("❌ Outbox event {} gave up after {} attempts", row.position(), attempts);
+        }
+    }
+
+    private record OutboxRow(long position, String eventType, String payload, int attempts) {}
+}
@@ -0,0 +1,18 @@
+package com.binah.ace.shared.events.outbox;
+
+/**
+ * Delivery status of an outbox event.
+ *
+ * @author Marcos Gustavo
+ */
+public enum OutboxStatus {
+
+    /** Waiting to be delivered (or to be retried). */
+    PENDING,
+
+    /** Delivered to the listeners. */
+    PROCESSED,
+
+    /** Gave up after ace.outbox.max-attempts; kept for inspection. */
+    FAILED
+}
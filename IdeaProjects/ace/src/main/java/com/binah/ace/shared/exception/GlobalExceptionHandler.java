@@ -32,55 +32,51 @@ public class GlobalExceptionHandler extends DataFetcherExceptionResolverAdapter
             Throwable ex,
             DataFetchingEnvironment env
     ){
-        //Entidade não encontrada = NOT_Found (404)
-      if(ex instanceof EntityNotFoundException){
-          return GraphqlErrorBuilder.newError(env)
-                  .errorType(ErrorType.NOT_FOUND)
-                  .message(ex.getMessage())
-                  .path(env.getExecutionStepInfo().getPath())
-                  .location(env.getField().getSourceLocation())
-                  .build();
-      }
+        ErrorType errorType = errorTypeOf(ex);
 
-      // Sem permissão -> FORBIDDEN (403)
-      if(ex instanceof PermissionDeniedException){
-          return GraphqlErrorBuilder.newError(env)
-                  .errorType(ErrorType.FORBIDDEN)
-                  .message(ex.getMessage())
-                  .path(env.getExecutionStepInfo().getPath())
-                  .location(env.getField().getSourceLocation())
-                  .build();
-      }
+        GraphqlErrorBuilder<?> error = GraphqlErrorBuilder.newError(env)
+                .errorType(errorType)
+                .path(env.getExecutionStepInfo().getPath())
+                .location(env.getField().getSourceLocation());
+
+        // Erro não mapeado → NÃO expõe detalhes internos ao cliente
+        if (errorType == ErrorType.INTERNAL_ERROR) {
+            return error.message("An unexpected error occurred").build();
+        }
+
+        error.message(ex.getMessage());
+
+        // Regra de negócio violada → código para o front-end
+        if (errorType == ErrorType.BAD_REQUEST && ex instanceof BusinessException businessEx) {
+            error.extensions(java.util.Map.of("code", businessEx.getCode()));
+        }
 
-      // Regra de negócio violada -> BAD_REQUEST (400)
-      if(ex instanceof BusinessException){
-          BusinessException businessEx =(BusinessException) ex;
-          return GraphqlErrorBuilder.newError(env)
-                  .errorType(ErrorType.BAD_REQUEST)
-                  .message(ex.getMessage())
-                  .path(env.getExecutionStepInfo().getPath())
-                  .location(env.getField().getSourceLocation())
-                  .extensions(java.util.Map.of("code", businessEx.getCode()))
-                  .build();
-      }
+        return error.build();
+    }
+
+    /**
+     * Tipo de erro GraphQL de uma exceção (também usado como tag das métricas de erro).
+     *
+     * @param ex Exceção lançada
+     * @return Tipo de erro correspondente
+     */
+    public static ErrorType errorTypeOf(Throwable ex) {
+        // Entidade não encontrada → NOT_FOUND (404)
+        if (ex instanceof EntityNotFoundException) {
+            return ErrorType.NOT_FOUND;
+        }
 
-        // Argumento inválido → BAD_REQUEST (400)
-        if (ex instanceof IllegalArgumentException) {
-            return GraphqlErrorBuilder.newError(env)
-                    .errorType(ErrorType.BAD_REQUEST)
-                    .message(ex.getMessage())
-                    .path(env.getExecutionStepInfo().getPath())
-                    .location(env.getField().getSourceLocation())
-                    .build();
+        // Sem permissão → FORBIDDEN (403)
+        if (ex instanceof PermissionDeniedException) {
+            return ErrorType.FORBIDDEN;
+        }
+
+        // Regra de negócio violada ou argumento inválido → BAD_REQUEST (400)
+        if (ex instanceof BusinessException || ex instanceof IllegalArgumentException) {
+            return ErrorType.BAD_REQUEST;
         }
 
         // Erro não mapeado → INTERNAL_ERROR (500)
-        // NÃO expõe detalhes internos ao cliente
-        return GraphqlErrorBuilder.newError(env)
-                .errorType(ErrorType.INTERNAL_ERROR)
-                .message("An unexpected error occurred")
-                .path(env.getExecutionStepInfo().getPath())
-                .location(env.getField().getSourceLocation())
-                .build();
+        return ErrorType.INTERNAL_ERROR;
     }
 }
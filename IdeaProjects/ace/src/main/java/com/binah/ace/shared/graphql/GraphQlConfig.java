@@ -0,0 +1,22 @@
+package com.binah.ace.shared.graphql;
+
+import org.springframework.boot.autoconfigure.graphql.GraphQlSourceBuilderCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * GraphQL engine configuration.
+ *
+ * Plugs GraphQlDocumentCache in as the PreparsedDocumentProvider.
+ * Instrumentations (QueryCostInstrumentation) are picked up by Spring Boot.
+ *
+ * @author Marcos Gustavo
+ */
+@Configuration
+public class GraphQlConfig {
+
+    @Bean
+    public GraphQlSourceBuilderCustomizer documentCacheCustomizer(GraphQlDocumentCache documentCache) {
+        return builder -> builder.configureGraphQl(graphQl -> graphQl.preparsedDocumentProvider(documentCache));
+    }
+}
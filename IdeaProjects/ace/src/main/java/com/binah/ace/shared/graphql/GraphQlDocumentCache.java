@@ -0,0 +1,177 @@
+package com.binah.ace.shared.graphql;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import graphql.ExecutionInput;
+import graphql.GraphqlErrorBuilder;
+import graphql.execution.preparsed.PreparsedDocumentEntry;
+import graphql.execution.preparsed.PreparsedDocumentProvider;
+import graphql.execution.preparsed.persisted.ApolloPersistedQuerySupport;
+import graphql.execution.preparsed.persisted.PersistedQueryCacheMiss;
+import graphql.execution.preparsed.persisted.PersistedQueryIdInvalid;
+import graphql.execution.preparsed.persisted.PersistedQueryNotFound;
+import graphql.execution.preparsed.persisted.PersistedQuerySupport;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+import org.springframework.graphql.execution.ErrorType;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+
+/**
+ * Parsed and validated GraphQL documents, kept by query text, plus
+ * automatic persisted queries (Apollo protocol: extensions.persistedQuery.sha256Hash).
+ *
+ * - A repeated query skips parsing and validation; entries with validation
+ *   errors are kept as well, the schema does not change while running
+ * - Persisted queries: the client sends only the hash; on PersistedQueryNotFound
+ *   it sends hash and query once, the hash is checked and the query registered
+ * - Allow-list: every *.graphql file under allow-list-location is registered
+ *   at startup by the SHA-256 of its exact content. With allow-listed-only
+ *   (production), any other operation is rejected with OPERATION_NOT_ALLOWED
+ *   and nothing is registered from requests
+ *
+ * Metrics: cache.* with cache = graphql-documents and graphql-persisted-queries.
+ *
+ * @author Marcos Gustavo
+ */
+@Component
+public class GraphQlDocumentCache implements PreparsedDocumentProvider {
+
+    private static final Logger log = LoggerFactory.getLogger(GraphQlDocumentCache.class);
+
+    private static final String PERSISTED_QUERY_EXTENSION = "persistedQuery";
+
+    private final Cache<String, PreparsedDocumentEntry> documents;
+    private final Cache<String, String> queriesByHash;
+    private final Map<String, String> allowList;
+    private final boolean allowListedOnly;
+    private final PersistedQuerySupport persistedQueries = new ApolloPersistedQuerySupport(this::persistedDocument);
+
+    public GraphQlDocumentCache(
+            MeterRegistry meterRegistry,
+            @Value("${ace.graphql.document-cache.maximum-size:1000}") long maximumSize,
+            @Value("${ace.graphql.persisted-queries.maximum-size:10000}") long maximumPersistedQueries,
+            @Value("${ace.graphql.persisted-queries.allow-list-location:classpath*:graphql/operations/**/*.graphql}") String allowListLocation,
+            @Value("${ace.graphql.persisted-queries.allow-listed-only:false}") boolean allowListedOnly
+    ) {
+        this.documents = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .recordStats()
+                .build();
+        this.queriesByHash = Caffeine.newBuilder()
+                .maximumSize(maximumPersistedQueries)
+                .recordStats()
+                .build();
+        this.allowList = loadAllowList(allowListLocation);
+        this.allowListedOnly = allowListedOnly;
+
+        CaffeineCacheMetrics.monitor(meterRegistry, documents, "graphql-documents");
+        CaffeineCacheMetrics.monitor(meterRegistry, queriesByHash, "graphql-persisted-queries");
+
+        log.info("📜 GraphQL allow-list: {} operations{}", allowList.size(),
+                allowListedOnly ? " (only allow-listed operations are accepted)" : "");
+    }
+
+    @Override
+    public CompletableFuture<PreparsedDocumentEntry> getDocumentAsync(
+            ExecutionInput executionInput,
+            Function<ExecutionInput, PreparsedDocumentEntry> parseAndValidateFunction
+    ) {
+        if (executionInput.getExtensions().containsKey(PERSISTED_QUERY_EXTENSION)) {
+            return persistedQueries.getDocumentAsync(executionInput, parseAndValidateFunction);
+        }
+
+        String query = executionInput.getQuery();
+        if (allowListedOnly && !allowList.containsKey(sha256(query))) {
+            return CompletableFuture.completedFuture(notAllowed());
+        }
+
+        return CompletableFuture.completedFuture(
+                documents.get(query, key -> parseAndValidateFunction.apply(executionInput)));
+    }
+
+    /**
+     * PersistedQueryCache for ApolloPersistedQuerySupport.
+     */
+    private CompletableFuture<PreparsedDocumentEntry> persistedDocument(
+            Object persistedQueryId,
+            ExecutionInput executionInput,
+            PersistedQueryCacheMiss onCacheMiss
+    ) {
+        String hash = persistedQueryId.toString();
+
+        // 1. Operação conhecida (allow-list ou registrada antes)
+        String query = allowList.get(hash);
+        if (query == null && allowListedOnly) {
+            return CompletableFuture.completedFuture(notAllowed());
+        }
+        if (query == null) {
+            query = queriesByHash.getIfPresent(hash);
+        }
+        if (query != null) {
+            return CompletableFuture.completedFuture(documents.get(query, onCacheMiss::apply));
+        }
+
+        // 2. Hash novo: o cliente precisa reenviar com a query
+        String sent = executionInput.getQuery();
+        if (sent == null || sent.isBlank() || sent.equals(PersistedQuerySupport.PERSISTED_QUERY_MARKER)) {
+            throw new PersistedQueryNotFound(persistedQueryId);
+        }
+        // A query já pode estar no cache (onCacheMiss não roda): confere o hash antes de registrar
+        if (!hash.equalsIgnoreCase(sha256(sent))) {
+            throw new PersistedQueryIdInvalid(persistedQueryId);
+        }
+
+        PreparsedDocumentEntry entry = documents.get(sent, onCacheMiss::apply);
+        queriesByHash.put(hash, sent);
+        return CompletableFuture.completedFuture(entry);
+    }
+
+    private PreparsedDocumentEntry notAllowed() {
+        return new PreparsedDocumentEntry(GraphqlErrorBuilder.newError()
+                .errorType(ErrorType.FORBIDDEN)
+                .message("Operation is not in the allow-list")
+                .extensions(Map.of("code", "OPERATION_NOT_ALLOWED"))
+                .build());
+    }
+
+    private static Map<String, String> loadAllowList(String location) {
+        Map<String, String> operations = new HashMap<>();
+        try {
+            for (Resource resource : new PathMatchingResourcePatternResolver().getResources(location)) {
+                String query = resource.getContentAsString(StandardCharsets.UTF_8);
+                operations.put(sha256(query), query);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not read the GraphQL allow-list at " + location, e);
+        }
+        return Map.copyOf(operations);
+    }
+
+    /**
+     * Lowercase hex SHA-256, as sent by Apollo clients.
+     */
+    static String sha256(String query) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(query.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
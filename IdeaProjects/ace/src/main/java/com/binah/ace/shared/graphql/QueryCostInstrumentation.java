@@ -0,0 +1,362 @@
+package com.binah.ace.shared.graphql;
+
+import com.binah.ace.shared.util.PaginationUtils;
+import graphql.ExecutionResult;
+import graphql.GraphQLError;
+import graphql.GraphqlErrorBuilder;
+import graphql.execution.AbortExecutionException;
+import graphql.execution.CoercedVariables;
+import graphql.execution.ExecutionContext;
+import graphql.execution.instrumentation.InstrumentationContext;
+import graphql.execution.instrumentation.InstrumentationState;
+import graphql.execution.instrumentation.SimplePerformantInstrumentation;
+import graphql.execution.instrumentation.parameters.InstrumentationExecuteOperationParameters;
+import graphql.language.Argument;
+import graphql.language.Field;
+import graphql.language.FragmentDefinition;
+import graphql.language.FragmentSpread;
+import graphql.language.InlineFragment;
+import graphql.language.IntValue;
+import graphql.language.Selection;
+import graphql.language.SelectionSet;
+import graphql.language.VariableReference;
+import graphql.schema.GraphQLFieldDefinition;
+import graphql.schema.GraphQLFieldsContainer;
+import graphql.schema.GraphQLNamedType;
+import graphql.schema.GraphQLSchema;
+import graphql.schema.GraphQLType;
+import graphql.schema.GraphQLTypeUtil;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.env.Environment;
+import org.springframework.graphql.execution.ErrorType;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Rejects GraphQL operations that are too deep, use too many aliases or
+ * cost more than the caller's role may spend, before any resolver runs.
+ *
+ * Static cost, computed from the document and the schema:
+ * - Scalar and enum fields are free; object fields cost 1, or their weight
+ *   (ace.graphql.cost.weight.*) for reportCard, students, searchStudents
+ *   (and their connections) and Student.grades
+ * - A field with a first argument multiplies the cost of its selections by
+ *   first (default and maximum page size from PaginationUtils); the edges
+ *   of a connection are then not multiplied again
+ * - Other list fields multiply the cost of their selections by list-multiplier
+ * - Introspection fields (__schema, __type, __typename) are not counted, so
+ *   GraphiQL keeps working
+ * - A fragment spread counts its fragment every time (with its aliases),
+ *   but each fragment is walked once per level: nested spreads cannot make
+ *   the analysis itself exponential
+ *
+ * Budget: ace.graphql.cost.budget.&lt;role&gt; (admin, teacher, ..., anonymous),
+ * falling back to ace.graphql.cost.budget.default. With several roles the
+ * largest budget wins.
+ *
+ * Metrics: ace.graphql.rejected (tags reason = depth|aliases|cost, role)
+ * and the ace.graphql.cost summary of accepted operations.
+ *
+ * @author Marcos Gustavo
+ */
+@Component
+public class QueryCostInstrumentation extends SimplePerformantInstrumentation {
+
+    private static final Logger log = LoggerFactory.getLogger(QueryCostInstrumentation.class);
+
+    private static final String BUDGET_PROPERTY = "ace.graphql.cost.budget.";
+    private static final String ANONYMOUS = "anonymous";
+    private static final String ROLE_PREFIX = "ROLE_";
+    private static final String CONNECTION_SUFFIX = "Connection";
+    private static final String FIRST_ARGUMENT = "first";
+
+    private final Environment environment;
+    private final MeterRegistry meterRegistry;
+    private final DistributionSummary acceptedCost;
+    private final int maxDepth;
+    private final int maxAliases;
+    private final int listMultiplier;
+    private final long defaultBudget;
+    private final Map<String, Integer> weights;
+    private final Map<String, Long> budgetsByRole = new ConcurrentHashMap<>();
+
+    public QueryCostInstrumentation(
+            Environment environment,
+            MeterRegistry meterRegistry,
+            @Value("${ace.graphql.max-depth:10}") int maxDepth,
+            @Value("${ace.graphql.max-aliases:20}") int maxAliases,
+            @Value("${ace.graphql.cost.list-multiplier:10}") int listMultiplier,
+            @Value("${ace.graphql.cost.budget.default:3000}") long defaultBudget,
+            @Value("${ace.graphql.cost.weight.report-card:10}") int reportCardWeight,
+            @Value("${ace.graphql.cost.weight.students:5}") int studentsWeight,
+            @Value("${ace.graphql.cost.weight.search-students:10}") int searchStudentsWeight,
+            @Value("${ace.graphql.cost.weight.student-grades:5}") int studentGradesWeight
+    ) {
+        this.environment = environment;
+        this.meterRegistry = meterRegistry;
+        this.maxDepth = maxDepth;
+        this.maxAliases = maxAliases;
+        this.listMultiplier = Math.max(1, listMultiplier);
+        this.defaultBudget = defaultBudget;
+        this.weights = Map.of(
+                "Query.reportCard", reportCardWeight,
+                "Student.reportCard", reportCardWeight,
+                "Query.students", studentsWeight,
+                "Query.searchStudents", searchStudentsWeight,
+                "Query.studentsConnection", studentsWeight,
+                "Query.searchStudentsConnection", searchStudentsWeight,
+                "Student.grades", studentGradesWeight
+        );
+        this.acceptedCost = DistributionSummary.builder("ace.graphql.cost")
+                .description("Static cost of accepted GraphQL operations")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public InstrumentationContext<ExecutionResult> beginExecuteOperation(
+            InstrumentationExecuteOperationParameters parameters,
+            InstrumentationState state
+    ) {
+        ExecutionContext context = parameters.getExecutionContext();
+        GraphQLSchema schema = context.getGraphQLSchema();
+
+        // 1. Mede a operação
+        Analysis analysis = new Analysis(schema, context.getFragmentsByName(), context.getCoercedVariables());
+        GraphQLNamedType rootType = switch (context.getOperationDefinition().getOperation()) {
+            case MUTATION -> schema.getMutationType();
+            case SUBSCRIPTION -> schema.getSubscriptionType();
+            default -> schema.getQueryType();
+        };
+        long cost = analysis.cost(context.getOperationDefinition().getSelectionSet(), rootType, 1);
+
+        // 2. Compara com os limites do papel
+        Caller caller = caller();
+        if (analysis.depth > maxDepth) {
+            reject(caller, "depth", "QUERY_TOO_DEEP",
+                    "Query depth " + analysis.depth + " exceeds the maximum of " + maxDepth,
+                    Map.of("depth", analysis.depth, "maxDepth", maxDepth));
+        }
+        if (analysis.aliases > maxAliases) {
+            reject(caller, "aliases", "TOO_MANY_ALIASES",
+                    "Query uses " + analysis.aliases + " aliases, the maximum is " + maxAliases,
+                    Map.of("aliases", analysis.aliases, "maxAliases", maxAliases));
+        }
+        if (cost > caller.budget()) {
+            reject(caller, "cost", "QUERY_TOO_COMPLEX",
+                    "Query cost " + cost + " exceeds the budget of " + caller.budget(),
+                    Map.of("cost", cost, "budget", caller.budget()));
+        }
+
+        acceptedCost.record(cost);
+        return super.beginExecuteOperation(parameters, state);
+    }
+
+    private void reject(Caller caller, String reason, String code, String message, Map<String, ?> details) {
+        meterRegistry.counter("ace.graphql.rejected", "reason", reason, "role", caller.role()).increment();
+        log.warn("🚫 GraphQL operation rejected ({}, role {}): {}", reason, caller.role(), message);
+
+        GraphQLError error = GraphqlErrorBuilder.newError()
+                .errorType(ErrorType.BAD_REQUEST)
+                .message(message)
+                .extensions(Map.of("code", code, "limits", details))
+                .build();
+        throw new AbortExecutionException(List.of(error));
+    }
+
+    /**
+     * Role with the largest budget among the caller's authorities.
+     * Unauthenticated callers are "anonymous".
+     */
+    private Caller caller() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        Caller caller = new Caller(ANONYMOUS, budget(ANONYMOUS));
+        if (authentication == null) {
+            return caller;
+        }
+
+        for (GrantedAuthority authority : authentication.getAuthorities()) {
+            String name = authority.getAuthority();
+            if (name == null || !name.startsWith(ROLE_PREFIX)) {
+                continue;
+            }
+            String role = name.substring(ROLE_PREFIX.length()).toLowerCase(Locale.ROOT);
+            long budget = budget(role);
+            if (caller.role().equals(ANONYMOUS) || budget > caller.budget()) {
+                caller = new Caller(role, budget);
+            }
+        }
+        return caller;
+    }
+
+    private long budget(String role) {
+        return budgetsByRole.computeIfAbsent(role, key ->
+                environment.getProperty(BUDGET_PROPERTY + key, Long.class, defaultBudget));
+    }
+
+    private record Caller(String role, long budget) {
+    }
+
+    /**
+     * One walk over the operation: cost, deepest field and number of aliases.
+     * Fragment cycles were already rejected by validation.
+     */
+    private final class Analysis {
+
+        private final GraphQLSchema schema;
+        private final Map<String, FragmentDefinition> fragments;
+        private final CoercedVariables variables;
+
+        // Resultado de cada fragmento por nível: o tipo vem da própria condição do fragmento
+        private final Map<FragmentKey, FragmentAnalysis> analyzedFragments = new HashMap<>();
+
+        private int depth;
+        private long aliases;
+
+        private Analysis(GraphQLSchema schema, Map<String, FragmentDefinition> fragments, CoercedVariables variables) {
+            this.schema = schema;
+            this.fragments = fragments;
+            this.variables = variables;
+        }
+
+        private long cost(SelectionSet selectionSet, GraphQLType parentType, int level) {
+            if (selectionSet == null) {
+                return 0;
+            }
+
+            long total = 0;
+            for (Selection<?> selection : selectionSet.getSelections()) {
+                if (selection instanceof Field field) {
+                    total = saturatedAdd(total, fieldCost(field, parentType, level));
+                } else if (selection instanceof InlineFragment fragment) {
+                    GraphQLType type = fragment.getTypeCondition() == null
+                            ? parentType
+                            : schema.getType(fragment.getTypeCondition().getName());
+                    total = saturatedAdd(total, cost(fragment.getSelectionSet(), type, level));
+                } else if (selection instanceof FragmentSpread spread) {
+                    FragmentDefinition fragment = fragments.get(spread.getName());
+                    if (fragment != null) {
+                        total = saturatedAdd(total, fragmentCost(fragment, level));
+                    }
+                }
+            }
+            return total;
+        }
+
+        /**
+         * Walks the fragment the first time it is spread at this level and
+         * reuses that result (cost, depth and aliases) for the other spreads.
+         */
+        private long fragmentCost(FragmentDefinition fragment, int level) {
+            FragmentKey key = new FragmentKey(fragment.getName(), level);
+            FragmentAnalysis analyzed = analyzedFragments.get(key);
+
+            if (analyzed == null) {
+                int outerDepth = depth;
+                long outerAliases = aliases;
+                depth = 0;
+                aliases = 0;
+
+                GraphQLType type = schema.getType(fragment.getTypeCondition().getName());
+                long cost = cost(fragment.getSelectionSet(), type, level);
+                analyzed = new FragmentAnalysis(cost, depth, aliases);
+                analyzedFragments.put(key, analyzed);
+
+                depth = outerDepth;
+                aliases = outerAliases;
+            }
+
+            depth = Math.max(depth, analyzed.depth());
+            aliases = saturatedAdd(aliases, analyzed.aliases());
+            return analyzed.cost();
+        }
+
+        private long fieldCost(Field field, GraphQLType parentType, int level) {
+            if (field.getName().startsWith("__")) {
+                return 0;
+            }
+            if (field.getAlias() != null) {
+                aliases = saturatedAdd(aliases, 1);
+            }
+            depth = Math.max(depth, level);
+
+            if (!(parentType instanceof GraphQLFieldsContainer container)) {
+                return 0;
+            }
+            GraphQLFieldDefinition definition = container.getFieldDefinition(field.getName());
+            if (definition == null) {
+                return 0;
+            }
+
+            GraphQLType fieldType = GraphQLTypeUtil.unwrapAll(definition.getType());
+            if (!(fieldType instanceof GraphQLFieldsContainer)) {
+                return 0;
+            }
+
+            int weight = weights.getOrDefault(container.getName() + "." + field.getName(), 1);
+            long children = cost(field.getSelectionSet(), fieldType, level + 1);
+            return saturatedAdd(weight, saturatedMultiply(multiplier(field, definition, container), children));
+        }
+
+        private long multiplier(Field field, GraphQLFieldDefinition definition, GraphQLFieldsContainer parent) {
+            if (definition.getArgument(FIRST_ARGUMENT) != null) {
+                return pageSize(field);
+            }
+            // As edges de uma connection já foram multiplicadas pelo first
+            if (parent.getName().endsWith(CONNECTION_SUFFIX)) {
+                return 1;
+            }
+            return GraphQLTypeUtil.isList(GraphQLTypeUtil.unwrapNonNull(definition.getType())) ? listMultiplier : 1;
+        }
+
+        private long pageSize(Field field) {
+            Integer first = null;
+            for (Argument argument : field.getArguments()) {
+                if (!argument.getName().equals(FIRST_ARGUMENT)) {
+                    continue;
+                }
+                Object value = argument.getValue();
+                if (value instanceof IntValue intValue) {
+                    first = intValue.getValue().intValue();
+                } else if (value instanceof VariableReference reference
+                        && variables.get(reference.getName()) instanceof Number number) {
+                    first = number.intValue();
+                }
+            }
+
+            if (first == null || first <= 0) {
+                return PaginationUtils.getDefaultPageSize();
+            }
+            return Math.min(first, PaginationUtils.getMaxPageSize());
+        }
+    }
+
+    private record FragmentKey(String name, int level) {
+    }
+
+    private record FragmentAnalysis(long cost, int depth, long aliases) {
+    }
+
+    private static long saturatedAdd(long a, long b) {
+        long sum = a + b;
+        return sum < 0 ? Long.MAX_VALUE : sum;
+    }
+
+    private static long saturatedMultiply(long a, long b) {
+        if (a != 0 && b > Long.MAX_VALUE / a) {
+            return Long.MAX_VALUE;
+        }
+        return a * b;
+    }
+}
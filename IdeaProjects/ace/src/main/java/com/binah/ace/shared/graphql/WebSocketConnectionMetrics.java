@@ -0,0 +1,51 @@
+package com.binah.ace.shared.graphql;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.graphql.server.WebSocketGraphQlInterceptor;
+import org.springframework.graphql.server.WebSocketSessionInfo;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Counts the graphql-ws connections (subscriptions).
+ *
+ * A connection is counted once the client sends connection_init, so
+ * sockets that never complete the handshake are not counted.
+ *
+ * Metrics: ace.graphql.websocket.connections (open now) and
+ * ace.graphql.websocket.connections.opened.
+ *
+ * @author Marcos Gustavo
+ */
+@Component
+public class WebSocketConnectionMetrics implements WebSocketGraphQlInterceptor {
+
+    private final Set<String> openSessions = ConcurrentHashMap.newKeySet();
+    private final Counter opened;
+
+    public WebSocketConnectionMetrics(MeterRegistry meterRegistry) {
+        Gauge.builder("ace.graphql.websocket.connections", openSessions, Set::size)
+                .description("Open graphql-ws connections")
+                .register(meterRegistry);
+        this.opened = meterRegistry.counter("ace.graphql.websocket.connections.opened");
+    }
+
+    @Override
+    public Mono<Object> handleConnectionInitialization(WebSocketSessionInfo sessionInfo, Map<String, Object> payload) {
+        if (openSessions.add(sessionInfo.getId())) {
+            opened.increment();
+        }
+        return Mono.empty();
+    }
+
+    @Override
+    public void handleConnectionClosed(WebSocketSessionInfo sessionInfo, int statusCode, Map<String, Object> payload) {
+        openSessions.remove(sessionInfo.getId());
+    }
+}
@@ -0,0 +1,90 @@
+package com.binah.ace.shared.metrics;
+
+import com.binah.ace.shared.exception.GlobalExceptionHandler;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.stereotype.Component;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Times every public method of the use cases and repository implementations.
+ *
+ * - ace.usecase / ace.repository: timers tagged class, method and outcome
+ *   (success or error), published with percentile histograms
+ * - ace.usecase.errors / ace.repository.errors: failures tagged class,
+ *   method, exception (simple class name) and error (the GraphQL error
+ *   type GlobalExceptionHandler maps the exception to)
+ *
+ * Calls between use cases and to the cached repositories are timed at
+ * every level, so a slow report card shows which query it waited on.
+ * Calls inside the same class are not timed (Spring proxies), and
+ * methods returning a Stream are timed until the stream is opened.
+ *
+ * @author Marcos Gustavo
+ */
+@Aspect
+@Component
+public class MetricsAspect {
+
+    private final MeterRegistry meterRegistry;
+
+    // Timers resolvidos uma vez por método; o registro só é consultado no primeiro uso
+    private final Map<Method, Timers> timers = new ConcurrentHashMap<>();
+
+    public MetricsAspect(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Around("execution(public * com.binah.ace..application.usecase.*UseCase.*(..))")
+    public Object timeUseCase(ProceedingJoinPoint joinPoint) throws Throwable {
+        return time("ace.usecase", joinPoint);
+    }
+
+    @Around("execution(public * com.binah.ace..infrastructure.persistence.*RepositoryImpl.*(..))")
+    public Object timeRepository(ProceedingJoinPoint joinPoint) throws Throwable {
+        return time("ace.repository", joinPoint);
+    }
+
+    private Object time(String name, ProceedingJoinPoint joinPoint) throws Throwable {
+        MethodSignature signature = (MethodSignature) joinPoint.getSignature();
+        String className = signature.getDeclaringType().getSimpleName();
+        Timers methodTimers = timers.computeIfAbsent(signature.getMethod(), method -> new Timers(
+                timer(name, className, method, "success"),
+                timer(name, className, method, "error")
+        ));
+
+        Timer.Sample sample = Timer.start(meterRegistry);
+        try {
+            Object result = joinPoint.proceed();
+            sample.stop(methodTimers.success());
+            return result;
+        } catch (Throwable e) {
+            sample.stop(methodTimers.error());
+            meterRegistry.counter(name + ".errors",
+                    "class", className,
+                    "method", signature.getName(),
+                    "exception", e.getClass().getSimpleName(),
+                    "error", GlobalExceptionHandler.errorTypeOf(e).name()
+            ).increment();
+            throw e;
+        }
+    }
+
+    private Timer timer(String name, String className, Method method, String outcome) {
+        return Timer.builder(name)
+                .tag("class", className)
+                .tag("method", method.getName())
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+
+    private record Timers(Timer success, Timer error) {
+    }
+}
@@ -1,15 +1,24 @@
 package com.binah.ace.shared.util;
 
+import com.binah.ace.shared.exception.BusinessException;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
 /**
  * Utilitários para paginação em consultas GraphQL e JPA.
  *
  * Fornece métodos para criar objetos Pageable de forma padronizada,
  * com validações e valores padrão.
  *
+ * Para listas grandes, prefira a paginação por cursor (keyset): o cursor
+ * guarda a chave de ordenação do último item (ex: fullName + id) e a
+ * próxima página começa logo depois dela, sem OFFSET. O custo de uma
+ * página não cresce com a profundidade.
+ *
  * Limites:
  * - Tamanho padrão: 20 itens por página
  * - Tamanho máximo: 100 itens por página
@@ -28,6 +37,9 @@ public class PaginationUtils {
     /** Página inicial padrão (zero-indexed) */
     private static final int DEFAULT_PAGE = 0;
 
+    /** Separador dos valores dentro do cursor (não aparece em nomes/IDs) */
+    private static final char CURSOR_SEPARATOR = '\u001F';
+
     /**
      * Construtor privado para classe utilitária.
      */
@@ -136,6 +148,53 @@ public class PaginationUtils {
         return Sort.by(sortDirection, sortBy);
     }
 
+    /**
+     * Normaliza o tamanho de uma página por cursor (argumento "first").
+     *
+     * Mesmas regras de createPageRequest: padrão 20, máximo 100.
+     *
+     * @param first Quantidade de itens pedida
+     * @return Tamanho válido (1 a MAX_PAGE_SIZE)
+     */
+    public static int resolvePageSize(Integer first) {
+        return validateSize(first);
+    }
+
+    /**
+     * Cria um cursor opaco a partir da chave de ordenação de um item.
+     *
+     * @param values Valores da chave, na ordem de ordenação (ex: fullName, id)
+     * @return Cursor em Base64 (URL-safe)
+     */
+    public static String encodeCursor(String... values) {
+        String joined = String.join(String.valueOf(CURSOR_SEPARATOR), values);
+        return Base64.getUrlEncoder()
+                .withoutPadding()
+                .encodeToString(joined.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Lê os valores de um cursor criado por encodeCursor.
+     *
+     * @param cursor Cursor recebido do cliente
+     * @param expectedValues Quantidade de valores da chave
+     * @return Valores da chave
+     * @throws BusinessException INVALID_CURSOR se o cursor não for válido
+     */
+    public static String[] decodeCursor(String cursor, int expectedValues) {
+        try {
+            String joined = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] values = joined.split(String.valueOf(CURSOR_SEPARATOR), -1);
+            if (values.length == expectedValues) {
+                return values;
+            }
+        } catch (IllegalArgumentException e) {
+            // cai no erro abaixo
+        }
+
+        throw new BusinessException("INVALID_CURSOR", "Invalid pagination cursor: " + cursor);
+    }
+
     /**
      * Valida e normaliza o número da página.
      *
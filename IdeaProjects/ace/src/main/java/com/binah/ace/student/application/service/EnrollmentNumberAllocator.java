@@ -0,0 +1,152 @@
+package com.binah.ace.student.application.service;
+
+import com.binah.ace.student.domain.exception.InvalidEnrollmentException;
+import com.binah.ace.student.domain.repository.EnrollmentSequenceRepository;
+import com.binah.ace.student.domain.valueobject.Enrollment;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDate;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Hands out enrollment numbers from the daily sequence.
+ *
+ * Numbers are reserved on the caller's connection, in the caller's
+ * transaction: no second connection is taken from the pool, and the
+ * day's counter row stays locked until that transaction ends. To keep
+ * that wait off most enrollments, each reservation takes a block of
+ * ace.enrollment.block-size numbers (50 by default): the numbers beyond
+ * the caller's own are served from memory to the next callers of this
+ * node, so the counter is locked once per block instead of once per
+ * student. The block is shared only once the reserving transaction
+ * commits (a rolled back block is returned to the counter, so it must not
+ * be used). Numbers stay unique across nodes, but are not in creation
+ * order across nodes, and the unused rest of a block is lost on restart.
+ *
+ * @author Marcos Gustavo
+ */
+@Service
+public class EnrollmentNumberAllocator {
+
+    private final EnrollmentSequenceRepository sequenceRepository;
+    private final int blockSize;
+
+    // Protege só os blocos em memória; a reserva no banco é feita fora do lock
+    private final ReentrantLock lock = new ReentrantLock();
+
+    // Blocos já confirmados (commit), com números ainda não entregues
+    private final Deque<Block> blocks = new ArrayDeque<>();
+
+    public EnrollmentNumberAllocator(
+            EnrollmentSequenceRepository sequenceRepository,
+            @Value("${ace.enrollment.block-size:50}") int blockSize
+    ) {
+        if (blockSize < 1) {
+            throw new IllegalArgumentException("ace.enrollment.block-size must be at least 1: " + blockSize);
+        }
+        this.sequenceRepository = sequenceRepository;
+        this.blockSize = blockSize;
+    }
+
+    /**
+     * Allocates the next enrollment number of today.
+     */
+    public Enrollment next() {
+        return next(1).get(0);
+    }
+
+    /**
+     * Allocates several enrollment numbers of today at once.
+     *
+     * @param count How many numbers
+     * @return Enrollments in sequence order
+     */
+    public List<Enrollment> next(int count) {
+        LocalDate today = LocalDate.now();
+        List<Enrollment> enrollments = new ArrayList<>(count);
+
+        // 1. Numbers left in the committed blocks of this node
+        takeFromBlocks(today, count, enrollments);
+        if (enrollments.size() == count) {
+            return enrollments;
+        }
+
+        // 2. Reserve the rest (plus a block for the next callers) in the caller's transaction
+        int missing = count - enrollments.size();
+        int size = Math.max(blockSize, missing);
+        long last = sequenceRepository.allocate(today, size);
+        long first = last - size + 1;
+
+        for (long number = first; number < first + missing; number++) {
+            if (number > Enrollment.MAX_SEQUENCE) {
+                throw InvalidEnrollmentException.sequenceExhausted(today);
+            }
+            enrollments.add(Enrollment.generate(today, (int) number));
+        }
+
+        // 3. Share the spare numbers once they are committed
+        long spareLast = Math.min(last, Enrollment.MAX_SEQUENCE);
+        if (first + missing <= spareLast) {
+            shareAfterCommit(new Block(today, first + missing, spareLast));
+        }
+
+        return enrollments;
+    }
+
+    private void takeFromBlocks(LocalDate today, int count, List<Enrollment> enrollments) {
+        lock.lock();
+        try {
+            while (enrollments.size() < count && !blocks.isEmpty()) {
+                Block block = blocks.peekFirst();
+                if (!block.date().equals(today) || block.next() > block.last()) {
+                    blocks.pollFirst();
+                    continue;
+                }
+
+                enrollments.add(Enrollment.generate(today, (int) block.next()));
+                blocks.pollFirst();
+                if (block.next() < block.last()) {
+                    blocks.addFirst(new Block(block.date(), block.next() + 1, block.last()));
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void shareAfterCommit(Block block) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            addBlock(block);
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status == STATUS_COMMITTED) {
+                    addBlock(block);
+                }
+            }
+        });
+    }
+
+    private void addBlock(Block block) {
+        lock.lock();
+        try {
+            blocks.addLast(block);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // Números next..last do dia date
+    private record Block(LocalDate date, long next, long last) {
+    }
+}
@@ -0,0 +1,288 @@
+package com.binah.ace.student.application.service;
+
+import com.binah.ace.student.domain.entity.AcademicHistory;
+import com.binah.ace.student.domain.entity.PeriodClosure;
+import com.binah.ace.student.domain.repository.AcademicHistoryRepository;
+import com.binah.ace.student.domain.repository.AttendanceRepository;
+import com.binah.ace.student.domain.repository.GradeAggregateRepository;
+import com.binah.ace.student.domain.repository.PeriodClosureRepository;
+import com.binah.ace.student.domain.repository.ReportCardViewRepository;
+import com.binah.ace.student.domain.repository.StudentRepository;
+import com.binah.ace.student.domain.valueobject.AcademicPeriod;
+import com.binah.ace.student.domain.valueobject.AttendanceSummary;
+import com.binah.ace.student.domain.valueobject.GradeAggregate;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Writes the AcademicHistory of every active student when a period is closed.
+ *
+ * - The active students are split in chunks of ace.period-close.chunk-size IDs
+ * - Chunks run in parallel on ace.period-close.parallelism threads, each in
+ *   its own transaction: grade totals and attendance counts are loaded with
+ *   one query per chunk and the histories are written in JDBC batches
+ * - Every chunk adds its students to the closing counters (progress)
+ * - While the run is alive it refreshes the closing every heartbeat-interval,
+ *   however long a chunk takes, so only a run whose node died goes stale
+ *   and can be started again
+ * - Restartable: students that already have a history are skipped, so
+ *   running a failed closing again only processes the missing chunks
+ *
+ * @author Marcos Gustavo
+ */
+@Service
+public class PeriodCloseJob {
+
+    private static final Logger log = LoggerFactory.getLogger(PeriodCloseJob.class);
+
+    private static final int MAX_ERROR_LENGTH = 1000;
+
+    private final StudentRepository studentRepository;
+    private final GradeAggregateRepository gradeAggregateRepository;
+    private final AttendanceRepository attendanceRepository;
+    private final AcademicHistoryRepository academicHistoryRepository;
+    private final PeriodClosureRepository periodClosureRepository;
+    private final ReportCardViewRepository reportCardViewRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final int chunkSize;
+    private final Duration heartbeatInterval;
+
+    // Uma thread coordena cada fechamento; as outras processam os chunks
+    private final ExecutorService coordinator;
+    private final ExecutorService workers;
+    private final ScheduledExecutorService heartbeats;
+
+    public PeriodCloseJob(
+            StudentRepository studentRepository,
+            GradeAggregateRepository gradeAggregateRepository,
+            AttendanceRepository attendanceRepository,
+            AcademicHistoryRepository academicHistoryRepository,
+            PeriodClosureRepository periodClosureRepository,
+            ReportCardViewRepository reportCardViewRepository,
+            PlatformTransactionManager transactionManager,
+            MeterRegistry meterRegistry,
+            @Value("${ace.period-close.parallelism:4}") int parallelism,
+            @Value("${ace.period-close.chunk-size:500}") int chunkSize,
+            @Value("${ace.period-close.heartbeat-interval:1m}") Duration heartbeatInterval
+    ) {
+        this.studentRepository = studentRepository;
+        this.gradeAggregateRepository = gradeAggregateRepository;
+        this.attendanceRepository = attendanceRepository;
+        this.academicHistoryRepository = academicHistoryRepository;
+        this.periodClosureRepository = periodClosureRepository;
+        this.reportCardViewRepository = reportCardViewRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.chunkSize = Math.max(1, chunkSize);
+        // scheduleAtFixedRate rejects a period of 0 ms
+        if (heartbeatInterval.toMillis() <= 0) {
+            throw new IllegalArgumentException(
+                    "ace.period-close.heartbeat-interval must be at least 1ms: " + heartbeatInterval);
+        }
+        this.heartbeatInterval = heartbeatInterval;
+        // Pool de 1 thread (e não newSingleThreadExecutor) para que as métricas enxerguem o ThreadPoolExecutor
+        this.coordinator = Executors.newFixedThreadPool(1, named("period-close"));
+        this.workers = Executors.newFixedThreadPool(Math.max(1, parallelism), named("period-close-worker"));
+        this.heartbeats = Executors.newSingleThreadScheduledExecutor(named("period-close-heartbeat"));
+
+        // executor.* (pool size, active threads, queued chunks) de cada pool
+        new ExecutorServiceMetrics(coordinator, "period-close", Tags.empty()).bindTo(meterRegistry);
+        new ExecutorServiceMetrics(workers, "period-close-worker", Tags.empty()).bindTo(meterRegistry);
+    }
+
+    /**
+     * Runs a started closing in the background.
+     */
+    public void submit(PeriodClosure closure) {
+        coordinator.execute(() -> run(closure));
+    }
+
+    private void run(PeriodClosure closure) {
+        UUID closureId = closure.getId();
+        AcademicPeriod period = closure.getAcademicPeriod();
+        ScheduledFuture<?> heartbeat = null;
+
+        try {
+            heartbeat = heartbeats.scheduleAtFixedRate(
+                    () -> heartbeat(closureId),
+                    heartbeatInterval.toMillis(),
+                    heartbeatInterval.toMillis(),
+                    TimeUnit.MILLISECONDS
+            );
+
+            // 1. Students still without history (the rest was written by a previous run)
+            List<UUID> activeIds = studentRepository.findActiveStudentIds();
+            Set<UUID> done = academicHistoryRepository.findStudentIdsByPeriod(period);
+            List<UUID> pending = activeIds.stream()
+                    .filter(id -> !done.contains(id))
+                    .collect(Collectors.toList());
+
+            periodClosureRepository.initializeCounters(closureId, activeIds.size(), activeIds.size() - pending.size());
+            log.info("📚 Closing period {}: {} students, {} pending", period, activeIds.size(), pending.size());
+
+            // 2. Process the chunks in parallel
+            CompletableFuture<?>[] chunks = partition(pending)
+                    .stream()
+                    .map(chunk -> CompletableFuture.runAsync(() -> processChunk(closureId, period, chunk), workers))
+                    .toArray(CompletableFuture[]::new);
+            CompletableFuture.allOf(chunks).join();
+        } catch (RuntimeException e) {
+            log.error("❌ Closing of period {} aborted", period, e);
+            recordAbort(closureId, e);
+        } finally {
+            if (heartbeat != null) {
+                heartbeat.cancel(false);
+            }
+            // 3. Always leaves RUNNING, so a failed run can be started again right away
+            finish(closureId, period);
+        }
+    }
+
+    /**
+     * COMPLETED only if every student got a history. If even this write
+     * fails, the closing goes stale (no more heartbeats) and can be
+     * started again after stale-after.
+     */
+    private void finish(UUID closureId, AcademicPeriod period) {
+        try {
+            PeriodClosure finished = periodClosureRepository.finish(closureId);
+            log.info("📚 Closing of period {} finished: {} ({}/{} students, {} failed)",
+                    period,
+                    finished.getStatus(),
+                    finished.getProcessedStudents(),
+                    finished.getTotalStudents(),
+                    finished.getFailedStudents());
+
+            // 4. Closed report cards now come from the history
+            if (finished.isClosed()) {
+                reportCardViewRepository.invalidatePeriod(period);
+            }
+        } catch (RuntimeException e) {
+            log.error("❌ Could not finish the closing of period {}", period, e);
+        }
+    }
+
+    /**
+     * Stores the error of an aborted run, so finish marks it FAILED.
+     */
+    private void recordAbort(UUID closureId, RuntimeException error) {
+        try {
+            periodClosureRepository.addProgress(closureId, 0, 0, errorOf(error));
+        } catch (RuntimeException e) {
+            log.warn("⚠️ Could not record the error of period closing {}", closureId, e);
+        }
+    }
+
+    /**
+     * Writes the histories of a chunk in a single transaction.
+     * A failed chunk is counted and left for the next run.
+     */
+    private void processChunk(UUID closureId, AcademicPeriod period, List<UUID> studentIds) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                academicHistoryRepository.replaceAll(period, buildHistories(period, studentIds));
+                periodClosureRepository.addProgress(closureId, studentIds.size(), 0, null);
+            });
+        } catch (RuntimeException e) {
+            log.warn("⚠️ Chunk of {} students failed while closing period {}", studentIds.size(), period, e);
+            periodClosureRepository.addProgress(closureId, 0, studentIds.size(), errorOf(e));
+        }
+    }
+
+    /**
+     * A failed heartbeat is only logged: the next one may work, and the
+     * scheduler would stop calling it after an exception.
+     */
+    private void heartbeat(UUID closureId) {
+        try {
+            periodClosureRepository.heartbeat(closureId);
+        } catch (RuntimeException e) {
+            log.warn("⚠️ Heartbeat of period closing {} failed", closureId, e);
+        }
+    }
+
+    private List<AcademicHistory> buildHistories(AcademicPeriod period, List<UUID> studentIds) {
+        // 1. Grade totals and attendance counts of the whole chunk
+        Map<UUID, GradeAggregate> aggregates = gradeAggregateRepository
+                .findByStudentIdsAndPeriod(studentIds, period)
+                .stream()
+                .collect(Collectors.toMap(GradeAggregate::studentId, Function.identity()));
+
+        Map<UUID, List<AttendanceSummary>> attendanceByStudent = attendanceRepository
+                .summarizeByStudentIds(studentIds, period)
+                .stream()
+                .collect(Collectors.groupingBy(AttendanceSummary::studentId));
+
+        // 2. One history per student
+        List<AcademicHistory> histories = new ArrayList<>(studentIds.size());
+        for (UUID studentId : studentIds) {
+            AttendanceSummary attendance = AttendanceSummary.total(
+                    studentId,
+                    attendanceByStudent.getOrDefault(studentId, List.of())
+            );
+
+            AcademicHistory history = new AcademicHistory(UUID.randomUUID(), studentId, period);
+            history.updateGPA(aggregates.getOrDefault(studentId, GradeAggregate.empty(studentId)).toGPA());
+            history.updateAttendance(
+                    Math.toIntExact(attendance.totalClasses()),
+                    Math.toIntExact(attendance.attendedClasses())
+            );
+            histories.add(history);
+        }
+
+        return histories;
+    }
+
+    private List<List<UUID>> partition(List<UUID> ids) {
+        List<List<UUID>> chunks = new ArrayList<>();
+        for (int from = 0; from < ids.size(); from += chunkSize) {
+            chunks.add(ids.subList(from, Math.min(from + chunkSize, ids.size())));
+        }
+        return chunks;
+    }
+
+    private String errorOf(Throwable error) {
+        String message = error.getClass().getSimpleName() + ": " + error.getMessage();
+        return message.length() > MAX_ERROR_LENGTH ? message.substring(0, MAX_ERROR_LENGTH) : message;
+    }
+
+    private static ThreadFactory named(String prefix) {
+        AtomicInteger counter = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, prefix + "-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    @PreDestroy
+    void shutdown() {
+        coordinator.shutdownNow();
+        workers.shutdownNow();
+        heartbeats.shutdownNow();
+    }
+}
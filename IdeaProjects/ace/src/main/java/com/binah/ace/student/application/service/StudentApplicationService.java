@@ -2,12 +2,22 @@ package com.binah.ace.student.application.service;
 
 import com.binah.ace.student.application.usecase.*;
 import com.binah.ace.student.domain.entity.Grade;
+import com.binah.ace.student.domain.entity.PeriodClosure;
 import com.binah.ace.student.domain.entity.Student;
 import com.binah.ace.student.domain.valueobject.AcademicPeriod;
+import com.binah.ace.student.domain.valueobject.ClassroomSubjectSummary;
 import com.binah.ace.student.domain.valueobject.GPA;
+import com.binah.ace.student.domain.valueobject.ReportCard;
 import org.springframework.stereotype.Service;
 
+import java.math.BigDecimal;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.UUID;
+import java.util.function.Consumer;
 
 /**
  * Application Service of the Student module.
@@ -27,19 +37,37 @@ public class StudentApplicationService {
 
     private final CreateStudentUseCase createStudentUseCase;
     private final PostGradeUseCase postGradeUseCase;
+    private final UpdateGradeUseCase updateGradeUseCase;
+    private final DeleteGradeUseCase deleteGradeUseCase;
     private final CalculateGPAUseCase calculateGPAUseCase;
     private final ViewReportCardUseCase viewReportCardUseCase;
+    private final ViewClassroomSubjectSummaryUseCase viewClassroomSubjectSummaryUseCase;
+    private final RecordAttendanceUseCase recordAttendanceUseCase;
+    private final ClosePeriodUseCase closePeriodUseCase;
+    private final ImportStudentsUseCase importStudentsUseCase;
 
     public StudentApplicationService(
             CreateStudentUseCase createStudentUseCase,
             PostGradeUseCase postGradeUseCase,
+            UpdateGradeUseCase updateGradeUseCase,
+            DeleteGradeUseCase deleteGradeUseCase,
             CalculateGPAUseCase calculateGPAUseCase,
-            ViewReportCardUseCase viewReportCardUseCase
+            ViewReportCardUseCase viewReportCardUseCase,
+            ViewClassroomSubjectSummaryUseCase viewClassroomSubjectSummaryUseCase,
+            RecordAttendanceUseCase recordAttendanceUseCase,
+            ClosePeriodUseCase closePeriodUseCase,
+            ImportStudentsUseCase importStudentsUseCase
     ) {
         this.createStudentUseCase = createStudentUseCase;
         this.postGradeUseCase = postGradeUseCase;
+        this.updateGradeUseCase = updateGradeUseCase;
+        this.deleteGradeUseCase = deleteGradeUseCase;
         this.calculateGPAUseCase = calculateGPAUseCase;
         this.viewReportCardUseCase = viewReportCardUseCase;
+        this.viewClassroomSubjectSummaryUseCase = viewClassroomSubjectSummaryUseCase;
+        this.recordAttendanceUseCase = recordAttendanceUseCase;
+        this.closePeriodUseCase = closePeriodUseCase;
+        this.importStudentsUseCase = importStudentsUseCase;
     }
 
     /**
@@ -62,6 +90,30 @@ public class StudentApplicationService {
         return postGradeUseCase.execute(command, postedBy);
     }
 
+    /**
+     * Posts several grades in a single transaction.
+     */
+    public PostGradeUseCase.BatchResult postGrades(
+            List<PostGradeUseCase.PostGradeCommand> commands,
+            UUID postedBy
+    ) {
+        return postGradeUseCase.executeBatch(commands, postedBy);
+    }
+
+    /**
+     * Updates the score of a posted grade.
+     */
+    public Grade updateGrade(UUID gradeId, BigDecimal newScore, UUID updatedBy) {
+        return updateGradeUseCase.execute(gradeId, newScore, updatedBy);
+    }
+
+    /**
+     * Deletes a posted grade.
+     */
+    public void deleteGrade(UUID gradeId) {
+        deleteGradeUseCase.execute(gradeId);
+    }
+
     /**
      * Calculates the student's GPA for a given period.
      */
@@ -79,13 +131,35 @@ public class StudentApplicationService {
     /**
      * Views the student's report card.
      */
-    public ViewReportCardUseCase.ReportCard viewReportCard(
+    public ReportCard viewReportCard(
             UUID studentId,
             AcademicPeriod period
     ) {
         return viewReportCardUseCase.execute(studentId, period);
     }
 
+    /**
+     * Views the report cards of several students for the same period.
+     */
+    public Map<UUID, ReportCard> viewReportCards(
+            Collection<UUID> studentIds,
+            AcademicPeriod period
+    ) {
+        return viewReportCardUseCase.executeBatch(studentIds, period);
+    }
+
+    /**
+     * Exports the report cards of a period (whole school or one classroom subject),
+     * handing each one to the sink as soon as it is built.
+     */
+    public long exportReportCards(
+            AcademicPeriod period,
+            UUID classroomSubjectId,
+            Consumer<ReportCard> sink
+    ) {
+        return viewReportCardUseCase.export(period, classroomSubjectId, sink);
+    }
+
     /**
      * Composite operation: Posts a grade and automatically updates the GPA.
      *
@@ -113,4 +187,45 @@ public class StudentApplicationService {
             Grade grade,
             GPA updatedGPA
     ) {}
-}
\ No newline at end of file
+
+    /**
+     * Views the grade summary of a classroom subject.
+     */
+    public ClassroomSubjectSummary viewClassroomSubjectSummary(UUID classroomSubjectId, AcademicPeriod period) {
+        return viewClassroomSubjectSummaryUseCase.execute(classroomSubjectId, period);
+    }
+
+    /**
+     * Records the roll call of a class.
+     */
+    public RecordAttendanceUseCase.Result recordAttendance(
+            RecordAttendanceUseCase.RecordAttendanceCommand command,
+            UUID recordedBy
+    ) {
+        return recordAttendanceUseCase.execute(command, recordedBy);
+    }
+
+    /**
+     * Starts closing an academic period (runs in the background).
+     */
+    public PeriodClosure closePeriod(AcademicPeriod period, UUID startedBy) {
+        return closePeriodUseCase.execute(period, startedBy);
+    }
+
+    /**
+     * Current state of the closing of a period.
+     */
+    public Optional<PeriodClosure> findPeriodClosure(AcademicPeriod period) {
+        return closePeriodUseCase.findByPeriod(period);
+    }
+
+    /**
+     * Imports students in bulk, reading the rows as they are consumed.
+     */
+    public ImportStudentsUseCase.Result importStudents(
+            Iterator<ImportStudentsUseCase.ImportRow> rows,
+            UUID createdBy
+    ) {
+        return importStudentsUseCase.execute(rows, createdBy);
+    }
+}
@@ -1,22 +1,20 @@
 package com.binah.ace.student.application.usecase;
 
-import com.binah.ace.student.domain.entity.Grade;
 import com.binah.ace.student.domain.exception.StudentNotFoundException;
-import com.binah.ace.student.domain.repository.GradeRepository;
+import com.binah.ace.student.domain.repository.GradeAggregateRepository;
 import com.binah.ace.student.domain.repository.StudentRepository;
 import com.binah.ace.student.domain.valueobject.AcademicPeriod;
 import com.binah.ace.student.domain.valueobject.GPA;
 import org.springframework.stereotype.Service;
 
-import java.math.BigDecimal;
-import java.math.RoundingMode;
-import java.util.List;
 import java.util.UUID;
 
 /**
  * Use case: Calculate the student's GPA (Grade Point Average).
  *
  * Calculates the weighted average of the student's grades for a specific period.
+ * Reads the running totals kept by GradeAggregateRepository instead of
+ * loading the grades.
  *
  * Formula:
  * GPA = Σ(grade × weight) / Σ(weight)
@@ -27,14 +25,14 @@ import java.util.UUID;
 public class CalculateGPAUseCase {
 
     private final StudentRepository studentRepository;
-    private final GradeRepository gradeRepository;
+    private final GradeAggregateRepository gradeAggregateRepository;
 
     public CalculateGPAUseCase(
             StudentRepository studentRepository,
-            GradeRepository gradeRepository
+            GradeAggregateRepository gradeAggregateRepository
     ) {
         this.studentRepository = studentRepository;
-        this.gradeRepository = gradeRepository;
+        this.gradeAggregateRepository = gradeAggregateRepository;
     }
 
     /**
@@ -49,11 +47,8 @@ public class CalculateGPAUseCase {
         studentRepository.findById(studentId)
                 .orElseThrow(() -> new StudentNotFoundException(studentId));
 
-        // 2. Fetch all student grades for the period
-        List<Grade> grades = gradeRepository.findByStudentIdAndPeriod(studentId, period);
-
-        // 3. Calculate GPA (weighted average)
-        return calculateWeightedAverage(grades);
+        // 2. Read the running totals of the period and derive the GPA
+        return gradeAggregateRepository.findByStudentIdAndPeriod(studentId, period).toGPA();
     }
 
     /**
@@ -67,38 +62,7 @@ public class CalculateGPAUseCase {
         studentRepository.findById(studentId)
                 .orElseThrow(() -> new StudentNotFoundException(studentId));
 
-        // Fetch all student grades
-        List<Grade> allGrades = gradeRepository.findByStudentId(studentId);
-
-        return calculateWeightedAverage(allGrades);
-    }
-
-    /**
-     * Calculates the weighted average of a list of grades.
-     *
-     * Formula: Σ(grade × weight) / Σ(weight)
-     */
-    private GPA calculateWeightedAverage(List<Grade> grades) {
-        if (grades.isEmpty()) {
-            return GPA.of(0.0);
-        }
-
-        BigDecimal totalWeightedScore = BigDecimal.ZERO;
-        BigDecimal totalWeight = BigDecimal.ZERO;
-
-        for (Grade grade : grades) {
-            BigDecimal weightedScore = grade.getWeightedScore();
-            totalWeightedScore = totalWeightedScore.add(weightedScore);
-            totalWeight = totalWeight.add(grade.getWeight());
-        }
-
-        if (totalWeight.compareTo(BigDecimal.ZERO) == 0) {
-            return GPA.of(0.0);
-        }
-
-        BigDecimal average = totalWeightedScore
-                .divide(totalWeight, 2, RoundingMode.HALF_UP);
-
-        return new GPA(average);
+        // Totals of every period
+        return gradeAggregateRepository.findOverallByStudentId(studentId).toGPA();
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,79 @@
+package com.binah.ace.student.application.usecase;
+
+import com.binah.ace.shared.exception.BusinessException;
+import com.binah.ace.student.application.service.PeriodCloseJob;
+import com.binah.ace.student.domain.entity.PeriodClosure;
+import com.binah.ace.student.domain.repository.PeriodClosureRepository;
+import com.binah.ace.student.domain.valueobject.AcademicPeriod;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Use case: Close an academic period.
+ *
+ * Orchestrates:
+ * 1. Start of the closing (one run per period at a time)
+ * 2. Background materialization of the AcademicHistory of every active student
+ *
+ * Returns right away; progress is followed through the closing counters.
+ * A FAILED closing can be started again and only processes the students
+ * still without history.
+ *
+ * @author Marcos Gustavo
+ */
+@Service
+public class ClosePeriodUseCase {
+
+    private final PeriodClosureRepository periodClosureRepository;
+    private final PeriodCloseJob periodCloseJob;
+    private final Duration staleAfter;
+
+    public ClosePeriodUseCase(
+            PeriodClosureRepository periodClosureRepository,
+            PeriodCloseJob periodCloseJob,
+            @Value("${ace.period-close.stale-after:10m}") Duration staleAfter
+    ) {
+        this.periodClosureRepository = periodClosureRepository;
+        this.periodCloseJob = periodCloseJob;
+        this.staleAfter = staleAfter;
+    }
+
+    /**
+     * Starts closing the period.
+     *
+     * @param period Academic period
+     * @param startedBy ID of the user closing the period
+     * @return The closing, RUNNING
+     */
+    public PeriodClosure execute(AcademicPeriod period, UUID startedBy) {
+        // 1. Start the closing (atomic: concurrent requests start it once)
+        PeriodClosure closure = periodClosureRepository.tryStart(period, startedBy, staleAfter)
+                .orElseThrow(() -> alreadyStarted(period));
+
+        // 2. Materialize the histories in the background
+        periodCloseJob.submit(closure);
+
+        return closure;
+    }
+
+    /**
+     * Current state of the closing of a period.
+     */
+    public Optional<PeriodClosure> findByPeriod(AcademicPeriod period) {
+        return periodClosureRepository.findByPeriod(period);
+    }
+
+    private BusinessException alreadyStarted(AcademicPeriod period) {
+        boolean closed = periodClosureRepository.findByPeriod(period)
+                .map(PeriodClosure::isClosed)
+                .orElse(false);
+
+        return closed
+                ? new BusinessException("PERIOD_ALREADY_CLOSED", "Period " + period + " is already closed")
+                : new BusinessException("PERIOD_CLOSING_IN_PROGRESS", "Period " + period + " is already being closed");
+    }
+}
@@ -1,11 +1,12 @@
 package com.binah.ace.student.application.usecase;
 
+import com.binah.ace.shared.events.DomainEventPublisher;
 import com.binah.ace.shared.valueobject.CPF;
 import com.binah.ace.shared.valueobject.Email;
+import com.binah.ace.student.application.service.EnrollmentNumberAllocator;
 import com.binah.ace.student.domain.entity.Student;
+import com.binah.ace.student.domain.event.StudentCreatedEvent;
 import com.binah.ace.student.domain.exception.InvalidEnrollmentException;
-import com.binah.ace.student.domain.port.AuditPort;
-import com.binah.ace.student.domain.port.NotificationPort;
 import com.binah.ace.student.domain.repository.StudentRepository;
 import com.binah.ace.student.domain.valueobject.Enrollment;
 import org.springframework.stereotype.Service;
@@ -22,8 +23,8 @@ import java.util.UUID;
  * 2. Enrollment number generation
  * 3. Student creation
  * 4. Persistence
- * 5. Notification
- * 6. Auditing
+ * 5. StudentCreatedEvent (welcome e-mail, audit and search index,
+ *    delivered through the outbox after the commit)
  *
  * @author Marcos Gustavo
  */
@@ -31,17 +32,17 @@ import java.util.UUID;
 public class CreateStudentUseCase {
 
     private final StudentRepository studentRepository;
-    private final NotificationPort notificationPort;
-    private final AuditPort auditPort;
+    private final EnrollmentNumberAllocator enrollmentNumberAllocator;
+    private final DomainEventPublisher eventPublisher;
 
     public CreateStudentUseCase(
             StudentRepository studentRepository,
-            NotificationPort notificationPort,
-            AuditPort auditPort
+            EnrollmentNumberAllocator enrollmentNumberAllocator,
+            DomainEventPublisher eventPublisher
     ) {
         this.studentRepository = studentRepository;
-        this.notificationPort = notificationPort;
-        this.auditPort = auditPort;
+        this.enrollmentNumberAllocator = enrollmentNumberAllocator;
+        this.eventPublisher = eventPublisher;
     }
 
     /**
@@ -59,8 +60,8 @@ public class CreateStudentUseCase {
             throw InvalidEnrollmentException.duplicateCPF(command.cpf());
         }
 
-        // 2. Generate enrollment number
-        Enrollment enrollment = generateEnrollmentNumber();
+        // 2. Allocate enrollment number
+        Enrollment enrollment = enrollmentNumberAllocator.next();
 
         // 3. Create email
         Email email = new Email(command.email());
@@ -86,41 +87,18 @@ public class CreateStudentUseCase {
         // 6. Persist
         student = studentRepository.save(student);
 
-        // 7. Send welcome notification
-        notificationPort.sendWelcomeEmail(
-                email,
-                student.getFullName(),
-                enrollment.enrollmentNumber()
-        );
-
-        // 8. Record audit log
-        auditPort.recordStudentCreated(
+        // 7. Publish the event (same transaction as the student)
+        eventPublisher.publish(new StudentCreatedEvent(
                 student.getId(),
-                createdBy,
-                enrollment.enrollmentNumber()
-        );
+                student.getFullName(),
+                email.value(),
+                enrollment.enrollmentNumber(),
+                createdBy
+        ));
 
         return student;
     }
 
-    /**
-     * Generates a unique enrollment number.
-     *
-     * Format: YYYYMMDD-XXX
-     */
-    private Enrollment generateEnrollmentNumber() {
-        int sequenceNumber = 1;
-        Enrollment enrollment;
-
-        // Attempts to generate a unique number
-        do {
-            enrollment = Enrollment.generate(sequenceNumber);
-            sequenceNumber++;
-        } while (studentRepository.existsByEnrollmentNumber(enrollment));
-
-        return enrollment;
-    }
-
     /**
      * Command to create a student.
      */
@@ -0,0 +1,72 @@
+package com.binah.ace.student.application.usecase;
+
+import com.binah.ace.shared.events.DomainEventPublisher;
+import com.binah.ace.shared.exception.EntityNotFoundException;
+import com.binah.ace.student.domain.entity.Grade;
+import com.binah.ace.student.domain.event.ReportCardChangedEvent;
+import com.binah.ace.student.domain.exception.PeriodClosedException;
+import com.binah.ace.student.domain.repository.GradeAggregateRepository;
+import com.binah.ace.student.domain.repository.GradeRepository;
+import com.binah.ace.student.domain.repository.PeriodClosureRepository;
+import com.binah.ace.student.domain.repository.ReportCardViewRepository;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Use case: Delete a posted grade.
+ *
+ * Removes the grade from the period totals in the same transaction and
+ * tells the report card subscribers through a ReportCardChangedEvent.
+ * Grades of a closed (or closing) period cannot be deleted.
+ *
+ * @author Marcos Gustavo
+ */
+@Service
+public class DeleteGradeUseCase {
+
+    private final GradeRepository gradeRepository;
+    private final GradeAggregateRepository gradeAggregateRepository;
+    private final ReportCardViewRepository reportCardViewRepository;
+    private final PeriodClosureRepository periodClosureRepository;
+    private final DomainEventPublisher eventPublisher;
+
+    public DeleteGradeUseCase(
+            GradeRepository gradeRepository,
+            GradeAggregateRepository gradeAggregateRepository,
+            ReportCardViewRepository reportCardViewRepository,
+            PeriodClosureRepository periodClosureRepository,
+            DomainEventPublisher eventPublisher
+    ) {
+        this.gradeRepository = gradeRepository;
+        this.gradeAggregateRepository = gradeAggregateRepository;
+        this.reportCardViewRepository = reportCardViewRepository;
+        this.periodClosureRepository = periodClosureRepository;
+        this.eventPublisher = eventPublisher;
+    }
+
+    /**
+     * Executes the deletion.
+     *
+     * @param gradeId Grade ID
+     */
+    @Transactional
+    public void execute(UUID gradeId) {
+        // 1. Validate if the grade exists (locked until commit, the totals depend on its current score)
+        Grade grade = gradeRepository.findByIdForUpdate(gradeId)
+                .orElseThrow(() -> new EntityNotFoundException("Grade", gradeId));
+
+        // 2. Validate if the period is still open
+        if (!periodClosureRepository.acceptsWrites(grade.getAcademicPeriod())) {
+            throw new PeriodClosedException(grade.getAcademicPeriod());
+        }
+
+        // 3. Delete grade and remove it from the period totals
+        gradeRepository.deleteById(grade.getId());
+        gradeAggregateRepository.remove(grade);
+        reportCardViewRepository.invalidate(List.of(grade.getStudentId()), grade.getAcademicPeriod());
+        eventPublisher.publish(ReportCardChangedEvent.of(grade.getStudentId(), grade.getAcademicPeriod()));
+    }
+}
@@ -0,0 +1,361 @@
+package com.binah.ace.student.application.usecase;
+
+import com.binah.ace.shared.events.DomainEventPublisher;
+import com.binah.ace.shared.exception.BusinessException;
+import com.binah.ace.shared.valueobject.CPF;
+import com.binah.ace.shared.valueobject.Email;
+import com.binah.ace.student.application.service.EnrollmentNumberAllocator;
+import com.binah.ace.student.domain.entity.Student;
+import com.binah.ace.student.domain.event.StudentCreatedEvent;
+import com.binah.ace.student.domain.exception.InvalidEnrollmentException;
+import com.binah.ace.student.domain.repository.StudentRepository;
+import com.binah.ace.student.domain.valueobject.Enrollment;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * Use case: Import students in bulk (admissions spreadsheet).
+ *
+ * The rows are consumed in chunks of ace.student-import.chunk-size,
+ * so memory does not grow with the size of the file. For each chunk:
+ * 1. Row validation (CPF, emails, required fields) in parallel
+ * 2. Duplicate CPF/email within the chunk (in memory)
+ * 3. Duplicate CPF/email against the database (one lookup each; earlier
+ *    chunks are already inserted, so they are covered too)
+ * 4. Enrollment numbers reserved as a single block
+ * 5. Bulk insert and StudentCreatedEvents in one transaction (welcome
+ *    e-mails are sent in batches by the outbox listeners)
+ *
+ * Invalid and malformed rows are reported and skipped. A row whose CPF or
+ * email was registered concurrently, after the lookup, is skipped by the
+ * insert itself and reported alone. A chunk that fails to insert is
+ * reported as a whole and the import goes on with the next one.
+ *
+ * @author Marcos Gustavo
+ */
+@Service
+public class ImportStudentsUseCase {
+
+    private static final Logger log = LoggerFactory.getLogger(ImportStudentsUseCase.class);
+
+    private final StudentRepository studentRepository;
+    private final EnrollmentNumberAllocator enrollmentNumberAllocator;
+    private final DomainEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+    private final int chunkSize;
+    private final int maxReportedErrors;
+
+    public ImportStudentsUseCase(
+            StudentRepository studentRepository,
+            EnrollmentNumberAllocator enrollmentNumberAllocator,
+            DomainEventPublisher eventPublisher,
+            PlatformTransactionManager transactionManager,
+            @Value("${ace.student-import.chunk-size:500}") int chunkSize,
+            @Value("${ace.student-import.max-reported-errors:1000}") int maxReportedErrors
+    ) {
+        this.studentRepository = studentRepository;
+        this.enrollmentNumberAllocator = enrollmentNumberAllocator;
+        this.eventPublisher = eventPublisher;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.chunkSize = Math.max(1, chunkSize);
+        this.maxReportedErrors = Math.max(0, maxReportedErrors);
+    }
+
+    /**
+     * Executes the import.
+     *
+     * @param rows Rows of the file, read as they are consumed
+     * @param createdBy ID of the user importing the students
+     * @return Counters and the errors of the rejected rows
+     */
+    public Result execute(Iterator<ImportRow> rows, UUID createdBy) {
+        Report report = new Report(maxReportedErrors);
+        List<ImportRow> chunk = new ArrayList<>(chunkSize);
+
+        while (rows.hasNext()) {
+            chunk.add(rows.next());
+            if (chunk.size() == chunkSize) {
+                importChunk(chunk, createdBy, report);
+                chunk.clear();
+            }
+        }
+        if (!chunk.isEmpty()) {
+            importChunk(chunk, createdBy, report);
+        }
+
+        log.info("📥 Student import finished: {} rows, {} imported, {} rejected",
+                report.totalRows, report.imported, report.failed);
+        return report.toResult();
+    }
+
+    private void importChunk(List<ImportRow> chunk, UUID createdBy, Report report) {
+        report.totalRows += chunk.size();
+
+        // 1. Validate every row in parallel (order is kept)
+        List<ValidatedRow> validated = chunk.parallelStream()
+                .map(this::validate)
+                .toList();
+
+        List<ValidatedRow> valid = new ArrayList<>(validated.size());
+        for (ValidatedRow row : validated) {
+            if (row.error() != null) {
+                report.reject(row.error());
+            } else {
+                valid.add(row);
+            }
+        }
+
+        // 2. Duplicates against the database, one lookup for the whole chunk
+        Set<String> existingCpfs = studentRepository.findExistingCPFs(valid.stream()
+                .map(row -> row.student().getCpf())
+                .collect(Collectors.toList()));
+        Set<String> existingEmails = studentRepository.findExistingEmails(valid.stream()
+                .map(row -> row.student().getEmail())
+                .collect(Collectors.toList()));
+
+        // 3. Duplicates within the chunk (the first occurrence wins)
+        Set<String> seenCpfs = new HashSet<>();
+        Set<String> seenEmails = new HashSet<>();
+        List<ValidatedRow> accepted = new ArrayList<>(valid.size());
+
+        for (ValidatedRow row : valid) {
+            String cpf = row.student().getCpf().value();
+            String email = row.student().getEmail().value();
+
+            if (existingCpfs.contains(cpf) || !seenCpfs.add(cpf)) {
+                report.reject(error(row.row(), InvalidEnrollmentException.duplicateCPF(cpf)));
+            } else if (existingEmails.contains(email) || !seenEmails.add(email)) {
+                report.reject(error(row.row(), InvalidEnrollmentException.duplicateEmail(email)));
+            } else {
+                accepted.add(row);
+            }
+        }
+
+        if (accepted.isEmpty()) {
+            return;
+        }
+
+        // 4. Enroll, insert and publish the events of the chunk together
+        try {
+            List<ItemError> conflicts = transactionTemplate.execute(status -> insert(accepted, createdBy));
+            report.imported += accepted.size() - conflicts.size();
+            conflicts.forEach(report::reject);
+        } catch (RuntimeException e) {
+            log.warn("⚠️ Student import chunk of {} rows failed", accepted.size(), e);
+            for (ValidatedRow row : accepted) {
+                report.reject(new ItemError(row.row().line(), row.row().cpf(), "IMPORT_FAILED",
+                        "Chunk could not be saved: " + e.getMessage()));
+            }
+        }
+    }
+
+    /**
+     * @return Errors of the rows skipped because they conflicted with a student inserted meanwhile
+     */
+    private List<ItemError> insert(List<ValidatedRow> rows, UUID createdBy) {
+        List<Enrollment> enrollments = enrollmentNumberAllocator.next(rows.size());
+        List<Student> students = new ArrayList<>(rows.size());
+
+        for (int i = 0; i < rows.size(); i++) {
+            Student student = rows.get(i).student();
+            student.enroll(enrollments.get(i));
+            students.add(student);
+        }
+
+        Set<UUID> inserted = studentRepository.insertAll(students).stream()
+                .map(Student::getId)
+                .collect(Collectors.toSet());
+
+        List<StudentCreatedEvent> events = new ArrayList<>(inserted.size());
+        List<ValidatedRow> skipped = new ArrayList<>();
+        for (ValidatedRow row : rows) {
+            Student student = row.student();
+            if (!inserted.contains(student.getId())) {
+                skipped.add(row);
+                continue;
+            }
+            events.add(new StudentCreatedEvent(
+                    student.getId(),
+                    student.getFullName(),
+                    student.getEmail().value(),
+                    student.getEnrollment().enrollmentNumber(),
+                    createdBy
+            ));
+        }
+
+        eventPublisher.publishAll(events);
+        return conflicts(skipped);
+    }
+
+    /**
+     * Tells, for the skipped rows, which of CPF or email was taken.
+     */
+    private List<ItemError> conflicts(List<ValidatedRow> skipped) {
+        if (skipped.isEmpty()) {
+            return List.of();
+        }
+
+        Set<String> existingCpfs = studentRepository.findExistingCPFs(skipped.stream()
+                .map(row -> row.student().getCpf())
+                .collect(Collectors.toList()));
+
+        return skipped.stream()
+                .map(row -> {
+                    String cpf = row.student().getCpf().value();
+                    return error(row.row(), existingCpfs.contains(cpf)
+                            ? InvalidEnrollmentException.duplicateCPF(cpf)
+                            : InvalidEnrollmentException.duplicateEmail(row.student().getEmail().value()));
+                })
+                .toList();
+    }
+
+    /**
+     * Validates a row and builds its student (not enrolled yet).
+     */
+    private ValidatedRow validate(ImportRow row) {
+        if (row.parseError() != null) {
+            return new ValidatedRow(row, null, new ItemError(row.line(), null, "MALFORMED_ROW", row.parseError()));
+        }
+
+        try {
+            require(row.fullName(), "Full name is required");
+            require(row.cpf(), "CPF is required");
+            require(row.email(), "Email is required");
+            require(row.birthDate(), "Birth date is required");
+            require(row.guardianName(), "Guardian name is required");
+            require(row.guardianEmail(), "Guardian email is required");
+
+            LocalDate birthDate = parseDate(row.birthDate());
+            if (birthDate.isAfter(LocalDate.now())) {
+                throw new IllegalArgumentException("Birth date cannot be in the future");
+            }
+
+            Student student = new Student(
+                    UUID.randomUUID(),
+                    row.fullName().trim(),
+                    new CPF(row.cpf()),
+                    new Email(row.email().trim()),
+                    birthDate,
+                    blankToNull(row.phone()),
+                    blankToNull(row.address()),
+                    row.guardianName().trim(),
+                    blankToNull(row.guardianPhone()),
+                    new Email(row.guardianEmail().trim())
+            );
+            return new ValidatedRow(row, student, null);
+        } catch (IllegalArgumentException e) {
+            return new ValidatedRow(row, null, new ItemError(row.line(), row.cpf(), "INVALID_INPUT", e.getMessage()));
+        }
+    }
+
+    private void require(String value, String message) {
+        if (value == null || value.isBlank()) {
+            throw new IllegalArgumentException(message);
+        }
+    }
+
+    private LocalDate parseDate(String value) {
+        try {
+            return LocalDate.parse(value.trim());
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("Invalid birth date (expected yyyy-MM-dd): " + value);
+        }
+    }
+
+    private String blankToNull(String value) {
+        return value == null || value.isBlank() ? null : value.trim();
+    }
+
+    private ItemError error(ImportRow row, BusinessException e) {
+        return new ItemError(row.line(), row.cpf(), e.getCode(), e.getMessage());
+    }
+
+    /**
+     * A row of the file, as read (not validated).
+     *
+     * @param line Line of the row in the file (the header is line 1)
+     * @param parseError Why the row could not be read (the other fields are then null)
+     */
+    public record ImportRow(
+            long line,
+            String fullName,
+            String cpf,
+            String email,
+            String birthDate,
+            String phone,
+            String address,
+            String guardianName,
+            String guardianPhone,
+            String guardianEmail,
+            String parseError
+    ) {
+
+        public static ImportRow malformed(long line, String parseError) {
+            return new ImportRow(line, null, null, null, null, null, null, null, null, null, parseError);
+        }
+    }
+
+    /**
+     * Result of an import.
+     *
+     * @param errors Errors of the rejected rows, up to ace.student-import.max-reported-errors
+     * @param errorsTruncated Whether more rows were rejected than reported
+     */
+    public record Result(
+            long totalRows,
+            long importedCount,
+            long failedCount,
+            List<ItemError> errors,
+            boolean errorsTruncated
+    ) {}
+
+    /**
+     * Error of a rejected row.
+     *
+     * @param line Line of the row in the file
+     */
+    public record ItemError(long line, String cpf, String code, String message) {}
+
+    private record ValidatedRow(ImportRow row, Student student, ItemError error) {}
+
+    /**
+     * Counters of an import in progress.
+     */
+    private static final class Report {
+
+        private final int maxErrors;
+        private final List<ItemError> errors = new ArrayList<>();
+        private long totalRows;
+        private long imported;
+        private long failed;
+
+        private Report(int maxErrors) {
+            this.maxErrors = maxErrors;
+        }
+
+        private void reject(ItemError error) {
+            failed++;
+            if (errors.size() < maxErrors) {
+                errors.add(error);
+            }
+        }
+
+        private Result toResult() {
+            return new Result(totalRows, imported, failed, List.copyOf(errors), failed > errors.size());
+        }
+    }
+}
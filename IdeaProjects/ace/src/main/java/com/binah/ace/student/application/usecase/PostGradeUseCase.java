@@ -1,13 +1,18 @@
 package com.binah.ace.student.application.usecase;
 
+import com.binah.ace.shared.events.DomainEventPublisher;
+import com.binah.ace.shared.exception.BusinessException;
 import com.binah.ace.student.domain.entity.Grade;
 import com.binah.ace.student.domain.entity.Student;
 import com.binah.ace.student.domain.enums.AssessmentType;
+import com.binah.ace.student.domain.event.GradePostedEvent;
 import com.binah.ace.student.domain.exception.InvalidGradeException;
+import com.binah.ace.student.domain.exception.PeriodClosedException;
 import com.binah.ace.student.domain.exception.StudentNotFoundException;
-import com.binah.ace.student.domain.port.AuditPort;
-import com.binah.ace.student.domain.port.NotificationPort;
+import com.binah.ace.student.domain.repository.GradeAggregateRepository;
 import com.binah.ace.student.domain.repository.GradeRepository;
+import com.binah.ace.student.domain.repository.PeriodClosureRepository;
+import com.binah.ace.student.domain.repository.ReportCardViewRepository;
 import com.binah.ace.student.domain.repository.StudentRepository;
 import com.binah.ace.student.domain.valueobject.AcademicPeriod;
 import org.springframework.stereotype.Service;
@@ -15,7 +20,14 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 /**
  * Use case: Post a student's grade.
@@ -24,30 +36,45 @@ import java.util.UUID;
  * 1. Student validation
  * 2. Grade validation
  * 3. Grade record creation
- * 4. Persistence
- * 5. Notification
- * 6. Auditing
+ * 4. Closed period check (grades of a closed or closing period cannot change)
+ * 5. Persistence (grade + period totals; the stored report cards are invalidated)
+ * 6. GradePostedEvent (notification and audit, delivered through
+ *    the outbox after the commit)
+ *
+ * executeBatch does the same for a whole class at once: one query for the
+ * students, batched inserts, and a single batched outbox write.
  *
  * @author Marcos Gustavo
  */
 @Service
 public class PostGradeUseCase {
 
+    /**
+     * Maximum number of grades accepted by executeBatch.
+     */
+    public static final int MAX_BATCH_SIZE = 500;
+
     private final StudentRepository studentRepository;
     private final GradeRepository gradeRepository;
-    private final NotificationPort notificationPort;
-    private final AuditPort auditPort;
+    private final GradeAggregateRepository gradeAggregateRepository;
+    private final ReportCardViewRepository reportCardViewRepository;
+    private final PeriodClosureRepository periodClosureRepository;
+    private final DomainEventPublisher eventPublisher;
 
     public PostGradeUseCase(
             StudentRepository studentRepository,
             GradeRepository gradeRepository,
-            NotificationPort notificationPort,
-            AuditPort auditPort
+            GradeAggregateRepository gradeAggregateRepository,
+            ReportCardViewRepository reportCardViewRepository,
+            PeriodClosureRepository periodClosureRepository,
+            DomainEventPublisher eventPublisher
     ) {
         this.studentRepository = studentRepository;
         this.gradeRepository = gradeRepository;
-        this.notificationPort = notificationPort;
-        this.auditPort = auditPort;
+        this.gradeAggregateRepository = gradeAggregateRepository;
+        this.reportCardViewRepository = reportCardViewRepository;
+        this.periodClosureRepository = periodClosureRepository;
+        this.eventPublisher = eventPublisher;
     }
 
     /**
@@ -68,18 +95,124 @@ public class PostGradeUseCase {
             throw InvalidGradeException.studentNotEnrolled();
         }
 
-        // 3. Validate grade
+        // 3. Validate the grade and create it
+        Grade grade = createGrade(command, student, postedBy);
+
+        // 4. Validate if the period is still open
+        if (!periodClosureRepository.acceptsWrites(grade.getAcademicPeriod())) {
+            throw new PeriodClosedException(grade.getAcademicPeriod());
+        }
+
+        // 5. Persist in the database
+        grade = gradeRepository.save(grade);
+        gradeAggregateRepository.add(grade);
+        reportCardViewRepository.invalidate(List.of(grade.getStudentId()), grade.getAcademicPeriod());
+
+        // 6. Publish the event (same transaction as the grade)
+        eventPublisher.publish(GradePostedEvent.of(grade, student));
+
+        return grade;
+    }
+
+    /**
+     * Posts several grades in a single transaction.
+     *
+     * Invalid items are reported and skipped; the valid ones are inserted
+     * together. Item errors refer to the position in the command list.
+     *
+     * @param commands Grades to post
+     * @param postedBy ID of the teacher who posted the grades
+     * @return Posted grades and the errors of the rejected items
+     */
+    @Transactional
+    public BatchResult executeBatch(List<PostGradeCommand> commands, UUID postedBy) {
+        if (commands.size() > MAX_BATCH_SIZE) {
+            throw new BusinessException(
+                    "BATCH_TOO_LARGE",
+                    "At most " + MAX_BATCH_SIZE + " grades can be posted at once"
+            );
+        }
+
+        // 1. Load every student of the batch with a single query
+        Set<UUID> studentIds = commands.stream()
+                .map(PostGradeCommand::studentId)
+                .collect(Collectors.toSet());
+
+        Map<UUID, Student> students = studentRepository.findAllById(studentIds)
+                .stream()
+                .collect(Collectors.toMap(Student::getId, Function.identity()));
+
+        // 2. Validate each item and create its grade
+        List<Grade> grades = new ArrayList<>(commands.size());
+        List<Student> gradeStudents = new ArrayList<>(commands.size());
+        List<ItemError> errors = new ArrayList<>();
+        Map<AcademicPeriod, Boolean> openPeriods = new HashMap<>();
+
+        for (int i = 0; i < commands.size(); i++) {
+            PostGradeCommand command = commands.get(i);
+
+            try {
+                Student student = students.get(command.studentId());
+                if (student == null) {
+                    throw new StudentNotFoundException(command.studentId());
+                }
+                if (!student.isActive()) {
+                    throw InvalidGradeException.studentNotEnrolled();
+                }
+
+                Grade grade = createGrade(command, student, postedBy);
+                if (!openPeriods.computeIfAbsent(grade.getAcademicPeriod(), periodClosureRepository::acceptsWrites)) {
+                    throw new PeriodClosedException(grade.getAcademicPeriod());
+                }
+
+                grades.add(grade);
+                gradeStudents.add(student);
+            } catch (BusinessException e) {
+                errors.add(new ItemError(i, command.studentId(), e.getCode(), e.getMessage()));
+            } catch (IllegalArgumentException e) {
+                errors.add(new ItemError(i, command.studentId(), "INVALID_GRADE", e.getMessage()));
+            }
+        }
+
+        if (grades.isEmpty()) {
+            return new BatchResult(List.of(), errors);
+        }
+
+        // 3. Persist in JDBC batches
+        List<Grade> posted = gradeRepository.insertAll(grades);
+        gradeAggregateRepository.addAll(posted);
+        posted.stream()
+                .collect(Collectors.groupingBy(
+                        Grade::getAcademicPeriod,
+                        Collectors.mapping(Grade::getStudentId, Collectors.toSet())))
+                .forEach((period, periodStudentIds) ->
+                        reportCardViewRepository.invalidate(periodStudentIds, period));
+
+        // 4. Publish the events of the whole batch with a single write
+        List<GradePostedEvent> events = new ArrayList<>(posted.size());
+        for (int i = 0; i < posted.size(); i++) {
+            events.add(GradePostedEvent.of(posted.get(i), gradeStudents.get(i)));
+        }
+        eventPublisher.publishAll(events);
+
+        return new BatchResult(posted, errors);
+    }
+
+    /**
+     * Validates the command and creates the grade of an active student.
+     */
+    private Grade createGrade(PostGradeCommand command, Student student, UUID postedBy) {
+        // Validate grade
         validateScore(command.score());
 
-        // 4. Create academic period
+        // Create academic period
         AcademicPeriod period = AcademicPeriod.of(
                 command.year(),
                 command.semester(),
                 command.bimester()
         );
 
-        // 5. Create grade
-        Grade grade = new Grade(
+        return new Grade(
                 UUID.randomUUID(),
                 student.getId(),
                 command.classroomSubjectId(),
@@ -91,27 +224,6 @@ public class PostGradeUseCase {
                 command.assessmentDate(),
                 postedBy
         );
-
-        // 6. Persist in the database
-        grade = gradeRepository.save(grade);
-
-        // 7. Notify the student about the new grade
-        notificationPort.sendGradeNotification(
-                student.getEmail(),
-                student.getFullName(),
-                "Subject Name", // TODO: buscar nome da disciplina do módulo classroom
-                grade.getScore().doubleValue()
-        );
-
-        // 8. Record audit log
-        auditPort.recordGradePosted(
-                grade.getId(),
-                student.getId(),
-                postedBy,
-                grade.getScore().doubleValue()
-        );
-
-        return grade;
     }
 
     /**
@@ -139,4 +251,16 @@ public class PostGradeUseCase {
             int semester,
             Integer bimester
     ) {}
-}
\ No newline at end of file
+
+    /**
+     * Result of a batch posting.
+     */
+    public record BatchResult(List<Grade> posted, List<ItemError> errors) {}
+
+    /**
+     * Error of a rejected batch item.
+     *
+     * @param index Position of the item in the batch
+     */
+    public record ItemError(int index, UUID studentId, String code, String message) {}
+}
@@ -0,0 +1,193 @@
+package com.binah.ace.student.application.usecase;
+
+import com.binah.ace.shared.events.DomainEventPublisher;
+import com.binah.ace.shared.exception.BusinessException;
+import com.binah.ace.student.domain.entity.Attendance;
+import com.binah.ace.student.domain.entity.Student;
+import com.binah.ace.student.domain.enums.AttendanceStatus;
+import com.binah.ace.student.domain.event.ReportCardChangedEvent;
+import com.binah.ace.student.domain.exception.InvalidAttendanceException;
+import com.binah.ace.student.domain.exception.PeriodClosedException;
+import com.binah.ace.student.domain.exception.StudentNotFoundException;
+import com.binah.ace.student.domain.repository.AttendanceRepository;
+import com.binah.ace.student.domain.repository.PeriodClosureRepository;
+import com.binah.ace.student.domain.repository.ReportCardViewRepository;
+import com.binah.ace.student.domain.repository.StudentRepository;
+import com.binah.ace.student.domain.valueobject.AcademicPeriod;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Use case: Record the roll call of a class.
+ *
+ * Orchestrates:
+ * 1. Class date validation (not in the future, period not closed)
+ * 2. Student validation (single query for the whole roster)
+ * 3. Attendance record creation
+ * 4. Persistence (single upsert for the whole roster; the stored report
+ *    cards of the class date's bimester and semester are invalidated and
+ *    their subscribers told through ReportCardChangedEvents)
+ *
+ * Resubmitting the roll call of the same class and date replaces the
+ * previous records, so teachers can correct it without errors.
+ *
+ * @author Marcos Gustavo
+ */
+@Service
+public class RecordAttendanceUseCase {
+
+    /**
+     * Maximum number of students in a single roll call.
+     */
+    public static final int MAX_ROSTER_SIZE = 500;
+
+    private final StudentRepository studentRepository;
+    private final AttendanceRepository attendanceRepository;
+    private final ReportCardViewRepository reportCardViewRepository;
+    private final PeriodClosureRepository periodClosureRepository;
+    private final DomainEventPublisher eventPublisher;
+
+    public RecordAttendanceUseCase(
+            StudentRepository studentRepository,
+            AttendanceRepository attendanceRepository,
+            ReportCardViewRepository reportCardViewRepository,
+            PeriodClosureRepository periodClosureRepository,
+            DomainEventPublisher eventPublisher
+    ) {
+        this.studentRepository = studentRepository;
+        this.attendanceRepository = attendanceRepository;
+        this.reportCardViewRepository = reportCardViewRepository;
+        this.periodClosureRepository = periodClosureRepository;
+        this.eventPublisher = eventPublisher;
+    }
+
+    /**
+     * Executes the roll call.
+     *
+     * Invalid entries are reported and skipped; the valid ones are saved
+     * together. Item errors refer to the position in the entry list.
+     *
+     * @param command Class and roster
+     * @param recordedBy ID of the teacher who took the roll call
+     * @return Recorded attendances and the errors of the rejected entries
+     */
+    @Transactional
+    public Result execute(RecordAttendanceCommand command, UUID recordedBy) {
+        List<AttendanceEntry> entries = command.entries();
+
+        if (entries.size() > MAX_ROSTER_SIZE) {
+            throw new BusinessException(
+                    "BATCH_TOO_LARGE",
+                    "At most " + MAX_ROSTER_SIZE + " students can be recorded at once"
+            );
+        }
+
+        // 1. Validate the class date
+        if (command.classDate().isAfter(LocalDate.now())) {
+            throw InvalidAttendanceException.futureClassDate(command.classDate());
+        }
+        AcademicPeriod period = AcademicPeriod.containing(command.classDate());
+        if (!periodClosureRepository.acceptsWrites(period)) {
+            throw new PeriodClosedException(period);
+        }
+
+        // 2. Load every student of the roster with a single query
+        Set<UUID> studentIds = entries.stream()
+                .map(AttendanceEntry::studentId)
+                .collect(Collectors.toSet());
+
+        Map<UUID, Student> students = studentRepository.findAllById(studentIds)
+                .stream()
+                .collect(Collectors.toMap(Student::getId, Function.identity()));
+
+        // 3. Validate each entry and create its record
+        List<Attendance> attendances = new ArrayList<>(entries.size());
+        List<ItemError> errors = new ArrayList<>();
+        Set<UUID> seen = new HashSet<>();
+
+        for (int i = 0; i < entries.size(); i++) {
+            AttendanceEntry entry = entries.get(i);
+
+            try {
+                Student student = students.get(entry.studentId());
+                if (student == null) {
+                    throw new StudentNotFoundException(entry.studentId());
+                }
+                if (!student.isActive()) {
+                    throw InvalidAttendanceException.studentNotEnrolled();
+                }
+                // Uma linha por aluno: o upsert não aceita a mesma chave duas vezes
+                if (!seen.add(entry.studentId())) {
+                    throw InvalidAttendanceException.duplicateStudent(entry.studentId());
+                }
+
+                Attendance attendance = new Attendance(
+                        UUID.randomUUID(),
+                        entry.studentId(),
+                        command.classroomSubjectId(),
+                        command.classDate(),
+                        entry.status(),
+                        recordedBy
+                );
+                if (entry.notes() != null) {
+                    attendance.addNotes(entry.notes());
+                }
+                attendances.add(attendance);
+            } catch (BusinessException e) {
+                errors.add(new ItemError(i, entry.studentId(), e.getCode(), e.getMessage()));
+            }
+        }
+
+        // 4. Persist the whole roster at once
+        List<Attendance> recorded = attendanceRepository.saveAll(attendances);
+        Set<UUID> recordedStudentIds = recorded.stream()
+                .map(Attendance::getStudentId)
+                .collect(Collectors.toSet());
+        reportCardViewRepository.invalidate(recordedStudentIds, period);
+        eventPublisher.publishAll(recordedStudentIds.stream()
+                .map(studentId -> ReportCardChangedEvent.of(studentId, period))
+                .toList());
+
+        return new Result(recorded, errors);
+    }
+
+    /**
+     * Command to record the roll call of a class.
+     */
+    public record RecordAttendanceCommand(
+            UUID classroomSubjectId,
+            LocalDate classDate,
+            List<AttendanceEntry> entries
+    ) {}
+
+    /**
+     * Attendance of a single student.
+     */
+    public record AttendanceEntry(
+            UUID studentId,
+            AttendanceStatus status,
+            String notes
+    ) {}
+
+    /**
+     * Result of a roll call.
+     */
+    public record Result(List<Attendance> recorded, List<ItemError> errors) {}
+
+    /**
+     * Error of a rejected entry.
+     *
+     * @param index Position of the entry in the roster
+     */
+    public record ItemError(int index, UUID studentId, String code, String message) {}
+}
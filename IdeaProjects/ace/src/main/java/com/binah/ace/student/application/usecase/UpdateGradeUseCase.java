@@ -0,0 +1,100 @@
+package com.binah.ace.student.application.usecase;
+
+import com.binah.ace.shared.events.DomainEventPublisher;
+import com.binah.ace.shared.exception.EntityNotFoundException;
+import com.binah.ace.student.domain.entity.Grade;
+import com.binah.ace.student.domain.event.ReportCardChangedEvent;
+import com.binah.ace.student.domain.exception.InvalidGradeException;
+import com.binah.ace.student.domain.exception.PeriodClosedException;
+import com.binah.ace.student.domain.port.AuditPort;
+import com.binah.ace.student.domain.repository.GradeAggregateRepository;
+import com.binah.ace.student.domain.repository.GradeRepository;
+import com.binah.ace.student.domain.repository.PeriodClosureRepository;
+import com.binah.ace.student.domain.repository.ReportCardViewRepository;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Use case: Update the score of a posted grade.
+ *
+ * Keeps the period totals in sync with the new score and invalidates
+ * the stored report cards of the grade's period (subscribers are told
+ * through a ReportCardChangedEvent). Grades of a closed (or
+ * closing) period cannot change.
+ *
+ * @author Marcos Gustavo
+ */
+@Service
+public class UpdateGradeUseCase {
+
+    private final GradeRepository gradeRepository;
+    private final GradeAggregateRepository gradeAggregateRepository;
+    private final ReportCardViewRepository reportCardViewRepository;
+    private final PeriodClosureRepository periodClosureRepository;
+    private final AuditPort auditPort;
+    private final DomainEventPublisher eventPublisher;
+
+    public UpdateGradeUseCase(
+            GradeRepository gradeRepository,
+            GradeAggregateRepository gradeAggregateRepository,
+            ReportCardViewRepository reportCardViewRepository,
+            PeriodClosureRepository periodClosureRepository,
+            AuditPort auditPort,
+            DomainEventPublisher eventPublisher
+    ) {
+        this.gradeRepository = gradeRepository;
+        this.gradeAggregateRepository = gradeAggregateRepository;
+        this.reportCardViewRepository = reportCardViewRepository;
+        this.periodClosureRepository = periodClosureRepository;
+        this.auditPort = auditPort;
+        this.eventPublisher = eventPublisher;
+    }
+
+    /**
+     * Executes the score update.
+     *
+     * @param gradeId Grade ID
+     * @param newScore New score
+     * @param updatedBy ID of the user who updated it
+     * @return Updated grade
+     */
+    @Transactional
+    public Grade execute(UUID gradeId, BigDecimal newScore, UUID updatedBy) {
+        // 1. Validate if the grade exists (locked until commit, the totals depend on its current score)
+        Grade grade = gradeRepository.findByIdForUpdate(gradeId)
+                .orElseThrow(() -> new EntityNotFoundException("Grade", gradeId));
+
+        // 2. Validate if the period is still open
+        if (!periodClosureRepository.acceptsWrites(grade.getAcademicPeriod())) {
+            throw new PeriodClosedException(grade.getAcademicPeriod());
+        }
+
+        // 3. Apply the new score
+        BigDecimal previousScore = grade.getScore();
+        try {
+            grade.updateScore(newScore);
+        } catch (IllegalArgumentException e) {
+            throw InvalidGradeException.scoreOutOfRange(newScore.doubleValue());
+        }
+
+        // 4. Persist grade and period totals
+        grade = gradeRepository.save(grade);
+        gradeAggregateRepository.replaceScore(grade, previousScore);
+        reportCardViewRepository.invalidate(List.of(grade.getStudentId()), grade.getAcademicPeriod());
+        eventPublisher.publish(ReportCardChangedEvent.of(grade.getStudentId(), grade.getAcademicPeriod()));
+
+        // 5. Record audit log
+        auditPort.recordGradeUpdated(
+                grade.getId(),
+                previousScore.doubleValue(),
+                grade.getScore().doubleValue(),
+                updatedBy
+        );
+
+        return grade;
+    }
+}
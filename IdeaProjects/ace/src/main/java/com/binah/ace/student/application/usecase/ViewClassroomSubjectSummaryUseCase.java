@@ -0,0 +1,49 @@
+package com.binah.ace.student.application.usecase;
+
+import com.binah.ace.student.domain.repository.GradeRepository;
+import com.binah.ace.student.domain.valueobject.AcademicPeriod;
+import com.binah.ace.student.domain.valueobject.ClassroomSubjectSummary;
+import com.binah.ace.student.domain.valueobject.StudentGradeSummary;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Use case: View the grade summary of a classroom subject.
+ *
+ * Returns, for class dashboards:
+ * - Weighted average of each student
+ * - Class average
+ * - Passing/failing grade counts
+ * - Approved/failed student counts
+ *
+ * Aggregation runs in the database, a single query regardless of class size.
+ *
+ * @author Marcos Gustavo
+ */
+@Service
+public class ViewClassroomSubjectSummaryUseCase {
+
+    private final GradeRepository gradeRepository;
+
+    public ViewClassroomSubjectSummaryUseCase(GradeRepository gradeRepository) {
+        this.gradeRepository = gradeRepository;
+    }
+
+    /**
+     * Generates the summary of a classroom subject for a given period.
+     *
+     * @param classroomSubjectId Classroom subject ID
+     * @param period Academic period (without bimester, covers the semester)
+     * @return Class summary (empty when no grades were posted)
+     */
+    public ClassroomSubjectSummary execute(UUID classroomSubjectId, AcademicPeriod period) {
+        // 1. Aggregate the grades of each student
+        List<StudentGradeSummary> students =
+                gradeRepository.summarizeByClassroomSubject(classroomSubjectId, period);
+
+        // 2. Consolidate the class
+        return ClassroomSubjectSummary.of(classroomSubjectId, period, students);
+    }
+}
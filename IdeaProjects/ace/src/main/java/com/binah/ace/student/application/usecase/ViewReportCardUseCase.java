@@ -1,18 +1,38 @@
 package com.binah.ace.student.application.usecase;
 
+import com.binah.ace.student.domain.entity.AcademicHistory;
 import com.binah.ace.student.domain.entity.Grade;
+import com.binah.ace.student.domain.entity.PeriodClosure;
 import com.binah.ace.student.domain.entity.Student;
 import com.binah.ace.student.domain.exception.StudentNotFoundException;
+import com.binah.ace.student.domain.repository.AcademicHistoryRepository;
+import com.binah.ace.student.domain.repository.AttendanceRepository;
+import com.binah.ace.student.domain.repository.GradeAggregateRepository;
 import com.binah.ace.student.domain.repository.GradeRepository;
+import com.binah.ace.student.domain.repository.PeriodClosureRepository;
+import com.binah.ace.student.domain.repository.ReportCardViewRepository;
+import com.binah.ace.student.domain.repository.ReportCardViewRepository.StoredReportCard;
 import com.binah.ace.student.domain.repository.StudentRepository;
+import com.binah.ace.student.domain.service.GpaCalculator;
 import com.binah.ace.student.domain.valueobject.AcademicPeriod;
+import com.binah.ace.student.domain.valueobject.AttendanceSummary;
 import com.binah.ace.student.domain.valueobject.GPA;
+import com.binah.ace.student.domain.valueobject.GradeAggregate;
+import com.binah.ace.student.domain.valueobject.ReportCard;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 /**
@@ -25,23 +45,55 @@ import java.util.stream.Collectors;
  * - Attendance
  * - Approval status
  *
+ * Once the period is closed, GPA, attendance and approval come from the
+ * AcademicHistory written by the closing instead of being recalculated.
+ *
+ * Report cards are stored once built (report_card_views) and read back
+ * with a single lookup until a grade or attendance write, or the closing
+ * of the period, invalidates them.
+ *
+ * Whole classes are exported by export(), which walks the students of the
+ * period in chunks, each read in its own short transaction.
+ *
  * @author Marcos Gustavo
  */
 @Service
 public class ViewReportCardUseCase {
 
+    // Alunos carregados por vez durante a exportação
+    private static final int EXPORT_CHUNK_SIZE = 500;
+
     private final StudentRepository studentRepository;
     private final GradeRepository gradeRepository;
+    private final GradeAggregateRepository gradeAggregateRepository;
+    private final AttendanceRepository attendanceRepository;
+    private final AcademicHistoryRepository academicHistoryRepository;
+    private final PeriodClosureRepository periodClosureRepository;
+    private final ReportCardViewRepository reportCardViewRepository;
     private final CalculateGPAUseCase calculateGPAUseCase;
+    private final TransactionTemplate exportTransaction;
 
     public ViewReportCardUseCase(
             StudentRepository studentRepository,
             GradeRepository gradeRepository,
-            CalculateGPAUseCase calculateGPAUseCase
+            GradeAggregateRepository gradeAggregateRepository,
+            AttendanceRepository attendanceRepository,
+            AcademicHistoryRepository academicHistoryRepository,
+            PeriodClosureRepository periodClosureRepository,
+            ReportCardViewRepository reportCardViewRepository,
+            CalculateGPAUseCase calculateGPAUseCase,
+            PlatformTransactionManager transactionManager
     ) {
         this.studentRepository = studentRepository;
         this.gradeRepository = gradeRepository;
+        this.gradeAggregateRepository = gradeAggregateRepository;
+        this.attendanceRepository = attendanceRepository;
+        this.academicHistoryRepository = academicHistoryRepository;
+        this.periodClosureRepository = periodClosureRepository;
+        this.reportCardViewRepository = reportCardViewRepository;
         this.calculateGPAUseCase = calculateGPAUseCase;
+        this.exportTransaction = new TransactionTemplate(transactionManager);
+        this.exportTransaction.setReadOnly(true);
     }
 
     /**
@@ -52,29 +104,328 @@ public class ViewReportCardUseCase {
      * @return Consolidated report card
      */
     public ReportCard execute(UUID studentId, AcademicPeriod period) {
+        // 1. Stored report card (single row lookup)
+        Optional<StoredReportCard> stored = reportCardViewRepository.findByStudentIdAndPeriod(studentId, period);
+        if (stored.isPresent() && stored.get().isCurrent()) {
+            return stored.get().reportCard();
+        }
+
+        // 2. Build and store it for the next reads
+        ReportCard reportCard = build(studentId, period);
+        reportCardViewRepository.saveAll(List.of(new StoredReportCard(
+                stored.map(StoredReportCard::version).orElse(0L),
+                reportCard
+        )));
+
+        return reportCard;
+    }
+
+    /**
+     * Builds the report card from the grades, attendance and history.
+     */
+    private ReportCard build(UUID studentId, AcademicPeriod period) {
         // 1. Fetch student
         Student student = studentRepository.findById(studentId)
                 .orElseThrow(() -> new StudentNotFoundException(studentId));
 
-        // 2. Calculate period GPA
+        // 2. Fetch grades for the period
+        List<Grade> grades = gradeRepository.findByStudentIdAndPeriod(studentId, period);
+
+        // 3. Closed period: read the consolidated history
+        AcademicHistory history = findClosedHistories(List.of(studentId), period).get(studentId);
+        if (history != null) {
+            return buildReportCard(student, period, grades, history);
+        }
+
+        // 4. Calculate period GPA
         GPA gpa = calculateGPAUseCase.execute(studentId, period);
 
-        // 3. Fetch grades for the period
-        List<Grade> grades = gradeRepository.findByStudentIdAndPeriod(studentId, period);
+        // 5. Count classes and presences for the period
+        AttendanceSummary attendance = AttendanceSummary.total(
+                studentId,
+                attendanceRepository.summarizeByStudentIds(List.of(studentId), period)
+        );
 
-        // 4. Group grades by subject (classroomSubjectId)
-        Map<UUID, List<Grade>> gradesBySubject = grades.stream()
-                .collect(Collectors.groupingBy(Grade::getClassroomSubjectId));
+        return buildReportCard(student, period, gpa, grades, attendance);
+    }
+
+    /**
+     * Generates the report cards of several students for the same period.
+     *
+     * Reads the stored report cards with a single lookup; the missing ones
+     * are built together, regardless of the number of students.
+     *
+     * @param studentIds Student IDs
+     * @param period Academic period
+     * @return Report cards by student ID (unknown students are absent)
+     */
+    public Map<UUID, ReportCard> executeBatch(Collection<UUID> studentIds, AcademicPeriod period) {
+        // 1. Stored report cards
+        Map<UUID, StoredReportCard> stored = reportCardViewRepository.findByStudentIdsAndPeriod(studentIds, period);
+
+        Map<UUID, ReportCard> reportCards = new LinkedHashMap<>();
+        List<UUID> missingIds = new ArrayList<>();
+        for (UUID studentId : studentIds) {
+            StoredReportCard entry = stored.get(studentId);
+            if (entry != null && entry.isCurrent()) {
+                reportCards.put(studentId, entry.reportCard());
+            } else {
+                missingIds.add(studentId);
+            }
+        }
+
+        if (missingIds.isEmpty()) {
+            return reportCards;
+        }
+
+        // 2. Build the missing ones together and store them
+        Map<UUID, ReportCard> built = buildBatch(missingIds, period);
+        reportCardViewRepository.saveAll(built.values().stream()
+                .map(reportCard -> new StoredReportCard(
+                        stored.containsKey(reportCard.studentId())
+                                ? stored.get(reportCard.studentId()).version()
+                                : 0L,
+                        reportCard
+                ))
+                .collect(Collectors.toList()));
+
+        reportCards.putAll(built);
+        return reportCards;
+    }
+
+    /**
+     * Builds the report cards of several students with one lookup each for
+     * students, period totals, grades and attendance counts.
+     */
+    private Map<UUID, ReportCard> buildBatch(Collection<UUID> studentIds, AcademicPeriod period) {
+        // 1. Fetch students
+        List<Student> students = studentRepository.findAllById(studentIds);
+        if (students.isEmpty()) {
+            return Map.of();
+        }
+
+        List<UUID> foundIds = students.stream()
+                .map(Student::getId)
+                .collect(Collectors.toList());
+
+        // 2. Closed period: read the consolidated histories
+        Map<UUID, AcademicHistory> histories = findClosedHistories(foundIds, period);
+        List<UUID> liveIds = foundIds.stream()
+                .filter(id -> !histories.containsKey(id))
+                .collect(Collectors.toList());
+
+        // 3. Fetch period totals of the students without history
+        Map<UUID, GradeAggregate> aggregates = gradeAggregateRepository
+                .findByStudentIdsAndPeriod(liveIds, period)
+                .stream()
+                .collect(Collectors.toMap(GradeAggregate::studentId, Function.identity()));
+
+        // 4. Fetch grades of every student for the period
+        Map<UUID, List<Grade>> gradesByStudent = gradeRepository
+                .findByStudentIdsAndPeriod(foundIds, period)
+                .stream()
+                .collect(Collectors.groupingBy(Grade::getStudentId));
+
+        // 5. Count classes and presences of the students without history
+        Map<UUID, List<AttendanceSummary>> attendanceByStudent = attendanceRepository
+                .summarizeByStudentIds(liveIds, period)
+                .stream()
+                .collect(Collectors.groupingBy(AttendanceSummary::studentId));
+
+        // 6. Build one report card per student
+        Map<UUID, ReportCard> reportCards = new LinkedHashMap<>();
+        for (Student student : students) {
+            List<Grade> grades = gradesByStudent.getOrDefault(student.getId(), List.of());
+
+            AcademicHistory history = histories.get(student.getId());
+            if (history != null) {
+                reportCards.put(student.getId(), buildReportCard(student, period, grades, history));
+                continue;
+            }
+
+            GPA gpa = aggregates
+                    .getOrDefault(student.getId(), GradeAggregate.empty(student.getId()))
+                    .toGPA();
+
+            AttendanceSummary attendance = AttendanceSummary.total(
+                    student.getId(),
+                    attendanceByStudent.getOrDefault(student.getId(), List.of())
+            );
+
+            reportCards.put(student.getId(), buildReportCard(
+                    student,
+                    period,
+                    gpa,
+                    grades,
+                    attendance
+            ));
+        }
+
+        return reportCards;
+    }
+
+    /**
+     * Exports the report cards of every student with grades in the period,
+     * or only of the students of a classroom subject.
+     *
+     * Students are read in keyset pages of EXPORT_CHUNK_SIZE, and each page
+     * (grades, histories and attendance counts) is loaded in its own
+     * read-only transaction. The report cards of a chunk are handed to the
+     * sink after its transaction ended, so a slow client never holds a
+     * connection, and memory does not grow with the export.
+     * Report cards are handed to the sink in student ID order.
+     *
+     * @param period Academic period
+     * @param classroomSubjectId Classroom subject (null for every student)
+     * @param sink Receives each report card as soon as it is built
+     * @return Number of report cards exported
+     */
+    public long export(AcademicPeriod period, UUID classroomSubjectId, Consumer<ReportCard> sink) {
+        // 1. Closed period: checked once for the whole export
+        boolean closed = isClosed(period);
 
-        // 5. Calculate attendance (simulated - waiting for AttendanceRepository)
-        BigDecimal attendancePercentage = BigDecimal.valueOf(85.0);
+        // 2. One transaction per chunk; the sink runs outside of it
+        long exported = 0;
+        UUID lastStudentId = null;
 
-        // 6. Check approval status
-        boolean isApproved = gpa.isApproved() &&
-                attendancePercentage.compareTo(BigDecimal.valueOf(75)) >= 0;
+        while (true) {
+            UUID after = lastStudentId;
+            List<UUID> studentIds = gradeRepository.findStudentIdsByPeriod(
+                    period, classroomSubjectId, after, EXPORT_CHUNK_SIZE);
+            if (studentIds.isEmpty()) {
+                return exported;
+            }
 
-        // 7. Build report card
-        return new ReportCard(
+            List<ReportCard> reportCards = exportTransaction.execute(status ->
+                    buildChunk(studentIds, period, closed));
+            reportCards.forEach(sink);
+            exported += reportCards.size();
+
+            lastStudentId = studentIds.get(studentIds.size() - 1);
+        }
+    }
+
+    /**
+     * Builds the report cards of a chunk of students, in the order of the IDs,
+     * with one lookup each for grades, students, histories and attendance.
+     */
+    private List<ReportCard> buildChunk(List<UUID> studentIds, AcademicPeriod period, boolean closed) {
+        Map<UUID, List<Grade>> gradesByStudent = new LinkedHashMap<>();
+        studentIds.forEach(id -> gradesByStudent.put(id, new ArrayList<>()));
+        gradeRepository.findByStudentIdsAndPeriod(studentIds, period)
+                .forEach(grade -> gradesByStudent.get(grade.getStudentId()).add(grade));
+
+        Map<UUID, Student> students = studentRepository.findAllById(gradesByStudent.keySet())
+                .stream()
+                .collect(Collectors.toMap(Student::getId, Function.identity()));
+
+        Map<UUID, AcademicHistory> histories = closed
+                ? academicHistoryRepository.findByStudentIdsAndPeriod(students.keySet(), period)
+                        .stream()
+                        .collect(Collectors.toMap(AcademicHistory::getStudentId, Function.identity()))
+                : Map.of();
+
+        List<UUID> liveIds = students.keySet().stream()
+                .filter(id -> !histories.containsKey(id))
+                .collect(Collectors.toList());
+
+        Map<UUID, List<AttendanceSummary>> attendanceByStudent = attendanceRepository
+                .summarizeByStudentIds(liveIds, period)
+                .stream()
+                .collect(Collectors.groupingBy(AttendanceSummary::studentId));
+
+        List<ReportCard> reportCards = new ArrayList<>(gradesByStudent.size());
+        for (Map.Entry<UUID, List<Grade>> entry : gradesByStudent.entrySet()) {
+            Student student = students.get(entry.getKey());
+            if (student == null) {
+                continue;
+            }
+
+            AcademicHistory history = histories.get(student.getId());
+            if (history != null) {
+                reportCards.add(buildReportCard(student, period, entry.getValue(), history));
+            } else {
+                // GPA calculated from the grades already read, without querying again
+                GPA gpa = GpaCalculator.weightedAverage(entry.getValue());
+                AttendanceSummary attendance = AttendanceSummary.total(
+                        student.getId(),
+                        attendanceByStudent.getOrDefault(student.getId(), List.of())
+                );
+                reportCards.add(buildReportCard(student, period, gpa, entry.getValue(), attendance));
+            }
+        }
+
+        return reportCards;
+    }
+
+    /**
+     * Histories of the students when the period is closed; empty otherwise
+     * (while closing, a partial set of histories must not be used).
+     */
+    private Map<UUID, AcademicHistory> findClosedHistories(Collection<UUID> studentIds, AcademicPeriod period) {
+        if (!isClosed(period)) {
+            return Map.of();
+        }
+
+        return academicHistoryRepository.findByStudentIdsAndPeriod(studentIds, period)
+                .stream()
+                .collect(Collectors.toMap(AcademicHistory::getStudentId, Function.identity()));
+    }
+
+    private boolean isClosed(AcademicPeriod period) {
+        return periodClosureRepository.findByPeriod(period)
+                .map(PeriodClosure::isClosed)
+                .orElse(false);
+    }
+
+    /**
+     * Builds the report card from live GPA and attendance counts.
+     */
+    private ReportCard buildReportCard(
+            Student student,
+            AcademicPeriod period,
+            GPA gpa,
+            List<Grade> grades,
+            AttendanceSummary attendance
+    ) {
+        // Approval: minimum GPA and attendance of every subject together
+        boolean isApproved = gpa.isApproved() && attendance.isSufficient();
+
+        return buildReportCard(student, period, grades, gpa, attendance.percentage(), isApproved);
+    }
+
+    /**
+     * Builds the report card from the history written when the period was closed.
+     */
+    private ReportCard buildReportCard(
+            Student student,
+            AcademicPeriod period,
+            List<Grade> grades,
+            AcademicHistory history
+    ) {
+        return buildReportCard(
+                student,
+                period,
+                grades,
+                history.getGpa(),
+                history.getAttendancePercentage(),
+                history.isApproved()
+        );
+    }
+
+    private ReportCard buildReportCard(
+            Student student,
+            AcademicPeriod period,
+            List<Grade> grades,
+            GPA gpa,
+            BigDecimal attendancePercentage,
+            boolean isApproved
+    ) {
+        // Group grades by subject (classroomSubjectId)
+        Map<UUID, List<Grade>> gradesBySubject = grades.stream()
+                .collect(Collectors.groupingBy(Grade::getClassroomSubjectId));
+
+        return ReportCard.of(
                 student.getId(),
                 student.getFullName(),
                 student.getEnrollment().enrollmentNumber(),
@@ -85,18 +436,4 @@ public class ViewReportCardUseCase {
                 gradesBySubject
         );
     }
-
-    /**
-     * Record representing the report card.
-     */
-    public record ReportCard(
-            UUID studentId,
-            String studentName,
-            String enrollmentNumber,
-            AcademicPeriod period,
-            GPA gpa,
-            BigDecimal attendancePercentage,
-            boolean isApproved,
-            Map<UUID, List<Grade>> gradesBySubject
-    ) {}
-}
\ No newline at end of file
+}
@@ -1,6 +1,7 @@
 package com.binah.ace.student.domain.entity;
 
 import com.binah.ace.student.domain.valueobject.AcademicPeriod;
+import com.binah.ace.student.domain.valueobject.AttendanceSummary;
 import com.binah.ace.student.domain.valueobject.GPA;
 import lombok.Getter;
 
@@ -121,14 +122,8 @@ public class AcademicHistory {
         this.totalClasses = totalClasses;
         this.attendedClasses = attendedClasses;
 
-        // Calcula percentual
-        if (totalClasses > 0) {
-            this.attendancePercentage = BigDecimal.valueOf(attendedClasses)
-                    .multiply(BigDecimal.valueOf(100))
-                    .divide(BigDecimal.valueOf(totalClasses), 2, java.math.RoundingMode.HALF_UP);
-        } else {
-            this.attendancePercentage = BigDecimal.ZERO;
-        }
+        // Calcula percentual (mesma regra do boletim: sem aulas, sem faltas)
+        this.attendancePercentage = AttendanceSummary.percentage(totalClasses, attendedClasses);
 
         this.updatedAt = LocalDateTime.now();
         recalculateApprovalStatus();
@@ -172,7 +167,7 @@ public class AcademicHistory {
     private void recalculateApprovalStatus() {
         boolean hasMinimumGPA = gpa.isApproved();
         boolean hasMinimumAttendance = attendancePercentage
-                .compareTo(BigDecimal.valueOf(75)) >= 0;
+                .compareTo(AttendanceSummary.MINIMUM_PERCENTAGE) >= 0;
 
         this.isApproved = hasMinimumGPA && hasMinimumAttendance;
     }
@@ -1,6 +1,7 @@
 package com.binah.ace.student.domain.entity;
 
 import com.binah.ace.student.domain.enums.AssessmentType;
+import com.binah.ace.student.domain.service.ScoreArithmetic;
 import com.binah.ace.student.domain.valueobject.AcademicPeriod;
 import lombok.Getter;
 
@@ -19,6 +20,19 @@ import java.util.UUID;
 @Getter
 public class Grade {
 
+    /**
+     * Minimum score of a passing grade.
+     */
+    public static final BigDecimal PASSING_SCORE = new BigDecimal("7.0");
+
+    /**
+     * Scores below this are failing grades.
+     */
+    public static final BigDecimal FAILING_SCORE = new BigDecimal("5.0");
+
+    private static final long PASSING_SCORE_CENTI = 700;
+    private static final long FAILING_SCORE_CENTI = 500;
+
     private final UUID id;
     private final UUID studentId;
     private final UUID classroomSubjectId;  // Relationship with classroom + subject
@@ -27,6 +41,8 @@ public class Grade {
 
     private BigDecimal score;              // Score (0.00 to 10.00)
     private BigDecimal weight;             // Assessment weight (default 1.0)
+    private long scoreCenti;               // Score in centi-points (fixed-point copy)
+    private long weightCenti;              // Weight in centi-points (fixed-point copy)
     private String description;            // Example: "Bimonthly Exam", "Group Project"
     private LocalDate assessmentDate;      // Assessment date
 
@@ -61,6 +77,8 @@ public class Grade {
         this.academicPeriod = academicPeriod;
         this.score = score;
         this.weight = weight != null ? weight : BigDecimal.ONE;
+        this.scoreCenti = ScoreArithmetic.toCenti(this.score);
+        this.weightCenti = ScoreArithmetic.toCenti(this.weight);
         this.description = description;
         this.assessmentDate = assessmentDate;
         this.postedBy = postedBy;
@@ -93,6 +111,8 @@ public class Grade {
         this.academicPeriod = academicPeriod;
         this.score = score;
         this.weight = weight;
+        this.scoreCenti = ScoreArithmetic.toCenti(score);
+        this.weightCenti = ScoreArithmetic.toCenti(weight);
         this.description = description;
         this.assessmentDate = assessmentDate;
         this.comments = comments;
@@ -112,6 +132,7 @@ public class Grade {
     public void updateScore(BigDecimal newScore) {
         validateScore(newScore);
         this.score = newScore;
+        this.scoreCenti = ScoreArithmetic.toCenti(newScore);
         this.updatedAt = LocalDateTime.now();
     }
 
@@ -127,21 +148,45 @@ public class Grade {
      * Calculates the weighted score (score * weight).
      */
     public BigDecimal getWeightedScore() {
+        if (isFixedPoint()) {
+            BigDecimal product = ScoreArithmetic.multiply(
+                    scoreCenti, score.scale(),
+                    weightCenti, weight.scale()
+            );
+            if (product != null) {
+                return product;
+            }
+        }
         return score.multiply(weight);
     }
 
+    /**
+     * Indicates whether score and weight have centi-point copies,
+     * i.e. at most 2 decimals (always true for persisted grades).
+     */
+    public boolean isFixedPoint() {
+        return scoreCenti != ScoreArithmetic.NOT_REPRESENTABLE
+                && weightCenti != ScoreArithmetic.NOT_REPRESENTABLE;
+    }
+
     /**
      * Checks if the grade is passing (>= 7.0).
      */
     public boolean isPassing() {
-        return score.compareTo(BigDecimal.valueOf(7.0)) >= 0;
+        if (scoreCenti != ScoreArithmetic.NOT_REPRESENTABLE) {
+            return scoreCenti >= PASSING_SCORE_CENTI;
+        }
+        return score.compareTo(PASSING_SCORE) >= 0;
     }
 
     /**
      * Checks if the grade is failing (< 5.0).
      */
     public boolean isFailing() {
-        return score.compareTo(BigDecimal.valueOf(5.0)) < 0;
+        if (scoreCenti != ScoreArithmetic.NOT_REPRESENTABLE) {
+            return scoreCenti < FAILING_SCORE_CENTI;
+        }
+        return score.compareTo(FAILING_SCORE) < 0;
     }
 
     /**
@@ -0,0 +1,88 @@
+package com.binah.ace.student.domain.entity;
+
+import com.binah.ace.student.domain.enums.PeriodClosureStatus;
+import com.binah.ace.student.domain.service.ScoreArithmetic;
+import com.binah.ace.student.domain.valueobject.AcademicPeriod;
+import lombok.Getter;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Domain entity representing the closing of an academic period.
+ *
+ * Closing a period writes the AcademicHistory of every active student;
+ * afterwards report cards of the period are read from those snapshots.
+ * The counters are updated by the closing job as it progresses.
+ *
+ * @author Marcos Gustavo
+ */
+@Getter
+public class PeriodClosure {
+
+    private final UUID id;
+    private final AcademicPeriod academicPeriod;
+    private final PeriodClosureStatus status;
+
+    private final int totalStudents;         // Active students of the period
+    private final int processedStudents;     // Students with academic history
+    private final int failedStudents;        // Students whose chunk failed in this run
+    private final String lastError;
+
+    private final UUID startedBy;
+    private final LocalDateTime startedAt;
+    private final LocalDateTime finishedAt;
+
+    /**
+     * Full constructor (database reconstruction).
+     */
+    public PeriodClosure(
+            UUID id,
+            AcademicPeriod academicPeriod,
+            PeriodClosureStatus status,
+            int totalStudents,
+            int processedStudents,
+            int failedStudents,
+            String lastError,
+            UUID startedBy,
+            LocalDateTime startedAt,
+            LocalDateTime finishedAt
+    ) {
+        this.id = id;
+        this.academicPeriod = academicPeriod;
+        this.status = status;
+        this.totalStudents = totalStudents;
+        this.processedStudents = processedStudents;
+        this.failedStudents = failedStudents;
+        this.lastError = lastError;
+        this.startedBy = startedBy;
+        this.startedAt = startedAt;
+        this.finishedAt = finishedAt;
+    }
+
+    /**
+     * Checks if the histories of the period can replace live calculation.
+     */
+    public boolean isClosed() {
+        return status == PeriodClosureStatus.COMPLETED;
+    }
+
+    /**
+     * Checks if the closing job is still running.
+     */
+    public boolean isRunning() {
+        return status == PeriodClosureStatus.RUNNING;
+    }
+
+    /**
+     * Percentage of the students already processed (2 decimals).
+     */
+    public BigDecimal getProgressPercentage() {
+        if (totalStudents == 0) {
+            return ScoreArithmetic.fromCenti(isRunning() ? 0 : 10_000);
+        }
+
+        return ScoreArithmetic.fromCenti(ScoreArithmetic.percentageCenti(processedStudents, totalStudents));
+    }
+}
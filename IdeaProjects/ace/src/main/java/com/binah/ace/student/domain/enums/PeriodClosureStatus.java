@@ -0,0 +1,34 @@
+package com.binah.ace.student.domain.enums;
+
+/**
+ * Status of the closing of an academic period.
+ *
+ * @author Marcos Gustavo
+ */
+public enum PeriodClosureStatus {
+
+    /**
+     * Academic histories being written.
+     */
+    RUNNING("Running"),
+
+    /**
+     * Every active student has its academic history.
+     */
+    COMPLETED("Completed"),
+
+    /**
+     * Some students failed; running the closing again processes only them.
+     */
+    FAILED("Failed");
+
+    private final String displayName;
+
+    PeriodClosureStatus(String displayName) {
+        this.displayName = displayName;
+    }
+
+    public String getDisplayName() {
+        return displayName;
+    }
+}
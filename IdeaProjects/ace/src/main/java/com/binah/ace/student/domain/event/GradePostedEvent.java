@@ -0,0 +1,92 @@
+package com.binah.ace.student.domain.event;
+
+import com.binah.ace.shared.events.DomainEvent;
+import com.binah.ace.student.domain.entity.Grade;
+import com.binah.ace.student.domain.entity.Student;
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.Getter;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Event: a grade was posted for a student.
+ *
+ * Carries the student's name and e-mail so listeners do not need
+ * to load the student again.
+ *
+ * @author Marcos Gustavo
+ */
+@Getter
+public class GradePostedEvent extends DomainEvent {
+
+    private final UUID gradeId;
+    private final UUID studentId;
+    private final UUID classroomSubjectId;
+    private final String studentName;
+    private final String studentEmail;
+    private final BigDecimal score;
+    private final UUID postedBy;
+    private final int year;
+    private final int semester;
+    private final Integer bimester;
+
+    @JsonCreator
+    public GradePostedEvent(
+            @JsonProperty("eventId") UUID eventId,
+            @JsonProperty("occurredOn") LocalDateTime occurredOn,
+            @JsonProperty("gradeId") UUID gradeId,
+            @JsonProperty("studentId") UUID studentId,
+            @JsonProperty("classroomSubjectId") UUID classroomSubjectId,
+            @JsonProperty("studentName") String studentName,
+            @JsonProperty("studentEmail") String studentEmail,
+            @JsonProperty("score") BigDecimal score,
+            @JsonProperty("postedBy") UUID postedBy,
+            @JsonProperty("year") int year,
+            @JsonProperty("semester") int semester,
+            @JsonProperty("bimester") Integer bimester
+    ) {
+        super(eventId, occurredOn);
+        this.gradeId = gradeId;
+        this.studentId = studentId;
+        this.classroomSubjectId = classroomSubjectId;
+        this.studentName = studentName;
+        this.studentEmail = studentEmail;
+        this.score = score;
+        this.postedBy = postedBy;
+        this.year = year;
+        this.semester = semester;
+        this.bimester = bimester;
+    }
+
+    /**
+     * Creates the event of a newly posted grade.
+     */
+    public static GradePostedEvent of(Grade grade, Student student) {
+        return new GradePostedEvent(
+                UUID.randomUUID(),
+                LocalDateTime.now(),
+                grade.getId(),
+                student.getId(),
+                grade.getClassroomSubjectId(),
+                student.getFullName(),
+                student.getEmail().value(),
+                grade.getScore(),
+                grade.getPostedBy(),
+                grade.getAcademicPeriod().year(),
+                grade.getAcademicPeriod().semester(),
+                grade.getAcademicPeriod().bimester()
+        );
+    }
+
+    /**
+     * Keyed by student: the grades of a student are delivered in the order
+     * they were posted, which is the order their aggregates change in.
+     */
+    @Override
+    public UUID getAggregateId() {
+        return studentId;
+    }
+}
@@ -0,0 +1,77 @@
+package com.binah.ace.student.domain.event;
+
+import com.binah.ace.shared.events.DomainEvent;
+import com.binah.ace.student.domain.valueobject.AcademicPeriod;
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Event: a student's report card of a period changed (a grade was updated
+ * or deleted, attendance was recorded).
+ *
+ * Published wherever the stored report card is invalidated, except when a
+ * grade is posted: GradePostedEvent already says so. Consumed by the
+ * reportCardChanged subscription.
+ *
+ * @author Marcos Gustavo
+ */
+@Getter
+public class ReportCardChangedEvent extends DomainEvent {
+
+    private final UUID studentId;
+    private final int year;
+    private final int semester;
+    private final Integer bimester;
+
+    @JsonCreator
+    public ReportCardChangedEvent(
+            @JsonProperty("eventId") UUID eventId,
+            @JsonProperty("occurredOn") LocalDateTime occurredOn,
+            @JsonProperty("studentId") UUID studentId,
+            @JsonProperty("year") int year,
+            @JsonProperty("semester") int semester,
+            @JsonProperty("bimester") Integer bimester
+    ) {
+        super(eventId, occurredOn);
+        this.studentId = studentId;
+        this.year = year;
+        this.semester = semester;
+        this.bimester = bimester;
+    }
+
+    /**
+     * Creates the event of a change to the student's report card of the period.
+     */
+    public static ReportCardChangedEvent of(UUID studentId, AcademicPeriod period) {
+        return new ReportCardChangedEvent(
+                UUID.randomUUID(),
+                LocalDateTime.now(),
+                studentId,
+                period.year(),
+                period.semester(),
+                period.bimester()
+        );
+    }
+
+    /**
+     * Period of the changed report card.
+     */
+    @JsonIgnore
+    public AcademicPeriod getPeriod() {
+        return new AcademicPeriod(year, semester, bimester);
+    }
+
+    /**
+     * Keyed by student, like GradePostedEvent: changes reach the
+     * subscribers in the order they were made.
+     */
+    @Override
+    public UUID getAggregateId() {
+        return studentId;
+    }
+}
@@ -0,0 +1,63 @@
+package com.binah.ace.student.domain.event;
+
+import com.binah.ace.shared.events.DomainEvent;
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Event: a student was created and enrolled.
+ *
+ * Consumed by audit and welcome e-mail.
+ *
+ * @author Marcos Gustavo
+ */
+@Getter
+public class StudentCreatedEvent extends DomainEvent {
+
+    private final UUID studentId;
+    private final String fullName;
+    private final String email;
+    private final String enrollmentNumber;
+    private final UUID createdBy;
+
+    public StudentCreatedEvent(
+            UUID studentId,
+            String fullName,
+            String email,
+            String enrollmentNumber,
+            UUID createdBy
+    ) {
+        this.studentId = studentId;
+        this.fullName = fullName;
+        this.email = email;
+        this.enrollmentNumber = enrollmentNumber;
+        this.createdBy = createdBy;
+    }
+
+    @JsonCreator
+    public StudentCreatedEvent(
+            @JsonProperty("eventId") UUID eventId,
+            @JsonProperty("occurredOn") LocalDateTime occurredOn,
+            @JsonProperty("studentId") UUID studentId,
+            @JsonProperty("fullName") String fullName,
+            @JsonProperty("email") String email,
+            @JsonProperty("enrollmentNumber") String enrollmentNumber,
+            @JsonProperty("createdBy") UUID createdBy
+    ) {
+        super(eventId, occurredOn);
+        this.studentId = studentId;
+        this.fullName = fullName;
+        this.email = email;
+        this.enrollmentNumber = enrollmentNumber;
+        this.createdBy = createdBy;
+    }
+
+    @Override
+    public UUID getAggregateId() {
+        return studentId;
+    }
+}
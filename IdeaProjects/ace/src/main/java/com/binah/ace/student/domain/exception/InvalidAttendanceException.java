@@ -0,0 +1,45 @@
+package com.binah.ace.student.domain.exception;
+
+import com.binah.ace.shared.exception.BusinessException;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+/**
+ * Exception thrown when there is an error while recording attendance.
+ *
+ * @author Marcos Gustavo
+ */
+public class InvalidAttendanceException extends BusinessException {
+
+    public InvalidAttendanceException(String message) {
+        super("INVALID_ATTENDANCE", message);
+    }
+
+    /**
+     * Class date in the future.
+     */
+    public static InvalidAttendanceException futureClassDate(LocalDate classDate) {
+        return new InvalidAttendanceException(
+                "Cannot record attendance for future classes: " + classDate
+        );
+    }
+
+    /**
+     * Same student more than once in a roll call.
+     */
+    public static InvalidAttendanceException duplicateStudent(UUID studentId) {
+        return new InvalidAttendanceException(
+                "Student appears more than once in the roll call: " + studentId
+        );
+    }
+
+    /**
+     * Student not enrolled in the class/subject.
+     */
+    public static InvalidAttendanceException studentNotEnrolled() {
+        return new InvalidAttendanceException(
+                "Cannot record attendance: student is not enrolled in this class"
+        );
+    }
+}
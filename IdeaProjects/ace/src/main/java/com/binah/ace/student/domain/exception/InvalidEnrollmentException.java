@@ -2,6 +2,8 @@ package com.binah.ace.student.domain.exception;
 
 import com.binah.ace.shared.exception.BusinessException;
 
+import java.time.LocalDate;
+
 /**
  * Exception thrown when an error occurs during an enrollment operation.
  *
@@ -38,6 +40,15 @@ public class InvalidEnrollmentException extends BusinessException {
         );
     }
 
+    /**
+     * Email duplicate.
+     */
+    public static InvalidEnrollmentException duplicateEmail(String email) {
+        return new InvalidEnrollmentException(
+                "Student with email " + email + " already exists"
+        );
+    }
+
     /**
      * Student is not active.
      */
@@ -46,4 +57,13 @@ public class InvalidEnrollmentException extends BusinessException {
                 "Only active students can be enrolled in classes"
         );
     }
-}
\ No newline at end of file
+
+    /**
+     * No enrollment numbers left for the day.
+     */
+    public static InvalidEnrollmentException sequenceExhausted(LocalDate enrollmentDate) {
+        return new InvalidEnrollmentException(
+                "No enrollment numbers left for " + enrollmentDate
+        );
+    }
+}
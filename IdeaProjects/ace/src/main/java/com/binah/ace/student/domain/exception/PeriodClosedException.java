@@ -0,0 +1,17 @@
+package com.binah.ace.student.domain.exception;
+
+import com.binah.ace.shared.exception.BusinessException;
+import com.binah.ace.student.domain.valueobject.AcademicPeriod;
+
+/**
+ * Exception thrown when grades or attendance of a period that is being
+ * closed, or is already closed, would change.
+ *
+ * @author Marcos Gustavo
+ */
+public class PeriodClosedException extends BusinessException {
+
+    public PeriodClosedException(AcademicPeriod period) {
+        super("PERIOD_CLOSED", "Period " + period + " is closed (or being closed) and can no longer change");
+    }
+}
@@ -1,5 +1,6 @@
 package com.binah.ace.student.domain.port;
 
+import java.util.List;
 import java.util.UUID;
 
 /**
@@ -34,6 +35,13 @@ public interface AuditPort {
      */
     void recordGradePosted(UUID gradeId, UUID studentId, UUID postedBy, double score);
 
+    /**
+     * Records several grades posted together.
+     *
+     * @param entries One entry per posted grade
+     */
+    void recordGradesPosted(List<GradePostedEntry> entries);
+
     /**
      * Records grade update.
      *
@@ -73,4 +81,9 @@ public interface AuditPort {
      * @param finalGPA Final GPA
      */
     void recordGraduation(UUID studentId, double finalGPA);
-}
\ No newline at end of file
+
+    /**
+     * Audit data of a single posted grade.
+     */
+    record GradePostedEntry(UUID gradeId, UUID studentId, UUID postedBy, double score) {}
+}
@@ -0,0 +1,39 @@
+package com.binah.ace.student.domain.port;
+
+import com.binah.ace.student.domain.entity.Grade;
+import com.binah.ace.student.domain.valueobject.AcademicPeriod;
+
+import java.util.UUID;
+import java.util.concurrent.Flow;
+
+/**
+ * Output port for the live feed of posted grades and report card changes.
+ *
+ * Defines the contract that the Student module expects from
+ * a push channel (GraphQL subscriptions).
+ *
+ * Implementation is located in Infrastructure (subscription).
+ *
+ * @author Marcos Gustavo
+ */
+public interface GradeFeedPort {
+
+    /**
+     * Grades posted for the student from the moment of the subscription
+     * on, until the subscriber cancels. Delivered at least once.
+     *
+     * @param studentId ID of the student
+     * @return Publisher of the posted grades
+     */
+    Flow.Publisher<Grade> gradesPosted(UUID studentId);
+
+    /**
+     * Periods whose report card changed for the student (grade posted,
+     * updated or deleted, attendance recorded), from the moment of the
+     * subscription on, until the subscriber cancels. Delivered at least once.
+     *
+     * @param studentId ID of the student
+     * @return Publisher of the changed periods
+     */
+    Flow.Publisher<AcademicPeriod> reportCardChanges(UUID studentId);
+}
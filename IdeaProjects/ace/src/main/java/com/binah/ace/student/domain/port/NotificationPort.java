@@ -2,6 +2,8 @@ package com.binah.ace.student.domain.port;
 
 import com.binah.ace.shared.valueobject.Email;
 
+import java.util.List;
+
 /**
  * Output port for the notification service.
  *
@@ -23,6 +25,13 @@ public interface NotificationPort {
      */
     void sendWelcomeEmail(Email studentEmail, String studentName, String enrollmentNumber);
 
+    /**
+     * Sends the welcome emails of several students created together.
+     *
+     * @param notifications One entry per created student
+     */
+    void sendWelcomeEmails(List<WelcomeNotification> notifications);
+
     /**
      * Sends a notification when a grade is posted.
      *
@@ -38,6 +47,13 @@ public interface NotificationPort {
             double score
     );
 
+    /**
+     * Sends the notifications of several grades posted together.
+     *
+     * @param notifications One entry per posted grade
+     */
+    void sendGradeNotifications(List<GradeNotification> notifications);
+
     /**
      * Sends a low attendance warning notification.
      *
@@ -65,4 +81,23 @@ public interface NotificationPort {
             Email guardianEmail,
             String reportCardPdfUrl
     );
-}
\ No newline at end of file
+
+    /**
+     * Data of a single welcome email.
+     */
+    record WelcomeNotification(
+            Email studentEmail,
+            String studentName,
+            String enrollmentNumber
+    ) {}
+
+    /**
+     * Data of a single grade notification.
+     */
+    record GradeNotification(
+            Email studentEmail,
+            String studentName,
+            String subjectName,
+            double score
+    ) {}
+}
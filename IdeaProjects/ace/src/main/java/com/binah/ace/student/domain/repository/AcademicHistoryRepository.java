@@ -0,0 +1,39 @@
+package com.binah.ace.student.domain.repository;
+
+import com.binah.ace.student.domain.entity.AcademicHistory;
+import com.binah.ace.student.domain.valueobject.AcademicPeriod;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Persistence contract for the AcademicHistory entity.
+ *
+ * PURE domain interface - WITHOUT JPA dependency.
+ *
+ * @author Marcos Gustavo
+ */
+public interface AcademicHistoryRepository {
+
+    /**
+     * Writes the histories of a period, replacing the ones the same
+     * students already have (so a chunk can be written again safely).
+     *
+     * @param period Period of every history
+     * @param histories Histories to write (one per student)
+     */
+    void replaceAll(AcademicPeriod period, Collection<AcademicHistory> histories);
+
+    /**
+     * Finds the histories of several students in a period with a single lookup.
+     * Students without history are absent from the result.
+     */
+    List<AcademicHistory> findByStudentIdsAndPeriod(Collection<UUID> studentIds, AcademicPeriod period);
+
+    /**
+     * IDs of the students that already have a history for the period.
+     */
+    Set<UUID> findStudentIdsByPeriod(AcademicPeriod period);
+}
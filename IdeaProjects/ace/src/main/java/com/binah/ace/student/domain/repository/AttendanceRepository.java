@@ -0,0 +1,45 @@
+package com.binah.ace.student.domain.repository;
+
+import com.binah.ace.student.domain.entity.Attendance;
+import com.binah.ace.student.domain.valueobject.AcademicPeriod;
+import com.binah.ace.student.domain.valueobject.AttendanceSummary;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Persistence contract for the Attendance entity.
+ *
+ * PURE domain interface - WITHOUT dependency on JPA.
+ * Implementation is located in the Infrastructure layer.
+ *
+ * @author Marcos Gustavo
+ */
+public interface AttendanceRepository {
+
+    /**
+     * Saves several attendance records at once.
+     *
+     * A student has a single record per classroom subject and class date:
+     * when it already exists, its status, notes and recorder are replaced
+     * (the existing ID is kept).
+     *
+     * @param attendances Records to save (at most one per student, subject and date)
+     * @return Saved records, as stored
+     */
+    List<Attendance> saveAll(Collection<Attendance> attendances);
+
+    /**
+     * Finds the roll call of a class.
+     */
+    List<Attendance> findByClassroomSubjectAndDate(UUID classroomSubjectId, LocalDate classDate);
+
+    /**
+     * Counts the classes and presences of several students in a period,
+     * per student and classroom subject, with a single aggregate query.
+     * Students without records are absent from the result.
+     */
+    List<AttendanceSummary> summarizeByStudentIds(Collection<UUID> studentIds, AcademicPeriod period);
+}
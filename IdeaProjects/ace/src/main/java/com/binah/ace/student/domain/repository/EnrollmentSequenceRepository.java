@@ -0,0 +1,26 @@
+package com.binah.ace.student.domain.repository;
+
+import java.time.LocalDate;
+
+/**
+ * Persistence contract for the daily enrollment number counters.
+ *
+ * PURE domain interface - WITHOUT JPA dependency.
+ *
+ * @author Marcos Gustavo
+ */
+public interface EnrollmentSequenceRepository {
+
+    /**
+     * Atomically reserves the next numbers of a day.
+     *
+     * The reservation belongs to the caller's transaction: the day's counter
+     * stays locked until it ends, and a rollback returns the numbers. Callers
+     * reserve in blocks, so the lock is not taken for every number.
+     *
+     * @param enrollmentDate Day of the sequence
+     * @param count How many numbers to reserve
+     * @return Last reserved number (the block is last - count + 1 .. last)
+     */
+    long allocate(LocalDate enrollmentDate, int count);
+}
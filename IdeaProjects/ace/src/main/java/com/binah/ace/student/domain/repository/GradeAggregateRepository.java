@@ -0,0 +1,63 @@
+package com.binah.ace.student.domain.repository;
+
+import com.binah.ace.student.domain.entity.Grade;
+import com.binah.ace.student.domain.valueobject.AcademicPeriod;
+import com.binah.ace.student.domain.valueobject.GradeAggregate;
+
+import java.math.BigDecimal;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Persistence contract for the running grade totals of each
+ * (student, year, semester, bimester).
+ *
+ * Every grade write must go through here in the same transaction,
+ * so the totals always match the grades table.
+ *
+ * PURE domain interface - WITHOUT JPA dependency.
+ *
+ * @author Marcos Gustavo
+ */
+public interface GradeAggregateRepository {
+
+    /**
+     * Adds a newly posted grade to the totals of its period.
+     */
+    void add(Grade grade);
+
+    /**
+     * Adds several newly posted grades, one write per affected period.
+     */
+    void addAll(Collection<Grade> grades);
+
+    /**
+     * Removes a deleted grade from the totals of its period.
+     */
+    void remove(Grade grade);
+
+    /**
+     * Applies a score change of an existing grade.
+     *
+     * @param grade Grade with the new score
+     * @param previousScore Score before the update
+     */
+    void replaceScore(Grade grade, BigDecimal previousScore);
+
+    /**
+     * Totals of a period. Without bimester, covers the whole semester.
+     */
+    GradeAggregate findByStudentIdAndPeriod(UUID studentId, AcademicPeriod period);
+
+    /**
+     * Totals of a period for several students in a single lookup.
+     * Students without grades in the period are absent from the result.
+     */
+    List<GradeAggregate> findByStudentIdsAndPeriod(Collection<UUID> studentIds, AcademicPeriod period);
+
+    /**
+     * Totals of every period of the student.
+     */
+    GradeAggregate findOverallByStudentId(UUID studentId);
+}
@@ -2,7 +2,9 @@ package com.binah.ace.student.domain.repository;
 
 import com.binah.ace.student.domain.entity.Grade;
 import com.binah.ace.student.domain.valueobject.AcademicPeriod;
+import com.binah.ace.student.domain.valueobject.StudentGradeSummary;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -18,13 +20,47 @@ public interface GradeRepository {
 
     Optional<Grade> findById(UUID id);
 
+    /**
+     * Loads a grade that is about to be changed, locking it until the end
+     * of the transaction: concurrent updates and deletions of the same grade
+     * wait for each other and always see the score the previous one left.
+     */
+    Optional<Grade> findByIdForUpdate(UUID id);
+
+    List<Grade> findAllById(Collection<UUID> ids);
+
     List<Grade> findByStudentId(UUID studentId);
 
     List<Grade> findByStudentIdAndPeriod(UUID studentId, AcademicPeriod period);
 
+    List<Grade> findByStudentIds(Collection<UUID> studentIds);
+
+    List<Grade> findByStudentIdsAndPeriod(Collection<UUID> studentIds, AcademicPeriod period);
+
     List<Grade> findByClassroomSubjectId(UUID classroomSubjectId);
 
+    /**
+     * Per-student averages and passing/failing counts of a classroom subject,
+     * aggregated without loading the grades. Without bimester, covers the semester.
+     */
+    List<StudentGradeSummary> summarizeByClassroomSubject(UUID classroomSubjectId, AcademicPeriod period);
+
+    /**
+     * IDs of the students with grades in the period, in ID order, after
+     * afterStudentId (null for the first page). When classroomSubjectId is
+     * given, only the students with grades in that classroom subject.
+     *
+     * Keyset pages: a whole period is walked in short, independent queries.
+     */
+    List<UUID> findStudentIdsByPeriod(AcademicPeriod period, UUID classroomSubjectId, UUID afterStudentId, int limit);
+
     Grade save(Grade grade);
 
+    /**
+     * Inserts new grades in JDBC batches.
+     * The grades must carry their IDs and must not exist yet.
+     */
+    List<Grade> insertAll(List<Grade> grades);
+
     void deleteById(UUID id);
 }
\ No newline at end of file
@@ -0,0 +1,71 @@
+package com.binah.ace.student.domain.repository;
+
+import com.binah.ace.student.domain.entity.PeriodClosure;
+import com.binah.ace.student.domain.valueobject.AcademicPeriod;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Persistence contract for the closing of academic periods.
+ *
+ * PURE domain interface - WITHOUT JPA dependency.
+ *
+ * The counters are changed with atomic increments, so the chunks of a
+ * closing job can report progress concurrently.
+ *
+ * @author Marcos Gustavo
+ */
+public interface PeriodClosureRepository {
+
+    /**
+     * Finds the closing of a period.
+     */
+    Optional<PeriodClosure> findByPeriod(AcademicPeriod period);
+
+    /**
+     * Atomically marks the closing of a period as RUNNING and resets its counters.
+     *
+     * Only a new or FAILED closing can start. A run without a heartbeat
+     * for longer than staleAfter is considered dead and replaced. Waits
+     * for the writes in progress on the period's semester (see acceptsWrites).
+     *
+     * @return The started closing, or empty if the period is closed or a run is active
+     */
+    Optional<PeriodClosure> tryStart(AcademicPeriod period, UUID startedBy, Duration staleAfter);
+
+    /**
+     * Whether grades and attendance of the period can still change: false
+     * while the period, or the semester containing it, is being closed or
+     * is closed.
+     *
+     * Must be called in the transaction of the write: no closing of the
+     * semester can start until that transaction ends, so a running closing
+     * never misses a write that was accepted.
+     */
+    boolean acceptsWrites(AcademicPeriod period);
+
+    /**
+     * Keeps a running closing alive, however long its chunks take.
+     */
+    void heartbeat(UUID closureId);
+
+    /**
+     * Sets the number of students of the run and how many were already processed.
+     */
+    void initializeCounters(UUID closureId, int totalStudents, int alreadyProcessed);
+
+    /**
+     * Adds the students of a chunk to the counters.
+     */
+    void addProgress(UUID closureId, int processed, int failed, String error);
+
+    /**
+     * Ends the run: COMPLETED when every student was processed without
+     * errors, FAILED otherwise.
+     *
+     * @return The finished closing
+     */
+    PeriodClosure finish(UUID closureId);
+}
@@ -0,0 +1,70 @@
+package com.binah.ace.student.domain.repository;
+
+import com.binah.ace.student.domain.valueobject.AcademicPeriod;
+import com.binah.ace.student.domain.valueobject.ReportCard;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Persistence contract for the stored report cards (read model), one per
+ * student and period.
+ *
+ * Grade and attendance writes invalidate the affected report cards in the
+ * same transaction; the next read rebuilds and stores them. Each invalidation
+ * bumps the version of the report card, and a rebuilt report card is only
+ * stored if the version did not change meanwhile, so a rebuild that raced
+ * with a write is never kept.
+ *
+ * PURE domain interface - WITHOUT JPA dependency.
+ *
+ * @author Marcos Gustavo
+ */
+public interface ReportCardViewRepository {
+
+    /**
+     * Stored report card of a student (single row lookup).
+     * Empty when it was never built.
+     */
+    Optional<StoredReportCard> findByStudentIdAndPeriod(UUID studentId, AcademicPeriod period);
+
+    /**
+     * Stored report cards of several students, with a single lookup.
+     * Students whose report card was never built are absent.
+     */
+    Map<UUID, StoredReportCard> findByStudentIdsAndPeriod(Collection<UUID> studentIds, AcademicPeriod period);
+
+    /**
+     * Stores rebuilt report cards. Each one is only stored if its
+     * row is still at the version read before rebuilding it.
+     */
+    void saveAll(List<StoredReportCard> reportCards);
+
+    /**
+     * Invalidates the report cards of the students for the period and,
+     * for a bimester, also for its semester.
+     */
+    void invalidate(Collection<UUID> studentIds, AcademicPeriod period);
+
+    /**
+     * Invalidates the report cards of every student for exactly this period
+     * (e.g. once the period is closed and report cards come from the history).
+     */
+    void invalidatePeriod(AcademicPeriod period);
+
+    /**
+     * A stored report card.
+     *
+     * @param version Version of the row (0 when the row does not exist yet)
+     * @param reportCard Report card, or null when it was invalidated
+     */
+    record StoredReportCard(long version, ReportCard reportCard) {
+
+        public boolean isCurrent() {
+            return reportCard != null;
+        }
+    }
+}
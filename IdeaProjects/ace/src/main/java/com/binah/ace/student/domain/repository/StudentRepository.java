@@ -1,12 +1,16 @@
 package com.binah.ace.student.domain.repository;
 
 import com.binah.ace.shared.valueobject.CPF;
+import com.binah.ace.shared.valueobject.Email;
 import com.binah.ace.student.domain.entity.Student;
 import com.binah.ace.student.domain.enums.StudentStatus;
 import com.binah.ace.student.domain.valueobject.Enrollment;
+import com.binah.ace.student.domain.valueobject.StudentSearchHit;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 
 /**
@@ -24,6 +28,12 @@ public interface StudentRepository {
      */
     Optional<Student> findById(UUID id);
 
+    /**
+     * Finds several students by ID in a single lookup.
+     * Missing IDs are simply absent from the result.
+     */
+    List<Student> findAllById(Collection<UUID> ids);
+
     /**
      * Finds a student by CPF.
      */
@@ -44,11 +54,40 @@ public interface StudentRepository {
      */
     List<Student> findActiveStudents();
 
+    /**
+     * Finds a page of active students ordered by (fullName, id).
+     *
+     * @param afterFullName Name of the last student of the previous page (null for the first page)
+     * @param afterId ID of the last student of the previous page (null for the first page)
+     * @param limit Maximum number of students
+     */
+    List<Student> findActiveStudentsAfter(String afterFullName, UUID afterId, int limit);
+
+    /**
+     * IDs of every active student, ordered by ID.
+     * Only the IDs are loaded, for jobs that work over all students in chunks.
+     */
+    List<UUID> findActiveStudentIds();
+
     /**
      * Checks if a CPF already exists.
      */
     boolean existsByCPF(CPF cpf);
 
+    /**
+     * Which of the given CPFs already exist, with a single lookup.
+     *
+     * @return Existing CPFs (digits only)
+     */
+    Set<String> findExistingCPFs(Collection<CPF> cpfs);
+
+    /**
+     * Which of the given emails already exist, with a single lookup.
+     *
+     * @return Existing emails (lower case)
+     */
+    Set<String> findExistingEmails(Collection<Email> emails);
+
     /**
      * Checks if an enrollment number already exists.
      */
@@ -59,6 +98,15 @@ public interface StudentRepository {
      */
     Student save(Student student);
 
+    /**
+     * Inserts several new students in bulk (import). Students whose CPF,
+     * email or enrollment number already exist are skipped, so a student
+     * registered concurrently does not fail the others.
+     *
+     * @return The students that were inserted
+     */
+    List<Student> insertAll(List<Student> students);
+
     /**
      * Deletes a student.
      */
@@ -70,7 +118,23 @@ public interface StudentRepository {
     long countActiveStudents();
 
     /**
-     * Searches students by name (partial match).
+     * Searches students by name (partial match, accent-insensitive).
      */
     List<Student> searchByName(String name);
-}
\ No newline at end of file
+
+    /**
+     * Full-text search by name, CPF, email or enrollment number,
+     * ordered by relevance.
+     */
+    List<Student> search(String term);
+
+    /**
+     * Full-text search returning a page of hits ordered by relevance
+     * and then by ID.
+     *
+     * @param term Search term
+     * @param after Position of the last hit of the previous page (null for the first page)
+     * @param limit Maximum number of hits
+     */
+    List<StudentSearchHit> search(String term, StudentSearchHit.Position after, int limit);
+}
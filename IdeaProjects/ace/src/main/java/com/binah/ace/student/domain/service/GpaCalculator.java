@@ -0,0 +1,75 @@
+package com.binah.ace.student.domain.service;
+
+import com.binah.ace.student.domain.entity.Grade;
+import com.binah.ace.student.domain.valueobject.GPA;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * Domain service: GPA of a list of grades already in memory.
+ *
+ * Formula: Σ(grade × weight) / Σ(weight)
+ *
+ * Runs on the centi-point copies of score and weight; falls back to
+ * BigDecimal only for grades with more than 2 decimals.
+ *
+ * @author Marcos Gustavo
+ */
+public final class GpaCalculator {
+
+    private GpaCalculator() {
+        throw new UnsupportedOperationException("Utility class");
+    }
+
+    /**
+     * Weighted average of the grades; 0.00 when there are none.
+     */
+    public static GPA weightedAverage(List<Grade> grades) {
+        if (grades.isEmpty()) {
+            return GPA.of(0.0);
+        }
+
+        long totalWeightedScore = 0;   // 1/10000 points
+        long totalWeight = 0;          // centi-points
+
+        try {
+            for (Grade grade : grades) {
+                if (!grade.isFixedPoint()) {
+                    return weightedAverageExact(grades);
+                }
+
+                long weight = grade.getWeightCenti();
+                totalWeightedScore = Math.addExact(
+                        totalWeightedScore,
+                        Math.multiplyExact(grade.getScoreCenti(), weight)
+                );
+                totalWeight = Math.addExact(totalWeight, weight);
+            }
+        } catch (ArithmeticException overflow) {
+            return weightedAverageExact(grades);
+        }
+
+        if (totalWeight == 0) {
+            return GPA.of(0.0);
+        }
+
+        long average = ScoreArithmetic.weightedAverageCenti(totalWeightedScore, totalWeight);
+        return new GPA(ScoreArithmetic.fromCenti(average));
+    }
+
+    /**
+     * BigDecimal version of the weighted average.
+     */
+    private static GPA weightedAverageExact(List<Grade> grades) {
+        BigDecimal totalWeightedScore = BigDecimal.ZERO;
+        BigDecimal totalWeight = BigDecimal.ZERO;
+
+        for (Grade grade : grades) {
+            totalWeightedScore = totalWeightedScore.add(grade.getScore().multiply(grade.getWeight()));
+            totalWeight = totalWeight.add(grade.getWeight());
+        }
+
+        return GPA.weightedAverage(totalWeightedScore, totalWeight);
+    }
+}
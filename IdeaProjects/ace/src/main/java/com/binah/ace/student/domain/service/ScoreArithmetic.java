@@ -0,0 +1,144 @@
+package com.binah.ace.student.domain.service;
+
+import java.math.BigDecimal;
+
+/**
+ * Fixed-point arithmetic for scores, weights and percentages.
+ *
+ * Values are handled as centi-points in a {@code long} (8.75 → 875), so
+ * sums and averages allocate nothing. BigDecimal is only created at the
+ * API boundary, with the same HALF_UP / 2 decimal result as the
+ * BigDecimal arithmetic it replaces.
+ *
+ * Values that do not fit (more than 2 decimals, overflow) are reported as
+ * {@link #NOT_REPRESENTABLE} so callers can fall back to BigDecimal.
+ *
+ * @author Marcos Gustavo
+ */
+public final class ScoreArithmetic {
+
+    /**
+     * Marker for values that cannot be represented in centi-points.
+     */
+    public static final long NOT_REPRESENTABLE = Long.MIN_VALUE;
+
+    /**
+     * Number of decimal places of a centi-point value.
+     */
+    public static final int CENTI_SCALE = 2;
+
+    private static final long[] POWERS_OF_TEN = {
+            1L, 10L, 100L, 1_000L, 10_000L, 100_000L, 1_000_000L,
+            10_000_000L, 100_000_000L, 1_000_000_000L, 10_000_000_000L
+    };
+
+    private ScoreArithmetic() {
+        throw new UnsupportedOperationException("Utility class");
+    }
+
+    /**
+     * Converts a value to centi-points (8.75 → 875).
+     *
+     * @return Centi-points or {@link #NOT_REPRESENTABLE}
+     */
+    public static long toCenti(BigDecimal value) {
+        return toFixed(value, CENTI_SCALE);
+    }
+
+    /**
+     * Converts a value to a fixed-point long with the given scale.
+     *
+     * @return Unscaled value or {@link #NOT_REPRESENTABLE} when the value has
+     *         more decimals than the scale or does not fit in a long
+     */
+    public static long toFixed(BigDecimal value, int scale) {
+        if (value == null) {
+            return NOT_REPRESENTABLE;
+        }
+
+        BigDecimal candidate = value;
+        if (candidate.scale() > scale) {
+            candidate = candidate.stripTrailingZeros();
+            if (candidate.scale() > scale) {
+                return NOT_REPRESENTABLE;
+            }
+        }
+
+        int shift = scale - candidate.scale();
+        if (shift >= POWERS_OF_TEN.length || candidate.precision() > 18) {
+            return NOT_REPRESENTABLE;
+        }
+
+        try {
+            long fixed = Math.multiplyExact(candidate.unscaledValue().longValue(), POWERS_OF_TEN[shift]);
+            return fixed == NOT_REPRESENTABLE ? NOT_REPRESENTABLE : fixed;
+        } catch (ArithmeticException e) {
+            return NOT_REPRESENTABLE;
+        }
+    }
+
+    /**
+     * Materializes centi-points as a BigDecimal with 2 decimals.
+     */
+    public static BigDecimal fromCenti(long centi) {
+        return BigDecimal.valueOf(centi, CENTI_SCALE);
+    }
+
+    /**
+     * Integer division rounded HALF_UP (ties away from zero),
+     * like {@code BigDecimal.divide(..., RoundingMode.HALF_UP)}.
+     *
+     * @throws ArithmeticException if the divisor is zero
+     */
+    public static long divideHalfUp(long dividend, long divisor) {
+        long quotient = dividend / divisor;
+        long remainder = Math.abs(dividend % divisor);
+
+        if (remainder == 0) {
+            return quotient;
+        }
+
+        // |remainder| >= |divisor| / 2, written without overflowing 2 * remainder
+        if (remainder >= Math.abs(divisor) - remainder) {
+            return (dividend < 0) == (divisor < 0) ? quotient + 1 : quotient - 1;
+        }
+
+        return quotient;
+    }
+
+    /**
+     * Weighted average in centi-points.
+     *
+     * @param weightedScoreSum Σ(scoreCenti × weightCenti), in 1/10000 points
+     * @param weightSum Σ(weightCenti)
+     * @return Average in centi-points, rounded HALF_UP
+     */
+    public static long weightedAverageCenti(long weightedScoreSum, long weightSum) {
+        return divideHalfUp(weightedScoreSum, weightSum);
+    }
+
+    /**
+     * Percentage in centi-points (part / total × 100), rounded HALF_UP.
+     */
+    public static long percentageCenti(long part, long total) {
+        return divideHalfUp(Math.multiplyExact(part, 10_000L), total);
+    }
+
+    /**
+     * Materializes the product of two centi-point values with the scale
+     * BigDecimal.multiply would produce for operands of the given scales.
+     *
+     * @return Product or null when the scales are outside 0..2
+     */
+    public static BigDecimal multiply(long leftCenti, int leftScale, long rightCenti, int rightScale) {
+        if (leftScale < 0 || leftScale > CENTI_SCALE || rightScale < 0 || rightScale > CENTI_SCALE) {
+            return null;
+        }
+
+        int scale = leftScale + rightScale;
+        long product = Math.multiplyExact(leftCenti, rightCenti);
+
+        // product is exact at scale 4, drop the zeros the operands did not have
+        return BigDecimal.valueOf(product / POWERS_OF_TEN[2 * CENTI_SCALE - scale], scale);
+    }
+}
@@ -1,10 +1,15 @@
 package com.binah.ace.student.domain.valueobject;
 
+import java.time.LocalDate;
+
 /**
  * Value Object representing an academic period.
  *
  * Combines year + semester + term segment (optional).
  *
+ * Bimesters are numbered through the year: semester 1 holds bimesters
+ * 1 and 2, semester 2 holds bimesters 3 and 4.
+ *
  * Immutable.
  *
  * @author Marcos Gustavo
@@ -36,6 +41,14 @@ public record AcademicPeriod(
                     "Bimester must be between 1 and 4, got: " + bimester
             );
         }
+
+        // Bimestre de outro semestre: datas e contains() se contradiriam
+        if (bimester != null && (bimester + 1) / 2 != semester) {
+            throw new IllegalArgumentException(
+                    "Bimester " + bimester + " is not in semester " + semester
+                            + " (semester 1 has bimesters 1-2, semester 2 has 3-4)"
+            );
+        }
     }
 
     /**
@@ -52,6 +65,31 @@ public record AcademicPeriod(
         return new AcademicPeriod(year, semester, bimester);
     }
 
+    /**
+     * Bimester containing the date (same calendar as startDate).
+     */
+    public static AcademicPeriod containing(LocalDate date) {
+        int month = date.getMonthValue();
+        return new AcademicPeriod(date.getYear(), month <= 6 ? 1 : 2, (month - 1) / 3 + 1);
+    }
+
+    /**
+     * The whole semester of this period.
+     */
+    public AcademicPeriod semesterPeriod() {
+        return bimester == null ? this : new AcademicPeriod(year, semester, null);
+    }
+
+    /**
+     * Checks whether another period falls within this one
+     * (a semester contains its bimesters).
+     */
+    public boolean contains(AcademicPeriod other) {
+        return year == other.year
+                && semester == other.semester
+                && (bimester == null || bimester.equals(other.bimester));
+    }
+
     /**
      * Indicates whether a bimester is defined.
      */
@@ -59,6 +97,28 @@ public record AcademicPeriod(
         return bimester != null;
     }
 
+    /**
+     * First day of the period.
+     *
+     * Calendar used: semester 1 = January to June, semester 2 = July to
+     * December; bimester N = quarter N of the year (1 = Jan-Mar ... 4 = Oct-Dec).
+     */
+    public LocalDate startDate() {
+        int firstMonth = bimester != null
+                ? (bimester - 1) * 3 + 1
+                : (semester - 1) * 6 + 1;
+        return LocalDate.of(year, firstMonth, 1);
+    }
+
+    /**
+     * Last day of the period (inclusive).
+     */
+    public LocalDate endDate() {
+        return startDate()
+                .plusMonths(bimester != null ? 3 : 6)
+                .minusDays(1);
+    }
+
     /**
      * Checks whether this period is before another.
      */
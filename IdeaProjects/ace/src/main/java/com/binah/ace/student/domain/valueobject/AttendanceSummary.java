@@ -0,0 +1,111 @@
+package com.binah.ace.student.domain.valueobject;
+
+import com.binah.ace.student.domain.service.ScoreArithmetic;
+
+import java.math.BigDecimal;
+import java.util.Collection;
+import java.util.UUID;
+
+/**
+ * Value Object representing a student's attendance in a period:
+ * how many classes were recorded, how many count as present
+ * (PRESENT or LATE) and how many were unexcused absences (ABSENT).
+ *
+ * classroomSubjectId is null when the summary covers every subject.
+ *
+ * Immutable.
+ *
+ * @author Marcos Gustavo
+ */
+public record AttendanceSummary(
+        UUID studentId,
+        UUID classroomSubjectId,
+        long totalClasses,
+        long attendedClasses,
+        long unexcusedAbsences
+) {
+
+    /**
+     * Minimum attendance percentage for approval.
+     */
+    public static final BigDecimal MINIMUM_PERCENTAGE = BigDecimal.valueOf(75);
+
+    private static final BigDecimal FULL_ATTENDANCE = ScoreArithmetic.fromCenti(10_000);
+
+    /**
+     * Compact constructor with validation.
+     */
+    public AttendanceSummary {
+        if (studentId == null) {
+            throw new IllegalArgumentException("Student ID cannot be null");
+        }
+
+        if (totalClasses < 0 || attendedClasses < 0 || unexcusedAbsences < 0) {
+            throw new IllegalArgumentException("Class counts cannot be negative");
+        }
+
+        if (attendedClasses > totalClasses) {
+            throw new IllegalArgumentException("Attended classes cannot exceed total classes");
+        }
+
+        if (unexcusedAbsences > totalClasses - attendedClasses) {
+            throw new IllegalArgumentException("Unexcused absences cannot exceed absences");
+        }
+    }
+
+    /**
+     * Summary without recorded classes.
+     */
+    public static AttendanceSummary empty(UUID studentId) {
+        return new AttendanceSummary(studentId, null, 0, 0, 0);
+    }
+
+    /**
+     * Adds up the summaries of a student's subjects.
+     */
+    public static AttendanceSummary total(UUID studentId, Collection<AttendanceSummary> subjects) {
+        long total = 0;
+        long attended = 0;
+        long unexcused = 0;
+        for (AttendanceSummary subject : subjects) {
+            total += subject.totalClasses();
+            attended += subject.attendedClasses();
+            unexcused += subject.unexcusedAbsences();
+        }
+        return new AttendanceSummary(studentId, null, total, attended, unexcused);
+    }
+
+    /**
+     * Classes missed, excused or not.
+     */
+    public long absences() {
+        return totalClasses - attendedClasses;
+    }
+
+    /**
+     * Attendance percentage with 2 decimals (HALF_UP).
+     *
+     * Without recorded classes there is no absence either: 100.00.
+     */
+    public BigDecimal percentage() {
+        return percentage(totalClasses, attendedClasses);
+    }
+
+    /**
+     * Attendance percentage of the given counts, by the same rule.
+     */
+    public static BigDecimal percentage(long totalClasses, long attendedClasses) {
+        if (totalClasses == 0) {
+            return FULL_ATTENDANCE;
+        }
+
+        return ScoreArithmetic.fromCenti(ScoreArithmetic.percentageCenti(attendedClasses, totalClasses));
+    }
+
+    /**
+     * Checks if the attendance is enough for approval (>= 75%).
+     */
+    public boolean isSufficient() {
+        return percentage().compareTo(MINIMUM_PERCENTAGE) >= 0;
+    }
+}
@@ -0,0 +1,82 @@
+package com.binah.ace.student.domain.valueobject;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Value Object representing the grades of a whole classroom subject
+ * in a period, for class dashboards.
+ *
+ * The class average is the mean of the students' weighted averages,
+ * so every student counts the same regardless of how many grades they have.
+ *
+ * Immutable.
+ *
+ * @author Marcos Gustavo
+ */
+public record ClassroomSubjectSummary(
+        UUID classroomSubjectId,
+        AcademicPeriod period,
+        GPA classAverage,
+        long gradeCount,
+        long passingGradeCount,
+        long failingGradeCount,
+        long approvedStudentCount,
+        long failedStudentCount,
+        List<StudentGradeSummary> students
+) {
+
+    /**
+     * Consolidates the per-student summaries of the class.
+     */
+    public static ClassroomSubjectSummary of(
+            UUID classroomSubjectId,
+            AcademicPeriod period,
+            List<StudentGradeSummary> students
+    ) {
+        BigDecimal averageSum = BigDecimal.ZERO;
+        long gradeCount = 0;
+        long passingGradeCount = 0;
+        long failingGradeCount = 0;
+        long approvedStudentCount = 0;
+        long failedStudentCount = 0;
+
+        for (StudentGradeSummary student : students) {
+            averageSum = averageSum.add(student.average().value());
+            gradeCount += student.gradeCount();
+            passingGradeCount += student.passingGradeCount();
+            failingGradeCount += student.failingGradeCount();
+
+            if (student.average().isApproved()) {
+                approvedStudentCount++;
+            } else if (student.average().isFailed()) {
+                failedStudentCount++;
+            }
+        }
+
+        GPA classAverage = students.isEmpty()
+                ? GPA.of(0.0)
+                : new GPA(averageSum.divide(BigDecimal.valueOf(students.size()), 2, RoundingMode.HALF_UP));
+
+        return new ClassroomSubjectSummary(
+                classroomSubjectId,
+                period,
+                classAverage,
+                gradeCount,
+                passingGradeCount,
+                failingGradeCount,
+                approvedStudentCount,
+                failedStudentCount,
+                List.copyOf(students)
+        );
+    }
+
+    /**
+     * Number of students with grades in the period.
+     */
+    public int studentCount() {
+        return students.size();
+    }
+}
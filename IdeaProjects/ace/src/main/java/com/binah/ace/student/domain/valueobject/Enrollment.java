@@ -11,7 +11,10 @@ import java.time.format.DateTimeFormatter;
  * The enrollment number is unique and generated in the format:
  * YYYYMMDD-XXX (year+month+day + sequential number)
  *
- * Example: 20260215-001
+ * The sequence has at least 3 digits and grows up to 6
+ * (up to 999999 enrollments per day).
+ *
+ * Example: 20260215-001, 20260215-1042
  *
  * Immutable.
  *
@@ -22,7 +25,13 @@ public record Enrollment(
         LocalDate enrollmentDate
 ) {
 
-    private static final String ENROLLMENT_PATTERN = "\\d{8}-\\d{3}";
+    /**
+     * Highest daily sequence number.
+     */
+    public static final int MAX_SEQUENCE = 999_999;
+
+    private static final String ENROLLMENT_PATTERN = "\\d{8}-\\d{3,6}";
+    private static final DateTimeFormatter DATE_PREFIX = DateTimeFormatter.ofPattern("yyyyMMdd");
 
     /**
      * Compact constructor with validation.
@@ -56,13 +65,28 @@ public record Enrollment(
      * @return Enrollment containing the generated number
      */
     public static Enrollment generate(int sequenceNumber) {
-        LocalDate today = LocalDate.now();
+        return generate(LocalDate.now(), sequenceNumber);
+    }
+
+    /**
+     * Generates the enrollment number of a given day.
+     *
+     * @param enrollmentDate Day the sequence belongs to
+     * @param sequenceNumber Daily sequential number (1 to MAX_SEQUENCE)
+     * @return Enrollment containing the generated number
+     */
+    public static Enrollment generate(LocalDate enrollmentDate, int sequenceNumber) {
+        if (sequenceNumber < 1 || sequenceNumber > MAX_SEQUENCE) {
+            throw new IllegalArgumentException(
+                    "Enrollment sequence must be between 1 and " + MAX_SEQUENCE + ", got: " + sequenceNumber
+            );
+        }
 
-        String datePrefix = today.format(DateTimeFormatter.ofPattern("yyyyMMdd"));
+        String datePrefix = enrollmentDate.format(DATE_PREFIX);
         String sequence = String.format("%03d", sequenceNumber);
         String enrollmentNumber = datePrefix + "-" + sequence;
 
-        return new Enrollment(enrollmentNumber, today);
+        return new Enrollment(enrollmentNumber, enrollmentDate);
     }
 
     /**
@@ -90,7 +114,7 @@ public record Enrollment(
      * Extracts the sequential part of the enrollment number.
      */
     public int getSequence() {
-        return Integer.parseInt(enrollmentNumber.substring(9, 12));
+        return Integer.parseInt(enrollmentNumber.substring(9));
     }
 
     /**
@@ -43,6 +43,23 @@ public record GPA(BigDecimal value) {
         return new GPA(BigDecimal.valueOf(value));
     }
 
+    /**
+     * Creates a GPA from the totals of a weighted average.
+     *
+     * Formula: Σ(grade × weight) / Σ(weight), rounded HALF_UP to 2 decimals.
+     * Returns 0.00 when there is no weight.
+     */
+    public static GPA weightedAverage(BigDecimal totalWeightedScore, BigDecimal totalWeight) {
+        if (totalWeight.compareTo(BigDecimal.ZERO) == 0) {
+            return GPA.of(0.0);
+        }
+
+        BigDecimal average = totalWeightedScore
+                .divide(totalWeight, 2, RoundingMode.HALF_UP);
+
+        return new GPA(average);
+    }
+
     /**
      * Indicates whether the student has passed (GPA >= 7.0).
      */
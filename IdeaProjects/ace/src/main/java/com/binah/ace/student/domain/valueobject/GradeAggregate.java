@@ -0,0 +1,57 @@
+package com.binah.ace.student.domain.valueobject;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+/**
+ * Value Object representing the running totals of a student's grades.
+ *
+ * Holds Σ(score × weight), Σ(weight) and the number of grades, so the
+ * GPA can be derived without loading the grades themselves.
+ *
+ * Immutable.
+ *
+ * @author Marcos Gustavo
+ */
+public record GradeAggregate(
+        UUID studentId,
+        BigDecimal weightedScoreSum,
+        BigDecimal weightSum,
+        long gradeCount
+) {
+
+    /**
+     * Compact constructor with validation.
+     */
+    public GradeAggregate {
+        if (studentId == null) {
+            throw new IllegalArgumentException("Student ID cannot be null");
+        }
+
+        weightedScoreSum = weightedScoreSum != null ? weightedScoreSum : BigDecimal.ZERO;
+        weightSum = weightSum != null ? weightSum : BigDecimal.ZERO;
+    }
+
+    /**
+     * Creates an aggregate without grades.
+     */
+    public static GradeAggregate empty(UUID studentId) {
+        return new GradeAggregate(studentId, BigDecimal.ZERO, BigDecimal.ZERO, 0);
+    }
+
+    /**
+     * Indicates whether no grades were aggregated.
+     */
+    public boolean isEmpty() {
+        return gradeCount == 0;
+    }
+
+    /**
+     * Derives the GPA from the totals.
+     *
+     * Formula: Σ(grade × weight) / Σ(weight)
+     */
+    public GPA toGPA() {
+        return GPA.weightedAverage(weightedScoreSum, weightSum);
+    }
+}
@@ -0,0 +1,99 @@
+package com.binah.ace.student.domain.valueobject;
+
+import com.binah.ace.student.domain.entity.Grade;
+import com.binah.ace.student.domain.service.ScoreArithmetic;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Value Object representing a student's report card for a period.
+ *
+ * Subject averages are calculated once, when the report card is built,
+ * so reading a stored report card does not recalculate them.
+ *
+ * Immutable.
+ *
+ * @author Marcos Gustavo
+ */
+public record ReportCard(
+        UUID studentId,
+        String studentName,
+        String enrollmentNumber,
+        AcademicPeriod period,
+        GPA gpa,
+        BigDecimal attendancePercentage,
+        boolean isApproved,
+        Map<UUID, List<Grade>> gradesBySubject,
+        Map<UUID, BigDecimal> subjectAverages
+) {
+
+    /**
+     * Creates a report card, calculating the average of each subject.
+     */
+    public static ReportCard of(
+            UUID studentId,
+            String studentName,
+            String enrollmentNumber,
+            AcademicPeriod period,
+            GPA gpa,
+            BigDecimal attendancePercentage,
+            boolean isApproved,
+            Map<UUID, List<Grade>> gradesBySubject
+    ) {
+        Map<UUID, BigDecimal> subjectAverages = new LinkedHashMap<>();
+        gradesBySubject.forEach((subjectId, grades) -> subjectAverages.put(subjectId, subjectAverage(grades)));
+
+        return new ReportCard(
+                studentId,
+                studentName,
+                enrollmentNumber,
+                period,
+                gpa,
+                attendancePercentage,
+                isApproved,
+                gradesBySubject,
+                subjectAverages
+        );
+    }
+
+    /**
+     * Simple average of the scores of a subject.
+     */
+    public static BigDecimal subjectAverage(List<Grade> grades) {
+        if (grades.isEmpty()) {
+            return BigDecimal.ZERO;
+        }
+
+        // Soma em centésimos (sem BigDecimal por nota)
+        long sum = 0;
+        for (Grade grade : grades) {
+            long score = grade.getScoreCenti();
+            if (score == ScoreArithmetic.NOT_REPRESENTABLE) {
+                return subjectAverageExact(grades);
+            }
+            sum += score;
+        }
+
+        return ScoreArithmetic.fromCenti(ScoreArithmetic.divideHalfUp(sum, grades.size()));
+    }
+
+    /**
+     * BigDecimal version of the subject average.
+     */
+    private static BigDecimal subjectAverageExact(List<Grade> grades) {
+        BigDecimal sum = grades.stream()
+                .map(Grade::getScore)
+                .reduce(BigDecimal.ZERO, BigDecimal::add);
+
+        return sum.divide(
+                BigDecimal.valueOf(grades.size()),
+                2,
+                RoundingMode.HALF_UP
+        );
+    }
+}
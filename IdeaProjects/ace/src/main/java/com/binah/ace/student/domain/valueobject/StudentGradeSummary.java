@@ -0,0 +1,33 @@
+package com.binah.ace.student.domain.valueobject;
+
+import java.util.UUID;
+
+/**
+ * Value Object representing a student's grades in one classroom subject
+ * and period: weighted average and how many grades are passing/failing.
+ *
+ * Immutable.
+ *
+ * @author Marcos Gustavo
+ */
+public record StudentGradeSummary(
+        UUID studentId,
+        GPA average,
+        long gradeCount,
+        long passingGradeCount,
+        long failingGradeCount
+) {
+
+    /**
+     * Compact constructor with validation.
+     */
+    public StudentGradeSummary {
+        if (studentId == null) {
+            throw new IllegalArgumentException("Student ID cannot be null");
+        }
+
+        if (average == null) {
+            throw new IllegalArgumentException("Average cannot be null");
+        }
+    }
+}
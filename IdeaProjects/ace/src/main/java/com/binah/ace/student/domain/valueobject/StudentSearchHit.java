@@ -0,0 +1,42 @@
+package com.binah.ace.student.domain.valueobject;
+
+import com.binah.ace.student.domain.entity.Student;
+
+import java.util.UUID;
+
+/**
+ * Value Object representing a search result: the student and its relevance.
+ *
+ * Results are ordered by score (highest first) and then by student ID,
+ * so (score, studentId) identifies the position of a hit in the result.
+ *
+ * Immutable.
+ *
+ * @author Marcos Gustavo
+ */
+public record StudentSearchHit(
+        Student student,
+        float score
+) {
+
+    /**
+     * Compact constructor with validation.
+     */
+    public StudentSearchHit {
+        if (student == null) {
+            throw new IllegalArgumentException("Student cannot be null");
+        }
+    }
+
+    /**
+     * Position of this hit in the result (to continue after it).
+     */
+    public Position position() {
+        return new Position(score, student.getId());
+    }
+
+    /**
+     * Position of a hit in a search result.
+     */
+    public record Position(float score, UUID studentId) {}
+}
@@ -5,6 +5,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Component;
 
+import java.util.List;
 import java.util.UUID;
 
 /**
@@ -38,6 +39,18 @@ public class AuditEventAdapter implements AuditPort {
         // TODO: Enviar para módulo Audit
     }
 
+    @Override
+    public void recordGradesPosted(List<GradePostedEntry> entries) {
+        log.info("📝 AUDIT: {} grades posted", entries.size());
+
+        for (GradePostedEntry entry : entries) {
+            log.debug("📝 AUDIT: Grade posted - ID: {}, Student: {}, Score: {}, By: {}",
+                    entry.gradeId(), entry.studentId(), entry.score(), entry.postedBy());
+        }
+
+        // TODO: Enviar para módulo Audit em lote
+    }
+
     @Override
     public void recordGradeUpdated(
             UUID gradeId,
@@ -2,32 +2,41 @@ package com.binah.ace.student.infrastructure.adapter;
 
 import com.binah.ace.shared.valueobject.Email;
 import com.binah.ace.student.domain.port.NotificationPort;
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
+import com.binah.ace.student.infrastructure.notification.EmailMessage;
+import com.binah.ace.student.infrastructure.notification.NotificationDispatcher;
 import org.springframework.stereotype.Component;
 
+import java.util.List;
+import java.util.stream.Collectors;
+
 /**
- * Módulo incompleto
- *
  * Adapter que implementa NotificationPort.
  *
- * Por enquanto apenas loga as notificações.
- * Futuramente: integrar com serviço de email real (SMTP, SendGrid, etc).
+ * Apenas monta os e-mails e os entrega ao NotificationDispatcher,
+ * que envia de forma assíncrona depois do commit. Nenhum método
+ * bloqueia a transação do caso de uso esperando o SMTP.
  *
  * @author Marcos Gustavo
  */
 @Component
 public class EmailNotificationAdapter implements NotificationPort {
 
-    private static final Logger log = LoggerFactory.getLogger(EmailNotificationAdapter.class);
+    private final NotificationDispatcher dispatcher;
+
+    public EmailNotificationAdapter(NotificationDispatcher dispatcher) {
+        this.dispatcher = dispatcher;
+    }
 
     @Override
     public void sendWelcomeEmail(Email studentEmail, String studentName, String enrollmentNumber) {
-        log.info("📧 Sending welcome email to {} ({}). Enrollment: {}",
-                studentName, studentEmail.value(), enrollmentNumber);
+        dispatcher.dispatch(welcomeMessage(new WelcomeNotification(studentEmail, studentName, enrollmentNumber)));
+    }
 
-        // TODO: Implementar envio real de email
-        // emailService.send(studentEmail, "Welcome to ACE", template);
+    @Override
+    public void sendWelcomeEmails(List<WelcomeNotification> notifications) {
+        dispatcher.dispatchAll(notifications.stream()
+                .map(this::welcomeMessage)
+                .collect(Collectors.toList()));
     }
 
     @Override
@@ -37,10 +46,14 @@ public class EmailNotificationAdapter implements NotificationPort {
             String subjectName,
             double score
     ) {
-        log.info("📧 Sending grade notification to {} ({}). Subject: {}, Score: {}",
-                studentName, studentEmail.value(), subjectName, score);
+        dispatcher.dispatch(gradeMessage(new GradeNotification(studentEmail, studentName, subjectName, score)));
+    }
 
-        // TODO: Implementar envio real
+    @Override
+    public void sendGradeNotifications(List<GradeNotification> notifications) {
+        dispatcher.dispatchAll(notifications.stream()
+                .map(this::gradeMessage)
+                .collect(Collectors.toList()));
     }
 
     @Override
@@ -50,10 +63,16 @@ public class EmailNotificationAdapter implements NotificationPort {
             String studentName,
             double attendancePercentage
     ) {
-        log.warn("⚠️ Sending low attendance warning for {} ({}) - Attendance: {}%",
-                studentName, studentEmail.value(), attendancePercentage);
+        String subject = "Low attendance warning";
+        String body = String.format(
+                "%s's attendance is %.1f%%, below the minimum required.",
+                studentName, attendancePercentage
+        );
 
-        // TODO: Implementar envio real para aluno e responsável
+        dispatcher.dispatchAll(List.of(
+                new EmailMessage(studentEmail.value(), subject, body),
+                new EmailMessage(guardianEmail.value(), subject, body)
+        ));
     }
 
     @Override
@@ -62,9 +81,31 @@ public class EmailNotificationAdapter implements NotificationPort {
             Email guardianEmail,
             String reportCardPdfUrl
     ) {
-        log.info("📧 Sending report card to {} and {}",
-                studentEmail.value(), guardianEmail.value());
+        String subject = "Report card available";
+        String body = "The report card is available at " + reportCardPdfUrl;
+
+        // TODO: Enviar o PDF como anexo
+        dispatcher.dispatchAll(List.of(
+                new EmailMessage(studentEmail.value(), subject, body),
+                new EmailMessage(guardianEmail.value(), subject, body)
+        ));
+    }
+
+    private EmailMessage welcomeMessage(WelcomeNotification notification) {
+        return new EmailMessage(
+                notification.studentEmail().value(),
+                "Welcome to ACE",
+                String.format("Hello %s,%n%nYour enrollment number is %s.",
+                        notification.studentName(), notification.enrollmentNumber())
+        );
+    }
 
-        // TODO: Implementar envio real com anexo PDF
+    private EmailMessage gradeMessage(GradeNotification notification) {
+        return new EmailMessage(
+                notification.studentEmail().value(),
+                "New grade posted: " + notification.subjectName(),
+                String.format("Hello %s,%n%nA new grade was posted in %s: %.2f.",
+                        notification.studentName(), notification.subjectName(), notification.score())
+        );
     }
-}
\ No newline at end of file
+}
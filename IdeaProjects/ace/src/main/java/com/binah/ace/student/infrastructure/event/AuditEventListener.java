@@ -0,0 +1,46 @@
+package com.binah.ace.student.infrastructure.event;
+
+import com.binah.ace.shared.events.DomainEventBatch;
+import com.binah.ace.student.domain.event.GradePostedEvent;
+import com.binah.ace.student.domain.event.StudentCreatedEvent;
+import com.binah.ace.student.domain.port.AuditPort;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Records the audit log of the events delivered by the outbox.
+ *
+ * @author Marcos Gustavo
+ */
+@Component
+public class AuditEventListener {
+
+    private final AuditPort auditPort;
+
+    public AuditEventListener(AuditPort auditPort) {
+        this.auditPort = auditPort;
+    }
+
+    @EventListener
+    public void onStudentsCreated(DomainEventBatch<StudentCreatedEvent> batch) {
+        for (StudentCreatedEvent event : batch.events()) {
+            auditPort.recordStudentCreated(event.getStudentId(), event.getCreatedBy(), event.getEnrollmentNumber());
+        }
+    }
+
+    @EventListener
+    public void onGradesPosted(DomainEventBatch<GradePostedEvent> batch) {
+        List<AuditPort.GradePostedEntry> entries = batch.events().stream()
+                .map(event -> new AuditPort.GradePostedEntry(
+                        event.getGradeId(),
+                        event.getStudentId(),
+                        event.getPostedBy(),
+                        event.getScore().doubleValue()
+                ))
+                .toList();
+
+        auditPort.recordGradesPosted(entries);
+    }
+}
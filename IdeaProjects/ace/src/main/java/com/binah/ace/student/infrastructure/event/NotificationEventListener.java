@@ -0,0 +1,53 @@
+package com.binah.ace.student.infrastructure.event;
+
+import com.binah.ace.shared.events.DomainEventBatch;
+import com.binah.ace.shared.valueobject.Email;
+import com.binah.ace.student.domain.event.GradePostedEvent;
+import com.binah.ace.student.domain.event.StudentCreatedEvent;
+import com.binah.ace.student.domain.port.NotificationPort;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Sends the e-mails of the events delivered by the outbox.
+ *
+ * @author Marcos Gustavo
+ */
+@Component
+public class NotificationEventListener {
+
+    private final NotificationPort notificationPort;
+
+    public NotificationEventListener(NotificationPort notificationPort) {
+        this.notificationPort = notificationPort;
+    }
+
+    @EventListener
+    public void onStudentsCreated(DomainEventBatch<StudentCreatedEvent> batch) {
+        List<NotificationPort.WelcomeNotification> notifications = batch.events().stream()
+                .map(event -> new NotificationPort.WelcomeNotification(
+                        new Email(event.getEmail()),
+                        event.getFullName(),
+                        event.getEnrollmentNumber()
+                ))
+                .toList();
+
+        notificationPort.sendWelcomeEmails(notifications);
+    }
+
+    @EventListener
+    public void onGradesPosted(DomainEventBatch<GradePostedEvent> batch) {
+        List<NotificationPort.GradeNotification> notifications = batch.events().stream()
+                .map(event -> new NotificationPort.GradeNotification(
+                        new Email(event.getStudentEmail()),
+                        event.getStudentName(),
+                        "Subject Name", // TODO: buscar nome da disciplina do módulo classroom
+                        event.getScore().doubleValue()
+                ))
+                .toList();
+
+        notificationPort.sendGradeNotifications(notifications);
+    }
+}
@@ -0,0 +1,58 @@
+package com.binah.ace.student.infrastructure.event;
+
+import com.binah.ace.shared.events.DomainEventBatch;
+import com.binah.ace.shared.events.broadcast.ClusterBroadcast;
+import com.binah.ace.student.domain.event.GradePostedEvent;
+import com.binah.ace.student.domain.event.ReportCardChangedEvent;
+import com.binah.ace.student.domain.valueobject.AcademicPeriod;
+import com.binah.ace.student.infrastructure.subscription.SubscriptionChannels;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Broadcasts the grade and report card changes delivered by the outbox to
+ * every node, where they feed the GraphQL subscriptions.
+ *
+ * Only IDs are sent, with NOTIFY in the relay transaction: nothing is read
+ * here, and the nodes receive the messages once the event is processed.
+ *
+ * @author Marcos Gustavo
+ */
+@Component
+public class SubscriptionEventListener {
+
+    private final ClusterBroadcast broadcast;
+
+    public SubscriptionEventListener(ClusterBroadcast broadcast) {
+        this.broadcast = broadcast;
+    }
+
+    @EventListener
+    public void onGradesPosted(DomainEventBatch<GradePostedEvent> batch) {
+        List<String> grades = batch.events().stream()
+                .map(event -> SubscriptionChannels.gradePosted(event.getGradeId(), event.getStudentId()))
+                .toList();
+        broadcast.send(SubscriptionChannels.GRADES_POSTED, grades);
+
+        // Uma nota lançada também muda o boletim
+        Set<String> reportCards = new LinkedHashSet<>();
+        for (GradePostedEvent event : batch.events()) {
+            AcademicPeriod period = new AcademicPeriod(event.getYear(), event.getSemester(), event.getBimester());
+            reportCards.add(SubscriptionChannels.reportCardChanged(event.getStudentId(), period));
+        }
+        broadcast.send(SubscriptionChannels.REPORT_CARDS_CHANGED, reportCards);
+    }
+
+    @EventListener
+    public void onReportCardsChanged(DomainEventBatch<ReportCardChangedEvent> batch) {
+        Set<String> reportCards = new LinkedHashSet<>();
+        for (ReportCardChangedEvent event : batch.events()) {
+            reportCards.add(SubscriptionChannels.reportCardChanged(event.getStudentId(), event.getPeriod()));
+        }
+        broadcast.send(SubscriptionChannels.REPORT_CARDS_CHANGED, reportCards);
+    }
+}
@@ -0,0 +1,24 @@
+package com.binah.ace.student.infrastructure.notification;
+
+import java.util.Locale;
+
+/**
+ * E-mail waiting to be delivered by the NotificationDispatcher.
+ *
+ * @author Marcos Gustavo
+ */
+public record EmailMessage(
+        String to,
+        String subject,
+        String body
+) {
+
+    /**
+     * Domain of the recipient ("escola.com.br" for "ana@escola.com.br").
+     * Messages to the same domain are delivered together.
+     */
+    public String recipientDomain() {
+        int at = to.lastIndexOf('@');
+        return at >= 0 ? to.substring(at + 1).toLowerCase(Locale.ROOT) : "";
+    }
+}
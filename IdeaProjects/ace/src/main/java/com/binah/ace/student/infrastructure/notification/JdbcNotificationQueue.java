@@ -0,0 +1,96 @@
+package com.binah.ace.student.infrastructure.notification;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * NotificationQueue on the notification_queue table.
+ *
+ * A claim is a single UPDATE ... RETURNING over the due rows, locked with
+ * FOR UPDATE SKIP LOCKED, that moves available_at to the end of the lease:
+ * several workers and nodes never claim the same row at the same time,
+ * and no transaction stays open while the e-mails are sent.
+ *
+ * @author Marcos Gustavo
+ */
+@Repository
+public class JdbcNotificationQueue implements NotificationQueue {
+
+    private static final String INSERT_SQL = "INSERT INTO notification_queue " +
+            "(recipient, subject, body, status, attempts, available_at, created_at) " +
+            "VALUES (?, ?, ?, 'PENDING', 0, now(), now())";
+
+    private static final String CLAIM_SQL = "UPDATE notification_queue " +
+            "SET attempts = attempts + 1, available_at = now() + make_interval(secs => ?) " +
+            "WHERE id IN (SELECT id FROM notification_queue " +
+            "WHERE status = 'PENDING' AND available_at <= now() " +
+            "ORDER BY id LIMIT ? FOR UPDATE SKIP LOCKED) " +
+            "RETURNING id, recipient, subject, body, attempts";
+
+    private static final String DELETE_SQL = "DELETE FROM notification_queue WHERE id = ?";
+
+    private static final String RETRY_SQL = "UPDATE notification_queue " +
+            "SET status = CASE WHEN attempts >= ? THEN 'FAILED' ELSE 'PENDING' END, " +
+            "available_at = now() + make_interval(secs => ? * attempts), last_error = ? " +
+            "WHERE id = ?";
+
+    private static final String PENDING_SQL = "SELECT count(*) FROM notification_queue WHERE status = 'PENDING'";
+
+    private static final String PENDING_UP_TO_SQL = "SELECT count(*) FROM (SELECT 1 FROM notification_queue " +
+            "WHERE status = 'PENDING' LIMIT ?) pending";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public JdbcNotificationQueue(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public void addAll(List<EmailMessage> messages) {
+        jdbcTemplate.batchUpdate(INSERT_SQL, messages, messages.size(), (ps, message) -> {
+            ps.setString(1, message.to());
+            ps.setString(2, message.subject());
+            ps.setString(3, message.body());
+        });
+    }
+
+    @Override
+    public List<QueuedEmail> claim(int limit, Duration lease) {
+        return jdbcTemplate.query(CLAIM_SQL, (rs, rowNum) -> new QueuedEmail(
+                rs.getLong("id"),
+                new EmailMessage(rs.getString("recipient"), rs.getString("subject"), rs.getString("body")),
+                rs.getInt("attempts")
+        ), lease.toMillis() / 1000.0, limit);
+    }
+
+    @Override
+    public void remove(List<QueuedEmail> emails) {
+        jdbcTemplate.batchUpdate(DELETE_SQL, emails, emails.size(),
+                (ps, email) -> ps.setLong(1, email.id()));
+    }
+
+    @Override
+    public void retry(List<QueuedEmail> emails, String error, Duration backoff, int maxAttempts) {
+        jdbcTemplate.batchUpdate(RETRY_SQL, emails, emails.size(), (ps, email) -> {
+            ps.setInt(1, maxAttempts);
+            ps.setDouble(2, backoff.toMillis() / 1000.0);
+            ps.setString(3, error);
+            ps.setLong(4, email.id());
+        });
+    }
+
+    @Override
+    public long pending() {
+        Long pending = jdbcTemplate.queryForObject(PENDING_SQL, Long.class);
+        return pending != null ? pending : 0L;
+    }
+
+    @Override
+    public long pending(long limit) {
+        Long pending = jdbcTemplate.queryForObject(PENDING_UP_TO_SQL, Long.class, limit);
+        return pending != null ? pending : 0L;
+    }
+}
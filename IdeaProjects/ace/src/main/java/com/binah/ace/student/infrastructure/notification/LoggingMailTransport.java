@@ -0,0 +1,24 @@
+package com.binah.ace.student.infrastructure.notification;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.List;
+
+/**
+ * MailTransport used when no SMTP server is configured (spring.mail.host):
+ * only logs the messages.
+ *
+ * @author Marcos Gustavo
+ */
+public class LoggingMailTransport implements MailTransport {
+
+    private static final Logger log = LoggerFactory.getLogger(LoggingMailTransport.class);
+
+    @Override
+    public void send(List<EmailMessage> messages) {
+        for (EmailMessage message : messages) {
+            log.info("📧 [no SMTP] To: {} - {}", message.to(), message.subject());
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package com.binah.ace.student.infrastructure.notification;
+
+import java.util.List;
+
+/**
+ * Delivers e-mails. Called from the dispatcher workers, never from a request thread.
+ *
+ * @author Marcos Gustavo
+ */
+public interface MailTransport {
+
+    /**
+     * Delivers a batch of messages, all to the same recipient domain.
+     *
+     * @throws PartialSendException if only part of the batch was delivered
+     * @throws RuntimeException if the batch could not be delivered
+     */
+    void send(List<EmailMessage> messages);
+}
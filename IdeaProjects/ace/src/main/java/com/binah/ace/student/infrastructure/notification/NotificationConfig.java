@@ -0,0 +1,38 @@
+package com.binah.ace.student.infrastructure.notification;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.mail.javamail.JavaMailSender;
+
+/**
+ * Notification configuration.
+ *
+ * Uses SMTP when spring.mail.host is set (Spring Boot then provides a
+ * JavaMailSender), otherwise only logs the e-mails.
+ *
+ * @author Marcos Gustavo
+ */
+@Configuration
+public class NotificationConfig {
+
+    private static final Logger log = LoggerFactory.getLogger(NotificationConfig.class);
+
+    @Bean
+    public MailTransport mailTransport(
+            ObjectProvider<JavaMailSender> mailSender,
+            @Value("${ace.notification.from:no-reply@ace.local}") String from
+    ) {
+        JavaMailSender sender = mailSender.getIfAvailable();
+
+        if (sender == null) {
+            log.warn("⚠️ spring.mail.host not set: e-mails will only be logged");
+            return new LoggingMailTransport();
+        }
+
+        return new SmtpMailTransport(sender, from);
+    }
+}
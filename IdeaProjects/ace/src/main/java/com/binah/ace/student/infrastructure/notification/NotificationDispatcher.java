@@ -0,0 +1,315 @@
+package com.binah.ace.student.infrastructure.notification;
+
+import com.binah.ace.student.infrastructure.notification.NotificationQueue.QueuedEmail;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Asynchronous e-mail pipeline behind NotificationPort.
+ *
+ * - Messages are written to the NotificationQueue in the caller's
+ *   transaction (the outbox relay's, when the e-mail comes from a domain
+ *   event), so the event is only marked processed together with its e-mails
+ *   and nothing is queued for rolled back data
+ * - Bounded queue: once queue-capacity e-mails are waiting, dispatchAll
+ *   throws NotificationQueueFullException (ace.notification.rejected);
+ *   the outbox then delivers the event again after its backoff, so a slow
+ *   or unreachable SMTP server holds events back instead of growing the
+ *   table without limit
+ * - Worker threads claim due messages in batches, one send per recipient
+ *   domain, and remove them only after the send succeeded; a failed send is
+ *   retried after retry-backoff × attempts and kept as FAILED after
+ *   max-attempts, a claim lost with the node is retried once its lease expires
+ * - When the server refuses only part of a batch, only the refused messages
+ *   are retried; the delivered ones are removed
+ * - Workers are woken after commit and otherwise poll every poll-interval
+ * - On shutdown the due messages are sent for up to shutdown-timeout; the
+ *   rest stays in the queue for the next start
+ *
+ * Metrics: ace.notification.queue.size, .enqueued, .sent, .failed, .rejected
+ * and the ace.notification.batch timer.
+ *
+ * @author Marcos Gustavo
+ */
+@Component
+public class NotificationDispatcher implements SmartLifecycle {
+
+    private static final Logger log = LoggerFactory.getLogger(NotificationDispatcher.class);
+
+    // Para depois do servidor web (que fica em DEFAULT_PHASE - 2048), quando não chegam mais requisições
+    private static final int PHASE = SmartLifecycle.DEFAULT_PHASE - 4096;
+
+    private final MailTransport transport;
+    private final NotificationQueue queue;
+    private final long queueCapacity;
+    private final int workerCount;
+    private final int batchSize;
+    private final Duration pollInterval;
+    private final Duration lease;
+    private final Duration retryBackoff;
+    private final int maxAttempts;
+    private final Duration shutdownTimeout;
+
+    private final Counter enqueued;
+    private final Counter sent;
+    private final Counter failed;
+    private final Counter rejected;
+    private final Timer batchTimer;
+
+    // Acorda os workers quando uma transação com e-mails faz commit
+    private final Semaphore wakeUp = new Semaphore(0);
+
+    private volatile boolean running;
+    private ExecutorService workers;
+
+    public NotificationDispatcher(
+            MailTransport transport,
+            NotificationQueue queue,
+            MeterRegistry meterRegistry,
+            @Value("${ace.notification.queue-capacity:10000}") long queueCapacity,
+            @Value("${ace.notification.workers:2}") int workerCount,
+            @Value("${ace.notification.batch-size:50}") int batchSize,
+            @Value("${ace.notification.poll-interval:1s}") Duration pollInterval,
+            @Value("${ace.notification.lease:5m}") Duration lease,
+            @Value("${ace.notification.retry-backoff:1m}") Duration retryBackoff,
+            @Value("${ace.notification.max-attempts:10}") int maxAttempts,
+            @Value("${ace.notification.shutdown-timeout:10s}") Duration shutdownTimeout
+    ) {
+        requirePositive("ace.notification.queue-capacity", queueCapacity);
+        requirePositive("ace.notification.workers", workerCount);
+        requirePositive("ace.notification.batch-size", batchSize);
+        requirePositive("ace.notification.max-attempts", maxAttempts);
+        requirePositive("ace.notification.poll-interval", pollInterval);
+        requirePositive("ace.notification.lease", lease);
+        requirePositive("ace.notification.retry-backoff", retryBackoff);
+
+        this.transport = transport;
+        this.queue = queue;
+        this.queueCapacity = queueCapacity;
+        this.workerCount = workerCount;
+        this.batchSize = batchSize;
+        this.pollInterval = pollInterval;
+        this.lease = lease;
+        this.retryBackoff = retryBackoff;
+        this.maxAttempts = maxAttempts;
+        this.shutdownTimeout = shutdownTimeout;
+
+        Gauge.builder("ace.notification.queue.size", queue, NotificationQueue::pending)
+                .description("E-mails waiting to be sent")
+                .register(meterRegistry);
+        this.enqueued = meterRegistry.counter("ace.notification.enqueued");
+        this.sent = meterRegistry.counter("ace.notification.sent");
+        this.failed = meterRegistry.counter("ace.notification.failed");
+        this.rejected = meterRegistry.counter("ace.notification.rejected");
+        this.batchTimer = meterRegistry.timer("ace.notification.batch");
+    }
+
+    /**
+     * Queues a message in the current transaction.
+     */
+    public void dispatch(EmailMessage message) {
+        dispatchAll(List.of(message));
+    }
+
+    /**
+     * Queues several messages in the current transaction; the workers pick
+     * them up once it commits. Without a transaction, they are queued and
+     * picked up right away.
+     *
+     * @throws NotificationQueueFullException if queue-capacity e-mails are already waiting
+     */
+    public void dispatchAll(List<EmailMessage> messages) {
+        if (messages.isEmpty()) {
+            return;
+        }
+
+        if (queue.pending(queueCapacity) >= queueCapacity) {
+            rejected.increment(messages.size());
+            log.warn("⚠️ Notification queue full, refusing {} e-mails for now", messages.size());
+            throw new NotificationQueueFullException(queueCapacity);
+        }
+
+        queue.addAll(messages);
+        enqueued.increment(messages.size());
+
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            wakeUp.release();
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                wakeUp.release();
+            }
+        });
+    }
+
+    @Override
+    public void start() {
+        AtomicInteger sequence = new AtomicInteger();
+        workers = Executors.newFixedThreadPool(workerCount, runnable -> {
+            Thread thread = new Thread(runnable, "notification-worker-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        running = true;
+        for (int i = 0; i < workerCount; i++) {
+            workers.execute(this::work);
+        }
+
+        log.info("📧 Notification dispatcher started with {} workers", workerCount);
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        wakeUp.release(workerCount);
+        workers.shutdown();
+
+        try {
+            if (!workers.awaitTermination(shutdownTimeout.toMillis(), TimeUnit.MILLISECONDS)) {
+                log.warn("⚠️ Notification dispatcher stopped before sending every due e-mail; they stay queued");
+                workers.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            workers.shutdownNow();
+        }
+
+        log.info("📧 Notification dispatcher stopped");
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    @Override
+    public int getPhase() {
+        return PHASE;
+    }
+
+    /**
+     * Worker loop: after stop() keeps going until nothing is due.
+     */
+    private void work() {
+        while (running) {
+            try {
+                if (deliverNextBatch() == 0) {
+                    wakeUp.tryAcquire(pollInterval.toMillis(), TimeUnit.MILLISECONDS);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException e) {
+                // Banco indisponível: tenta de novo no próximo ciclo
+                log.error("❌ Failed to read the notification queue", e);
+                try {
+                    wakeUp.tryAcquire(pollInterval.toMillis(), TimeUnit.MILLISECONDS);
+                } catch (InterruptedException interrupted) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+
+        try {
+            while (!Thread.currentThread().isInterrupted() && deliverNextBatch() > 0) {
+                // drena o que estiver disponível antes de parar
+            }
+        } catch (RuntimeException e) {
+            log.error("❌ Failed to drain the notification queue", e);
+        }
+    }
+
+    /**
+     * Claims, sends and acknowledges one batch.
+     *
+     * @return Number of messages claimed
+     */
+    private int deliverNextBatch() {
+        List<QueuedEmail> batch = queue.claim(batchSize, lease);
+
+        Map<String, List<QueuedEmail>> byDomain = new LinkedHashMap<>();
+        for (QueuedEmail email : batch) {
+            byDomain.computeIfAbsent(email.message().recipientDomain(), domain -> new ArrayList<>()).add(email);
+        }
+
+        for (Map.Entry<String, List<QueuedEmail>> entry : byDomain.entrySet()) {
+            List<QueuedEmail> emails = entry.getValue();
+            List<EmailMessage> messages = emails.stream().map(QueuedEmail::message).toList();
+            List<QueuedEmail> refused;
+            String error;
+            try {
+                batchTimer.record(() -> transport.send(messages));
+                refused = List.of();
+                error = null;
+            } catch (PartialSendException e) {
+                refused = e.getFailedPositions().stream().sorted().map(emails::get).toList();
+                error = String.valueOf(e.getCause());
+                log.error("❌ {} of {} e-mails to {} were refused, will retry them",
+                        refused.size(), emails.size(), entry.getKey(), e);
+            } catch (RuntimeException e) {
+                refused = emails;
+                error = e.toString();
+                log.error("❌ Failed to send {} e-mails to {}, will retry", emails.size(), entry.getKey(), e);
+            }
+
+            acknowledge(emails, refused, error);
+        }
+
+        return batch.size();
+    }
+
+    /**
+     * Removes the delivered messages and schedules the refused ones for another attempt.
+     */
+    private void acknowledge(List<QueuedEmail> emails, List<QueuedEmail> refused, String error) {
+        if (!refused.isEmpty()) {
+            failed.increment(refused.size());
+            queue.retry(refused, error, retryBackoff, maxAttempts);
+        }
+
+        List<QueuedEmail> delivered = emails.stream()
+                .filter(email -> !refused.contains(email))
+                .toList();
+        if (!delivered.isEmpty()) {
+            queue.remove(delivered);
+            sent.increment(delivered.size());
+        }
+    }
+
+    private static void requirePositive(String property, long value) {
+        if (value < 1) {
+            throw new IllegalArgumentException(property + " must be at least 1: " + value);
+        }
+    }
+
+    private static void requirePositive(String property, Duration value) {
+        if (value.toMillis() <= 0) {
+            throw new IllegalArgumentException(property + " must be at least 1ms: " + value);
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package com.binah.ace.student.infrastructure.notification;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+/**
+ * JPA entity for the notification_queue table.
+ *
+ * Only mapped so the table is created with the schema; rows are written
+ * and read with SQL by JdbcNotificationQueue.
+ *
+ * @author Marcos Gustavo
+ */
+@Entity
+@Table(name = "notification_queue", indexes = {
+        @Index(name = "idx_notification_status_available", columnList = "status, available_at")
+})
+@Getter
+@Setter
+public class NotificationJpaEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false, length = 320)
+    private String recipient;
+
+    @Column(nullable = false, length = 500)
+    private String subject;
+
+    @Column(nullable = false, columnDefinition = "TEXT")
+    private String body;
+
+    // PENDING (a enviar ou em nova tentativa) ou FAILED (desistiu após max-attempts)
+    @Column(nullable = false, length = 20)
+    private String status;
+
+    @Column(nullable = false)
+    private Integer attempts;
+
+    @Column(name = "available_at", nullable = false)
+    private LocalDateTime availableAt;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "last_error", columnDefinition = "TEXT")
+    private String lastError;
+}
@@ -0,0 +1,56 @@
+package com.binah.ace.student.infrastructure.notification;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Durable queue of the e-mails waiting to be sent.
+ *
+ * A message leaves the queue only when its send succeeded: a claimed
+ * message that is neither removed nor rescheduled (the node crashed)
+ * can be claimed again once its lease expires.
+ *
+ * @author Marcos Gustavo
+ */
+public interface NotificationQueue {
+
+    /**
+     * Adds messages in the caller's transaction: they are only sent if it commits.
+     */
+    void addAll(List<EmailMessage> messages);
+
+    /**
+     * Claims up to limit messages that are due, for lease.
+     */
+    List<QueuedEmail> claim(int limit, Duration lease);
+
+    /**
+     * Removes messages that were sent.
+     */
+    void remove(List<QueuedEmail> emails);
+
+    /**
+     * Schedules a new attempt after backoff × attempts; gives up
+     * (keeps the message as FAILED) after maxAttempts.
+     */
+    void retry(List<QueuedEmail> emails, String error, Duration backoff, int maxAttempts);
+
+    /**
+     * Messages waiting to be sent (including the claimed ones).
+     */
+    long pending();
+
+    /**
+     * Same as pending(), but stops counting at limit.
+     */
+    long pending(long limit);
+
+    /**
+     * A claimed message.
+     *
+     * @param id Queue position
+     * @param message The e-mail
+     * @param attempts Claims so far, this one included
+     */
+    record QueuedEmail(long id, EmailMessage message, int attempts) {}
+}
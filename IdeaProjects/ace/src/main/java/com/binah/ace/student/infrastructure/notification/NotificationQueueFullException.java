@@ -0,0 +1,17 @@
+package com.binah.ace.student.infrastructure.notification;
+
+/**
+ * The notification queue holds ace.notification.queue-capacity e-mails
+ * waiting to be sent and takes no more for now.
+ *
+ * Thrown in the caller's transaction: when the e-mails come from a domain
+ * event, the outbox delivers the event again later instead of losing them.
+ *
+ * @author Marcos Gustavo
+ */
+public class NotificationQueueFullException extends RuntimeException {
+
+    public NotificationQueueFullException(long capacity) {
+        super("Notification queue is full (" + capacity + " e-mails waiting)");
+    }
+}
@@ -0,0 +1,28 @@
+package com.binah.ace.student.infrastructure.notification;
+
+import java.util.Set;
+
+/**
+ * Some messages of a batch were delivered, others were not.
+ *
+ * Lets the dispatcher retry only the failed messages: retrying the whole
+ * batch would send the delivered ones again.
+ *
+ * @author Marcos Gustavo
+ */
+public class PartialSendException extends RuntimeException {
+
+    private final Set<Integer> failedPositions;
+
+    /**
+     * @param failedPositions Positions, in the batch, of the messages that were not delivered
+     */
+    public PartialSendException(Set<Integer> failedPositions, Throwable cause) {
+        super(failedPositions.size() + " e-mails of the batch were not delivered", cause);
+        this.failedPositions = Set.copyOf(failedPositions);
+    }
+
+    public Set<Integer> getFailedPositions() {
+        return failedPositions;
+    }
+}
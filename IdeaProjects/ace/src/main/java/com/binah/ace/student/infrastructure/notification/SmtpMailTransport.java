@@ -0,0 +1,73 @@
+package com.binah.ace.student.infrastructure.notification;
+
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.SimpleMailMessage;
+import org.springframework.mail.javamail.JavaMailSender;
+
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * MailTransport over SMTP.
+ *
+ * The whole batch is sent through a single SMTP connection. When the
+ * server refuses some of the messages, the failure names the ones that
+ * were not delivered (PartialSendException).
+ *
+ * @author Marcos Gustavo
+ */
+public class SmtpMailTransport implements MailTransport {
+
+    private final JavaMailSender mailSender;
+    private final String from;
+
+    public SmtpMailTransport(JavaMailSender mailSender, String from) {
+        this.mailSender = mailSender;
+        this.from = from;
+    }
+
+    @Override
+    public void send(List<EmailMessage> messages) {
+        SimpleMailMessage[] mails = messages.stream()
+                .map(this::toMail)
+                .toArray(SimpleMailMessage[]::new);
+
+        try {
+            mailSender.send(mails);
+        } catch (MailSendException e) {
+            throw partialFailure(mails, e);
+        }
+    }
+
+    // As chaves de getFailedMessages são as próprias mensagens enviadas
+    private RuntimeException partialFailure(SimpleMailMessage[] mails, MailSendException e) {
+        Set<Object> failedMails = Collections.newSetFromMap(new IdentityHashMap<>());
+        failedMails.addAll(e.getFailedMessages().keySet());
+
+        Set<Integer> failed = new LinkedHashSet<>();
+        for (int i = 0; i < mails.length; i++) {
+            if (failedMails.contains(mails[i])) {
+                failed.add(i);
+            }
+        }
+
+        // Sem detalhe por mensagem (ex.: falha ao conectar): o lote todo falhou
+        if (failed.isEmpty() || failed.size() == mails.length) {
+            return e;
+        }
+
+        return new PartialSendException(failed, e);
+    }
+
+    private SimpleMailMessage toMail(EmailMessage message) {
+        SimpleMailMessage mail = new SimpleMailMessage();
+        mail.setFrom(from);
+        mail.setTo(message.to());
+        mail.setSubject(message.subject());
+        mail.setText(message.body());
+        return mail;
+    }
+}
@@ -0,0 +1,130 @@
+package com.binah.ace.student.infrastructure.persistence;
+
+import com.binah.ace.student.domain.entity.AcademicHistory;
+import com.binah.ace.student.domain.repository.AcademicHistoryRepository;
+import com.binah.ace.student.domain.valueobject.AcademicPeriod;
+import com.binah.ace.student.infrastructure.persistence.jpa.AcademicHistoryJpaEntity;
+import com.binah.ace.student.infrastructure.persistence.jpa.AcademicHistoryJpaRepository;
+import com.binah.ace.student.infrastructure.persistence.mapper.AcademicHistoryMapper;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * Implementation of AcademicHistoryRepository using JPA.
+ *
+ * replaceAll deletes the previous histories of the students and inserts
+ * the new ones in JDBC batches: a chunk of students costs two statements
+ * per batch instead of a select and an insert per student.
+ *
+ * @author Marcos Gustavo
+ */
+@Repository
+public class AcademicHistoryRepositoryImpl implements AcademicHistoryRepository {
+
+    // bimester is NULL for whole semesters, which the unique key would not match
+    private static final String DELETE_SQL = "DELETE FROM academic_history " +
+            "WHERE student_id = ANY(CAST(? AS uuid[])) AND year = ? AND semester = ? " +
+            "AND bimester IS NOT DISTINCT FROM ?";
+
+    private static final String INSERT_SQL = "INSERT INTO academic_history " +
+            "(id, student_id, year, semester, bimester, gpa, attendance_percentage, total_classes, " +
+            "attended_classes, total_credits, approved_credits, is_approved, remarks, created_at, updated_at) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private static final int BATCH_SIZE = 500;
+
+    // Rows are always written in this order, so overlapping chunks cannot deadlock
+    private static final Comparator<AcademicHistory> KEY_ORDER = Comparator.comparing(AcademicHistory::getStudentId);
+
+    private final AcademicHistoryJpaRepository jpaRepository;
+    private final AcademicHistoryMapper mapper;
+    private final JdbcTemplate jdbcTemplate;
+
+    public AcademicHistoryRepositoryImpl(
+            AcademicHistoryJpaRepository jpaRepository,
+            AcademicHistoryMapper mapper,
+            JdbcTemplate jdbcTemplate
+    ) {
+        this.jpaRepository = jpaRepository;
+        this.mapper = mapper;
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public void replaceAll(AcademicPeriod period, Collection<AcademicHistory> histories) {
+        if (histories.isEmpty()) {
+            return;
+        }
+
+        List<AcademicHistory> rows = histories.stream()
+                .sorted(KEY_ORDER)
+                .collect(Collectors.toList());
+
+        UUID[] studentIds = rows.stream()
+                .map(AcademicHistory::getStudentId)
+                .toArray(UUID[]::new);
+
+        jdbcTemplate.update(connection -> {
+            var statement = connection.prepareStatement(DELETE_SQL);
+            statement.setArray(1, connection.createArrayOf("uuid", studentIds));
+            statement.setInt(2, period.year());
+            statement.setInt(3, period.semester());
+            statement.setObject(4, period.bimester(), Types.INTEGER);
+            return statement;
+        });
+
+        jdbcTemplate.batchUpdate(INSERT_SQL, rows, BATCH_SIZE, (statement, history) -> {
+            statement.setObject(1, history.getId());
+            statement.setObject(2, history.getStudentId());
+            statement.setInt(3, period.year());
+            statement.setInt(4, period.semester());
+            statement.setObject(5, period.bimester(), Types.INTEGER);
+            statement.setBigDecimal(6, history.getGpa().value());
+            statement.setBigDecimal(7, history.getAttendancePercentage());
+            statement.setInt(8, history.getTotalClasses());
+            statement.setInt(9, history.getAttendedClasses());
+            statement.setInt(10, history.getTotalCredits());
+            statement.setInt(11, history.getApprovedCredits());
+            statement.setBoolean(12, history.isApproved());
+            statement.setString(13, history.getRemarks());
+            statement.setTimestamp(14, Timestamp.valueOf(history.getCreatedAt()));
+            statement.setTimestamp(15, Timestamp.valueOf(history.getUpdatedAt()));
+        });
+    }
+
+    @Override
+    public List<AcademicHistory> findByStudentIdsAndPeriod(Collection<UUID> studentIds, AcademicPeriod period) {
+        if (studentIds.isEmpty()) {
+            return List.of();
+        }
+
+        List<AcademicHistoryJpaEntity> entities = period.hasBimester()
+                ? jpaRepository.findByStudentIdInAndYearAndSemesterAndBimester(
+                        studentIds, period.year(), period.semester(), period.bimester())
+                : jpaRepository.findByStudentIdInAndYearAndSemesterAndBimesterIsNull(
+                        studentIds, period.year(), period.semester());
+
+        return entities.stream()
+                .map(mapper::toDomain)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public Set<UUID> findStudentIdsByPeriod(AcademicPeriod period) {
+        List<UUID> studentIds = period.hasBimester()
+                ? jpaRepository.findStudentIdsByPeriod(period.year(), period.semester(), period.bimester())
+                : jpaRepository.findStudentIdsBySemester(period.year(), period.semester());
+
+        return new HashSet<>(studentIds);
+    }
+}
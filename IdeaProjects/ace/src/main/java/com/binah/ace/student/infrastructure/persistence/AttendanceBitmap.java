@@ -0,0 +1,177 @@
+package com.binah.ace.student.infrastructure.persistence;
+
+import com.binah.ace.student.domain.enums.AttendanceStatus;
+import com.binah.ace.student.domain.valueobject.AcademicPeriod;
+import com.binah.ace.student.domain.valueobject.AttendanceSummary;
+import org.roaringbitmap.RoaringBitmap;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Predicate;
+
+/**
+ * Attendance of a student in a classroom subject during one semester,
+ * kept as one compressed bitmap (Roaring) of class days per status.
+ *
+ * Bit N set in the bitmap of a status means the student had that status
+ * on day N of the semester, counted from its first day
+ * (AcademicPeriod.startDate). A day is set in at most one bitmap, so
+ * every count is the cardinality of a bitmap over a range of days.
+ *
+ * @author Marcos Gustavo
+ */
+final class AttendanceBitmap {
+
+    // Rows are always locked in this order, so concurrent roll calls cannot deadlock
+    static final Comparator<AttendanceBitmap> KEY_ORDER = Comparator
+            .comparing(AttendanceBitmap::getStudentId)
+            .thenComparing(AttendanceBitmap::getClassroomSubjectId)
+            .thenComparingInt(AttendanceBitmap::getYear)
+            .thenComparingInt(AttendanceBitmap::getSemester);
+
+    private final UUID studentId;
+    private final UUID classroomSubjectId;
+    private final int year;
+    private final int semester;
+    private final Map<AttendanceStatus, RoaringBitmap> days = new EnumMap<>(AttendanceStatus.class);
+
+    AttendanceBitmap(UUID studentId, UUID classroomSubjectId, int year, int semester) {
+        this.studentId = studentId;
+        this.classroomSubjectId = classroomSubjectId;
+        this.year = year;
+        this.semester = semester;
+        for (AttendanceStatus status : AttendanceStatus.values()) {
+            days.put(status, new RoaringBitmap());
+        }
+    }
+
+    /**
+     * Empty bitmap of the semester that contains the class date.
+     */
+    static AttendanceBitmap of(UUID studentId, UUID classroomSubjectId, LocalDate classDate) {
+        return new AttendanceBitmap(studentId, classroomSubjectId, classDate.getYear(), semesterOf(classDate));
+    }
+
+    /**
+     * Semester of a date in the school calendar (1 = January to June, 2 = July to December).
+     */
+    static int semesterOf(LocalDate date) {
+        return date.getMonthValue() <= 6 ? 1 : 2;
+    }
+
+    /**
+     * Position of the date in its semester (0 = first day).
+     */
+    static int dayOf(LocalDate date) {
+        LocalDate semesterStart = AcademicPeriod.of(date.getYear(), semesterOf(date)).startDate();
+        return (int) ChronoUnit.DAYS.between(semesterStart, date);
+    }
+
+    /**
+     * Column that stores the bitmap of a status.
+     */
+    static String columnOf(AttendanceStatus status) {
+        return status.name().toLowerCase() + "_days";
+    }
+
+    /**
+     * Sets the status of the student on a day, replacing the previous one.
+     */
+    void record(LocalDate classDate, AttendanceStatus status) {
+        int day = dayOf(classDate);
+        days.values().forEach(bitmap -> bitmap.remove(day));
+        days.get(status).add(day);
+    }
+
+    /**
+     * Status of the student on a day, if the class was recorded.
+     */
+    Optional<AttendanceStatus> statusOn(LocalDate classDate) {
+        int day = dayOf(classDate);
+        return days.entrySet()
+                .stream()
+                .filter(entry -> entry.getValue().contains(day))
+                .map(Map.Entry::getKey)
+                .findFirst();
+    }
+
+    /**
+     * Counts of the classes between two dates (inclusive) of this semester.
+     */
+    AttendanceSummary summarize(LocalDate from, LocalDate to) {
+        long fromDay = dayOf(from);
+        long toDay = dayOf(to) + 1L;
+
+        return new AttendanceSummary(
+                studentId,
+                classroomSubjectId,
+                count(status -> true, fromDay, toDay),
+                count(AttendanceStatus::countsAsPresent, fromDay, toDay),
+                count(AttendanceStatus::isUnexcusedAbsence, fromDay, toDay)
+        );
+    }
+
+    private long count(Predicate<AttendanceStatus> statuses, long fromDay, long toDay) {
+        long count = 0;
+        for (Map.Entry<AttendanceStatus, RoaringBitmap> entry : days.entrySet()) {
+            if (statuses.test(entry.getKey())) {
+                count += entry.getValue().rangeCardinality(fromDay, toDay);
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Serialized bitmap of a status (null when no day has it).
+     */
+    byte[] serialize(AttendanceStatus status) {
+        RoaringBitmap bitmap = days.get(status);
+        if (bitmap.isEmpty()) {
+            return null;
+        }
+
+        bitmap.runOptimize();
+        ByteBuffer buffer = ByteBuffer.allocate(bitmap.serializedSizeInBytes());
+        bitmap.serialize(buffer);
+        return buffer.array();
+    }
+
+    /**
+     * Loads the stored bitmap of a status (null = no day).
+     */
+    void deserialize(AttendanceStatus status, byte[] bytes) {
+        RoaringBitmap bitmap = new RoaringBitmap();
+        if (bytes != null) {
+            try {
+                bitmap.deserialize(ByteBuffer.wrap(bytes));
+            } catch (IOException e) {
+                throw new UncheckedIOException("Corrupted attendance bitmap of student " + studentId, e);
+            }
+        }
+        days.put(status, bitmap);
+    }
+
+    UUID getStudentId() {
+        return studentId;
+    }
+
+    UUID getClassroomSubjectId() {
+        return classroomSubjectId;
+    }
+
+    int getYear() {
+        return year;
+    }
+
+    int getSemester() {
+        return semester;
+    }
+}
@@ -0,0 +1,132 @@
+package com.binah.ace.student.infrastructure.persistence;
+
+import com.binah.ace.student.domain.enums.AttendanceStatus;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationStartedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.PreparedStatement;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Rebuilds the attendance bitmaps from the attendance table on startup.
+ *
+ * Only runs with ace.attendance.storage=bitmap. It is driven by the
+ * "attendance_bitmaps" row of data_backfills, which AttendanceBitmapInvalidator
+ * deletes whenever the application starts with rows storage. So it runs on
+ * the first start after switching to bitmaps, including after a period
+ * back on rows, whose roll calls the bitmaps never saw. When the row
+ * exists, startup only reads it.
+ *
+ * The attendance table is complete in both storages, so the bitmaps are
+ * always rebuilt from scratch. Roll calls wait on the bitmaps table lock
+ * while that happens. The rows are streamed in key order and never held
+ * in memory.
+ *
+ * @author Marcos Gustavo
+ */
+@Component
+@ConditionalOnProperty(name = "ace.attendance.storage", havingValue = "bitmap")
+public class AttendanceBitmapInitializer {
+
+    private static final Logger log = LoggerFactory.getLogger(AttendanceBitmapInitializer.class);
+
+    static final String MARKER = "attendance_bitmaps";
+
+    private static final String DONE_SQL = "SELECT EXISTS (SELECT 1 FROM data_backfills WHERE name = ?)";
+
+    private static final String CLAIM_SQL = "INSERT INTO data_backfills (name, completed_at) " +
+            "VALUES (?, now()) ON CONFLICT (name) DO NOTHING";
+
+    private static final String ROWS_SQL = "SELECT student_id, classroom_subject_id, class_date, status " +
+            "FROM attendance ORDER BY student_id, classroom_subject_id, class_date";
+
+    private static final int BATCH_SIZE = 1000;
+
+    private final BitmapAttendanceRepositoryImpl bitmapRepository;
+    private final JdbcTemplate jdbcTemplate;
+
+    public AttendanceBitmapInitializer(
+            BitmapAttendanceRepositoryImpl bitmapRepository,
+            JdbcTemplate jdbcTemplate
+    ) {
+        this.bitmapRepository = bitmapRepository;
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @EventListener(ApplicationStartedEvent.class)
+    @Transactional
+    public void backfill() {
+        // 1. Bitmaps up to date: nothing is locked or written
+        if (Boolean.TRUE.equals(jdbcTemplate.queryForObject(DONE_SQL, Boolean.class, MARKER))) {
+            return;
+        }
+
+        // 2. Claim the marker (0 rows: another node just rebuilt them) and block roll calls until commit
+        if (jdbcTemplate.update(CLAIM_SQL, MARKER) == 0) {
+            return;
+        }
+        jdbcTemplate.execute("LOCK TABLE attendance_bitmaps IN EXCLUSIVE MODE");
+        jdbcTemplate.update("DELETE FROM attendance_bitmaps");
+
+        List<AttendanceBitmap> batch = new ArrayList<>(BATCH_SIZE);
+        AttendanceBitmap[] current = new AttendanceBitmap[1];
+        long[] written = new long[1];
+
+        jdbcTemplate.query(
+                connection -> {
+                    PreparedStatement statement = connection.prepareStatement(ROWS_SQL);
+                    statement.setFetchSize(BATCH_SIZE);
+                    return statement;
+                },
+                rs -> {
+                    UUID studentId = rs.getObject("student_id", UUID.class);
+                    UUID classroomSubjectId = rs.getObject("classroom_subject_id", UUID.class);
+                    LocalDate classDate = rs.getObject("class_date", LocalDate.class);
+
+                    AttendanceBitmap bitmap = current[0];
+                    if (bitmap == null
+                            || !bitmap.getStudentId().equals(studentId)
+                            || !bitmap.getClassroomSubjectId().equals(classroomSubjectId)
+                            || bitmap.getYear() != classDate.getYear()
+                            || bitmap.getSemester() != AttendanceBitmap.semesterOf(classDate)) {
+                        if (bitmap != null) {
+                            batch.add(bitmap);
+                            written[0] += flushIfFull(batch);
+                        }
+                        bitmap = AttendanceBitmap.of(studentId, classroomSubjectId, classDate);
+                        current[0] = bitmap;
+                    }
+
+                    bitmap.record(classDate, AttendanceStatus.valueOf(rs.getString("status")));
+                }
+        );
+
+        if (current[0] != null) {
+            batch.add(current[0]);
+        }
+        bitmapRepository.insertAll(batch);
+        written[0] += batch.size();
+
+        log.info("📅 Attendance bitmaps rebuilt from attendance records: {} student subjects", written[0]);
+    }
+
+    private int flushIfFull(List<AttendanceBitmap> batch) {
+        if (batch.size() < BATCH_SIZE) {
+            return 0;
+        }
+
+        int size = batch.size();
+        bitmapRepository.insertAll(batch);
+        batch.clear();
+        return size;
+    }
+}
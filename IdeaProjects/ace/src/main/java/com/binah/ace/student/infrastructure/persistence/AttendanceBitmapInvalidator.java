@@ -0,0 +1,40 @@
+package com.binah.ace.student.infrastructure.persistence;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationStartedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * Marks the attendance bitmaps as stale when running with rows storage.
+ *
+ * Roll calls recorded with ace.attendance.storage=rows only reach the
+ * attendance table. Deleting the marker makes AttendanceBitmapInitializer
+ * rebuild the bitmaps on the next start with bitmap storage.
+ *
+ * @author Marcos Gustavo
+ */
+@Component
+@ConditionalOnProperty(name = "ace.attendance.storage", havingValue = "rows", matchIfMissing = true)
+public class AttendanceBitmapInvalidator {
+
+    private static final Logger log = LoggerFactory.getLogger(AttendanceBitmapInvalidator.class);
+
+    private static final String INVALIDATE_SQL = "DELETE FROM data_backfills WHERE name = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public AttendanceBitmapInvalidator(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @EventListener(ApplicationStartedEvent.class)
+    public void invalidate() {
+        if (jdbcTemplate.update(INVALIDATE_SQL, AttendanceBitmapInitializer.MARKER) > 0) {
+            log.info("📅 Attendance bitmaps marked stale: they will be rebuilt when bitmap storage is enabled again");
+        }
+    }
+}
@@ -0,0 +1,170 @@
+package com.binah.ace.student.infrastructure.persistence;
+
+import com.binah.ace.student.domain.entity.Attendance;
+import com.binah.ace.student.domain.enums.AttendanceStatus;
+import com.binah.ace.student.domain.repository.AttendanceRepository;
+import com.binah.ace.student.domain.valueobject.AcademicPeriod;
+import com.binah.ace.student.domain.valueobject.AttendanceSummary;
+import com.binah.ace.student.infrastructure.persistence.jpa.AttendanceJpaRepository;
+import com.binah.ace.student.infrastructure.persistence.mapper.AttendanceMapper;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Connection;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * Implementation of AttendanceRepository using JPA.
+ *
+ * saveAll writes the whole roster with a single INSERT ... ON CONFLICT
+ * statement: the rows travel as arrays and are expanded with unnest,
+ * so a class of 40 students is one round trip instead of 40.
+ *
+ * @author Marcos Gustavo
+ */
+@Repository
+public class AttendanceRepositoryImpl implements AttendanceRepository {
+
+    // Resubmitting a roll call replaces the previous record of the student
+    private static final String UPSERT_SQL = "INSERT INTO attendance " +
+            "(id, student_id, classroom_subject_id, class_date, status, notes, recorded_by, created_at, updated_at) " +
+            "SELECT r.id, r.student_id, r.classroom_subject_id, r.class_date, r.status, r.notes, r.recorded_by, now(), now() " +
+            "FROM unnest(CAST(? AS uuid[]), CAST(? AS uuid[]), CAST(? AS uuid[]), CAST(? AS date[]), " +
+            "CAST(? AS varchar[]), CAST(? AS text[]), CAST(? AS uuid[])) " +
+            "AS r(id, student_id, classroom_subject_id, class_date, status, notes, recorded_by) " +
+            "ON CONFLICT (student_id, classroom_subject_id, class_date) DO UPDATE SET " +
+            "status = EXCLUDED.status, " +
+            "notes = EXCLUDED.notes, " +
+            "recorded_by = EXCLUDED.recorded_by, " +
+            "updated_at = EXCLUDED.updated_at " +
+            "RETURNING id, student_id, classroom_subject_id, class_date, status, notes, recorded_by, created_at, updated_at";
+
+    // Rows are always locked in this order, so concurrent submissions cannot deadlock
+    private static final Comparator<Attendance> KEY_ORDER = Comparator
+            .comparing(Attendance::getClassroomSubjectId)
+            .thenComparing(Attendance::getClassDate)
+            .thenComparing(Attendance::getStudentId);
+
+    // Statuses counted as presence, as defined by AttendanceStatus.countsAsPresent
+    private static final List<AttendanceStatus> PRESENT_STATUSES = Arrays.stream(AttendanceStatus.values())
+            .filter(AttendanceStatus::countsAsPresent)
+            .toList();
+
+    // Statuses counted as unexcused absence, as defined by AttendanceStatus.isUnexcusedAbsence
+    private static final List<AttendanceStatus> UNEXCUSED_STATUSES = Arrays.stream(AttendanceStatus.values())
+            .filter(AttendanceStatus::isUnexcusedAbsence)
+            .toList();
+
+    private static final RowMapper<Attendance> ROW_MAPPER = (rs, rowNum) -> new Attendance(
+            rs.getObject("id", UUID.class),
+            rs.getObject("student_id", UUID.class),
+            rs.getObject("classroom_subject_id", UUID.class),
+            rs.getObject("class_date", LocalDate.class),
+            AttendanceStatus.valueOf(rs.getString("status")),
+            rs.getString("notes"),
+            rs.getObject("recorded_by", UUID.class),
+            rs.getTimestamp("created_at").toLocalDateTime(),
+            rs.getTimestamp("updated_at").toLocalDateTime()
+    );
+
+    private final AttendanceJpaRepository jpaRepository;
+    private final AttendanceMapper mapper;
+    private final JdbcTemplate jdbcTemplate;
+
+    public AttendanceRepositoryImpl(
+            AttendanceJpaRepository jpaRepository,
+            AttendanceMapper mapper,
+            JdbcTemplate jdbcTemplate
+    ) {
+        this.jpaRepository = jpaRepository;
+        this.mapper = mapper;
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public List<Attendance> saveAll(Collection<Attendance> attendances) {
+        if (attendances.isEmpty()) {
+            return List.of();
+        }
+
+        List<Attendance> rows = attendances.stream()
+                .sorted(KEY_ORDER)
+                .collect(Collectors.toList());
+
+        return jdbcTemplate.query(connection -> upsert(connection, rows), ROW_MAPPER);
+    }
+
+    @Override
+    public List<Attendance> findByClassroomSubjectAndDate(UUID classroomSubjectId, LocalDate classDate) {
+        return jpaRepository.findByClassroomSubjectIdAndClassDateOrderByStudentId(classroomSubjectId, classDate)
+                .stream()
+                .map(mapper::toDomain)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public List<AttendanceSummary> summarizeByStudentIds(Collection<UUID> studentIds, AcademicPeriod period) {
+        if (studentIds.isEmpty()) {
+            return List.of();
+        }
+
+        return jpaRepository.summarizeByStudentIds(
+                        studentIds,
+                        period.startDate(),
+                        period.endDate(),
+                        PRESENT_STATUSES,
+                        UNEXCUSED_STATUSES
+                )
+                .stream()
+                .map(row -> new AttendanceSummary(
+                        row.getStudentId(),
+                        row.getClassroomSubjectId(),
+                        row.getTotalClasses(),
+                        row.getAttendedClasses(),
+                        row.getUnexcusedAbsences()
+                ))
+                .collect(Collectors.toList());
+    }
+
+    private PreparedStatement upsert(Connection connection, List<Attendance> rows) throws SQLException {
+        int size = rows.size();
+        UUID[] ids = new UUID[size];
+        UUID[] studentIds = new UUID[size];
+        UUID[] classroomSubjectIds = new UUID[size];
+        Date[] classDates = new Date[size];
+        String[] statuses = new String[size];
+        String[] notes = new String[size];
+        UUID[] recordedBy = new UUID[size];
+
+        for (int i = 0; i < size; i++) {
+            Attendance attendance = rows.get(i);
+            ids[i] = attendance.getId();
+            studentIds[i] = attendance.getStudentId();
+            classroomSubjectIds[i] = attendance.getClassroomSubjectId();
+            classDates[i] = Date.valueOf(attendance.getClassDate());
+            statuses[i] = attendance.getStatus().name();
+            notes[i] = attendance.getNotes();
+            recordedBy[i] = attendance.getRecordedBy();
+        }
+
+        PreparedStatement statement = connection.prepareStatement(UPSERT_SQL);
+        statement.setArray(1, connection.createArrayOf("uuid", ids));
+        statement.setArray(2, connection.createArrayOf("uuid", studentIds));
+        statement.setArray(3, connection.createArrayOf("uuid", classroomSubjectIds));
+        statement.setArray(4, connection.createArrayOf("date", classDates));
+        statement.setArray(5, connection.createArrayOf("varchar", statuses));
+        statement.setArray(6, connection.createArrayOf("text", notes));
+        statement.setArray(7, connection.createArrayOf("uuid", recordedBy));
+        return statement;
+    }
+}
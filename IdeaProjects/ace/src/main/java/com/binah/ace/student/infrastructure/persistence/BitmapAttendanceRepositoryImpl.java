@@ -0,0 +1,241 @@
+package com.binah.ace.student.infrastructure.persistence;
+
+import com.binah.ace.student.domain.entity.Attendance;
+import com.binah.ace.student.domain.enums.AttendanceStatus;
+import com.binah.ace.student.domain.repository.AttendanceRepository;
+import com.binah.ace.student.domain.valueobject.AcademicPeriod;
+import com.binah.ace.student.domain.valueobject.AttendanceSummary;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Implementation of AttendanceRepository over compressed bitmaps
+ * (enabled with ace.attendance.storage=bitmap).
+ *
+ * Each (student, classroom subject, semester) is a single row of
+ * attendance_bitmaps with one Roaring bitmap of class days per status,
+ * instead of one attendance row per student per class. Counts come from
+ * bitmap cardinality.
+ *
+ * Every record is still written to the attendance table, in the same
+ * transaction: it keeps notes, justifications and who recorded the roll
+ * call, and lets the storage be switched back to rows without losing
+ * history. The bitmaps only replace the row scans of the summaries.
+ *
+ * @author Marcos Gustavo
+ */
+@Primary
+@Repository
+@ConditionalOnProperty(name = "ace.attendance.storage", havingValue = "bitmap")
+public class BitmapAttendanceRepositoryImpl implements AttendanceRepository {
+
+    private static final List<AttendanceStatus> STATUSES = List.of(AttendanceStatus.values());
+
+    private static final String STATUS_COLUMNS = STATUSES.stream()
+            .map(AttendanceBitmap::columnOf)
+            .collect(Collectors.joining(", "));
+
+    private static final String KEYS = "unnest(CAST(? AS uuid[]), CAST(? AS uuid[]), CAST(? AS int[]), CAST(? AS int[])) " +
+            "AS k(student_id, classroom_subject_id, year, semester)";
+
+    // Missing rows are created empty, so every row of the roll call can be locked
+    private static final String CREATE_SQL = "INSERT INTO attendance_bitmaps " +
+            "(student_id, classroom_subject_id, year, semester, updated_at) " +
+            "SELECT k.student_id, k.classroom_subject_id, k.year, k.semester, now() FROM " + KEYS + " " +
+            "ON CONFLICT (student_id, classroom_subject_id, year, semester) DO NOTHING";
+
+    private static final String LOCK_SQL = "SELECT b.student_id, b.classroom_subject_id, b.year, b.semester, " +
+            prefixed("b.") + " FROM attendance_bitmaps b JOIN " + KEYS + " " +
+            "USING (student_id, classroom_subject_id, year, semester) " +
+            "ORDER BY b.student_id, b.classroom_subject_id, b.year, b.semester FOR UPDATE OF b";
+
+    private static final String UPDATE_SQL = "UPDATE attendance_bitmaps SET " +
+            STATUSES.stream().map(status -> AttendanceBitmap.columnOf(status) + " = ?").collect(Collectors.joining(", ")) +
+            ", updated_at = now() " +
+            "WHERE student_id = ? AND classroom_subject_id = ? AND year = ? AND semester = ?";
+
+    private static final String INSERT_SQL = "INSERT INTO attendance_bitmaps " +
+            "(" + STATUS_COLUMNS + ", updated_at, student_id, classroom_subject_id, year, semester) " +
+            "VALUES (" + "?, ".repeat(STATUSES.size()) + "now(), ?, ?, ?, ?)";
+
+    private static final String FIND_BY_SUBJECT_SQL = "SELECT student_id, classroom_subject_id, year, semester, " +
+            STATUS_COLUMNS + " FROM attendance_bitmaps " +
+            "WHERE classroom_subject_id = ? AND year = ? AND semester = ?";
+
+    private static final String FIND_BY_STUDENTS_SQL = "SELECT student_id, classroom_subject_id, year, semester, " +
+            STATUS_COLUMNS + " FROM attendance_bitmaps " +
+            "WHERE student_id = ANY(CAST(? AS uuid[])) AND year = ? AND semester = ?";
+
+    private static final RowMapper<AttendanceBitmap> ROW_MAPPER = (rs, rowNum) -> {
+        AttendanceBitmap bitmap = new AttendanceBitmap(
+                rs.getObject("student_id", UUID.class),
+                rs.getObject("classroom_subject_id", UUID.class),
+                rs.getInt("year"),
+                rs.getInt("semester")
+        );
+        for (AttendanceStatus status : STATUSES) {
+            bitmap.deserialize(status, rs.getBytes(AttendanceBitmap.columnOf(status)));
+        }
+        return bitmap;
+    };
+
+    private final AttendanceRepositoryImpl rowRepository;
+    private final JdbcTemplate jdbcTemplate;
+
+    public BitmapAttendanceRepositoryImpl(
+            AttendanceRepositoryImpl rowRepository,
+            JdbcTemplate jdbcTemplate
+    ) {
+        this.rowRepository = rowRepository;
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public List<Attendance> saveAll(Collection<Attendance> attendances) {
+        if (attendances.isEmpty()) {
+            return List.of();
+        }
+
+        // 1. Lock (creating when missing) the bitmaps of every student, subject and semester
+        List<AttendanceBitmap> keys = attendances.stream()
+                .map(attendance -> AttendanceBitmap.of(
+                        attendance.getStudentId(),
+                        attendance.getClassroomSubjectId(),
+                        attendance.getClassDate()
+                ))
+                .collect(Collectors.toMap(BitmapAttendanceRepositoryImpl::keyOf, Function.identity(),
+                        (first, second) -> first))
+                .values()
+                .stream()
+                .sorted(AttendanceBitmap.KEY_ORDER)
+                .collect(Collectors.toList());
+
+        jdbcTemplate.update(connection -> withKeys(connection, CREATE_SQL, keys));
+        Map<String, AttendanceBitmap> bitmaps = jdbcTemplate
+                .query(connection -> withKeys(connection, LOCK_SQL, keys), ROW_MAPPER)
+                .stream()
+                .collect(Collectors.toMap(BitmapAttendanceRepositoryImpl::keyOf, Function.identity(),
+                        (first, second) -> first, LinkedHashMap::new));
+
+        // 2. Set the day of each student
+        for (Attendance attendance : attendances) {
+            bitmaps.get(keyOf(attendance)).record(attendance.getClassDate(), attendance.getStatus());
+        }
+
+        jdbcTemplate.batchUpdate(UPDATE_SQL, bitmaps.values(), bitmaps.size(), (statement, bitmap) -> {
+            int index = setStatusColumns(statement, bitmap);
+            setKey(statement, index, bitmap);
+        });
+
+        // 3. Every record is kept in the attendance table too
+        return rowRepository.saveAll(attendances);
+    }
+
+    @Override
+    public List<Attendance> findByClassroomSubjectAndDate(UUID classroomSubjectId, LocalDate classDate) {
+        return rowRepository.findByClassroomSubjectAndDate(classroomSubjectId, classDate);
+    }
+
+    @Override
+    public List<AttendanceSummary> summarizeByStudentIds(Collection<UUID> studentIds, AcademicPeriod period) {
+        if (studentIds.isEmpty()) {
+            return List.of();
+        }
+
+        // Every period (semester or bimester) lies inside a single semester bitmap
+        LocalDate from = period.startDate();
+        LocalDate to = period.endDate();
+
+        return jdbcTemplate.query(
+                        connection -> {
+                            PreparedStatement statement = connection.prepareStatement(FIND_BY_STUDENTS_SQL);
+                            statement.setArray(1, connection.createArrayOf("uuid", studentIds.toArray(UUID[]::new)));
+                            statement.setInt(2, from.getYear());
+                            statement.setInt(3, AttendanceBitmap.semesterOf(from));
+                            return statement;
+                        },
+                        ROW_MAPPER
+                )
+                .stream()
+                .map(bitmap -> bitmap.summarize(from, to))
+                .filter(summary -> summary.totalClasses() > 0)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Writes bitmaps built elsewhere (backfill from the attendance table).
+     */
+    void insertAll(List<AttendanceBitmap> bitmaps) {
+        if (bitmaps.isEmpty()) {
+            return;
+        }
+
+        jdbcTemplate.batchUpdate(INSERT_SQL, bitmaps, bitmaps.size(), (statement, bitmap) -> {
+            int index = setStatusColumns(statement, bitmap);
+            setKey(statement, index, bitmap);
+        });
+    }
+
+    private int setStatusColumns(PreparedStatement statement, AttendanceBitmap bitmap) throws SQLException {
+        int index = 1;
+        for (AttendanceStatus status : STATUSES) {
+            statement.setBytes(index++, bitmap.serialize(status));
+        }
+        return index;
+    }
+
+    private void setKey(PreparedStatement statement, int index, AttendanceBitmap bitmap) throws SQLException {
+        statement.setObject(index, bitmap.getStudentId());
+        statement.setObject(index + 1, bitmap.getClassroomSubjectId());
+        statement.setInt(index + 2, bitmap.getYear());
+        statement.setInt(index + 3, bitmap.getSemester());
+    }
+
+    private PreparedStatement withKeys(Connection connection, String sql, List<AttendanceBitmap> keys)
+            throws SQLException {
+        PreparedStatement statement = connection.prepareStatement(sql);
+        statement.setArray(1, connection.createArrayOf("uuid",
+                keys.stream().map(AttendanceBitmap::getStudentId).toArray(UUID[]::new)));
+        statement.setArray(2, connection.createArrayOf("uuid",
+                keys.stream().map(AttendanceBitmap::getClassroomSubjectId).toArray(UUID[]::new)));
+        statement.setArray(3, connection.createArrayOf("int4",
+                keys.stream().map(AttendanceBitmap::getYear).toArray(Integer[]::new)));
+        statement.setArray(4, connection.createArrayOf("int4",
+                keys.stream().map(AttendanceBitmap::getSemester).toArray(Integer[]::new)));
+        return statement;
+    }
+
+    private static String keyOf(AttendanceBitmap bitmap) {
+        return bitmap.getStudentId() + "/" + bitmap.getClassroomSubjectId() + "/"
+                + bitmap.getYear() + "/" + bitmap.getSemester();
+    }
+
+    private static String keyOf(Attendance attendance) {
+        return keyOf(AttendanceBitmap.of(
+                attendance.getStudentId(),
+                attendance.getClassroomSubjectId(),
+                attendance.getClassDate()
+        ));
+    }
+
+    private static String prefixed(String alias) {
+        return STATUSES.stream()
+                .map(status -> alias + AttendanceBitmap.columnOf(status))
+                .collect(Collectors.joining(", "));
+    }
+}
@@ -0,0 +1,306 @@
+package com.binah.ace.student.infrastructure.persistence;
+
+import com.binah.ace.shared.valueobject.CPF;
+import com.binah.ace.shared.valueobject.Email;
+import com.binah.ace.student.domain.entity.Student;
+import com.binah.ace.student.domain.enums.StudentStatus;
+import com.binah.ace.student.domain.repository.StudentRepository;
+import com.binah.ace.student.domain.valueobject.Enrollment;
+import com.binah.ace.student.domain.valueobject.StudentSearchHit;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * StudentRepository with an in-process cache of students
+ * (enabled by default; ace.student-cache.enabled=false turns it off).
+ *
+ * Students are cached by ID, already mapped to the domain (CPF and
+ * emails are not validated again on a hit). CPF and enrollment number
+ * lookups go through small indexes to the ID.
+ *
+ * Every caller gets its own copy of the student, so changes made by a
+ * use case never reach the cache before they are saved.
+ *
+ * save/deleteById evict the student right away and again when the
+ * transaction ends (commit or rollback), so a student read inside the
+ * transaction is not kept. Other nodes evict it when the change is
+ * broadcast after commit (StudentCacheBroadcastListener).
+ *
+ * Hit/miss counts are published as the cache.* meters (cache=students, ...).
+ *
+ * @author Marcos Gustavo
+ */
+@Primary
+@Repository
+@ConditionalOnProperty(name = "ace.student-cache.enabled", havingValue = "true", matchIfMissing = true)
+public class CachedStudentRepositoryImpl implements StudentRepository {
+
+    private final StudentRepositoryImpl repository;
+    private final Cache<UUID, Student> studentsById;
+    private final Cache<String, UUID> idsByCpf;
+    private final Cache<String, UUID> idsByEnrollmentNumber;
+
+    public CachedStudentRepositoryImpl(
+            StudentRepositoryImpl repository,
+            MeterRegistry meterRegistry,
+            @Value("${ace.student-cache.maximum-size:10000}") long maximumSize,
+            @Value("${ace.student-cache.expire-after-write:5m}") Duration expireAfterWrite
+    ) {
+        this.repository = repository;
+        this.studentsById = newCache(maximumSize, expireAfterWrite);
+        this.idsByCpf = newCache(maximumSize, expireAfterWrite);
+        this.idsByEnrollmentNumber = newCache(maximumSize, expireAfterWrite);
+
+        CaffeineCacheMetrics.monitor(meterRegistry, studentsById, "students");
+        CaffeineCacheMetrics.monitor(meterRegistry, idsByCpf, "students-by-cpf");
+        CaffeineCacheMetrics.monitor(meterRegistry, idsByEnrollmentNumber, "students-by-enrollment");
+    }
+
+    @Override
+    public Optional<Student> findById(UUID id) {
+        Student cached = studentsById.get(id, key -> repository.findById(key).orElse(null));
+        return Optional.ofNullable(cached).map(CachedStudentRepositoryImpl::copyOf);
+    }
+
+    @Override
+    public List<Student> findAllById(Collection<UUID> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+
+        // Missing IDs are loaded with a single lookup
+        Map<UUID, Student> students = studentsById.getAll(Set.copyOf(ids), missing ->
+                repository.findAllById(Set.copyOf(missing))
+                        .stream()
+                        .collect(Collectors.toMap(Student::getId, Function.identity())));
+
+        return students.values()
+                .stream()
+                .map(CachedStudentRepositoryImpl::copyOf)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public Optional<Student> findByCPF(CPF cpf) {
+        UUID id = idsByCpf.getIfPresent(cpf.value());
+        if (id != null) {
+            Optional<Student> student = findById(id);
+            // O CPF pode ter mudado desde que o índice foi preenchido
+            if (student.isPresent() && student.get().getCpf().equals(cpf)) {
+                return student;
+            }
+            idsByCpf.invalidate(cpf.value());
+        }
+
+        return repository.findByCPF(cpf).map(this::remember);
+    }
+
+    @Override
+    public Optional<Student> findByEnrollmentNumber(Enrollment enrollment) {
+        String number = enrollment.enrollmentNumber();
+        UUID id = idsByEnrollmentNumber.getIfPresent(number);
+        if (id != null) {
+            Optional<Student> student = findById(id);
+            if (student.isPresent() && hasEnrollmentNumber(student.get(), number)) {
+                return student;
+            }
+            idsByEnrollmentNumber.invalidate(number);
+        }
+
+        return repository.findByEnrollmentNumber(enrollment).map(this::remember);
+    }
+
+    @Override
+    public List<Student> findByStatus(StudentStatus status) {
+        return repository.findByStatus(status);
+    }
+
+    @Override
+    public List<Student> findActiveStudents() {
+        return repository.findActiveStudents();
+    }
+
+    @Override
+    public List<Student> findActiveStudentsAfter(String afterFullName, UUID afterId, int limit) {
+        return repository.findActiveStudentsAfter(afterFullName, afterId, limit);
+    }
+
+    @Override
+    public List<UUID> findActiveStudentIds() {
+        return repository.findActiveStudentIds();
+    }
+
+    @Override
+    public boolean existsByCPF(CPF cpf) {
+        return repository.existsByCPF(cpf);
+    }
+
+    @Override
+    public Set<String> findExistingCPFs(Collection<CPF> cpfs) {
+        return repository.findExistingCPFs(cpfs);
+    }
+
+    @Override
+    public Set<String> findExistingEmails(Collection<Email> emails) {
+        return repository.findExistingEmails(emails);
+    }
+
+    @Override
+    public boolean existsByEnrollmentNumber(Enrollment enrollment) {
+        return repository.existsByEnrollmentNumber(enrollment);
+    }
+
+    @Override
+    public Student save(Student student) {
+        evictNowAndOnCompletion(student.getId(), student);
+        return repository.save(student);
+    }
+
+    @Override
+    public List<Student> insertAll(List<Student> students) {
+        // New students: nothing cached yet (missing lookups are not cached)
+        return repository.insertAll(students);
+    }
+
+    @Override
+    public void deleteById(UUID id) {
+        evictNowAndOnCompletion(id, null);
+        repository.deleteById(id);
+    }
+
+    @Override
+    public long countActiveStudents() {
+        return repository.countActiveStudents();
+    }
+
+    @Override
+    public List<Student> searchByName(String name) {
+        return repository.searchByName(name);
+    }
+
+    @Override
+    public List<Student> search(String term) {
+        return repository.search(term);
+    }
+
+    @Override
+    public List<StudentSearchHit> search(String term, StudentSearchHit.Position after, int limit) {
+        return repository.search(term, after, limit);
+    }
+
+    /**
+     * Caches a student found by CPF or enrollment number and returns a copy.
+     */
+    private Student remember(Student student) {
+        studentsById.put(student.getId(), student);
+        idsByCpf.put(student.getCpf().value(), student.getId());
+        if (student.getEnrollment() != null) {
+            idsByEnrollmentNumber.put(student.getEnrollment().enrollmentNumber(), student.getId());
+        }
+        return copyOf(student);
+    }
+
+    private void evictNowAndOnCompletion(UUID id, Student student) {
+        evict(id, student);
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    evict(id, student);
+                }
+            });
+        }
+    }
+
+    /**
+     * Evicts a student changed on another node, with its CPF and enrollment number entries.
+     */
+    void evict(UUID id) {
+        evict(id, null);
+    }
+
+    /**
+     * Empties the cache (changes of other nodes may have been missed).
+     */
+    void evictAll() {
+        studentsById.invalidateAll();
+        idsByCpf.invalidateAll();
+        idsByEnrollmentNumber.invalidateAll();
+    }
+
+    /**
+     * Evicts the student and the index entries of both the cached and the given version.
+     */
+    private void evict(UUID id, Student student) {
+        Student cached = studentsById.getIfPresent(id);
+        studentsById.invalidate(id);
+        forgetKeys(cached);
+        forgetKeys(student);
+    }
+
+    private void forgetKeys(Student student) {
+        if (student == null) {
+            return;
+        }
+        idsByCpf.invalidate(student.getCpf().value());
+        if (student.getEnrollment() != null) {
+            idsByEnrollmentNumber.invalidate(student.getEnrollment().enrollmentNumber());
+        }
+    }
+
+    private static boolean hasEnrollmentNumber(Student student, String number) {
+        return student.getEnrollment() != null
+                && Objects.equals(student.getEnrollment().enrollmentNumber(), number);
+    }
+
+    /**
+     * Copy sharing the value objects, which are immutable and already validated.
+     */
+    private static Student copyOf(Student student) {
+        return new Student(
+                student.getId(),
+                student.getFullName(),
+                student.getCpf(),
+                student.getEmail(),
+                student.getBirthDate(),
+                student.getPhone(),
+                student.getAddress(),
+                student.getEnrollment(),
+                student.getStatus(),
+                student.getEnrollmentDate(),
+                student.getGuardianName(),
+                student.getGuardianPhone(),
+                student.getGuardianEmail(),
+                student.getCreatedAt(),
+                student.getUpdatedAt()
+        );
+    }
+
+    private static <K, V> Cache<K, V> newCache(long maximumSize, Duration expireAfterWrite) {
+        return Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(expireAfterWrite)
+                .recordStats()
+                .build();
+    }
+}
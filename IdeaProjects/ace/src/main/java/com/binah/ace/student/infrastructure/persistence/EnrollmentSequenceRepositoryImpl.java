@@ -0,0 +1,71 @@
+package com.binah.ace.student.infrastructure.persistence;
+
+import com.binah.ace.student.domain.repository.EnrollmentSequenceRepository;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+
+/**
+ * Implementation of EnrollmentSequenceRepository using a counter row per day.
+ *
+ * Each allocation is a single-row UPDATE ... RETURNING, so its cost does not
+ * depend on how many students were enrolled that day. It runs on the
+ * caller's connection, in the caller's transaction: concurrent allocations
+ * serialize on the row lock until the holder ends its transaction, and a
+ * rollback undoes the allocation. No other connection is needed, so a
+ * full pool cannot leave the lock holder waiting for one. The allocator
+ * reserves whole blocks, so only one enrollment per block waits here.
+ *
+ * @author Marcos Gustavo
+ */
+@Repository
+public class EnrollmentSequenceRepositoryImpl implements EnrollmentSequenceRepository {
+
+    private static final String INCREMENT_SQL =
+            "UPDATE enrollment_sequences SET last_value = last_value + ? " +
+            "WHERE enrollment_date = ? RETURNING last_value";
+
+    // First allocation of the day: starts after the numbers already used,
+    // so days that began before the counter existed keep going from where they were
+    private static final String CREATE_SQL =
+            "INSERT INTO enrollment_sequences (enrollment_date, last_value) " +
+            "SELECT ?, COALESCE(MAX(CAST(SUBSTRING(enrollment_number FROM 10) AS BIGINT)), 0) + ? " +
+            "FROM students WHERE enrollment_number LIKE ? " +
+            "ON CONFLICT (enrollment_date) DO UPDATE " +
+            "SET last_value = enrollment_sequences.last_value + ? " +
+            "RETURNING last_value";
+
+    private static final DateTimeFormatter DATE_PREFIX = DateTimeFormatter.ofPattern("yyyyMMdd");
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public EnrollmentSequenceRepositoryImpl(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public long allocate(LocalDate enrollmentDate, int count) {
+        Date day = Date.valueOf(enrollmentDate);
+
+        List<Long> updated = jdbcTemplate.queryForList(INCREMENT_SQL, Long.class, count, day);
+        if (!updated.isEmpty()) {
+            return updated.get(0);
+        }
+
+        // ON CONFLICT covers two nodes creating the row at the same time
+        Long last = jdbcTemplate.queryForObject(
+                CREATE_SQL,
+                Long.class,
+                day,
+                count,
+                enrollmentDate.format(DATE_PREFIX) + "-%",
+                count
+        );
+
+        return last != null ? last : 0L;
+    }
+}
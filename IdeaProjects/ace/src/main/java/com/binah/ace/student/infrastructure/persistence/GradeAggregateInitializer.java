@@ -0,0 +1,100 @@
+package com.binah.ace.student.infrastructure.persistence;
+
+import com.binah.ace.student.infrastructure.persistence.jpa.GradeAggregateJpaRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationStartedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Rebuilds the grade aggregates from the grades table on startup.
+ *
+ * Driven by the "grade_aggregates" row of data_backfills: runs on the
+ * first start after the table was introduced, and again only when an
+ * operator deletes that row. When the row exists, startup only reads it.
+ *
+ * Each student is recomputed in its own short transaction, holding the
+ * advisory lock that grade writes of that student share, so no grade
+ * written meanwhile is lost or counted twice and the other students
+ * keep accepting grades. Recomputing a student always yields the same
+ * totals, so nodes that start the rebuild together only repeat work.
+ *
+ * @author Marcos Gustavo
+ */
+@Component
+public class GradeAggregateInitializer {
+
+    private static final Logger log = LoggerFactory.getLogger(GradeAggregateInitializer.class);
+
+    private static final String MARKER = "grade_aggregates";
+
+    // Alunos lidos por vez (paginação por chave, em ordem de ID)
+    private static final int CHUNK_SIZE = 500;
+
+    private static final UUID FIRST_ID = new UUID(0L, 0L);
+
+    private static final String DONE_SQL = "SELECT EXISTS (SELECT 1 FROM data_backfills WHERE name = ?)";
+
+    private static final String MARK_DONE_SQL = "INSERT INTO data_backfills (name, completed_at) " +
+            "VALUES (?, now()) ON CONFLICT (name) DO NOTHING";
+
+    private final GradeAggregateJpaRepository aggregateJpaRepository;
+    private final GradeAggregateRepositoryImpl aggregateRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    public GradeAggregateInitializer(
+            GradeAggregateJpaRepository aggregateJpaRepository,
+            GradeAggregateRepositoryImpl aggregateRepository,
+            JdbcTemplate jdbcTemplate,
+            PlatformTransactionManager transactionManager
+    ) {
+        this.aggregateJpaRepository = aggregateJpaRepository;
+        this.aggregateRepository = aggregateRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @EventListener(ApplicationStartedEvent.class)
+    public void backfill() {
+        // 1. Already rebuilt: nothing is locked or written
+        if (Boolean.TRUE.equals(jdbcTemplate.queryForObject(DONE_SQL, Boolean.class, MARKER))) {
+            return;
+        }
+
+        // 2. Recompute one student at a time, reading the IDs page by page
+        int students = 0;
+        int rows = 0;
+        UUID lastStudentId = FIRST_ID;
+        while (true) {
+            List<UUID> studentIds = aggregateJpaRepository.findStudentIdsToRebuild(lastStudentId, CHUNK_SIZE);
+            if (studentIds.isEmpty()) {
+                break;
+            }
+
+            for (UUID studentId : studentIds) {
+                rows += transactionTemplate.execute(status -> rebuild(studentId));
+            }
+            students += studentIds.size();
+            lastStudentId = studentIds.get(studentIds.size() - 1);
+        }
+
+        // 3. Only now the rebuild counts as done; a node stopped halfway starts over
+        jdbcTemplate.update(MARK_DONE_SQL, MARKER);
+
+        log.info("📊 Grade aggregates rebuilt from grades: {} students, {} periods", students, rows);
+    }
+
+    private int rebuild(UUID studentId) {
+        aggregateRepository.lockForRebuild(studentId);
+        aggregateJpaRepository.deleteByStudentId(studentId);
+        return aggregateJpaRepository.rebuildFromGrades(studentId);
+    }
+}
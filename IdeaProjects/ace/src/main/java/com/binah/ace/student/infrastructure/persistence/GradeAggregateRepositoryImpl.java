@@ -0,0 +1,243 @@
+package com.binah.ace.student.infrastructure.persistence;
+
+import com.binah.ace.student.domain.entity.Grade;
+import com.binah.ace.student.domain.repository.GradeAggregateRepository;
+import com.binah.ace.student.domain.valueobject.AcademicPeriod;
+import com.binah.ace.student.domain.valueobject.GradeAggregate;
+import com.binah.ace.student.infrastructure.persistence.jpa.GradeAggregateJpaEntity;
+import com.binah.ace.student.infrastructure.persistence.jpa.GradeAggregateJpaRepository;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * Implementation of GradeAggregateRepository using JPA.
+ *
+ * Writes are upserts sent through JdbcTemplate, so several periods
+ * can be incremented in a single JDBC batch.
+ *
+ * Every write holds a shared advisory lock on its student until it
+ * commits; GradeAggregateInitializer takes it exclusively while it
+ * recomputes that student, so no increment is lost or counted twice.
+ *
+ * @author Marcos Gustavo
+ */
+@Repository
+public class GradeAggregateRepositoryImpl implements GradeAggregateRepository {
+
+    // Adds the deltas to the row of the period, creating it when missing.
+    // Atomic: concurrent postings for the same period serialize on the row.
+    private static final String INCREMENT_SQL = "INSERT INTO grade_aggregates " +
+            "(student_id, year, semester, bimester, weighted_score_sum, weight_sum, grade_count, updated_at) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, now()) " +
+            "ON CONFLICT (student_id, year, semester, bimester) DO UPDATE SET " +
+            "weighted_score_sum = grade_aggregates.weighted_score_sum + EXCLUDED.weighted_score_sum, " +
+            "weight_sum = grade_aggregates.weight_sum + EXCLUDED.weight_sum, " +
+            "grade_count = grade_aggregates.grade_count + EXCLUDED.grade_count, " +
+            "updated_at = EXCLUDED.updated_at";
+
+    // Chave (namespace, hash do aluno) das travas consultivas dos totais de um aluno
+    private static final int LOCK_NAMESPACE = 0x0AC6;
+
+    private static final String WRITE_LOCK_SQL = "SELECT pg_advisory_xact_lock_shared(?, hashtext(?::text))";
+
+    private static final String REBUILD_LOCK_SQL = "SELECT pg_advisory_xact_lock(?, hashtext(?::text))";
+
+    // Rows are always locked in this order, so concurrent batches cannot deadlock
+    private static final Comparator<GradeAggregateJpaEntity.Key> KEY_ORDER = Comparator
+            .comparing(GradeAggregateJpaEntity.Key::getStudentId)
+            .thenComparing(GradeAggregateJpaEntity.Key::getYear)
+            .thenComparing(GradeAggregateJpaEntity.Key::getSemester)
+            .thenComparing(GradeAggregateJpaEntity.Key::getBimester);
+
+    private final GradeAggregateJpaRepository jpaRepository;
+    private final JdbcTemplate jdbcTemplate;
+
+    public GradeAggregateRepositoryImpl(
+            GradeAggregateJpaRepository jpaRepository,
+            JdbcTemplate jdbcTemplate
+    ) {
+        this.jpaRepository = jpaRepository;
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public void add(Grade grade) {
+        addAll(List.of(grade));
+    }
+
+    @Override
+    public void addAll(Collection<Grade> grades) {
+        Map<GradeAggregateJpaEntity.Key, Delta> deltas = new TreeMap<>(KEY_ORDER);
+
+        for (Grade grade : grades) {
+            BigDecimal score = stored(grade.getScore());
+            BigDecimal weight = stored(grade.getWeight());
+            deltas.merge(keyOf(grade), new Delta(score.multiply(weight), weight, 1), Delta::plus);
+        }
+
+        increment(deltas);
+    }
+
+    @Override
+    public void remove(Grade grade) {
+        BigDecimal score = stored(grade.getScore());
+        BigDecimal weight = stored(grade.getWeight());
+        increment(Map.of(keyOf(grade), new Delta(score.multiply(weight).negate(), weight.negate(), -1)));
+    }
+
+    @Override
+    public void replaceScore(Grade grade, BigDecimal previousScore) {
+        BigDecimal delta = stored(grade.getScore()).subtract(stored(previousScore));
+        increment(Map.of(keyOf(grade), new Delta(delta.multiply(stored(grade.getWeight())), BigDecimal.ZERO, 0)));
+    }
+
+    @Override
+    public GradeAggregate findByStudentIdAndPeriod(UUID studentId, AcademicPeriod period) {
+        if (period.hasBimester()) {
+            GradeAggregateJpaEntity.Key key = key(
+                    studentId,
+                    period.year(),
+                    period.semester(),
+                    period.bimester()
+            );
+
+            return jpaRepository.findById(key)
+                    .map(entity -> new GradeAggregate(
+                            studentId,
+                            entity.getWeightedScoreSum(),
+                            entity.getWeightSum(),
+                            entity.getGradeCount()
+                    ))
+                    .orElseGet(() -> GradeAggregate.empty(studentId));
+        }
+
+        return toDomain(studentId, jpaRepository.sumByStudentIdAndPeriod(
+                studentId,
+                period.year(),
+                period.semester()
+        ));
+    }
+
+    @Override
+    public List<GradeAggregate> findByStudentIdsAndPeriod(Collection<UUID> studentIds, AcademicPeriod period) {
+        if (studentIds.isEmpty()) {
+            return List.of();
+        }
+
+        List<GradeAggregateJpaRepository.StudentTotals> totals = period.hasBimester()
+                ? jpaRepository.findByStudentIdsAndPeriodWithBimester(
+                        studentIds,
+                        period.year(),
+                        period.semester(),
+                        period.bimester())
+                : jpaRepository.sumByStudentIdsAndPeriod(
+                        studentIds,
+                        period.year(),
+                        period.semester());
+
+        return totals.stream()
+                .map(row -> toDomain(row.getStudentId(), row))
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public GradeAggregate findOverallByStudentId(UUID studentId) {
+        return toDomain(studentId, jpaRepository.sumByStudentId(studentId));
+    }
+
+    /**
+     * Waits for the writes of the student in flight and blocks new ones
+     * until the current transaction commits.
+     * Used by GradeAggregateInitializer before recomputing the student.
+     */
+    void lockForRebuild(UUID studentId) {
+        jdbcTemplate.query(REBUILD_LOCK_SQL, rs -> null, LOCK_NAMESPACE, studentId);
+    }
+
+    private void increment(Map<GradeAggregateJpaEntity.Key, Delta> deltas) {
+        if (deltas.isEmpty()) {
+            return;
+        }
+
+        deltas.keySet().stream()
+                .map(GradeAggregateJpaEntity.Key::getStudentId)
+                .distinct()
+                .forEach(studentId -> jdbcTemplate.query(WRITE_LOCK_SQL, rs -> null, LOCK_NAMESPACE, studentId));
+
+        List<Map.Entry<GradeAggregateJpaEntity.Key, Delta>> rows = List.copyOf(deltas.entrySet());
+
+        jdbcTemplate.batchUpdate(INCREMENT_SQL, rows, rows.size(), (ps, row) -> {
+            GradeAggregateJpaEntity.Key key = row.getKey();
+            Delta delta = row.getValue();
+            ps.setObject(1, key.getStudentId());
+            ps.setInt(2, key.getYear());
+            ps.setInt(3, key.getSemester());
+            ps.setInt(4, key.getBimester());
+            ps.setBigDecimal(5, delta.weightedScore());
+            ps.setBigDecimal(6, delta.weight());
+            ps.setLong(7, delta.count());
+        });
+    }
+
+    private GradeAggregateJpaEntity.Key keyOf(Grade grade) {
+        AcademicPeriod period = grade.getAcademicPeriod();
+
+        return key(
+                grade.getStudentId(),
+                period.year(),
+                period.semester(),
+                period.hasBimester() ? period.bimester() : GradeAggregateJpaEntity.NO_BIMESTER
+        );
+    }
+
+    /**
+     * Rounds as the numeric(4,2) columns of the grades table do,
+     * so the totals match what was actually stored.
+     */
+    private BigDecimal stored(BigDecimal value) {
+        BigDecimal nonNull = value != null ? value : BigDecimal.ONE;
+        return nonNull.setScale(2, RoundingMode.HALF_UP);
+    }
+
+    private GradeAggregate toDomain(UUID studentId, GradeAggregateJpaRepository.Totals totals) {
+        return new GradeAggregate(
+                studentId,
+                totals.getWeightedScoreSum(),
+                totals.getWeightSum(),
+                totals.getGradeCount()
+        );
+    }
+
+    private GradeAggregateJpaEntity.Key key(UUID studentId, int year, int semester, int bimester) {
+        GradeAggregateJpaEntity.Key key = new GradeAggregateJpaEntity.Key();
+        key.setStudentId(studentId);
+        key.setYear(year);
+        key.setSemester(semester);
+        key.setBimester(bimester);
+        return key;
+    }
+
+    /**
+     * Amounts to add to one row.
+     */
+    private record Delta(BigDecimal weightedScore, BigDecimal weight, long count) {
+
+        Delta plus(Delta other) {
+            return new Delta(
+                    weightedScore.add(other.weightedScore),
+                    weight.add(other.weight),
+                    count + other.count
+            );
+        }
+    }
+}
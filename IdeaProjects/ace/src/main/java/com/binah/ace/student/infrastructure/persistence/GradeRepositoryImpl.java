@@ -3,11 +3,19 @@ package com.binah.ace.student.infrastructure.persistence;
 import com.binah.ace.student.domain.entity.Grade;
 import com.binah.ace.student.domain.repository.GradeRepository;
 import com.binah.ace.student.domain.valueobject.AcademicPeriod;
+import com.binah.ace.student.domain.valueobject.GPA;
+import com.binah.ace.student.domain.valueobject.StudentGradeSummary;
 import com.binah.ace.student.infrastructure.persistence.jpa.GradeJpaEntity;
 import com.binah.ace.student.infrastructure.persistence.jpa.GradeJpaRepository;
 import com.binah.ace.student.infrastructure.persistence.mapper.GradeMapper;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Repository;
 
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -21,15 +29,24 @@ import java.util.stream.Collectors;
 @Repository
 public class GradeRepositoryImpl implements GradeRepository {
 
+    // Menor UUID na ordem do Postgres: primeira página das consultas por keyset
+    private static final UUID FIRST_ID = new UUID(0L, 0L);
+
     private final GradeJpaRepository jpaRepository;
     private final GradeMapper mapper;
+    private final int batchSize;
+
+    @PersistenceContext
+    private EntityManager entityManager;
 
     public GradeRepositoryImpl(
             GradeJpaRepository jpaRepository,
-            GradeMapper mapper
+            GradeMapper mapper,
+            @Value("${spring.jpa.properties.hibernate.jdbc.batch_size:50}") int batchSize
     ) {
         this.jpaRepository = jpaRepository;
         this.mapper = mapper;
+        this.batchSize = batchSize;
     }
 
     @Override
@@ -38,6 +55,24 @@ public class GradeRepositoryImpl implements GradeRepository {
                 .map(mapper::toDomain);
     }
 
+    @Override
+    public Optional<Grade> findByIdForUpdate(UUID id) {
+        return jpaRepository.findByIdForUpdate(id)
+                .map(mapper::toDomain);
+    }
+
+    @Override
+    public List<Grade> findAllById(Collection<UUID> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+
+        return jpaRepository.findAllById(ids)
+                .stream()
+                .map(mapper::toDomain)
+                .collect(Collectors.toList());
+    }
+
     @Override
     public List<Grade> findByStudentId(UUID studentId) {
         return jpaRepository.findByStudentId(studentId)
@@ -70,6 +105,46 @@ public class GradeRepositoryImpl implements GradeRepository {
                 .collect(Collectors.toList());
     }
 
+    @Override
+    public List<Grade> findByStudentIds(Collection<UUID> studentIds) {
+        if (studentIds.isEmpty()) {
+            return List.of();
+        }
+
+        return jpaRepository.findByStudentIdIn(studentIds)
+                .stream()
+                .map(mapper::toDomain)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public List<Grade> findByStudentIdsAndPeriod(Collection<UUID> studentIds, AcademicPeriod period) {
+        if (studentIds.isEmpty()) {
+            return List.of();
+        }
+
+        List<GradeJpaEntity> entities;
+
+        if (period.hasBimester()) {
+            entities = jpaRepository.findByStudentIdsAndPeriodWithBimester(
+                    studentIds,
+                    period.year(),
+                    period.semester(),
+                    period.bimester()
+            );
+        } else {
+            entities = jpaRepository.findByStudentIdsAndPeriod(
+                    studentIds,
+                    period.year(),
+                    period.semester()
+            );
+        }
+
+        return entities.stream()
+                .map(mapper::toDomain)
+                .collect(Collectors.toList());
+    }
+
     @Override
     public List<Grade> findByClassroomSubjectId(UUID classroomSubjectId) {
         return jpaRepository.findByClassroomSubjectId(classroomSubjectId)
@@ -78,6 +153,56 @@ public class GradeRepositoryImpl implements GradeRepository {
                 .collect(Collectors.toList());
     }
 
+    @Override
+    public List<StudentGradeSummary> summarizeByClassroomSubject(UUID classroomSubjectId, AcademicPeriod period) {
+        List<GradeJpaRepository.StudentSubjectTotals> totals;
+
+        if (period.hasBimester()) {
+            totals = jpaRepository.summarizeByClassroomSubjectAndPeriodWithBimester(
+                    classroomSubjectId,
+                    period.year(),
+                    period.semester(),
+                    period.bimester(),
+                    Grade.PASSING_SCORE,
+                    Grade.FAILING_SCORE
+            );
+        } else {
+            totals = jpaRepository.summarizeByClassroomSubjectAndPeriod(
+                    classroomSubjectId,
+                    period.year(),
+                    period.semester(),
+                    Grade.PASSING_SCORE,
+                    Grade.FAILING_SCORE
+            );
+        }
+
+        return totals.stream()
+                .map(row -> new StudentGradeSummary(
+                        row.getStudentId(),
+                        GPA.weightedAverage(row.getWeightedScoreSum(), row.getWeightSum()),
+                        row.getGradeCount(),
+                        row.getPassingCount(),
+                        row.getFailingCount()
+                ))
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public List<UUID> findStudentIdsByPeriod(
+            AcademicPeriod period,
+            UUID classroomSubjectId,
+            UUID afterStudentId,
+            int limit
+    ) {
+        UUID after = afterStudentId != null ? afterStudentId : FIRST_ID;
+
+        return classroomSubjectId == null
+                ? jpaRepository.findStudentIdsByPeriod(
+                        period.year(), period.semester(), period.bimester(), after, Limit.of(limit))
+                : jpaRepository.findStudentIdsByClassroomSubjectAndPeriod(
+                        classroomSubjectId, period.year(), period.semester(), period.bimester(), after, Limit.of(limit));
+    }
+
     @Override
     public Grade save(Grade grade) {
         GradeJpaEntity entity = mapper.toJpa(grade);
@@ -85,6 +210,32 @@ public class GradeRepositoryImpl implements GradeRepository {
         return mapper.toDomain(saved);
     }
 
+    /**
+     * persist() instead of save(): save() would merge, issuing one SELECT per grade.
+     * Flushing every batchSize entities sends each chunk as a single JDBC batch
+     * and clearing keeps the persistence context from growing with the input.
+     */
+    @Override
+    public List<Grade> insertAll(List<Grade> grades) {
+        List<Grade> inserted = new ArrayList<>(grades.size());
+
+        for (int i = 0; i < grades.size(); i++) {
+            GradeJpaEntity entity = mapper.toJpa(grades.get(i));
+            entityManager.persist(entity);
+            inserted.add(mapper.toDomain(entity));
+
+            if ((i + 1) % batchSize == 0) {
+                entityManager.flush();
+                entityManager.clear();
+            }
+        }
+
+        entityManager.flush();
+        entityManager.clear();
+
+        return inserted;
+    }
+
     @Override
     public void deleteById(UUID id) {
         jpaRepository.deleteById(id);
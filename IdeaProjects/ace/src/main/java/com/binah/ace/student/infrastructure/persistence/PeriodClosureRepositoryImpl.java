@@ -0,0 +1,166 @@
+package com.binah.ace.student.infrastructure.persistence;
+
+import com.binah.ace.student.domain.entity.PeriodClosure;
+import com.binah.ace.student.domain.enums.PeriodClosureStatus;
+import com.binah.ace.student.domain.repository.PeriodClosureRepository;
+import com.binah.ace.student.domain.valueobject.AcademicPeriod;
+import com.binah.ace.student.infrastructure.persistence.jpa.PeriodClosureJpaEntity;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Implementation of PeriodClosureRepository using a row per period.
+ *
+ * Every write is a single atomic statement, so the closing job can
+ * report the progress of parallel chunks without locking in Java.
+ *
+ * Writes to grades and attendance hold a shared advisory lock on their
+ * semester until they commit; starting a closing takes it exclusively,
+ * so it waits for them and every later write sees the RUNNING row.
+ *
+ * @author Marcos Gustavo
+ */
+@Repository
+public class PeriodClosureRepositoryImpl implements PeriodClosureRepository {
+
+    private static final String COLUMNS = "id, year, semester, bimester, status, total_students, " +
+            "processed_students, failed_students, last_error, started_by, started_at, finished_at";
+
+    private static final String FIND_SQL =
+            "SELECT " + COLUMNS + " FROM period_closures WHERE year = ? AND semester = ? AND bimester = ?";
+
+    // Creates the closing or restarts a failed/dead run; a live run or a completed closing is kept
+    private static final String START_SQL = "INSERT INTO period_closures " +
+            "(id, year, semester, bimester, status, total_students, processed_students, failed_students, " +
+            "started_by, started_at, updated_at) " +
+            "VALUES (?, ?, ?, ?, 'RUNNING', 0, 0, 0, ?, now(), now()) " +
+            "ON CONFLICT (year, semester, bimester) DO UPDATE SET " +
+            "status = 'RUNNING', total_students = 0, processed_students = 0, failed_students = 0, " +
+            "last_error = NULL, started_by = EXCLUDED.started_by, started_at = now(), updated_at = now(), " +
+            "finished_at = NULL " +
+            "WHERE period_closures.status = 'FAILED' " +
+            "OR (period_closures.status = 'RUNNING' AND period_closures.updated_at < ?) " +
+            "RETURNING " + COLUMNS;
+
+    // Chave (namespace, ano * 10 + semestre) das travas consultivas de um semestre
+    private static final int LOCK_NAMESPACE = 0x0ACE;
+
+    private static final String WRITE_LOCK_SQL = "SELECT pg_advisory_xact_lock_shared(?, ?)";
+
+    private static final String START_LOCK_SQL = "SELECT pg_advisory_xact_lock(?, ?)";
+
+    // The closing of the semester covers its bimesters too
+    private static final String CLOSED_SQL = "SELECT EXISTS (SELECT 1 FROM period_closures " +
+            "WHERE year = ? AND semester = ? AND bimester IN (?, ?) AND status IN ('RUNNING', 'COMPLETED'))";
+
+    private static final String HEARTBEAT_SQL =
+            "UPDATE period_closures SET updated_at = now() WHERE id = ? AND status = 'RUNNING'";
+
+    private static final String COUNTERS_SQL = "UPDATE period_closures SET total_students = ?, " +
+            "processed_students = ?, updated_at = now() WHERE id = ?";
+
+    private static final String PROGRESS_SQL = "UPDATE period_closures SET " +
+            "processed_students = processed_students + ?, failed_students = failed_students + ?, " +
+            "last_error = COALESCE(?, last_error), updated_at = now() WHERE id = ?";
+
+    private static final String FINISH_SQL = "UPDATE period_closures SET " +
+            "status = CASE WHEN failed_students = 0 AND last_error IS NULL " +
+            "AND processed_students >= total_students THEN 'COMPLETED' ELSE 'FAILED' END, " +
+            "finished_at = now(), updated_at = now() WHERE id = ? RETURNING " + COLUMNS;
+
+    private static final RowMapper<PeriodClosure> ROW_MAPPER = (rs, rowNum) -> {
+        int bimester = rs.getInt("bimester");
+        AcademicPeriod period = bimester == PeriodClosureJpaEntity.NO_BIMESTER
+                ? AcademicPeriod.of(rs.getInt("year"), rs.getInt("semester"))
+                : AcademicPeriod.of(rs.getInt("year"), rs.getInt("semester"), bimester);
+        Timestamp finishedAt = rs.getTimestamp("finished_at");
+
+        return new PeriodClosure(
+                rs.getObject("id", UUID.class),
+                period,
+                PeriodClosureStatus.valueOf(rs.getString("status")),
+                rs.getInt("total_students"),
+                rs.getInt("processed_students"),
+                rs.getInt("failed_students"),
+                rs.getString("last_error"),
+                rs.getObject("started_by", UUID.class),
+                rs.getTimestamp("started_at").toLocalDateTime(),
+                finishedAt != null ? finishedAt.toLocalDateTime() : null
+        );
+    };
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public PeriodClosureRepositoryImpl(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public Optional<PeriodClosure> findByPeriod(AcademicPeriod period) {
+        return first(jdbcTemplate.query(FIND_SQL, ROW_MAPPER,
+                period.year(), period.semester(), bimesterOf(period)));
+    }
+
+    @Override
+    @Transactional
+    public Optional<PeriodClosure> tryStart(AcademicPeriod period, UUID startedBy, Duration staleAfter) {
+        Timestamp staleBefore = Timestamp.valueOf(LocalDateTime.now().minus(staleAfter));
+
+        lock(START_LOCK_SQL, period);
+        return first(jdbcTemplate.query(START_SQL, ROW_MAPPER,
+                UUID.randomUUID(), period.year(), period.semester(), bimesterOf(period), startedBy, staleBefore));
+    }
+
+    @Override
+    public boolean acceptsWrites(AcademicPeriod period) {
+        lock(WRITE_LOCK_SQL, period);
+
+        Boolean closed = jdbcTemplate.queryForObject(CLOSED_SQL, Boolean.class,
+                period.year(), period.semester(), bimesterOf(period), PeriodClosureJpaEntity.NO_BIMESTER);
+        return !Boolean.TRUE.equals(closed);
+    }
+
+    @Override
+    public void heartbeat(UUID closureId) {
+        jdbcTemplate.update(HEARTBEAT_SQL, closureId);
+    }
+
+    @Override
+    public void initializeCounters(UUID closureId, int totalStudents, int alreadyProcessed) {
+        jdbcTemplate.update(COUNTERS_SQL, totalStudents, alreadyProcessed, closureId);
+    }
+
+    @Override
+    public void addProgress(UUID closureId, int processed, int failed, String error) {
+        jdbcTemplate.update(PROGRESS_SQL, processed, failed, error, closureId);
+    }
+
+    @Override
+    public PeriodClosure finish(UUID closureId) {
+        return jdbcTemplate.queryForObject(FINISH_SQL, ROW_MAPPER, closureId);
+    }
+
+    /**
+     * Advisory lock of the period's semester, held until the transaction ends.
+     */
+    private void lock(String sql, AcademicPeriod period) {
+        jdbcTemplate.query(sql, rs -> null, LOCK_NAMESPACE, period.year() * 10 + period.semester());
+    }
+
+    private int bimesterOf(AcademicPeriod period) {
+        return period.hasBimester() ? period.bimester() : PeriodClosureJpaEntity.NO_BIMESTER;
+    }
+
+    private Optional<PeriodClosure> first(List<PeriodClosure> rows) {
+        return rows.stream().findFirst();
+    }
+}
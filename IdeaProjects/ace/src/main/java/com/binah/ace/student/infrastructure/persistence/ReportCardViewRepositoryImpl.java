@@ -0,0 +1,311 @@
+package com.binah.ace.student.infrastructure.persistence;
+
+import com.binah.ace.student.domain.entity.Grade;
+import com.binah.ace.student.domain.enums.AssessmentType;
+import com.binah.ace.student.domain.repository.ReportCardViewRepository;
+import com.binah.ace.student.domain.valueobject.AcademicPeriod;
+import com.binah.ace.student.domain.valueobject.GPA;
+import com.binah.ace.student.domain.valueobject.ReportCard;
+import com.binah.ace.student.infrastructure.persistence.jpa.ReportCardViewJpaEntity;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.sql.Array;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * Implementation of ReportCardViewRepository with one row per
+ * (student, year, semester, bimester) holding the report card as JSONB.
+ *
+ * Reading a report card is a primary key lookup; subject averages and
+ * GPA are stored as built and are not recalculated.
+ *
+ * @author Marcos Gustavo
+ */
+@Repository
+public class ReportCardViewRepositoryImpl implements ReportCardViewRepository {
+
+    private static final String FIND_SQL = "SELECT student_id, version, document FROM report_card_views " +
+            "WHERE student_id = ? AND year = ? AND semester = ? AND bimester = ?";
+
+    private static final String FIND_ALL_SQL = "SELECT student_id, version, document FROM report_card_views " +
+            "WHERE student_id = ANY(?) AND year = ? AND semester = ? AND bimester = ?";
+
+    // Stored only if no write invalidated the report card while it was rebuilt
+    private static final String SAVE_SQL = "INSERT INTO report_card_views " +
+            "(student_id, year, semester, bimester, version, document, updated_at) " +
+            "VALUES (?, ?, ?, ?, ?, CAST(? AS jsonb), now()) " +
+            "ON CONFLICT (student_id, year, semester, bimester) DO UPDATE SET " +
+            "document = EXCLUDED.document, updated_at = EXCLUDED.updated_at " +
+            "WHERE report_card_views.version = EXCLUDED.version";
+
+    // Creates the row already invalidated when missing, so a rebuild in progress cannot store it
+    private static final String INVALIDATE_SQL = "INSERT INTO report_card_views " +
+            "(student_id, year, semester, bimester, version, document, updated_at) " +
+            "VALUES (?, ?, ?, ?, 1, NULL, now()) " +
+            "ON CONFLICT (student_id, year, semester, bimester) DO UPDATE SET " +
+            "version = report_card_views.version + 1, document = NULL, updated_at = now()";
+
+    private static final String INVALIDATE_PERIOD_SQL = "UPDATE report_card_views SET " +
+            "version = version + 1, document = NULL, updated_at = now() " +
+            "WHERE year = ? AND semester = ? AND bimester = ?";
+
+    // Rows are always locked in this order, so concurrent writes cannot deadlock
+    private static final Comparator<Key> KEY_ORDER = Comparator
+            .comparing(Key::studentId)
+            .thenComparingInt(Key::year)
+            .thenComparingInt(Key::semester)
+            .thenComparingInt(Key::bimester);
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+
+    public ReportCardViewRepositoryImpl(JdbcTemplate jdbcTemplate, ObjectMapper objectMapper) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public Optional<StoredReportCard> findByStudentIdAndPeriod(UUID studentId, AcademicPeriod period) {
+        return jdbcTemplate.query(FIND_SQL, (rs, rowNum) -> toStored(rs, period),
+                        studentId, period.year(), period.semester(), bimesterOf(period))
+                .stream()
+                .findFirst();
+    }
+
+    @Override
+    public Map<UUID, StoredReportCard> findByStudentIdsAndPeriod(Collection<UUID> studentIds, AcademicPeriod period) {
+        if (studentIds.isEmpty()) {
+            return Map.of();
+        }
+
+        Map<UUID, StoredReportCard> stored = new HashMap<>();
+        jdbcTemplate.query(connection -> {
+            var statement = connection.prepareStatement(FIND_ALL_SQL);
+            Array ids = connection.createArrayOf("uuid", studentIds.toArray(UUID[]::new));
+            statement.setArray(1, ids);
+            statement.setInt(2, period.year());
+            statement.setInt(3, period.semester());
+            statement.setInt(4, bimesterOf(period));
+            return statement;
+        }, rs -> {
+            stored.put(rs.getObject("student_id", UUID.class), toStored(rs, period));
+        });
+
+        return stored;
+    }
+
+    @Override
+    public void saveAll(List<StoredReportCard> reportCards) {
+        List<StoredReportCard> rows = reportCards.stream()
+                .filter(StoredReportCard::isCurrent)
+                .sorted(Comparator.comparing(stored -> keyOf(stored.reportCard().studentId(),
+                        stored.reportCard().period()), KEY_ORDER))
+                .collect(Collectors.toList());
+        if (rows.isEmpty()) {
+            return;
+        }
+
+        jdbcTemplate.batchUpdate(SAVE_SQL, rows, rows.size(), (statement, stored) -> {
+            ReportCard reportCard = stored.reportCard();
+            statement.setObject(1, reportCard.studentId());
+            statement.setInt(2, reportCard.period().year());
+            statement.setInt(3, reportCard.period().semester());
+            statement.setInt(4, bimesterOf(reportCard.period()));
+            statement.setLong(5, stored.version());
+            statement.setString(6, write(reportCard));
+        });
+    }
+
+    @Override
+    public void invalidate(Collection<UUID> studentIds, AcademicPeriod period) {
+        List<Key> keys = new ArrayList<>();
+        for (UUID studentId : studentIds) {
+            keys.add(keyOf(studentId, period));
+            if (period.hasBimester()) {
+                keys.add(keyOf(studentId, period.semesterPeriod()));
+            }
+        }
+        if (keys.isEmpty()) {
+            return;
+        }
+        keys.sort(KEY_ORDER);
+
+        jdbcTemplate.batchUpdate(INVALIDATE_SQL, keys, keys.size(), (statement, key) -> {
+            statement.setObject(1, key.studentId());
+            statement.setInt(2, key.year());
+            statement.setInt(3, key.semester());
+            statement.setInt(4, key.bimester());
+        });
+    }
+
+    @Override
+    public void invalidatePeriod(AcademicPeriod period) {
+        jdbcTemplate.update(INVALIDATE_PERIOD_SQL, period.year(), period.semester(), bimesterOf(period));
+    }
+
+    private StoredReportCard toStored(ResultSet rs, AcademicPeriod period) throws SQLException {
+        UUID studentId = rs.getObject("student_id", UUID.class);
+        String document = rs.getString("document");
+
+        return new StoredReportCard(
+                rs.getLong("version"),
+                document != null ? read(studentId, period, document) : null
+        );
+    }
+
+    String write(ReportCard reportCard) {
+        List<SubjectDocument> subjects = reportCard.gradesBySubject()
+                .entrySet()
+                .stream()
+                .map(entry -> new SubjectDocument(
+                        entry.getKey(),
+                        reportCard.subjectAverages().get(entry.getKey()),
+                        entry.getValue().stream().map(GradeDocument::from).collect(Collectors.toList())
+                ))
+                .collect(Collectors.toList());
+
+        Document document = new Document(
+                reportCard.studentName(),
+                reportCard.enrollmentNumber(),
+                reportCard.gpa().value(),
+                reportCard.attendancePercentage(),
+                reportCard.isApproved(),
+                subjects
+        );
+
+        try {
+            return objectMapper.writeValueAsString(document);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not serialize report card of " + reportCard.studentId(), e);
+        }
+    }
+
+    ReportCard read(UUID studentId, AcademicPeriod period, String json) {
+        Document document;
+        try {
+            document = objectMapper.readValue(json, Document.class);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not read report card of " + studentId, e);
+        }
+
+        Map<UUID, List<Grade>> gradesBySubject = new LinkedHashMap<>();
+        Map<UUID, BigDecimal> subjectAverages = new LinkedHashMap<>();
+        for (SubjectDocument subject : document.subjects()) {
+            gradesBySubject.put(subject.classroomSubjectId(), subject.grades().stream()
+                    .map(grade -> grade.toDomain(studentId, subject.classroomSubjectId()))
+                    .collect(Collectors.toList()));
+            subjectAverages.put(subject.classroomSubjectId(), subject.average());
+        }
+
+        return new ReportCard(
+                studentId,
+                document.studentName(),
+                document.enrollmentNumber(),
+                period,
+                new GPA(document.gpa()),
+                document.attendancePercentage(),
+                document.approved(),
+                gradesBySubject,
+                subjectAverages
+        );
+    }
+
+    private Key keyOf(UUID studentId, AcademicPeriod period) {
+        return new Key(studentId, period.year(), period.semester(), bimesterOf(period));
+    }
+
+    private static int bimesterOf(AcademicPeriod period) {
+        return period.hasBimester() ? period.bimester() : ReportCardViewJpaEntity.NO_BIMESTER;
+    }
+
+    private record Key(UUID studentId, int year, int semester, int bimester) {}
+
+    /**
+     * JSON of the report_card_views.document column.
+     */
+    record Document(
+            String studentName,
+            String enrollmentNumber,
+            BigDecimal gpa,
+            BigDecimal attendancePercentage,
+            boolean approved,
+            List<SubjectDocument> subjects
+    ) {}
+
+    record SubjectDocument(
+            UUID classroomSubjectId,
+            BigDecimal average,
+            List<GradeDocument> grades
+    ) {}
+
+    record GradeDocument(
+            UUID id,
+            AssessmentType assessmentType,
+            int year,
+            int semester,
+            Integer bimester,
+            BigDecimal score,
+            BigDecimal weight,
+            String description,
+            LocalDate assessmentDate,
+            String comments,
+            UUID postedBy,
+            LocalDateTime createdAt,
+            LocalDateTime updatedAt
+    ) {
+
+        static GradeDocument from(Grade grade) {
+            AcademicPeriod period = grade.getAcademicPeriod();
+            return new GradeDocument(
+                    grade.getId(),
+                    grade.getAssessmentType(),
+                    period.year(),
+                    period.semester(),
+                    period.bimester(),
+                    grade.getScore(),
+                    grade.getWeight(),
+                    grade.getDescription(),
+                    grade.getAssessmentDate(),
+                    grade.getComments(),
+                    grade.getPostedBy(),
+                    grade.getCreatedAt(),
+                    grade.getUpdatedAt()
+            );
+        }
+
+        Grade toDomain(UUID studentId, UUID classroomSubjectId) {
+            return new Grade(
+                    id,
+                    studentId,
+                    classroomSubjectId,
+                    assessmentType,
+                    new AcademicPeriod(year, semester, bimester),
+                    score,
+                    weight,
+                    description,
+                    assessmentDate,
+                    comments,
+                    postedBy,
+                    createdAt,
+                    updatedAt
+            );
+        }
+    }
+}
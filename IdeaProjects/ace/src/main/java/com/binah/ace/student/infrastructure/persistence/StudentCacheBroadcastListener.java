@@ -0,0 +1,47 @@
+package com.binah.ace.student.infrastructure.persistence;
+
+import com.binah.ace.shared.events.broadcast.BroadcastListener;
+import com.binah.ace.student.infrastructure.search.SearchIndexBroadcastListener;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Evicts students changed on any node from the student cache of this node.
+ *
+ * Listens to the same channel as the search index: StudentRepositoryImpl
+ * broadcasts the ID of every student it creates, updates or deletes when
+ * the transaction commits. After the broadcast connection was lost the
+ * whole cache is cleared, since the changes made meanwhile were not received.
+ *
+ * @author Marcos Gustavo
+ */
+@Component
+@ConditionalOnProperty(name = "ace.student-cache.enabled", havingValue = "true", matchIfMissing = true)
+public class StudentCacheBroadcastListener implements BroadcastListener {
+
+    private final CachedStudentRepositoryImpl cache;
+
+    public StudentCacheBroadcastListener(CachedStudentRepositoryImpl cache) {
+        this.cache = cache;
+    }
+
+    @Override
+    public String channel() {
+        return SearchIndexBroadcastListener.CHANNEL;
+    }
+
+    @Override
+    public void onMessages(List<String> messages) {
+        messages.stream()
+                .map(UUID::fromString)
+                .forEach(cache::evict);
+    }
+
+    @Override
+    public void onReconnected() {
+        cache.evictAll();
+    }
+}
@@ -1,17 +1,29 @@
 package com.binah.ace.student.infrastructure.persistence;
 
+import com.binah.ace.shared.events.broadcast.ClusterBroadcast;
 import com.binah.ace.shared.valueobject.CPF;
+import com.binah.ace.shared.valueobject.Email;
 import com.binah.ace.student.domain.entity.Student;
 import com.binah.ace.student.domain.enums.StudentStatus;
 import com.binah.ace.student.domain.repository.StudentRepository;
 import com.binah.ace.student.domain.valueobject.Enrollment;
+import com.binah.ace.student.domain.valueobject.StudentSearchHit;
 import com.binah.ace.student.infrastructure.persistence.jpa.StudentJpaEntity;
 import com.binah.ace.student.infrastructure.persistence.jpa.StudentJpaRepository;
 import com.binah.ace.student.infrastructure.persistence.mapper.StudentMapper;
+import com.binah.ace.student.infrastructure.search.SearchIndexBroadcastListener;
+import com.binah.ace.student.infrastructure.search.StudentElasticRepository;
+import org.springframework.data.domain.Limit;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Repository;
 
+import java.sql.PreparedStatement;
+import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 import java.util.stream.Collectors;
 
@@ -20,20 +32,50 @@ import java.util.stream.Collectors;
  *
  * Bridge between Domain and Infrastructure.
  *
+ * Name searches go to the search index. The index is not written here:
+ * every create, update and delete broadcasts the student IDs in the same
+ * transaction, and each node updates its own index once it commits
+ * (SearchIndexBroadcastListener).
+ *
+ * Bulk inserts go through JdbcTemplate, one statement per batch of rows
+ * sent as arrays.
+ *
  * @author Marcos Gustavo
  */
 @Repository
 public class StudentRepositoryImpl implements StudentRepository {
 
+    // Uma linha por posição dos arrays; linhas com CPF, e-mail ou matrícula já existentes são ignoradas
+    private static final String INSERT_SQL = "INSERT INTO students " +
+            "(id, full_name, cpf, email, birth_date, phone, address, enrollment_number, enrollment_date, status, " +
+            "guardian_name, guardian_phone, guardian_email, created_at, updated_at) " +
+            "SELECT * FROM unnest(?::uuid[], ?::varchar[], ?::varchar[], ?::varchar[], ?::date[], " +
+            "?::varchar[], ?::varchar[], ?::varchar[], ?::date[], ?::varchar[], " +
+            "?::varchar[], ?::varchar[], ?::varchar[], ?::timestamp[], ?::timestamp[]) " +
+            "ON CONFLICT DO NOTHING RETURNING id";
+
+    private static final int COLUMNS = 15;
+
+    private static final int BATCH_SIZE = 500;
+
     private final StudentJpaRepository jpaRepository;
     private final StudentMapper mapper;
+    private final StudentElasticRepository searchRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final ClusterBroadcast broadcast;
 
     public StudentRepositoryImpl(
             StudentJpaRepository jpaRepository,
-            StudentMapper mapper
+            StudentMapper mapper,
+            StudentElasticRepository searchRepository,
+            JdbcTemplate jdbcTemplate,
+            ClusterBroadcast broadcast
     ) {
         this.jpaRepository = jpaRepository;
         this.mapper = mapper;
+        this.searchRepository = searchRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.broadcast = broadcast;
     }
 
     @Override
@@ -42,6 +84,18 @@ public class StudentRepositoryImpl implements StudentRepository {
                 .map(mapper::toDomain);
     }
 
+    @Override
+    public List<Student> findAllById(Collection<UUID> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+
+        return jpaRepository.findAllById(ids)
+                .stream()
+                .map(mapper::toDomain)
+                .collect(Collectors.toList());
+    }
+
     @Override
     public Optional<Student> findByCPF(CPF cpf) {
         return jpaRepository.findByCpf(cpf.value())
@@ -70,11 +124,49 @@ public class StudentRepositoryImpl implements StudentRepository {
                 .collect(Collectors.toList());
     }
 
+    @Override
+    public List<Student> findActiveStudentsAfter(String afterFullName, UUID afterId, int limit) {
+        List<StudentJpaEntity> entities = afterId == null
+                ? jpaRepository.findActiveStudentsPage(Limit.of(limit))
+                : jpaRepository.findActiveStudentsAfter(afterFullName, afterId, Limit.of(limit));
+
+        return entities.stream()
+                .map(mapper::toDomain)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public List<UUID> findActiveStudentIds() {
+        return jpaRepository.findActiveStudentIds();
+    }
+
     @Override
     public boolean existsByCPF(CPF cpf) {
         return jpaRepository.existsByCpf(cpf.value());
     }
 
+    @Override
+    public Set<String> findExistingCPFs(Collection<CPF> cpfs) {
+        if (cpfs.isEmpty()) {
+            return Set.of();
+        }
+
+        return new HashSet<>(jpaRepository.findExistingCpfs(cpfs.stream()
+                .map(CPF::value)
+                .collect(Collectors.toSet())));
+    }
+
+    @Override
+    public Set<String> findExistingEmails(Collection<Email> emails) {
+        if (emails.isEmpty()) {
+            return Set.of();
+        }
+
+        return new HashSet<>(jpaRepository.findExistingEmails(emails.stream()
+                .map(Email::value)
+                .collect(Collectors.toSet())));
+    }
+
     @Override
     public boolean existsByEnrollmentNumber(Enrollment enrollment) {
         return jpaRepository.existsByEnrollmentNumber(enrollment.enrollmentNumber());
@@ -84,12 +176,67 @@ public class StudentRepositoryImpl implements StudentRepository {
     public Student save(Student student) {
         StudentJpaEntity entity = mapper.toJpa(student);
         StudentJpaEntity saved = jpaRepository.save(entity);
+        studentsChanged(List.of(saved.getId()));
         return mapper.toDomain(saved);
     }
 
+    @Override
+    public List<Student> insertAll(List<Student> students) {
+        if (students.isEmpty()) {
+            return List.of();
+        }
+
+        Set<UUID> insertedIds = new HashSet<>(students.size());
+        for (int from = 0; from < students.size(); from += BATCH_SIZE) {
+            insertedIds.addAll(insertBatch(students.subList(from, Math.min(from + BATCH_SIZE, students.size()))));
+        }
+
+        studentsChanged(insertedIds);
+        return students.stream()
+                .filter(student -> insertedIds.contains(student.getId()))
+                .toList();
+    }
+
+    private List<UUID> insertBatch(List<Student> students) {
+        // Colunas em texto, convertidas pelo próprio INSERT_SQL
+        String[][] columns = new String[COLUMNS][students.size()];
+        for (int i = 0; i < students.size(); i++) {
+            StudentJpaEntity entity = mapper.toJpa(students.get(i));
+            columns[0][i] = entity.getId().toString();
+            columns[1][i] = entity.getFullName();
+            columns[2][i] = entity.getCpf();
+            columns[3][i] = entity.getEmail();
+            columns[4][i] = Objects.toString(entity.getBirthDate(), null);
+            columns[5][i] = entity.getPhone();
+            columns[6][i] = entity.getAddress();
+            columns[7][i] = entity.getEnrollmentNumber();
+            columns[8][i] = Objects.toString(entity.getEnrollmentDate(), null);
+            columns[9][i] = entity.getStatus().name();
+            columns[10][i] = entity.getGuardianName();
+            columns[11][i] = entity.getGuardianPhone();
+            columns[12][i] = entity.getGuardianEmail();
+            columns[13][i] = Objects.toString(entity.getCreatedAt(), null);
+            columns[14][i] = Objects.toString(entity.getUpdatedAt(), null);
+        }
+
+        return jdbcTemplate.query(connection -> {
+            PreparedStatement statement = connection.prepareStatement(INSERT_SQL);
+            for (int column = 0; column < COLUMNS; column++) {
+                statement.setArray(column + 1, connection.createArrayOf("varchar", columns[column]));
+            }
+            return statement;
+        }, (rs, rowNum) -> rs.getObject("id", UUID.class));
+    }
+
     @Override
     public void deleteById(UUID id) {
         jpaRepository.deleteById(id);
+        studentsChanged(List.of(id));
+    }
+
+    // Enviado no commit da transação do chamador: cada nó reindexa esses alunos
+    private void studentsChanged(Collection<UUID> studentIds) {
+        broadcast.send(SearchIndexBroadcastListener.CHANNEL, studentIds.stream().map(UUID::toString).toList());
     }
 
     @Override
@@ -99,9 +246,16 @@ public class StudentRepositoryImpl implements StudentRepository {
 
     @Override
     public List<Student> searchByName(String name) {
-        return jpaRepository.searchByName(name)
-                .stream()
-                .map(mapper::toDomain)
-                .collect(Collectors.toList());
+        return searchRepository.searchByName(name);
+    }
+
+    @Override
+    public List<Student> search(String term) {
+        return searchRepository.search(term);
+    }
+
+    @Override
+    public List<StudentSearchHit> search(String term, StudentSearchHit.Position after, int limit) {
+        return searchRepository.search(term, after, limit);
     }
 }
\ No newline at end of file
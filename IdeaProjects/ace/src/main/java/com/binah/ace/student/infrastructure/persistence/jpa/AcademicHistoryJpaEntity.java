@@ -24,7 +24,6 @@ import java.util.UUID;
 public class AcademicHistoryJpaEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.AUTO)
     private UUID id;
 
     @Column(name = "student_id", nullable = false)
@@ -0,0 +1,47 @@
+package com.binah.ace.student.infrastructure.persistence.jpa;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Spring Data JPA Repository for AcademicHistoryJpaEntity.
+ *
+ * @author Marcos Gustavo
+ */
+@Repository
+public interface AcademicHistoryJpaRepository extends JpaRepository<AcademicHistoryJpaEntity, UUID> {
+
+    List<AcademicHistoryJpaEntity> findByStudentIdInAndYearAndSemesterAndBimester(
+            Collection<UUID> studentIds,
+            Integer year,
+            Integer semester,
+            Integer bimester
+    );
+
+    List<AcademicHistoryJpaEntity> findByStudentIdInAndYearAndSemesterAndBimesterIsNull(
+            Collection<UUID> studentIds,
+            Integer year,
+            Integer semester
+    );
+
+    @Query("SELECT h.studentId FROM AcademicHistoryJpaEntity h " +
+            "WHERE h.year = :year AND h.semester = :semester AND h.bimester = :bimester")
+    List<UUID> findStudentIdsByPeriod(
+            @Param("year") Integer year,
+            @Param("semester") Integer semester,
+            @Param("bimester") Integer bimester
+    );
+
+    @Query("SELECT h.studentId FROM AcademicHistoryJpaEntity h " +
+            "WHERE h.year = :year AND h.semester = :semester AND h.bimester IS NULL")
+    List<UUID> findStudentIdsBySemester(
+            @Param("year") Integer year,
+            @Param("semester") Integer semester
+    );
+}
@@ -0,0 +1,75 @@
+package com.binah.ace.student.infrastructure.persistence.jpa;
+
+import jakarta.persistence.*;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.io.Serializable;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * JPA entity for the attendance bitmaps of a student in a classroom
+ * subject during one semester (ace.attendance.storage=bitmap).
+ *
+ * Only mapped so the table is created with the schema;
+ * reads and writes are SQL in BitmapAttendanceRepositoryImpl.
+ * There is one column per AttendanceStatus (NULL = no day).
+ *
+ * @author Marcos Gustavo
+ */
+@Entity
+@Table(name = "attendance_bitmaps",
+        indexes = @Index(name = "idx_attendance_bitmaps_subject",
+                columnList = "classroom_subject_id, year, semester")
+)
+@Getter
+@Setter
+public class AttendanceBitmapJpaEntity {
+
+    @EmbeddedId
+    private Key id;
+
+    @Column(name = "present_days", columnDefinition = "bytea")
+    private byte[] presentDays;
+
+    @Column(name = "absent_days", columnDefinition = "bytea")
+    private byte[] absentDays;
+
+    @Column(name = "late_days", columnDefinition = "bytea")
+    private byte[] lateDays;
+
+    @Column(name = "excused_days", columnDefinition = "bytea")
+    private byte[] excusedDays;
+
+    @Column(name = "medical_leave_days", columnDefinition = "bytea")
+    private byte[] medicalLeaveDays;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    /**
+     * Composite key (student_id, classroom_subject_id, year, semester).
+     */
+    @Embeddable
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @EqualsAndHashCode
+    public static class Key implements Serializable {
+
+        @Column(name = "student_id", nullable = false)
+        private UUID studentId;
+
+        @Column(name = "classroom_subject_id", nullable = false)
+        private UUID classroomSubjectId;
+
+        @Column(nullable = false)
+        private Integer year;
+
+        @Column(nullable = false)
+        private Integer semester;
+    }
+}
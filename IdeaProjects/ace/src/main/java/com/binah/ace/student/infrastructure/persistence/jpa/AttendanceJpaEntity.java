@@ -18,14 +18,18 @@ import java.util.UUID;
 @Table(name = "attendance",
         uniqueConstraints = @UniqueConstraint(
                 columnNames = {"student_id", "classroom_subject_id", "class_date"}
+        ),
+        indexes = @Index(
+                name = "idx_attendance_subject_date",
+                columnList = "classroom_subject_id, class_date"
         )
 )
 @Getter
 @Setter
 public class AttendanceJpaEntity {
 
+    // ID atribuído pelo domínio; o upsert mantém o ID da linha que já existia
     @Id
-    @GeneratedValue(strategy = GenerationType.AUTO)
     private UUID id;
 
     @Column(name = "student_id", nullable = false)
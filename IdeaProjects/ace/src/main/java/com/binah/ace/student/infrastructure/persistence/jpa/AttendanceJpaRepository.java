@@ -0,0 +1,60 @@
+package com.binah.ace.student.infrastructure.persistence.jpa;
+
+import com.binah.ace.student.domain.enums.AttendanceStatus;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Spring Data JPA Repository for AttendanceJpaEntity.
+ *
+ * @author Marcos Gustavo
+ */
+@Repository
+public interface AttendanceJpaRepository extends JpaRepository<AttendanceJpaEntity, UUID> {
+
+    List<AttendanceJpaEntity> findByClassroomSubjectIdAndClassDateOrderByStudentId(
+            UUID classroomSubjectId,
+            LocalDate classDate
+    );
+
+    /**
+     * Attendance counts per student and subject in a date range.
+     * Only the counts leave the database, never the individual rows.
+     */
+    @Query("SELECT a.studentId AS studentId, a.classroomSubjectId AS classroomSubjectId, " +
+            "COUNT(a) AS totalClasses, " +
+            "COUNT(a) FILTER (WHERE a.status IN :presentStatuses) AS attendedClasses, " +
+            "COUNT(a) FILTER (WHERE a.status IN :unexcusedStatuses) AS unexcusedAbsences " +
+            "FROM AttendanceJpaEntity a WHERE a.studentId IN :studentIds " +
+            "AND a.classDate BETWEEN :from AND :to " +
+            "GROUP BY a.studentId, a.classroomSubjectId")
+    List<StudentSubjectAttendance> summarizeByStudentIds(
+            @Param("studentIds") Collection<UUID> studentIds,
+            @Param("from") LocalDate from,
+            @Param("to") LocalDate to,
+            @Param("presentStatuses") Collection<AttendanceStatus> presentStatuses,
+            @Param("unexcusedStatuses") Collection<AttendanceStatus> unexcusedStatuses
+    );
+
+    /**
+     * Projection of the attendance counts of a student in a subject.
+     */
+    interface StudentSubjectAttendance {
+        UUID getStudentId();
+
+        UUID getClassroomSubjectId();
+
+        long getTotalClasses();
+
+        long getAttendedClasses();
+
+        long getUnexcusedAbsences();
+    }
+}
@@ -0,0 +1,33 @@
+package com.binah.ace.student.infrastructure.persistence.jpa;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+/**
+ * JPA entity for the marker rows of the one-off data backfills.
+ *
+ * A backfill runs only while its row is missing and inserts it in the same
+ * transaction; deleting the row makes it run again on the next start.
+ * Only mapped so the table is created with the schema.
+ *
+ * @author Marcos Gustavo
+ */
+@Entity
+@Table(name = "data_backfills")
+@Getter
+@Setter
+public class DataBackfillJpaEntity {
+
+    @Id
+    @Column(length = 100)
+    private String name;
+
+    @Column(name = "completed_at", nullable = false)
+    private LocalDateTime completedAt;
+}
@@ -0,0 +1,33 @@
+package com.binah.ace.student.infrastructure.persistence.jpa;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.time.LocalDate;
+
+/**
+ * JPA entity for the enrollment number counter of each day.
+ *
+ * Only mapped so the table is created with the schema;
+ * reads and writes are atomic SQL in EnrollmentSequenceRepositoryImpl.
+ *
+ * @author Marcos Gustavo
+ */
+@Entity
+@Table(name = "enrollment_sequences")
+@Getter
+@Setter
+public class EnrollmentSequenceJpaEntity {
+
+    @Id
+    @Column(name = "enrollment_date")
+    private LocalDate enrollmentDate;
+
+    // Último número já reservado no dia
+    @Column(name = "last_value", nullable = false)
+    private Long lastValue;
+}
@@ -0,0 +1,70 @@
+package com.binah.ace.student.infrastructure.persistence.jpa;
+
+import jakarta.persistence.*;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * JPA entity for the running grade totals of a student in a period.
+ *
+ * Rows are written only through the upsert in GradeAggregateJpaRepository.
+ *
+ * @author Marcos Gustavo
+ */
+@Entity
+@Table(name = "grade_aggregates")
+@Getter
+@Setter
+public class GradeAggregateJpaEntity {
+
+    /**
+     * Bimester stored for grades posted without a bimester.
+     * Keeps the primary key NOT NULL so the upsert can target it.
+     */
+    public static final int NO_BIMESTER = 0;
+
+    @EmbeddedId
+    private Key id;
+
+    @Column(name = "weighted_score_sum", nullable = false, precision = 14, scale = 4)
+    private BigDecimal weightedScoreSum;
+
+    @Column(name = "weight_sum", nullable = false, precision = 12, scale = 2)
+    private BigDecimal weightSum;
+
+    @Column(name = "grade_count", nullable = false)
+    private Long gradeCount;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    /**
+     * Composite key (student_id, year, semester, bimester).
+     */
+    @Embeddable
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @EqualsAndHashCode
+    public static class Key implements Serializable {
+
+        @Column(name = "student_id", nullable = false)
+        private UUID studentId;
+
+        @Column(nullable = false)
+        private Integer year;
+
+        @Column(nullable = false)
+        private Integer semester;
+
+        @Column(nullable = false)
+        private Integer bimester;
+    }
+}
@@ -0,0 +1,114 @@
+package com.binah.ace.student.infrastructure.persistence.jpa;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Spring Data JPA repository for GradeAggregateJpaEntity.
+ *
+ * @author Marcos Gustavo
+ */
+@Repository
+public interface GradeAggregateJpaRepository
+        extends JpaRepository<GradeAggregateJpaEntity, GradeAggregateJpaEntity.Key> {
+
+    /**
+     * Next page of the students that have grades or aggregates, i.e. whose
+     * totals may need to be recomputed, in ID order (keyset pagination).
+     */
+    @Query(value = "SELECT student_id FROM (" +
+            "SELECT student_id FROM grades WHERE student_id > :after " +
+            "UNION SELECT student_id FROM grade_aggregates WHERE student_id > :after" +
+            ") ids ORDER BY student_id LIMIT :limit",
+            nativeQuery = true)
+    List<UUID> findStudentIdsToRebuild(@Param("after") UUID after, @Param("limit") int limit);
+
+    @Modifying
+    @Query("DELETE FROM GradeAggregateJpaEntity a WHERE a.id.studentId = :studentId")
+    int deleteByStudentId(@Param("studentId") UUID studentId);
+
+    /**
+     * Recomputes the rows of every period in which the student has grades.
+     * Used by GradeAggregateInitializer, after the existing rows were deleted.
+     */
+    @Modifying
+    @Query(value = "INSERT INTO grade_aggregates " +
+            "(student_id, year, semester, bimester, weighted_score_sum, weight_sum, grade_count, updated_at) " +
+            "SELECT student_id, year, semester, COALESCE(bimester, 0), " +
+            "SUM(score * weight), SUM(weight), COUNT(*), now() " +
+            "FROM grades WHERE student_id = :studentId GROUP BY student_id, year, semester, COALESCE(bimester, 0) " +
+            "ON CONFLICT (student_id, year, semester, bimester) DO UPDATE SET " +
+            "weighted_score_sum = EXCLUDED.weighted_score_sum, " +
+            "weight_sum = EXCLUDED.weight_sum, " +
+            "grade_count = EXCLUDED.grade_count, " +
+            "updated_at = EXCLUDED.updated_at",
+            nativeQuery = true)
+    int rebuildFromGrades(@Param("studentId") UUID studentId);
+
+    @Query("SELECT COALESCE(SUM(a.weightedScoreSum), 0) AS weightedScoreSum, " +
+            "COALESCE(SUM(a.weightSum), 0) AS weightSum, " +
+            "COALESCE(SUM(a.gradeCount), 0) AS gradeCount " +
+            "FROM GradeAggregateJpaEntity a WHERE a.id.studentId = :studentId " +
+            "AND a.id.year = :year AND a.id.semester = :semester")
+    Totals sumByStudentIdAndPeriod(
+            @Param("studentId") UUID studentId,
+            @Param("year") int year,
+            @Param("semester") int semester
+    );
+
+    @Query("SELECT COALESCE(SUM(a.weightedScoreSum), 0) AS weightedScoreSum, " +
+            "COALESCE(SUM(a.weightSum), 0) AS weightSum, " +
+            "COALESCE(SUM(a.gradeCount), 0) AS gradeCount " +
+            "FROM GradeAggregateJpaEntity a WHERE a.id.studentId = :studentId")
+    Totals sumByStudentId(@Param("studentId") UUID studentId);
+
+    @Query("SELECT a.id.studentId AS studentId, " +
+            "SUM(a.weightedScoreSum) AS weightedScoreSum, " +
+            "SUM(a.weightSum) AS weightSum, " +
+            "SUM(a.gradeCount) AS gradeCount " +
+            "FROM GradeAggregateJpaEntity a WHERE a.id.studentId IN :studentIds " +
+            "AND a.id.year = :year AND a.id.semester = :semester " +
+            "GROUP BY a.id.studentId")
+    List<StudentTotals> sumByStudentIdsAndPeriod(
+            @Param("studentIds") Collection<UUID> studentIds,
+            @Param("year") int year,
+            @Param("semester") int semester
+    );
+
+    @Query("SELECT a.id.studentId AS studentId, " +
+            "a.weightedScoreSum AS weightedScoreSum, " +
+            "a.weightSum AS weightSum, " +
+            "a.gradeCount AS gradeCount " +
+            "FROM GradeAggregateJpaEntity a WHERE a.id.studentId IN :studentIds " +
+            "AND a.id.year = :year AND a.id.semester = :semester AND a.id.bimester = :bimester")
+    List<StudentTotals> findByStudentIdsAndPeriodWithBimester(
+            @Param("studentIds") Collection<UUID> studentIds,
+            @Param("year") int year,
+            @Param("semester") int semester,
+            @Param("bimester") int bimester
+    );
+
+    /**
+     * Projection of the summed totals.
+     */
+    interface Totals {
+        BigDecimal getWeightedScoreSum();
+        BigDecimal getWeightSum();
+        Long getGradeCount();
+    }
+
+    /**
+     * Projection of the summed totals of one student.
+     */
+    interface StudentTotals extends Totals {
+        UUID getStudentId();
+    }
+}
@@ -16,13 +16,16 @@ import java.util.UUID;
  * @author Marcos Gustavo
  */
 @Entity
-@Table(name = "grades")
+@Table(name = "grades", indexes = {
+        @Index(name = "idx_grades_classroom_subject_period",
+                columnList = "classroom_subject_id, year, semester, bimester")
+})
 @Getter
 @Setter
 public class GradeJpaEntity {
 
+    // ID atribuído pelo domínio: persist() não consulta o banco e os inserts entram em lote
     @Id
-    @GeneratedValue(strategy = GenerationType.AUTO)
     private UUID id;
 
     @Column(name = "student_id", nullable = false)
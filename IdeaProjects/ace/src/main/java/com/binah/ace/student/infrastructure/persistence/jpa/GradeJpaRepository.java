@@ -1,11 +1,17 @@
 package com.binah.ace.student.infrastructure.persistence.jpa;
 
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.math.BigDecimal;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 /**
@@ -16,10 +22,19 @@ import java.util.UUID;
 @Repository
 public interface GradeJpaRepository extends JpaRepository<GradeJpaEntity, UUID> {
 
+    /**
+     * Loads the grade and locks its row until the end of the transaction.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT g FROM GradeJpaEntity g WHERE g.id = :id")
+    Optional<GradeJpaEntity> findByIdForUpdate(@Param("id") UUID id);
+
     List<GradeJpaEntity> findByStudentId(UUID studentId);
 
     List<GradeJpaEntity> findByClassroomSubjectId(UUID classroomSubjectId);
 
+    List<GradeJpaEntity> findByStudentIdIn(Collection<UUID> studentIds);
+
     @Query("SELECT g FROM GradeJpaEntity g WHERE g.studentId = :studentId " +
             "AND g.year = :year AND g.semester = :semester")
     List<GradeJpaEntity> findByStudentIdAndPeriod(
@@ -36,4 +51,110 @@ public interface GradeJpaRepository extends JpaRepository<GradeJpaEntity, UUID>
             @Param("semester") int semester,
             @Param("bimester") int bimester
     );
-}
\ No newline at end of file
+
+    @Query("SELECT g FROM GradeJpaEntity g WHERE g.studentId IN :studentIds " +
+            "AND g.year = :year AND g.semester = :semester")
+    List<GradeJpaEntity> findByStudentIdsAndPeriod(
+            @Param("studentIds") Collection<UUID> studentIds,
+            @Param("year") int year,
+            @Param("semester") int semester
+    );
+
+    @Query("SELECT g FROM GradeJpaEntity g WHERE g.studentId IN :studentIds " +
+            "AND g.year = :year AND g.semester = :semester AND g.bimester = :bimester")
+    List<GradeJpaEntity> findByStudentIdsAndPeriodWithBimester(
+            @Param("studentIds") Collection<UUID> studentIds,
+            @Param("year") int year,
+            @Param("semester") int semester,
+            @Param("bimester") int bimester
+    );
+
+    /**
+     * Next page of the students with grades in a period, in ID order
+     * (keyset pagination). Without bimester, covers the semester.
+     */
+    @Query("SELECT DISTINCT g.studentId FROM GradeJpaEntity g " +
+            "WHERE g.year = :year AND g.semester = :semester " +
+            "AND (:bimester IS NULL OR g.bimester = :bimester) " +
+            "AND g.studentId > :after " +
+            "ORDER BY g.studentId")
+    List<UUID> findStudentIdsByPeriod(
+            @Param("year") int year,
+            @Param("semester") int semester,
+            @Param("bimester") Integer bimester,
+            @Param("after") UUID after,
+            Limit limit
+    );
+
+    /**
+     * Same as findStudentIdsByPeriod, restricted to the students with grades in the classroom subject.
+     */
+    @Query("SELECT DISTINCT g.studentId FROM GradeJpaEntity g " +
+            "WHERE g.classroomSubjectId = :classroomSubjectId " +
+            "AND g.year = :year AND g.semester = :semester " +
+            "AND (:bimester IS NULL OR g.bimester = :bimester) " +
+            "AND g.studentId > :after " +
+            "ORDER BY g.studentId")
+    List<UUID> findStudentIdsByClassroomSubjectAndPeriod(
+            @Param("classroomSubjectId") UUID classroomSubjectId,
+            @Param("year") int year,
+            @Param("semester") int semester,
+            @Param("bimester") Integer bimester,
+            @Param("after") UUID after,
+            Limit limit
+    );
+
+    /**
+     * Per-student totals of a classroom subject in a semester, computed by the database.
+     * Scores at or above :passingScore count as passing, below :failingScore as failing.
+     */
+    @Query("SELECT g.studentId AS studentId, " +
+            "SUM(g.score * g.weight) AS weightedScoreSum, SUM(g.weight) AS weightSum, " +
+            "COUNT(g) AS gradeCount, " +
+            "SUM(CASE WHEN g.score >= :passingScore THEN 1 ELSE 0 END) AS passingCount, " +
+            "SUM(CASE WHEN g.score < :failingScore THEN 1 ELSE 0 END) AS failingCount " +
+            "FROM GradeJpaEntity g WHERE g.classroomSubjectId = :classroomSubjectId " +
+            "AND g.year = :year AND g.semester = :semester " +
+            "GROUP BY g.studentId ORDER BY g.studentId")
+    List<StudentSubjectTotals> summarizeByClassroomSubjectAndPeriod(
+            @Param("classroomSubjectId") UUID classroomSubjectId,
+            @Param("year") int year,
+            @Param("semester") int semester,
+            @Param("passingScore") BigDecimal passingScore,
+            @Param("failingScore") BigDecimal failingScore
+    );
+
+    @Query("SELECT g.studentId AS studentId, " +
+            "SUM(g.score * g.weight) AS weightedScoreSum, SUM(g.weight) AS weightSum, " +
+            "COUNT(g) AS gradeCount, " +
+            "SUM(CASE WHEN g.score >= :passingScore THEN 1 ELSE 0 END) AS passingCount, " +
+            "SUM(CASE WHEN g.score < :failingScore THEN 1 ELSE 0 END) AS failingCount " +
+            "FROM GradeJpaEntity g WHERE g.classroomSubjectId = :classroomSubjectId " +
+            "AND g.year = :year AND g.semester = :semester AND g.bimester = :bimester " +
+            "GROUP BY g.studentId ORDER BY g.studentId")
+    List<StudentSubjectTotals> summarizeByClassroomSubjectAndPeriodWithBimester(
+            @Param("classroomSubjectId") UUID classroomSubjectId,
+            @Param("year") int year,
+            @Param("semester") int semester,
+            @Param("bimester") int bimester,
+            @Param("passingScore") BigDecimal passingScore,
+            @Param("failingScore") BigDecimal failingScore
+    );
+
+    /**
+     * Projection of the per-student totals of a classroom subject.
+     */
+    interface StudentSubjectTotals {
+        UUID getStudentId();
+
+        BigDecimal getWeightedScoreSum();
+
+        BigDecimal getWeightSum();
+
+        long getGradeCount();
+
+        long getPassingCount();
+
+        long getFailingCount();
+    }
+}
@@ -0,0 +1,73 @@
+package com.binah.ace.student.infrastructure.persistence.jpa;
+
+import com.binah.ace.student.domain.enums.PeriodClosureStatus;
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * JPA entity for the closing of an academic period.
+ *
+ * Only mapped so the table is created with the schema;
+ * reads and writes are atomic SQL in PeriodClosureRepositoryImpl.
+ *
+ * @author Marcos Gustavo
+ */
+@Entity
+@Table(name = "period_closures",
+        uniqueConstraints = @UniqueConstraint(columnNames = {"year", "semester", "bimester"})
+)
+@Getter
+@Setter
+public class PeriodClosureJpaEntity {
+
+    /**
+     * Bimester stored for periods without a bimester.
+     * Keeps the unique key NOT NULL so the upsert can target it.
+     */
+    public static final int NO_BIMESTER = 0;
+
+    @Id
+    private UUID id;
+
+    @Column(nullable = false)
+    private Integer year;
+
+    @Column(nullable = false)
+    private Integer semester;
+
+    @Column(nullable = false)
+    private Integer bimester;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private PeriodClosureStatus status;
+
+    @Column(name = "total_students", nullable = false)
+    private Integer totalStudents;
+
+    @Column(name = "processed_students", nullable = false)
+    private Integer processedStudents;
+
+    @Column(name = "failed_students", nullable = false)
+    private Integer failedStudents;
+
+    @Column(name = "last_error", columnDefinition = "TEXT")
+    private String lastError;
+
+    @Column(name = "started_by")
+    private UUID startedBy;
+
+    @Column(name = "started_at", nullable = false)
+    private LocalDateTime startedAt;
+
+    // Atualizado a cada chunk: sem progresso por muito tempo = execução morta
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    @Column(name = "finished_at")
+    private LocalDateTime finishedAt;
+}
@@ -0,0 +1,69 @@
+package com.binah.ace.student.infrastructure.persistence.jpa;
+
+import jakarta.persistence.*;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.io.Serializable;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * JPA entity for a stored report card (read model).
+ *
+ * Only mapped so the table is created with the schema;
+ * reads and writes are SQL in ReportCardViewRepositoryImpl.
+ *
+ * @author Marcos Gustavo
+ */
+@Entity
+@Table(name = "report_card_views")
+@Getter
+@Setter
+public class ReportCardViewJpaEntity {
+
+    /**
+     * Bimester stored for semester report cards.
+     * Keeps the primary key NOT NULL so the upserts can target it.
+     */
+    public static final int NO_BIMESTER = 0;
+
+    @EmbeddedId
+    private Key id;
+
+    // Incrementado a cada invalidação
+    @Column(nullable = false)
+    private Long version;
+
+    // Boletim completo em JSON; NULL quando invalidado
+    @Column(columnDefinition = "jsonb")
+    private String document;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    /**
+     * Composite key (student_id, year, semester, bimester).
+     */
+    @Embeddable
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @EqualsAndHashCode
+    public static class Key implements Serializable {
+
+        @Column(name = "student_id", nullable = false)
+        private UUID studentId;
+
+        @Column(nullable = false)
+        private Integer year;
+
+        @Column(nullable = false)
+        private Integer semester;
+
+        @Column(nullable = false)
+        private Integer bimester;
+    }
+}
@@ -18,13 +18,15 @@ import java.util.UUID;
  * @author Marcos Gustavo
  */
 @Entity
-@Table(name = "students")
+@Table(name = "students", indexes = {
+        // keyset pagination of the students query
+        @Index(name = "idx_students_status_full_name_id", columnList = "status, full_name, id")
+})
 @Getter
 @Setter
 public class StudentJpaEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.AUTO)
     private UUID id;
 
     @Column(name = "full_name", nullable = false, length = 200)
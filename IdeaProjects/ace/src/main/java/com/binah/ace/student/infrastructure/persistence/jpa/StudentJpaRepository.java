@@ -1,10 +1,16 @@
 package com.binah.ace.student.infrastructure.persistence.jpa;
 
 import com.binah.ace.student.domain.enums.StudentStatus;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -23,16 +29,43 @@ public interface StudentJpaRepository extends JpaRepository<StudentJpaEntity, UU
 
     List<StudentJpaEntity> findByStatus(StudentStatus status);
 
+    Page<StudentJpaEntity> findByUpdatedAtGreaterThanEqual(LocalDateTime since, Pageable pageable);
+
     boolean existsByCpf(String cpf);
 
     boolean existsByEnrollmentNumber(String enrollmentNumber);
 
+    @Query("SELECT s.cpf FROM StudentJpaEntity s WHERE s.cpf IN :cpfs")
+    List<String> findExistingCpfs(@Param("cpfs") Collection<String> cpfs);
+
+    @Query("SELECT s.email FROM StudentJpaEntity s WHERE s.email IN :emails")
+    List<String> findExistingEmails(@Param("emails") Collection<String> emails);
+
     @Query("SELECT s FROM StudentJpaEntity s WHERE s.status = 'ACTIVE'")
     List<StudentJpaEntity> findActiveStudents();
 
+    /**
+     * First page of active students by (fullName, id).
+     */
+    @Query("SELECT s FROM StudentJpaEntity s WHERE s.status = 'ACTIVE' ORDER BY s.fullName, s.id")
+    List<StudentJpaEntity> findActiveStudentsPage(Limit limit);
+
+    /**
+     * Next page of active students: seeks past the (fullName, id) of the
+     * last row instead of using OFFSET, so deep pages cost the same as the first.
+     */
+    @Query("SELECT s FROM StudentJpaEntity s WHERE s.status = 'ACTIVE' " +
+            "AND (s.fullName, s.id) > (:fullName, :id) " +
+            "ORDER BY s.fullName, s.id")
+    List<StudentJpaEntity> findActiveStudentsAfter(
+            @Param("fullName") String fullName,
+            @Param("id") UUID id,
+            Limit limit
+    );
+
+    @Query("SELECT s.id FROM StudentJpaEntity s WHERE s.status = 'ACTIVE' ORDER BY s.id")
+    List<UUID> findActiveStudentIds();
+
     @Query("SELECT COUNT(s) FROM StudentJpaEntity s WHERE s.status = 'ACTIVE'")
     long countActiveStudents();
-
-    @Query("SELECT s FROM StudentJpaEntity s WHERE LOWER(s.fullName) LIKE LOWER(CONCAT('%', :name, '%'))")
-    List<StudentJpaEntity> searchByName(String name);
 }
\ No newline at end of file
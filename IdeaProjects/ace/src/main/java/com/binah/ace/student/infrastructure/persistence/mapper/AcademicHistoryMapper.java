@@ -0,0 +1,47 @@
+package com.binah.ace.student.infrastructure.persistence.mapper;
+
+import com.binah.ace.student.domain.entity.AcademicHistory;
+import com.binah.ace.student.domain.valueobject.AcademicPeriod;
+import com.binah.ace.student.domain.valueobject.GPA;
+import com.binah.ace.student.infrastructure.persistence.jpa.AcademicHistoryJpaEntity;
+import org.springframework.stereotype.Component;
+
+/**
+ * Mapper for converting AcademicHistory (domain) ↔ AcademicHistoryJpaEntity (infrastructure).
+ *
+ * @author Marcos Gustavo
+ */
+@Component
+public class AcademicHistoryMapper {
+
+    /**
+     * JPA Entity → Domain Entity.
+     */
+    public AcademicHistory toDomain(AcademicHistoryJpaEntity entity) {
+        if (entity == null) {
+            return null;
+        }
+
+        AcademicPeriod period = new AcademicPeriod(
+                entity.getYear(),
+                entity.getSemester(),
+                entity.getBimester()
+        );
+
+        return new AcademicHistory(
+                entity.getId(),
+                entity.getStudentId(),
+                period,
+                new GPA(entity.getGpa()),
+                entity.getAttendancePercentage(),
+                entity.getTotalClasses(),
+                entity.getAttendedClasses(),
+                entity.getTotalCredits(),
+                entity.getApprovedCredits(),
+                entity.getIsApproved(),
+                entity.getRemarks(),
+                entity.getCreatedAt(),
+                entity.getUpdatedAt()
+        );
+    }
+}
@@ -0,0 +1,57 @@
+package com.binah.ace.student.infrastructure.persistence.mapper;
+
+import com.binah.ace.student.domain.entity.Attendance;
+import com.binah.ace.student.infrastructure.persistence.jpa.AttendanceJpaEntity;
+import org.springframework.stereotype.Component;
+
+/**
+ * Mapper for converting Attendance (domain) ↔ AttendanceJpaEntity (infrastructure).
+ *
+ * @author Marcos Gustavo
+ */
+@Component
+public class AttendanceMapper {
+
+    /**
+     * JPA Entity → Domain Entity.
+     */
+    public Attendance toDomain(AttendanceJpaEntity entity) {
+        if (entity == null) {
+            return null;
+        }
+
+        return new Attendance(
+                entity.getId(),
+                entity.getStudentId(),
+                entity.getClassroomSubjectId(),
+                entity.getClassDate(),
+                entity.getStatus(),
+                entity.getNotes(),
+                entity.getRecordedBy(),
+                entity.getCreatedAt(),
+                entity.getUpdatedAt()
+        );
+    }
+
+    /**
+     * Domain Entity → JPA Entity.
+     */
+    public AttendanceJpaEntity toJpa(Attendance attendance) {
+        if (attendance == null) {
+            return null;
+        }
+
+        AttendanceJpaEntity entity = new AttendanceJpaEntity();
+        entity.setId(attendance.getId());
+        entity.setStudentId(attendance.getStudentId());
+        entity.setClassroomSubjectId(attendance.getClassroomSubjectId());
+        entity.setClassDate(attendance.getClassDate());
+        entity.setStatus(attendance.getStatus());
+        entity.setNotes(attendance.getNotes());
+        entity.setRecordedBy(attendance.getRecordedBy());
+        entity.setCreatedAt(attendance.getCreatedAt());
+        entity.setUpdatedAt(attendance.getUpdatedAt());
+
+        return entity;
+    }
+}
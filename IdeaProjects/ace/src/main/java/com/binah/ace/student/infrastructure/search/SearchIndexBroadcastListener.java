@@ -0,0 +1,77 @@
+package com.binah.ace.student.infrastructure.search;
+
+import com.binah.ace.shared.events.broadcast.BroadcastListener;
+import com.binah.ace.student.domain.entity.Student;
+import com.binah.ace.student.infrastructure.persistence.jpa.StudentJpaRepository;
+import com.binah.ace.student.infrastructure.persistence.mapper.StudentMapper;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * Keeps the search index of this node in line with the database.
+ *
+ * StudentRepositoryImpl broadcasts the ID of every student it creates,
+ * updates or deletes when the transaction commits, and every node applies
+ * the change to its own index. Students are read back from the database
+ * through JPA (not the student cache), so the index gets their committed
+ * state; students no longer in the database are removed from it.
+ *
+ * After the broadcast connection was lost the index is reconciled, since
+ * the changes made meanwhile were not received.
+ *
+ * @author Marcos Gustavo
+ */
+@Component
+public class SearchIndexBroadcastListener implements BroadcastListener {
+
+    /** Channel of the changed student IDs. */
+    public static final String CHANNEL = "ace_students_changed";
+
+    private final StudentJpaRepository jpaRepository;
+    private final StudentMapper mapper;
+    private final StudentElasticRepository searchRepository;
+    private final StudentSearchIndexInitializer initializer;
+
+    public SearchIndexBroadcastListener(
+            StudentJpaRepository jpaRepository,
+            StudentMapper mapper,
+            StudentElasticRepository searchRepository,
+            StudentSearchIndexInitializer initializer
+    ) {
+        this.jpaRepository = jpaRepository;
+        this.mapper = mapper;
+        this.searchRepository = searchRepository;
+        this.initializer = initializer;
+    }
+
+    @Override
+    public String channel() {
+        return CHANNEL;
+    }
+
+    @Override
+    public void onMessages(List<String> messages) {
+        Set<UUID> studentIds = messages.stream()
+                .map(UUID::fromString)
+                .collect(Collectors.toSet());
+
+        List<Student> students = jpaRepository.findAllById(studentIds)
+                .stream()
+                .map(mapper::toDomain)
+                .toList();
+        searchRepository.indexAll(students);
+
+        Set<UUID> found = students.stream().map(Student::getId).collect(Collectors.toSet());
+        List<UUID> removed = studentIds.stream().filter(id -> !found.contains(id)).toList();
+        searchRepository.deleteAll(removed);
+    }
+
+    @Override
+    public void onReconnected() {
+        initializer.reconcile();
+    }
+}
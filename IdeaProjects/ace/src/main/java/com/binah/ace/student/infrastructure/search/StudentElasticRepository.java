@@ -1,24 +1,78 @@
 package com.binah.ace.student.infrastructure.search;
 
 import com.binah.ace.student.domain.entity.Student;
+import com.binah.ace.student.domain.enums.StudentStatus;
+import com.binah.ace.student.domain.valueobject.StudentSearchHit;
+import com.binah.ace.student.infrastructure.persistence.jpa.StudentJpaEntity;
+import com.binah.ace.student.infrastructure.persistence.jpa.StudentJpaRepository;
+import com.binah.ace.student.infrastructure.persistence.mapper.StudentMapper;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.analysis.TokenStream;
+import org.apache.lucene.analysis.tokenattributes.CharTermAttribute;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.SortedDocValuesField;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.document.TextField;
+import org.apache.lucene.index.DirectoryReader;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.SegmentInfos;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.search.BooleanClause;
+import org.apache.lucene.search.BooleanQuery;
+import org.apache.lucene.search.BoostQuery;
+import org.apache.lucene.search.FieldDoc;
+import org.apache.lucene.search.FuzzyQuery;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.MatchAllDocsQuery;
+import org.apache.lucene.search.PrefixQuery;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.SearcherManager;
+import org.apache.lucene.search.Sort;
+import org.apache.lucene.search.SortField;
+import org.apache.lucene.search.TermQuery;
+import org.apache.lucene.search.TopDocs;
+import org.apache.lucene.search.TopFieldDocs;
+import org.apache.lucene.store.MMapDirectory;
+import org.apache.lucene.util.BytesRef;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 /**
- * Repository for advanced Student search using Elasticsearch.
+ * Repository for advanced Student search.
  *
- * Elasticsearch allows:
- * - Full-text search (name, CPF, email)
+ * Embedded Lucene index, memory-mapped from disk (ace.search.index-path):
+ * - Full-text search (name, CPF, email, enrollment number)
+ * - Accent folding ("Joao" finds "João")
  * - Fuzzy search (tolerates typos)
- * - Aggregations (statistics, rankings)
- * - High performance with large data volumes
+ * - Counts by status
  *
- * For now, only the structure – Elasticsearch will be implemented in the future.
+ * The index only holds the searchable fields and the ID; hits are
+ * loaded from the database, in relevance order.
  *
  * @author Marcos Gustavo
  */
@@ -27,90 +81,452 @@ public class StudentElasticRepository {
 
     private static final Logger log = LoggerFactory.getLogger(StudentElasticRepository.class);
 
+    static final String FIELD_ID = "id";
+    static final String FIELD_FULL_NAME = "fullName";
+    static final String FIELD_CPF = "cpf";
+    static final String FIELD_EMAIL = "email";
+    static final String FIELD_ENROLLMENT = "enrollmentNumber";
+    static final String FIELD_STATUS = "status";
+
+    // Incrementar quando os campos indexados mudarem
+    private static final String SCHEMA_VERSION_KEY = "schemaVersion";
+    private static final String SCHEMA_VERSION = "2";
+
+    // Momento do último commit: na partida, os alunos alterados depois dele são reindexados
+    private static final String COMMITTED_AT_KEY = "committedAt";
+
+    // Desempate por ID: a paginação por cursor precisa de uma ordem total
+    private static final Sort RELEVANCE_THEN_ID =
+            new Sort(SortField.FIELD_SCORE, new SortField(FIELD_ID, SortField.Type.STRING));
+    private static final Sort BY_ID = new Sort(new SortField(FIELD_ID, SortField.Type.STRING));
+
+    // Termos com até 2 letras não são buscados com fuzzy
+    private static final int FUZZY_MIN_LENGTH = 3;
+    private static final int CPF_MIN_PREFIX = 3;
+
+    private final StudentJpaRepository jpaRepository;
+    private final StudentMapper mapper;
+    private final Path indexPath;
+    private final int maxResults;
+    private final Analyzer analyzer = new FoldingAnalyzer();
+
+    private MMapDirectory directory;
+    private IndexWriter writer;
+    private SearcherManager searcherManager;
+
+    public StudentElasticRepository(
+            StudentJpaRepository jpaRepository,
+            StudentMapper mapper,
+            @Value("${ace.search.index-path:data/search-index}") Path indexPath,
+            @Value("${ace.search.max-results:50}") int maxResults
+    ) {
+        this.jpaRepository = jpaRepository;
+        this.mapper = mapper;
+        this.indexPath = indexPath;
+        this.maxResults = maxResults;
+    }
+
+    @PostConstruct
+    public void open() throws IOException {
+        directory = new MMapDirectory(indexPath);
+
+        // Índice de uma versão anterior dos campos: recria vazio e o initializer reindexa
+        IndexWriterConfig.OpenMode openMode = hasCurrentSchema()
+                ? IndexWriterConfig.OpenMode.CREATE_OR_APPEND
+                : IndexWriterConfig.OpenMode.CREATE;
+
+        writer = new IndexWriter(directory, new IndexWriterConfig(analyzer).setOpenMode(openMode));
+        if (openMode == IndexWriterConfig.OpenMode.CREATE) {
+            writer.setLiveCommitData(Map.of(SCHEMA_VERSION_KEY, SCHEMA_VERSION).entrySet());
+        }
+        searcherManager = new SearcherManager(writer, null);
+
+        log.info("🔍 Student search index opened at {} ({} documents)",
+                indexPath.toAbsolutePath(), writer.getDocStats().numDocs);
+    }
+
+    @PreDestroy
+    public void close() throws IOException {
+        searcherManager.close();
+        writer.close();
+        directory.close();
+        analyzer.close();
+    }
+
     /**
-     * Busca full-text por nome, CPF ou email.
+     * Busca full-text por nome, CPF, email ou matrícula.
+     *
+     * Each word of the name matches whole or as a prefix ("jo sil" finds "João da Silva").
      *
      * @param searchTerm Termo de busca
-     * @return Lista de alunos encontrados
+     * @return Lista de alunos encontrados, por relevância
      */
     public List<Student> search(String searchTerm) {
-        log.info("🔍 Elasticsearch search: {}", searchTerm);
+        Query query = searchQuery(searchTerm);
+        if (query == null) {
+            return Collections.emptyList();
+        }
+
+        return execute(query);
+    }
+
+    /**
+     * Busca full-text paginada por cursor (search_after).
+     *
+     * Ordena por relevância e depois por ID, então o último resultado de uma
+     * página diz exatamente onde a próxima começa, sem pular nem repetir alunos
+     * (desde que o índice não mude entre as páginas).
+     *
+     * @param searchTerm Termo de busca
+     * @param after Posição do último resultado da página anterior (null na primeira página)
+     * @param limit Quantidade máxima de resultados
+     * @return Resultados da página, por relevância
+     */
+    public List<StudentSearchHit> search(String searchTerm, StudentSearchHit.Position after, int limit) {
+        Query query = searchQuery(searchTerm);
+        if (query == null) {
+            return Collections.emptyList();
+        }
+
+        Map<UUID, Float> scores = withSearcher(searcher -> {
+            // o ID desempata; o doc do FieldDoc só precisa excluir o próprio "after"
+            FieldDoc afterDoc = after == null ? null : new FieldDoc(
+                    searcher.getIndexReader().maxDoc() - 1,
+                    after.score(),
+                    new Object[]{after.score(), new BytesRef(after.studentId().toString())}
+            );
 
-        // TODO: Implementar busca Elasticsearch
-        // return elasticsearchTemplate.search(query, Student.class);
+            TopFieldDocs hits = searcher.searchAfter(afterDoc, query, limit, RELEVANCE_THEN_ID, true);
+            Map<UUID, Float> found = new LinkedHashMap<>();
+            for (ScoreDoc hit : hits.scoreDocs) {
+                Document document = searcher.storedFields().document(hit.doc, Set.of(FIELD_ID));
+                found.put(UUID.fromString(document.get(FIELD_ID)), hit.score);
+            }
+            return found;
+        });
 
-        // Por enquanto retorna vazio
-        return Collections.emptyList();
+        return hydrate(new ArrayList<>(scores.keySet()))
+                .stream()
+                .map(student -> new StudentSearchHit(student, scores.get(student.getId())))
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Busca apenas pelo nome (palavras inteiras ou prefixos).
+     *
+     * @param name Nome ou parte do nome
+     * @return Lista de alunos encontrados, por relevância
+     */
+    public List<Student> searchByName(String name) {
+        Query nameQuery = name != null ? nameQuery(name) : null;
+        if (nameQuery == null) {
+            return Collections.emptyList();
+        }
+
+        return execute(nameQuery);
     }
 
     /**
      * Busca fuzzy (tolera erros de digitação).
      *
-     * Exemplo: "Joao Silva" encontra "João da Silva"
+     * Exemplo: "Joao Silvq" encontra "João da Silva"
      *
      * @param searchTerm Termo de busca
      * @return Lista de alunos encontrados
      */
     public List<Student> fuzzySearch(String searchTerm) {
-        log.info("🔍 Elasticsearch fuzzy search: {}", searchTerm);
+        List<String> tokens = searchTerm != null ? analyze(searchTerm) : List.of();
+        if (tokens.isEmpty()) {
+            return Collections.emptyList();
+        }
 
-        // TODO: Implementar busca fuzzy
+        BooleanQuery.Builder query = new BooleanQuery.Builder();
+        for (String token : tokens) {
+            Term term = new Term(FIELD_FULL_NAME, token);
+            Query tokenQuery = token.length() < FUZZY_MIN_LENGTH
+                    ? new PrefixQuery(term)
+                    : new FuzzyQuery(term, token.length() > 5 ? 2 : 1);
+            query.add(tokenQuery, BooleanClause.Occur.MUST);
+        }
 
-        return Collections.emptyList();
+        return execute(query.build());
     }
 
     /**
-     * Indexa um aluno no Elasticsearch.
+     * Indexa vários alunos com um único commit (cria ou substitui os documentos).
+     *
+     * Chamado pelo SearchIndexBroadcastListener e pela reconciliação.
      *
-     * Chamado automaticamente quando um aluno é criado ou atualizado.
+     * @param students Alunos a serem indexados
+     * @throws UncheckedIOException se o índice não puder ser gravado; a alteração fica
+     *         perdida neste nó até a próxima reconciliação (na inicialização, quando o
+     *         broadcast reconecta ou no cron diário)
+     */
+    public void indexAll(Collection<Student> students) {
+        if (students.isEmpty()) {
+            return;
+        }
+
+        try {
+            for (Student student : students) {
+                writer.updateDocument(new Term(FIELD_ID, student.getId().toString()), toDocument(student));
+            }
+            commit();
+            searcherManager.maybeRefresh();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to index " + students.size() + " students", e);
+        }
+    }
+
+    /**
+     * Remove alunos do índice com um único commit.
      *
-     * @param student Aluno a ser indexado
+     * @param studentIds IDs dos alunos
+     * @throws UncheckedIOException se o índice não puder ser gravado
      */
-    public void index(Student student) {
-        log.info("📇 Indexing student in Elasticsearch: {} ({})",
-                student.getFullName(), student.getId());
+    public void deleteAll(Collection<UUID> studentIds) {
+        if (studentIds.isEmpty()) {
+            return;
+        }
 
-        // TODO: Indexar no Elasticsearch
-        // elasticsearchTemplate.index(student);
+        try {
+            for (UUID studentId : studentIds) {
+                writer.deleteDocuments(new Term(FIELD_ID, studentId.toString()));
+            }
+            commit();
+            searcherManager.maybeRefresh();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to remove " + studentIds.size() + " students from the index", e);
+        }
     }
 
     /**
-     * Remove um aluno do índice Elasticsearch.
+     * IDs indexados em ordem, a partir do ID seguinte a "after" (null na primeira página).
+     * Usado pela reconciliação para achar documentos de alunos que já não existem.
      *
-     * @param studentId ID do aluno
+     * @param after Último ID da página anterior
+     * @param limit Quantidade máxima de IDs
+     * @return IDs da página, em ordem
      */
-    public void delete(UUID studentId) {
-        log.info("🗑️ Removing student from Elasticsearch: {}", studentId);
+    public List<UUID> findIndexedIds(UUID after, int limit) {
+        return withSearcher(searcher -> {
+            FieldDoc afterDoc = after == null ? null : new FieldDoc(
+                    searcher.getIndexReader().maxDoc() - 1,
+                    Float.NaN,
+                    new Object[]{new BytesRef(after.toString())}
+            );
 
-        // TODO: Remover do Elasticsearch
-        // elasticsearchTemplate.delete(studentId, Student.class);
+            TopDocs hits = searcher.searchAfter(afterDoc, new MatchAllDocsQuery(), limit, BY_ID);
+            List<UUID> ids = new ArrayList<>(hits.scoreDocs.length);
+            for (ScoreDoc hit : hits.scoreDocs) {
+                Document document = searcher.storedFields().document(hit.doc, Set.of(FIELD_ID));
+                ids.add(UUID.fromString(document.get(FIELD_ID)));
+            }
+            return ids;
+        });
     }
 
     /**
-     * Busca alunos por status com agregações.
+     * Busca alunos por status.
      *
      * @param status Status do aluno
-     * @return Lista de alunos
+     * @return Lista de alunos (limitada a ace.search.max-results)
      */
     public List<Student> searchByStatus(String status) {
-        log.info("🔍 Elasticsearch search by status: {}", status);
-
-        // TODO: Implementar busca com filtro
+        if (status == null || status.isBlank()) {
+            return Collections.emptyList();
+        }
 
-        return Collections.emptyList();
+        return execute(new TermQuery(new Term(FIELD_STATUS, status.trim().toUpperCase(Locale.ROOT))));
     }
 
     /**
      * Obtém estatísticas de alunos (count, distribuição por status, etc).
      *
-     * @return Mapa com estatísticas
+     * @return Contagens por status
      */
     public StudentStatistics getStatistics() {
-        log.info("📊 Getting student statistics from Elasticsearch");
+        return withSearcher(searcher -> new StudentStatistics(
+                searcher.getIndexReader().numDocs(),
+                countByStatus(searcher, StudentStatus.ACTIVE),
+                countByStatus(searcher, StudentStatus.INACTIVE),
+                countByStatus(searcher, StudentStatus.GRADUATED)
+        ));
+    }
 
-        // TODO: Implementar agregações
+    /**
+     * Number of indexed students.
+     */
+    public long count() {
+        return writer.getDocStats().numDocs;
+    }
+
+    /**
+     * When the index was last written; empty for an index never written.
+     */
+    public Optional<Instant> lastCommitTime() {
+        Iterable<Map.Entry<String, String>> commitData = writer.getLiveCommitData();
+        if (commitData == null) {
+            return Optional.empty();
+        }
+
+        for (Map.Entry<String, String> entry : commitData) {
+            if (COMMITTED_AT_KEY.equals(entry.getKey())) {
+                return Optional.of(Instant.parse(entry.getValue()));
+            }
+        }
+        return Optional.empty();
+    }
+
+    private void commit() throws IOException {
+        writer.setLiveCommitData(Map.of(
+                SCHEMA_VERSION_KEY, SCHEMA_VERSION,
+                COMMITTED_AT_KEY, Instant.now().toString()
+        ).entrySet());
+        writer.commit();
+    }
+
+    private boolean hasCurrentSchema() throws IOException {
+        if (!DirectoryReader.indexExists(directory)) {
+            return true;
+        }
+
+        Map<String, String> userData = SegmentInfos.readLatestCommit(directory).getUserData();
+        return SCHEMA_VERSION.equals(userData.get(SCHEMA_VERSION_KEY));
+    }
+
+    private Query searchQuery(String searchTerm) {
+        if (searchTerm == null || searchTerm.isBlank()) {
+            return null;
+        }
+
+        String term = searchTerm.trim();
+        BooleanQuery.Builder query = new BooleanQuery.Builder();
+
+        Query nameQuery = nameQuery(term);
+        if (nameQuery != null) {
+            query.add(nameQuery, BooleanClause.Occur.SHOULD);
+        }
+
+        String digits = term.replaceAll("\\D", "");
+        if (digits.length() >= CPF_MIN_PREFIX && !term.matches(".*\\p{L}.*")) {
+            query.add(new PrefixQuery(new Term(FIELD_CPF, digits)), BooleanClause.Occur.SHOULD);
+            query.add(new PrefixQuery(new Term(FIELD_ENROLLMENT, term)), BooleanClause.Occur.SHOULD);
+        }
+
+        if (term.contains("@")) {
+            query.add(new PrefixQuery(new Term(FIELD_EMAIL, term.toLowerCase(Locale.ROOT))),
+                    BooleanClause.Occur.SHOULD);
+        }
+
+        return query.build();
+    }
+
+    private Query nameQuery(String text) {
+        List<String> tokens = analyze(text);
+        if (tokens.isEmpty()) {
+            return null;
+        }
+
+        BooleanQuery.Builder query = new BooleanQuery.Builder();
+        for (String token : tokens) {
+            Term term = new Term(FIELD_FULL_NAME, token);
+
+            // palavra inteira pontua mais que prefixo
+            Query tokenQuery = new BooleanQuery.Builder()
+                    .add(new BoostQuery(new TermQuery(term), 2f), BooleanClause.Occur.SHOULD)
+                    .add(new PrefixQuery(term), BooleanClause.Occur.SHOULD)
+                    .build();
+            query.add(tokenQuery, BooleanClause.Occur.MUST);
+        }
+        return query.build();
+    }
+
+    private List<Student> execute(Query query) {
+        List<UUID> ids = withSearcher(searcher -> {
+            ScoreDoc[] hits = searcher.search(query, maxResults, RELEVANCE_THEN_ID).scoreDocs;
+            List<UUID> found = new ArrayList<>(hits.length);
+            for (ScoreDoc hit : hits) {
+                Document document = searcher.storedFields().document(hit.doc, Set.of(FIELD_ID));
+                found.add(UUID.fromString(document.get(FIELD_ID)));
+            }
+            return found;
+        });
+
+        return hydrate(ids);
+    }
+
+    /**
+     * Loads the students of the hits, keeping the relevance order.
+     * IDs no longer in the database are skipped.
+     */
+    private List<Student> hydrate(List<UUID> ids) {
+        if (ids.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        Map<UUID, StudentJpaEntity> entities = jpaRepository.findAllById(ids)
+                .stream()
+                .collect(Collectors.toMap(StudentJpaEntity::getId, Function.identity()));
+
+        return ids.stream()
+                .map(entities::get)
+                .filter(Objects::nonNull)
+                .map(mapper::toDomain)
+                .collect(Collectors.toList());
+    }
+
+    private Document toDocument(Student student) {
+        Document document = new Document();
+        document.add(new StringField(FIELD_ID, student.getId().toString(), Field.Store.YES));
+        document.add(new SortedDocValuesField(FIELD_ID, new BytesRef(student.getId().toString())));
+        document.add(new TextField(FIELD_FULL_NAME, student.getFullName(), Field.Store.NO));
+        document.add(new StringField(FIELD_CPF, student.getCpf().value(), Field.Store.NO));
+        document.add(new StringField(FIELD_EMAIL, student.getEmail().value().toLowerCase(Locale.ROOT), Field.Store.NO));
+        document.add(new StringField(FIELD_STATUS, student.getStatus().name(), Field.Store.NO));
+
+        if (student.getEnrollment() != null) {
+            document.add(new StringField(FIELD_ENROLLMENT, student.getEnrollment().enrollmentNumber(), Field.Store.NO));
+        }
+        return document;
+    }
+
+    private List<String> analyze(String text) {
+        List<String> tokens = new ArrayList<>();
+        try (TokenStream stream = analyzer.tokenStream(FIELD_FULL_NAME, text)) {
+            CharTermAttribute attribute = stream.addAttribute(CharTermAttribute.class);
+            stream.reset();
+            while (stream.incrementToken()) {
+                tokens.add(attribute.toString());
+            }
+            stream.end();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return tokens;
+    }
+
+    private long countByStatus(IndexSearcher searcher, StudentStatus status) throws IOException {
+        return searcher.count(new TermQuery(new Term(FIELD_STATUS, status.name())));
+    }
+
+    private <T> T withSearcher(SearcherFunction<T> function) {
+        try {
+            searcherManager.maybeRefresh();
+            IndexSearcher searcher = searcherManager.acquire();
+            try {
+                return function.apply(searcher);
+            } finally {
+                searcherManager.release(searcher);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Student search failed", e);
+        }
+    }
 
-        return new StudentStatistics(0, 0, 0, 0);
+    @FunctionalInterface
+    private interface SearcherFunction<T> {
+        T apply(IndexSearcher searcher) throws IOException;
     }
 
     /**
@@ -122,4 +538,4 @@ public class StudentElasticRepository {
             long inactiveStudents,
             long graduatedStudents
     ) {}
-}
\ No newline at end of file
+}
@@ -0,0 +1,150 @@
+package com.binah.ace.student.infrastructure.search;
+
+import com.binah.ace.student.domain.entity.Student;
+import com.binah.ace.student.infrastructure.persistence.jpa.StudentJpaEntity;
+import com.binah.ace.student.infrastructure.persistence.jpa.StudentJpaRepository;
+import com.binah.ace.student.infrastructure.persistence.mapper.StudentMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationStartedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Builds and reconciles the student search index.
+ *
+ * Each node's index follows the student changes broadcast to every node
+ * (SearchIndexBroadcastListener); this class repairs whatever drifted from
+ * the database anyway (changes made while the node was down or its
+ * broadcast connection was lost, an index directory removed or restored
+ * from a backup):
+ * - On startup: a full reconcile when the index and the database hold a
+ *   different number of students, otherwise the students changed since
+ *   the last index commit are reindexed
+ * - After the broadcast connection is restored
+ * - Every day at ace.search.reconcile-cron, on every node
+ *
+ * Reconciling reindexes every student and removes the documents of
+ * students no longer in the database.
+ *
+ * @author Marcos Gustavo
+ */
+@Component
+public class StudentSearchIndexInitializer {
+
+    private static final Logger log = LoggerFactory.getLogger(StudentSearchIndexInitializer.class);
+
+    private static final int PAGE_SIZE = 1000;
+
+    private static final Duration CATCH_UP_MARGIN = Duration.ofMinutes(5);
+
+    private final StudentElasticRepository searchRepository;
+    private final StudentJpaRepository jpaRepository;
+    private final StudentMapper mapper;
+
+    public StudentSearchIndexInitializer(
+            StudentElasticRepository searchRepository,
+            StudentJpaRepository jpaRepository,
+            StudentMapper mapper
+    ) {
+        this.searchRepository = searchRepository;
+        this.jpaRepository = jpaRepository;
+        this.mapper = mapper;
+    }
+
+    @EventListener(ApplicationStartedEvent.class)
+    public void reconcileIfOutOfSync() {
+        long indexed = searchRepository.count();
+        long stored = jpaRepository.count();
+        if (indexed != stored) {
+            log.info("🔍 Student search index has {} students, the database {}: reconciling", indexed, stored);
+            reconcile();
+            return;
+        }
+
+        searchRepository.lastCommitTime().ifPresent(this::reindexChangedSince);
+    }
+
+    /**
+     * Reindexes the students changed since the last index commit (with a
+     * margin for clock skew between the nodes and the database).
+     */
+    private synchronized void reindexChangedSince(Instant lastCommit) {
+        LocalDateTime since = LocalDateTime.ofInstant(lastCommit.minus(CATCH_UP_MARGIN), ZoneId.systemDefault());
+        long indexed = reindex(pageable -> jpaRepository.findByUpdatedAtGreaterThanEqual(since, pageable));
+
+        if (indexed > 0) {
+            log.info("🔍 Student search index caught up: {} students changed since {}", indexed, since);
+        }
+    }
+
+    @Scheduled(cron = "${ace.search.reconcile-cron:0 30 3 * * *}")
+    public synchronized void reconcile() {
+        long indexed = reindexAll();
+        long removed = removeDeleted();
+
+        log.info("🔍 Student search index reconciled: {} students indexed, {} removed", indexed, removed);
+    }
+
+    private long reindexAll() {
+        return reindex(jpaRepository::findAll);
+    }
+
+    private long reindex(Function<Pageable, Page<StudentJpaEntity>> pages) {
+        long indexed = 0;
+        Page<StudentJpaEntity> page = pages.apply(PageRequest.of(0, PAGE_SIZE, Sort.by("id")));
+
+        while (true) {
+            List<Student> students = page.getContent()
+                    .stream()
+                    .map(mapper::toDomain)
+                    .collect(Collectors.toList());
+            searchRepository.indexAll(students);
+            indexed += students.size();
+
+            if (!page.hasNext()) {
+                return indexed;
+            }
+            page = pages.apply(page.nextPageable());
+        }
+    }
+
+    private long removeDeleted() {
+        long removed = 0;
+        UUID after = null;
+
+        while (true) {
+            List<UUID> ids = searchRepository.findIndexedIds(after, PAGE_SIZE);
+            if (ids.isEmpty()) {
+                return removed;
+            }
+
+            Set<UUID> existing = jpaRepository.findAllById(ids)
+                    .stream()
+                    .map(StudentJpaEntity::getId)
+                    .collect(Collectors.toSet());
+            List<UUID> deleted = ids.stream()
+                    .filter(id -> !existing.contains(id))
+                    .toList();
+            searchRepository.deleteAll(deleted);
+            removed += deleted.size();
+
+            after = ids.get(ids.size() - 1);
+        }
+    }
+}
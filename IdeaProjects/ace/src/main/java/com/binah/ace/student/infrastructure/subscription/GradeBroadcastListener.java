@@ -0,0 +1,47 @@
+package com.binah.ace.student.infrastructure.subscription;
+
+import com.binah.ace.shared.events.broadcast.BroadcastListener;
+import com.binah.ace.student.domain.repository.GradeRepository;
+import com.binah.ace.student.infrastructure.subscription.SubscriptionChannels.GradePosted;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Feeds the gradePosted subscriptions of this node from the cluster broadcast.
+ *
+ * Grades are loaded (in one query) only for students followed on this
+ * node, outside any transaction of the outbox relay.
+ *
+ * @author Marcos Gustavo
+ */
+@Component
+public class GradeBroadcastListener implements BroadcastListener {
+
+    private final GradeRepository gradeRepository;
+    private final GradeSubscriptionBroker broker;
+
+    public GradeBroadcastListener(GradeRepository gradeRepository, GradeSubscriptionBroker broker) {
+        this.gradeRepository = gradeRepository;
+        this.broker = broker;
+    }
+
+    @Override
+    public String channel() {
+        return SubscriptionChannels.GRADES_POSTED;
+    }
+
+    @Override
+    public void onMessages(List<String> messages) {
+        List<UUID> gradeIds = messages.stream()
+                .map(GradePosted::parse)
+                .filter(posted -> broker.hasSubscribers(posted.studentId()))
+                .map(GradePosted::gradeId)
+                .toList();
+
+        if (!gradeIds.isEmpty()) {
+            broker.publish(gradeRepository.findAllById(gradeIds));
+        }
+    }
+}
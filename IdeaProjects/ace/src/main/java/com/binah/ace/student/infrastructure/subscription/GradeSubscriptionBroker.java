@@ -0,0 +1,175 @@
+package com.binah.ace.student.infrastructure.subscription;
+
+import com.binah.ace.student.domain.entity.Grade;
+import com.binah.ace.student.domain.port.GradeFeedPort;
+import com.binah.ace.student.domain.valueobject.AcademicPeriod;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import reactor.adapter.JdkFlowAdapter;
+import reactor.core.publisher.BufferOverflowStrategy;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Sinks;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Fan-out of posted grades and report card changes to the GraphQL
+ * subscriptions of this node, one topic (Reactor sink) per student and
+ * feed with subscribers.
+ *
+ * - Fed on every node by the cluster broadcast (GradeBroadcastListener,
+ *   ReportCardBroadcastListener), so subscribers are reached whichever
+ *   node handled the write
+ * - publish never blocks: each subscription has its own buffer of
+ *   buffer-size items, drained on its own thread; when a client does not
+ *   keep up, its oldest items are dropped (ace.subscriptions.dropped)
+ *   and the other subscribers are not slowed down
+ * - A topic exists only while it has subscribers, so changes of students
+ *   nobody follows cost a map lookup
+ *
+ * Metrics: ace.subscriptions.active, ace.subscriptions.students,
+ * ace.subscriptions.delivered and ace.subscriptions.dropped.
+ *
+ * @author Marcos Gustavo
+ */
+@Component
+public class GradeSubscriptionBroker implements GradeFeedPort {
+
+    // Mais de uma thread pode publicar no mesmo aluno ao mesmo tempo
+    private static final Sinks.EmitFailureHandler RETRY_CONCURRENT_EMIT =
+            Sinks.EmitFailureHandler.busyLooping(Duration.ofMillis(100));
+
+    private final Topics<Grade> gradeTopics = new Topics<>();
+    private final Topics<AcademicPeriod> reportCardTopics = new Topics<>();
+    private final AtomicInteger activeSubscriptions = new AtomicInteger();
+    private final Scheduler scheduler;
+    private final int bufferSize;
+    private final Counter delivered;
+    private final Counter dropped;
+
+    public GradeSubscriptionBroker(
+            MeterRegistry meterRegistry,
+            @Value("${ace.subscriptions.buffer-size:256}") int bufferSize
+    ) {
+        this.scheduler = Schedulers.boundedElastic();
+        this.bufferSize = Math.max(1, bufferSize);
+
+        Gauge.builder("ace.subscriptions.active", activeSubscriptions, AtomicInteger::get)
+                .description("Open grade and report card subscriptions")
+                .register(meterRegistry);
+        Gauge.builder("ace.subscriptions.students", this, broker -> broker.gradeTopics.size() + broker.reportCardTopics.size())
+                .description("Students with at least one subscription, per feed")
+                .register(meterRegistry);
+        this.delivered = meterRegistry.counter("ace.subscriptions.delivered");
+        this.dropped = meterRegistry.counter("ace.subscriptions.dropped");
+    }
+
+    @Override
+    public Flow.Publisher<Grade> gradesPosted(UUID studentId) {
+        return feed(gradeTopics, studentId);
+    }
+
+    @Override
+    public Flow.Publisher<AcademicPeriod> reportCardChanges(UUID studentId) {
+        return feed(reportCardTopics, studentId);
+    }
+
+    /**
+     * Hands the grades to the subscribers of their students.
+     */
+    public void publish(List<Grade> grades) {
+        for (Grade grade : grades) {
+            gradeTopics.emit(grade.getStudentId(), grade);
+        }
+    }
+
+    /**
+     * Tells the subscribers of the student that a report card of the period changed.
+     */
+    public void publishReportCardChange(UUID studentId, AcademicPeriod period) {
+        reportCardTopics.emit(studentId, period);
+    }
+
+    /**
+     * Indicates whether someone follows the student's grades.
+     */
+    public boolean hasSubscribers(UUID studentId) {
+        return gradeTopics.contains(studentId);
+    }
+
+    /**
+     * Indicates whether someone follows the student's report cards.
+     */
+    public boolean hasReportCardSubscribers(UUID studentId) {
+        return reportCardTopics.contains(studentId);
+    }
+
+    private <T> Flow.Publisher<T> feed(Topics<T> topics, UUID studentId) {
+        return JdkFlowAdapter.publisherToFlowPublisher(Flux.defer(() -> subscribe(topics, studentId).asFlux())
+                .onBackpressureBuffer(bufferSize, item -> dropped.increment(), BufferOverflowStrategy.DROP_OLDEST)
+                .publishOn(scheduler, 1)
+                .doOnNext(item -> delivered.increment())
+                .doFinally(signal -> unsubscribe(topics, studentId)));
+    }
+
+    private <T> Sinks.Many<T> subscribe(Topics<T> topics, UUID studentId) {
+        activeSubscriptions.incrementAndGet();
+        return topics.subscribe(studentId);
+    }
+
+    private <T> void unsubscribe(Topics<T> topics, UUID studentId) {
+        activeSubscriptions.decrementAndGet();
+        topics.unsubscribe(studentId);
+    }
+
+    /**
+     * The topics of one feed, by student.
+     */
+    private static final class Topics<T> {
+
+        private final Map<UUID, Topic<T>> topics = new ConcurrentHashMap<>();
+
+        void emit(UUID studentId, T item) {
+            Topic<T> topic = topics.get(studentId);
+            if (topic != null) {
+                topic.sink().emitNext(item, RETRY_CONCURRENT_EMIT);
+            }
+        }
+
+        boolean contains(UUID studentId) {
+            return topics.containsKey(studentId);
+        }
+
+        int size() {
+            return topics.size();
+        }
+
+        // Contagem feita dentro do compute: um tópico nunca é removido enquanto alguém se inscreve nele
+        Sinks.Many<T> subscribe(UUID studentId) {
+            return topics.compute(studentId, (id, topic) -> topic == null
+                    ? new Topic<T>(Sinks.many().multicast().directBestEffort(), 1)
+                    : new Topic<>(topic.sink(), topic.subscribers() + 1)
+            ).sink();
+        }
+
+        void unsubscribe(UUID studentId) {
+            topics.computeIfPresent(studentId, (id, topic) -> topic.subscribers() == 1
+                    ? null
+                    : new Topic<>(topic.sink(), topic.subscribers() - 1));
+        }
+    }
+
+    private record Topic<T>(Sinks.Many<T> sink, int subscribers) {
+    }
+}
@@ -0,0 +1,35 @@
+package com.binah.ace.student.infrastructure.subscription;
+
+import com.binah.ace.shared.events.broadcast.BroadcastListener;
+import com.binah.ace.student.infrastructure.subscription.SubscriptionChannels.ReportCardChanged;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Feeds the reportCardChanged subscriptions of this node from the cluster broadcast.
+ *
+ * @author Marcos Gustavo
+ */
+@Component
+public class ReportCardBroadcastListener implements BroadcastListener {
+
+    private final GradeSubscriptionBroker broker;
+
+    public ReportCardBroadcastListener(GradeSubscriptionBroker broker) {
+        this.broker = broker;
+    }
+
+    @Override
+    public String channel() {
+        return SubscriptionChannels.REPORT_CARDS_CHANGED;
+    }
+
+    @Override
+    public void onMessages(List<String> messages) {
+        for (String message : messages) {
+            ReportCardChanged changed = ReportCardChanged.parse(message);
+            broker.publishReportCardChange(changed.studentId(), changed.period());
+        }
+    }
+}
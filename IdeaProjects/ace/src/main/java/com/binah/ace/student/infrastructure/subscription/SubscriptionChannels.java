@@ -0,0 +1,60 @@
+package com.binah.ace.student.infrastructure.subscription;
+
+import com.binah.ace.student.domain.valueobject.AcademicPeriod;
+
+import java.util.UUID;
+
+/**
+ * Broadcast channels that feed the subscriptions on every node, and the
+ * format of their messages.
+ *
+ * Messages carry IDs only: each node loads what its own subscribers need.
+ *
+ * @author Marcos Gustavo
+ */
+public final class SubscriptionChannels {
+
+    /** "gradeId,studentId" of each posted grade. */
+    public static final String GRADES_POSTED = "ace_grades_posted";
+
+    /** "studentId,year,semester,bimester" of each changed report card (bimester may be empty). */
+    public static final String REPORT_CARDS_CHANGED = "ace_report_cards_changed";
+
+    private SubscriptionChannels() {
+    }
+
+    public static String gradePosted(UUID gradeId, UUID studentId) {
+        return gradeId + "," + studentId;
+    }
+
+    public static String reportCardChanged(UUID studentId, AcademicPeriod period) {
+        return studentId + "," + period.year() + "," + period.semester() + ","
+                + (period.bimester() != null ? period.bimester() : "");
+    }
+
+    /**
+     * Parsed message of GRADES_POSTED.
+     */
+    public record GradePosted(UUID gradeId, UUID studentId) {
+
+        public static GradePosted parse(String message) {
+            String[] fields = message.split(",");
+            return new GradePosted(UUID.fromString(fields[0]), UUID.fromString(fields[1]));
+        }
+    }
+
+    /**
+     * Parsed message of REPORT_CARDS_CHANGED.
+     */
+    public record ReportCardChanged(UUID studentId, AcademicPeriod period) {
+
+        public static ReportCardChanged parse(String message) {
+            String[] fields = message.split(",", -1);
+            Integer bimester = fields[3].isEmpty() ? null : Integer.valueOf(fields[3]);
+            return new ReportCardChanged(
+                    UUID.fromString(fields[0]),
+                    new AcademicPeriod(Integer.parseInt(fields[1]), Integer.parseInt(fields[2]), bimester)
+            );
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package com.binah.ace.student.interfaces.graphql.dto;
+
+import com.binah.ace.student.domain.entity.Attendance;
+import com.binah.ace.student.domain.enums.AttendanceStatus;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+/**
+ * DTO representing Attendance for GraphQL.
+ *
+ * @author Marcos Gustavo
+ */
+public record AttendanceDTO(
+        UUID id,
+        UUID studentId,
+        UUID classroomSubjectId,
+        LocalDate classDate,
+        AttendanceStatus status,
+        String notes,
+        Boolean countsAsPresent
+) {
+    /**
+     * Converts Attendance domain to DTO.
+     */
+    public static AttendanceDTO from(Attendance attendance) {
+        return new AttendanceDTO(
+                attendance.getId(),
+                attendance.getStudentId(),
+                attendance.getClassroomSubjectId(),
+                attendance.getClassDate(),
+                attendance.getStatus(),
+                attendance.getNotes(),
+                attendance.countsAsPresent()
+        );
+    }
+}
@@ -0,0 +1,77 @@
+package com.binah.ace.student.interfaces.graphql.dto;
+
+import com.binah.ace.student.domain.valueobject.ClassroomSubjectSummary;
+import com.binah.ace.student.domain.valueobject.StudentGradeSummary;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * DTO representing the grade summary of a classroom subject for GraphQL.
+ *
+ * @author Marcos Gustavo
+ */
+public record ClassroomSubjectSummaryDTO(
+        UUID classroomSubjectId,
+        Integer year,
+        Integer semester,
+        Integer bimester,
+        BigDecimal classAverage,
+        Integer studentCount,
+        Long gradeCount,
+        Long passingGradeCount,
+        Long failingGradeCount,
+        Long approvedStudentCount,
+        Long failedStudentCount,
+        List<StudentGradeSummaryDTO> students
+) {
+    /**
+     * Converts ClassroomSubjectSummary domain to DTO.
+     */
+    public static ClassroomSubjectSummaryDTO from(ClassroomSubjectSummary summary) {
+        List<StudentGradeSummaryDTO> students = summary.students()
+                .stream()
+                .map(StudentGradeSummaryDTO::from)
+                .collect(Collectors.toList());
+
+        return new ClassroomSubjectSummaryDTO(
+                summary.classroomSubjectId(),
+                summary.period().year(),
+                summary.period().semester(),
+                summary.period().bimester(),
+                summary.classAverage().value(),
+                summary.studentCount(),
+                summary.gradeCount(),
+                summary.passingGradeCount(),
+                summary.failingGradeCount(),
+                summary.approvedStudentCount(),
+                summary.failedStudentCount(),
+                students
+        );
+    }
+
+    /**
+     * DTO for the summary of a single student.
+     */
+    public record StudentGradeSummaryDTO(
+            UUID studentId,
+            BigDecimal average,
+            Long gradeCount,
+            Long passingGradeCount,
+            Long failingGradeCount,
+            Boolean isApproved
+    ) {
+        public static StudentGradeSummaryDTO from(StudentGradeSummary summary) {
+            return new StudentGradeSummaryDTO(
+                    summary.studentId(),
+                    summary.average().value(),
+                    summary.gradeCount(),
+                    summary.passingGradeCount(),
+                    summary.failingGradeCount(),
+                    summary.average().isApproved()
+            );
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package com.binah.ace.student.interfaces.graphql.dto;
+
+import com.binah.ace.student.domain.entity.PeriodClosure;
+import com.binah.ace.student.domain.enums.PeriodClosureStatus;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * DTO representing the closing of an academic period for GraphQL.
+ *
+ * @author Marcos Gustavo
+ */
+public record PeriodClosureDTO(
+        UUID id,
+        Integer year,
+        Integer semester,
+        Integer bimester,
+        PeriodClosureStatus status,
+        Integer totalStudents,
+        Integer processedStudents,
+        Integer failedStudents,
+        BigDecimal progressPercentage,
+        String lastError,
+        LocalDateTime startedAt,
+        LocalDateTime finishedAt
+) {
+    /**
+     * Converts PeriodClosure domain to DTO.
+     */
+    public static PeriodClosureDTO from(PeriodClosure closure) {
+        return new PeriodClosureDTO(
+                closure.getId(),
+                closure.getAcademicPeriod().year(),
+                closure.getAcademicPeriod().semester(),
+                closure.getAcademicPeriod().bimester(),
+                closure.getStatus(),
+                closure.getTotalStudents(),
+                closure.getProcessedStudents(),
+                closure.getFailedStudents(),
+                closure.getProgressPercentage(),
+                closure.getLastError(),
+                closure.getStartedAt(),
+                closure.getFinishedAt()
+        );
+    }
+}
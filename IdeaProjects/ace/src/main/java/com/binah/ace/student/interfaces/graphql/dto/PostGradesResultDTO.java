@@ -0,0 +1,60 @@
+package com.binah.ace.student.interfaces.graphql.dto;
+
+import com.binah.ace.student.application.usecase.PostGradeUseCase;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * DTO representing the result of a batch grade posting for GraphQL.
+ *
+ * @author Marcos Gustavo
+ */
+public record PostGradesResultDTO(
+        List<GradeDTO> grades,
+        List<GradeItemErrorDTO> errors,
+        Integer postedCount,
+        Integer failedCount
+) {
+    /**
+     * Converts the batch result to DTO.
+     *
+     * @param result Result of the use case
+     * @param inputErrors Items rejected before reaching the use case
+     * @param inputIndexes Position in the request of each command sent to the use case
+     */
+    public static PostGradesResultDTO from(
+            PostGradeUseCase.BatchResult result,
+            List<GradeItemErrorDTO> inputErrors,
+            List<Integer> inputIndexes
+    ) {
+        List<GradeDTO> grades = result.posted().stream()
+                .map(GradeDTO::from)
+                .collect(Collectors.toList());
+
+        List<GradeItemErrorDTO> errors = new ArrayList<>(inputErrors);
+        for (PostGradeUseCase.ItemError error : result.errors()) {
+            errors.add(new GradeItemErrorDTO(
+                    inputIndexes.get(error.index()),
+                    error.studentId(),
+                    error.code(),
+                    error.message()
+            ));
+        }
+        errors.sort((a, b) -> Integer.compare(a.index(), b.index()));
+
+        return new PostGradesResultDTO(grades, errors, grades.size(), errors.size());
+    }
+
+    /**
+     * Error of a rejected item, with its position in the request.
+     */
+    public record GradeItemErrorDTO(
+            Integer index,
+            UUID studentId,
+            String code,
+            String message
+    ) {}
+}
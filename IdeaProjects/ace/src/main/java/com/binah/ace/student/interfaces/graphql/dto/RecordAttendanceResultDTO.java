@@ -0,0 +1,60 @@
+package com.binah.ace.student.interfaces.graphql.dto;
+
+import com.binah.ace.student.application.usecase.RecordAttendanceUseCase;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * DTO representing the result of a roll call for GraphQL.
+ *
+ * @author Marcos Gustavo
+ */
+public record RecordAttendanceResultDTO(
+        List<AttendanceDTO> attendances,
+        List<AttendanceItemErrorDTO> errors,
+        Integer recordedCount,
+        Integer failedCount
+) {
+    /**
+     * Converts the roll call result to DTO.
+     *
+     * @param result Result of the use case
+     * @param inputErrors Entries rejected before reaching the use case
+     * @param inputIndexes Position in the request of each entry sent to the use case
+     */
+    public static RecordAttendanceResultDTO from(
+            RecordAttendanceUseCase.Result result,
+            List<AttendanceItemErrorDTO> inputErrors,
+            List<Integer> inputIndexes
+    ) {
+        List<AttendanceDTO> attendances = result.recorded().stream()
+                .map(AttendanceDTO::from)
+                .collect(Collectors.toList());
+
+        List<AttendanceItemErrorDTO> errors = new ArrayList<>(inputErrors);
+        for (RecordAttendanceUseCase.ItemError error : result.errors()) {
+            errors.add(new AttendanceItemErrorDTO(
+                    inputIndexes.get(error.index()),
+                    error.studentId(),
+                    error.code(),
+                    error.message()
+            ));
+        }
+        errors.sort((a, b) -> Integer.compare(a.index(), b.index()));
+
+        return new RecordAttendanceResultDTO(attendances, errors, attendances.size(), errors.size());
+    }
+
+    /**
+     * Error of a rejected entry, with its position in the request.
+     */
+    public record AttendanceItemErrorDTO(
+            Integer index,
+            UUID studentId,
+            String code,
+            String message
+    ) {}
+}
@@ -1,11 +1,9 @@
 package com.binah.ace.student.interfaces.graphql.dto;
 
-import com.binah.ace.student.application.usecase.ViewReportCardUseCase;
-import com.binah.ace.student.domain.entity.Grade;
+import com.binah.ace.student.domain.valueobject.ReportCard;
 
 import java.math.BigDecimal;
 import java.util.List;
-import java.util.Map;
 import java.util.UUID;
 import java.util.stream.Collectors;
 
@@ -27,9 +25,9 @@ public record ReportCardDTO(
         List<SubjectGradesDTO> subjectGrades
 ) {
     /**
-     * Converts ReportCard from the use case to DTO.
+     * Converts ReportCard to DTO.
      */
-    public static ReportCardDTO from(ViewReportCardUseCase.ReportCard reportCard) {
+    public static ReportCardDTO from(ReportCard reportCard) {
         // Converte mapa de notas por disciplina em lista de SubjectGradesDTO
         List<SubjectGradesDTO> subjectGrades = reportCard.gradesBySubject()
                 .entrySet()
@@ -39,7 +37,7 @@ public record ReportCardDTO(
                         entry.getValue().stream()
                                 .map(GradeDTO::from)
                                 .collect(Collectors.toList()),
-                        calculateSubjectAverage(entry.getValue())
+                        reportCard.subjectAverages().get(entry.getKey())
                 ))
                 .collect(Collectors.toList());
 
@@ -57,25 +55,6 @@ public record ReportCardDTO(
         );
     }
 
-    /**
-     * Calculates the average for a subject.
-     */
-    private static BigDecimal calculateSubjectAverage(List<Grade> grades) {
-        if (grades.isEmpty()) {
-            return BigDecimal.ZERO;
-        }
-
-        BigDecimal sum = grades.stream()
-                .map(Grade::getScore)
-                .reduce(BigDecimal.ZERO, BigDecimal::add);
-
-        return sum.divide(
-                BigDecimal.valueOf(grades.size()),
-                2,
-                java.math.RoundingMode.HALF_UP
-        );
-    }
-
     /**
      * DTO representing the grades of a subject.
      */
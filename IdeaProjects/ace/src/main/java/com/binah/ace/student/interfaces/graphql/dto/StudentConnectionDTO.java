@@ -0,0 +1,62 @@
+package com.binah.ace.student.interfaces.graphql.dto;
+
+import com.binah.ace.student.domain.entity.Student;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * DTO representing a page of students (Relay connection) for GraphQL.
+ *
+ * @author Marcos Gustavo
+ */
+public record StudentConnectionDTO(
+        List<StudentEdgeDTO> edges,
+        PageInfoDTO pageInfo
+) {
+    /**
+     * Builds the connection from the rows of a page query.
+     *
+     * The query must fetch one row more than the page size: that extra
+     * row only tells whether there is a next page.
+     *
+     * @param rows Rows fetched (up to first + 1)
+     * @param first Page size
+     * @param student Student of a row
+     * @param cursor Cursor of a row
+     */
+    public static <T> StudentConnectionDTO of(
+            List<T> rows,
+            int first,
+            Function<T, Student> student,
+            Function<T, String> cursor
+    ) {
+        boolean hasNextPage = rows.size() > first;
+        List<T> page = hasNextPage ? rows.subList(0, first) : rows;
+
+        List<StudentEdgeDTO> edges = new ArrayList<>(page.size());
+        for (T row : page) {
+            edges.add(new StudentEdgeDTO(cursor.apply(row), StudentDTO.from(student.apply(row))));
+        }
+
+        String endCursor = edges.isEmpty() ? null : edges.get(edges.size() - 1).cursor();
+        return new StudentConnectionDTO(edges, new PageInfoDTO(hasNextPage, endCursor));
+    }
+
+    /**
+     * A student and its cursor.
+     */
+    public record StudentEdgeDTO(
+            String cursor,
+            StudentDTO node
+    ) {}
+
+    /**
+     * Pagination state of the connection.
+     */
+    public record PageInfoDTO(
+            Boolean hasNextPage,
+            String endCursor
+    ) {}
+}
@@ -0,0 +1,35 @@
+package com.binah.ace.student.interfaces.graphql.input;
+
+import com.binah.ace.student.domain.enums.AttendanceStatus;
+
+import java.util.UUID;
+
+/**
+ * GraphQL input for the attendance of a student in a roll call.
+ *
+ * @author Marcos Gustavo
+ */
+public record AttendanceEntryInput(
+        UUID studentId,
+        AttendanceStatus status,
+        String notes
+) {
+    /**
+     * Validates the input.
+     *
+     * @throws IllegalArgumentException if the data is invalid
+     */
+    public void validate() {
+        if (studentId == null) {
+            throw new IllegalArgumentException("Student ID is required");
+        }
+
+        if (status == null) {
+            throw new IllegalArgumentException("Attendance status is required");
+        }
+
+        if (notes != null && notes.length() > 1000) {
+            throw new IllegalArgumentException("Notes must have at most 1000 characters");
+        }
+    }
+}
@@ -0,0 +1,225 @@
+package com.binah.ace.student.interfaces.graphql.resolver;
+
+import com.binah.ace.student.application.service.StudentApplicationService;
+import com.binah.ace.student.domain.repository.GradeRepository;
+import com.binah.ace.student.domain.repository.StudentRepository;
+import com.binah.ace.student.domain.valueobject.AcademicPeriod;
+import com.binah.ace.student.interfaces.graphql.dto.ClassroomSubjectSummaryDTO;
+import com.binah.ace.student.interfaces.graphql.dto.GradeDTO;
+import com.binah.ace.student.interfaces.graphql.dto.ReportCardDTO;
+import com.binah.ace.student.interfaces.graphql.dto.StudentDTO;
+import graphql.schema.DataFetchingEnvironment;
+import org.dataloader.DataLoader;
+import org.springframework.graphql.data.method.annotation.Argument;
+import org.springframework.graphql.data.method.annotation.BatchMapping;
+import org.springframework.graphql.data.method.annotation.SchemaMapping;
+import org.springframework.graphql.execution.BatchLoaderRegistry;
+import org.springframework.stereotype.Controller;
+import reactor.core.publisher.Mono;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * GraphQL resolver for the nested fields of the Student module.
+ *
+ * Every field is resolved in batch: the keys collected while resolving a
+ * level of the query are loaded with a single IN (...) lookup, so a roster
+ * of N students costs the same number of queries as a single student.
+ * Fields with period arguments go through a DataLoader keyed by
+ * (student, period), one lookup per distinct period.
+ *
+ * @author Marcos Gustavo
+ */
+@Controller
+public class StudentFieldResolver {
+
+    private static final String GRADES_LOADER = "studentGrades";
+
+    private final StudentRepository studentRepository;
+    private final GradeRepository gradeRepository;
+    private final StudentApplicationService applicationService;
+
+    public StudentFieldResolver(
+            StudentRepository studentRepository,
+            GradeRepository gradeRepository,
+            StudentApplicationService applicationService,
+            BatchLoaderRegistry batchLoaderRegistry
+    ) {
+        this.studentRepository = studentRepository;
+        this.gradeRepository = gradeRepository;
+        this.applicationService = applicationService;
+
+        batchLoaderRegistry.forTypePair(StudentPeriodKey.class, ReportCardDTO.class)
+                .registerMappedBatchLoader((keys, environment) ->
+                        Mono.fromCallable(() -> loadReportCards(keys)));
+        batchLoaderRegistry.<StudentPeriodKey, List<GradeDTO>>forName(GRADES_LOADER)
+                .registerMappedBatchLoader((keys, environment) ->
+                        Mono.fromCallable(() -> loadGrades(keys)));
+    }
+
+    /**
+     * Field: Student.grades
+     *
+     * Only the grades of one period: a student's whole history is never
+     * loaded for every student of a page.
+     *
+     * GraphQL:
+     * query {
+     *   students {
+     *     fullName
+     *     grades(year: 2026, semester: 1) { score weight }
+     *   }
+     * }
+     */
+    @SchemaMapping(typeName = "Student", field = "grades")
+    public CompletableFuture<List<GradeDTO>> grades(
+            StudentDTO student,
+            @Argument Integer year,
+            @Argument Integer semester,
+            @Argument Integer bimester,
+            DataFetchingEnvironment environment
+    ) {
+        DataLoader<StudentPeriodKey, List<GradeDTO>> gradesLoader = environment.getDataLoader(GRADES_LOADER);
+
+        return gradesLoader.load(new StudentPeriodKey(student.id(), period(year, semester, bimester)));
+    }
+
+    /**
+     * Field: Student.reportCard
+     *
+     * GraphQL:
+     * query {
+     *   students {
+     *     fullName
+     *     reportCard(year: 2026, semester: 1) {
+     *       gpa
+     *       subjectGrades { subjectId average }
+     *     }
+     *   }
+     * }
+     */
+    @SchemaMapping(typeName = "Student", field = "reportCard")
+    public CompletableFuture<ReportCardDTO> reportCard(
+            StudentDTO student,
+            @Argument Integer year,
+            @Argument Integer semester,
+            @Argument Integer bimester,
+            DataLoader<StudentPeriodKey, ReportCardDTO> reportCardLoader
+    ) {
+        return reportCardLoader.load(new StudentPeriodKey(student.id(), period(year, semester, bimester)));
+    }
+
+    /**
+     * Field: Grade.student
+     *
+     * GraphQL:
+     * query {
+     *   student(id: "uuid") {
+     *     grades { score student { fullName } }
+     *   }
+     * }
+     */
+    @BatchMapping(typeName = "Grade")
+    public List<StudentDTO> student(List<GradeDTO> grades) {
+        Set<UUID> studentIds = grades.stream()
+                .map(GradeDTO::studentId)
+                .collect(Collectors.toSet());
+
+        Map<UUID, StudentDTO> studentsById = studentRepository.findAllById(studentIds)
+                .stream()
+                .map(StudentDTO::from)
+                .collect(Collectors.toMap(StudentDTO::id, Function.identity()));
+
+        return grades.stream()
+                .map(grade -> studentsById.get(grade.studentId()))
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Field: StudentGradeSummary.student
+     *
+     * Loads the students of a class summary in a single query.
+     */
+    @BatchMapping(typeName = "StudentGradeSummary", field = "student")
+    public List<StudentDTO> summaryStudent(List<ClassroomSubjectSummaryDTO.StudentGradeSummaryDTO> summaries) {
+        Set<UUID> studentIds = summaries.stream()
+                .map(ClassroomSubjectSummaryDTO.StudentGradeSummaryDTO::studentId)
+                .collect(Collectors.toSet());
+
+        Map<UUID, StudentDTO> studentsById = studentRepository.findAllById(studentIds)
+                .stream()
+                .map(StudentDTO::from)
+                .collect(Collectors.toMap(StudentDTO::id, Function.identity()));
+
+        return summaries.stream()
+                .map(summary -> studentsById.get(summary.studentId()))
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Loads the grades of every requested (student, period),
+     * with one query per distinct period. Students without grades get an empty list.
+     */
+    private Map<StudentPeriodKey, List<GradeDTO>> loadGrades(Set<StudentPeriodKey> keys) {
+        Map<AcademicPeriod, Set<UUID>> studentIdsByPeriod = keys.stream()
+                .collect(Collectors.groupingBy(
+                        StudentPeriodKey::period,
+                        Collectors.mapping(StudentPeriodKey::studentId, Collectors.toSet())
+                ));
+
+        Map<StudentPeriodKey, List<GradeDTO>> grades = new HashMap<>();
+        keys.forEach(key -> grades.put(key, new ArrayList<>()));
+        studentIdsByPeriod.forEach((period, studentIds) ->
+                gradeRepository.findByStudentIdsAndPeriod(studentIds, period)
+                        .forEach(grade -> grades.get(new StudentPeriodKey(grade.getStudentId(), period))
+                                .add(GradeDTO.from(grade)))
+        );
+
+        return grades;
+    }
+
+    /**
+     * Loads the report cards of every requested (student, period),
+     * with one batch per distinct period.
+     */
+    private Map<StudentPeriodKey, ReportCardDTO> loadReportCards(Set<StudentPeriodKey> keys) {
+        Map<AcademicPeriod, Set<UUID>> studentIdsByPeriod = keys.stream()
+                .collect(Collectors.groupingBy(
+                        StudentPeriodKey::period,
+                        Collectors.mapping(StudentPeriodKey::studentId, Collectors.toSet())
+                ));
+
+        Map<StudentPeriodKey, ReportCardDTO> reportCards = new HashMap<>();
+        studentIdsByPeriod.forEach((period, studentIds) ->
+                applicationService.viewReportCards(studentIds, period)
+                        .forEach((studentId, reportCard) -> reportCards.put(
+                                new StudentPeriodKey(studentId, period),
+                                ReportCardDTO.from(reportCard)
+                        ))
+        );
+
+        return reportCards;
+    }
+
+    private static AcademicPeriod period(Integer year, Integer semester, Integer bimester) {
+        return bimester != null
+                ? AcademicPeriod.of(year, semester, bimester)
+                : AcademicPeriod.of(year, semester);
+    }
+
+    /**
+     * DataLoader key of a report card or of a student's grades.
+     */
+    public record StudentPeriodKey(
+            UUID studentId,
+            AcademicPeriod period
+    ) {}
+}
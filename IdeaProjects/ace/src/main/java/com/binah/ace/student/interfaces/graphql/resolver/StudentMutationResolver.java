@@ -3,10 +3,16 @@ package com.binah.ace.student.interfaces.graphql.resolver;
 import com.binah.ace.student.application.service.StudentApplicationService;
 import com.binah.ace.student.application.usecase.CreateStudentUseCase;
 import com.binah.ace.student.application.usecase.PostGradeUseCase;
+import com.binah.ace.student.application.usecase.RecordAttendanceUseCase;
 import com.binah.ace.student.domain.entity.Grade;
 import com.binah.ace.student.domain.entity.Student;
+import com.binah.ace.student.domain.valueobject.AcademicPeriod;
 import com.binah.ace.student.interfaces.graphql.dto.GradeDTO;
+import com.binah.ace.student.interfaces.graphql.dto.PeriodClosureDTO;
+import com.binah.ace.student.interfaces.graphql.dto.PostGradesResultDTO;
+import com.binah.ace.student.interfaces.graphql.dto.RecordAttendanceResultDTO;
 import com.binah.ace.student.interfaces.graphql.dto.StudentDTO;
+import com.binah.ace.student.interfaces.graphql.input.AttendanceEntryInput;
 import com.binah.ace.student.interfaces.graphql.input.CreateStudentInput;
 import com.binah.ace.student.interfaces.graphql.input.PostGradeInput;
 import org.springframework.graphql.data.method.annotation.Argument;
@@ -14,6 +20,9 @@ import org.springframework.graphql.data.method.annotation.MutationMapping;
 import org.springframework.security.core.Authentication;
 import org.springframework.stereotype.Controller;
 
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.UUID;
 
 /**
@@ -124,23 +133,177 @@ public class StudentMutationResolver {
         UUID postedBy = (UUID) authentication.getPrincipal();
 
         // Create command
-        PostGradeUseCase.PostGradeCommand command =
-                new PostGradeUseCase.PostGradeCommand(
-                        input.studentId(),
-                        input.classroomSubjectId(),
-                        input.assessmentType(),
-                        input.score(),
-                        input.weight(),
-                        input.description(),
-                        input.assessmentDate(),
-                        input.year(),
-                        input.semester(),
-                        input.bimester()
-                );
+        PostGradeUseCase.PostGradeCommand command = toCommand(input);
 
         // Execute use case
         Grade grade = applicationService.postGrade(command, postedBy);
 
         return GradeDTO.from(grade);
     }
+
+    /**
+     * Mutation: postGrades
+     *
+     * Posts the grades of several students at once (e.g. a whole class).
+     * Invalid items are returned in errors, the others are posted.
+     *
+     * GraphQL:
+     * mutation {
+     *   postGrades(inputs: [
+     *     { studentId: "uuid", classroomSubjectId: "uuid", assessmentType: EXAM,
+     *       score: 8.5, assessmentDate: "2026-03-01", year: 2026, semester: 1, bimester: 1 }
+     *     { studentId: "uuid", classroomSubjectId: "uuid", assessmentType: EXAM,
+     *       score: 6.0, assessmentDate: "2026-03-01", year: 2026, semester: 1, bimester: 1 }
+     *   ]) {
+     *     postedCount
+     *     failedCount
+     *     grades { id studentId score }
+     *     errors { index studentId code message }
+     *   }
+     * }
+     */
+    @MutationMapping
+    public PostGradesResultDTO postGrades(
+            @Argument List<PostGradeInput> inputs,
+            Authentication authentication
+    ) {
+        if (inputs.isEmpty()) {
+            throw new IllegalArgumentException("At least one grade is required");
+        }
+
+        // Extract ID of the authenticated teacher
+        UUID postedBy = (UUID) authentication.getPrincipal();
+
+        // Validate each input, keeping its position in the request
+        List<PostGradeUseCase.PostGradeCommand> commands = new ArrayList<>(inputs.size());
+        List<Integer> inputIndexes = new ArrayList<>(inputs.size());
+        List<PostGradesResultDTO.GradeItemErrorDTO> inputErrors = new ArrayList<>();
+
+        for (int i = 0; i < inputs.size(); i++) {
+            PostGradeInput input = inputs.get(i);
+            try {
+                input.validate();
+                commands.add(toCommand(input));
+                inputIndexes.add(i);
+            } catch (IllegalArgumentException e) {
+                inputErrors.add(new PostGradesResultDTO.GradeItemErrorDTO(
+                        i, input.studentId(), "INVALID_INPUT", e.getMessage()));
+            }
+        }
+
+        // Execute use case
+        PostGradeUseCase.BatchResult result = applicationService.postGrades(commands, postedBy);
+
+        return PostGradesResultDTO.from(result, inputErrors, inputIndexes);
+    }
+
+    /**
+     * Mutation: recordClassAttendance
+     *
+     * Records the roll call of a class. Submitting it again for the same
+     * class and date replaces the previous one.
+     * Invalid entries are returned in errors, the others are recorded.
+     *
+     * GraphQL:
+     * mutation {
+     *   recordClassAttendance(
+     *     classroomSubjectId: "uuid"
+     *     date: "2026-03-02"
+     *     entries: [
+     *       { studentId: "uuid", status: PRESENT }
+     *       { studentId: "uuid", status: ABSENT, notes: "Consulta médica" }
+     *     ]
+     *   ) {
+     *     recordedCount
+     *     failedCount
+     *     errors { index studentId code message }
+     *   }
+     * }
+     */
+    @MutationMapping
+    public RecordAttendanceResultDTO recordClassAttendance(
+            @Argument UUID classroomSubjectId,
+            @Argument LocalDate date,
+            @Argument List<AttendanceEntryInput> entries,
+            Authentication authentication
+    ) {
+        if (entries.isEmpty()) {
+            throw new IllegalArgumentException("At least one student is required");
+        }
+
+        // Extract ID of the authenticated teacher
+        UUID recordedBy = (UUID) authentication.getPrincipal();
+
+        // Validate each entry, keeping its position in the request
+        List<RecordAttendanceUseCase.AttendanceEntry> commandEntries = new ArrayList<>(entries.size());
+        List<Integer> inputIndexes = new ArrayList<>(entries.size());
+        List<RecordAttendanceResultDTO.AttendanceItemErrorDTO> inputErrors = new ArrayList<>();
+
+        for (int i = 0; i < entries.size(); i++) {
+            AttendanceEntryInput entry = entries.get(i);
+            try {
+                entry.validate();
+                commandEntries.add(new RecordAttendanceUseCase.AttendanceEntry(
+                        entry.studentId(), entry.status(), entry.notes()));
+                inputIndexes.add(i);
+            } catch (IllegalArgumentException e) {
+                inputErrors.add(new RecordAttendanceResultDTO.AttendanceItemErrorDTO(
+                        i, entry.studentId(), "INVALID_INPUT", e.getMessage()));
+            }
+        }
+
+        // Execute use case
+        RecordAttendanceUseCase.Result result = applicationService.recordAttendance(
+                new RecordAttendanceUseCase.RecordAttendanceCommand(classroomSubjectId, date, commandEntries),
+                recordedBy
+        );
+
+        return RecordAttendanceResultDTO.from(result, inputErrors, inputIndexes);
+    }
+
+    /**
+     * Mutation: closePeriod
+     *
+     * Starts closing a period. The histories are written in the background;
+     * follow the progress with the periodClosure query.
+     *
+     * GraphQL:
+     * mutation {
+     *   closePeriod(year: 2026, semester: 1) {
+     *     id
+     *     status
+     *   }
+     * }
+     */
+    @MutationMapping
+    public PeriodClosureDTO closePeriod(
+            @Argument Integer year,
+            @Argument Integer semester,
+            @Argument Integer bimester,
+            Authentication authentication
+    ) {
+        AcademicPeriod period = bimester != null
+                ? AcademicPeriod.of(year, semester, bimester)
+                : AcademicPeriod.of(year, semester);
+
+        // Extract ID of the authenticated user
+        UUID startedBy = (UUID) authentication.getPrincipal();
+
+        return PeriodClosureDTO.from(applicationService.closePeriod(period, startedBy));
+    }
+
+    private PostGradeUseCase.PostGradeCommand toCommand(PostGradeInput input) {
+        return new PostGradeUseCase.PostGradeCommand(
+                input.studentId(),
+                input.classroomSubjectId(),
+                input.assessmentType(),
+                input.score(),
+                input.weight(),
+                input.description(),
+                input.assessmentDate(),
+                input.year(),
+                input.semester(),
+                input.bimester()
+        );
+    }
 }
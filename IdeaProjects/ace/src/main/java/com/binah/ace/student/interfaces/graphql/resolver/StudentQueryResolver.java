@@ -1,12 +1,18 @@
 package com.binah.ace.student.interfaces.graphql.resolver;
 
+import com.binah.ace.shared.exception.BusinessException;
+import com.binah.ace.shared.util.PaginationUtils;
 import com.binah.ace.student.application.service.StudentApplicationService;
-import com.binah.ace.student.application.usecase.ViewReportCardUseCase;
 import com.binah.ace.student.domain.entity.Student;
 import com.binah.ace.student.domain.exception.StudentNotFoundException;
 import com.binah.ace.student.domain.repository.StudentRepository;
 import com.binah.ace.student.domain.valueobject.AcademicPeriod;
+import com.binah.ace.student.domain.valueobject.ReportCard;
+import com.binah.ace.student.domain.valueobject.StudentSearchHit;
+import com.binah.ace.student.interfaces.graphql.dto.ClassroomSubjectSummaryDTO;
+import com.binah.ace.student.interfaces.graphql.dto.PeriodClosureDTO;
 import com.binah.ace.student.interfaces.graphql.dto.ReportCardDTO;
+import com.binah.ace.student.interfaces.graphql.dto.StudentConnectionDTO;
 import com.binah.ace.student.interfaces.graphql.dto.StudentDTO;
 import org.springframework.graphql.data.method.annotation.Argument;
 import org.springframework.graphql.data.method.annotation.QueryMapping;
@@ -14,6 +20,7 @@ import org.springframework.stereotype.Controller;
 
 import java.util.List;
 import java.util.UUID;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 /**
@@ -64,14 +71,9 @@ public class StudentQueryResolver {
      *
      * Lists all active students.
      *
-     * GraphQL:
-     * query {
-     *   students {
-     *     id
-     *     fullName
-     *   }
-     * }
+     * @deprecated Unbounded; kept for existing clients. Use studentsConnection.
      */
+    @Deprecated
     @QueryMapping
     public List<StudentDTO> students() {
         return studentRepository.findActiveStudents()
@@ -85,14 +87,9 @@ public class StudentQueryResolver {
      *
      * Searches students by name.
      *
-     * GraphQL:
-     * query {
-     *   searchStudents(name: "João") {
-     *     id
-     *     fullName
-     *   }
-     * }
+     * @deprecated Unbounded; kept for existing clients. Use searchStudentsConnection.
      */
+    @Deprecated
     @QueryMapping
     public List<StudentDTO> searchStudents(@Argument String name) {
         return studentRepository.searchByName(name)
@@ -101,6 +98,88 @@ public class StudentQueryResolver {
                 .collect(Collectors.toList());
     }
 
+    /**
+     * Query: studentsConnection
+     *
+     * Lists active students by name, one page at a time.
+     * Pages are read with a keyset query on (fullName, id), so a deep page
+     * costs the same as the first one.
+     *
+     * GraphQL:
+     * query {
+     *   studentsConnection(first: 50, after: "cursor") {
+     *     edges {
+     *       cursor
+     *       node { id fullName }
+     *     }
+     *     pageInfo { hasNextPage endCursor }
+     *   }
+     * }
+     */
+    @QueryMapping
+    public StudentConnectionDTO studentsConnection(@Argument Integer first, @Argument String after) {
+        int pageSize = PaginationUtils.resolvePageSize(first);
+
+        String afterFullName = null;
+        UUID afterId = null;
+        if (after != null) {
+            String[] key = PaginationUtils.decodeCursor(after, 2);
+            afterFullName = key[0];
+            afterId = parseCursorId(after, key[1]);
+        }
+
+        List<Student> students = studentRepository.findActiveStudentsAfter(afterFullName, afterId, pageSize + 1);
+
+        return StudentConnectionDTO.of(
+                students,
+                pageSize,
+                Function.identity(),
+                student -> PaginationUtils.encodeCursor(student.getFullName(), student.getId().toString())
+        );
+    }
+
+    /**
+     * Query: searchStudentsConnection
+     *
+     * Searches students by name, CPF, email or enrollment number
+     * (accent-insensitive, most relevant first), one page at a time.
+     *
+     * GraphQL:
+     * query {
+     *   searchStudentsConnection(name: "João", first: 20) {
+     *     edges {
+     *       node { id fullName }
+     *     }
+     *     pageInfo { hasNextPage endCursor }
+     *   }
+     * }
+     */
+    @QueryMapping
+    public StudentConnectionDTO searchStudentsConnection(
+            @Argument String name,
+            @Argument Integer first,
+            @Argument String after
+    ) {
+        int pageSize = PaginationUtils.resolvePageSize(first);
+
+        StudentSearchHit.Position afterPosition = null;
+        if (after != null) {
+            afterPosition = parseSearchCursor(after);
+        }
+
+        List<StudentSearchHit> hits = studentRepository.search(name, afterPosition, pageSize + 1);
+
+        return StudentConnectionDTO.of(
+                hits,
+                pageSize,
+                StudentSearchHit::student,
+                hit -> PaginationUtils.encodeCursor(
+                        Float.toString(hit.score()),
+                        hit.student().getId().toString()
+                )
+        );
+    }
+
     /**
      * Query: reportCard
      *
@@ -126,9 +205,93 @@ public class StudentQueryResolver {
                 ? AcademicPeriod.of(year, semester, bimester)
                 : AcademicPeriod.of(year, semester);
 
-        ViewReportCardUseCase.ReportCard reportCard =
+        ReportCard reportCard =
                 applicationService.viewReportCard(studentId, period);
 
         return ReportCardDTO.from(reportCard);
     }
-}
\ No newline at end of file
+
+    /**
+     * Query: classroomSubjectSummary
+     *
+     * Grade summary of a classroom subject (class dashboard).
+     *
+     * GraphQL:
+     * query {
+     *   classroomSubjectSummary(classroomSubjectId: "uuid", year: 2026, semester: 1) {
+     *     classAverage
+     *     approvedStudentCount
+     *     failedStudentCount
+     *     students {
+     *       average
+     *       student { fullName }
+     *     }
+     *   }
+     * }
+     */
+    @QueryMapping
+    public ClassroomSubjectSummaryDTO classroomSubjectSummary(
+            @Argument UUID classroomSubjectId,
+            @Argument Integer year,
+            @Argument Integer semester,
+            @Argument Integer bimester
+    ) {
+        AcademicPeriod period = bimester != null
+                ? AcademicPeriod.of(year, semester, bimester)
+                : AcademicPeriod.of(year, semester);
+
+        return ClassroomSubjectSummaryDTO.from(
+                applicationService.viewClassroomSubjectSummary(classroomSubjectId, period)
+        );
+    }
+
+    /**
+     * Query: periodClosure
+     *
+     * Progress of the closing of a period.
+     *
+     * GraphQL:
+     * query {
+     *   periodClosure(year: 2026, semester: 1) {
+     *     status
+     *     processedStudents
+     *     totalStudents
+     *     progressPercentage
+     *   }
+     * }
+     */
+    @QueryMapping
+    public PeriodClosureDTO periodClosure(
+            @Argument Integer year,
+            @Argument Integer semester,
+            @Argument Integer bimester
+    ) {
+        AcademicPeriod period = bimester != null
+                ? AcademicPeriod.of(year, semester, bimester)
+                : AcademicPeriod.of(year, semester);
+
+        return applicationService.findPeriodClosure(period)
+                .map(PeriodClosureDTO::from)
+                .orElse(null);
+    }
+
+    private UUID parseCursorId(String cursor, String id) {
+        try {
+            return UUID.fromString(id);
+        } catch (IllegalArgumentException e) {
+            throw new BusinessException("INVALID_CURSOR", "Invalid pagination cursor: " + cursor);
+        }
+    }
+
+    /**
+     * The search cursor holds the (score, id) of the last hit.
+     */
+    private StudentSearchHit.Position parseSearchCursor(String cursor) {
+        String[] key = PaginationUtils.decodeCursor(cursor, 2);
+        try {
+            return new StudentSearchHit.Position(Float.parseFloat(key[0]), parseCursorId(cursor, key[1]));
+        } catch (NumberFormatException e) {
+            throw new BusinessException("INVALID_CURSOR", "Invalid pagination cursor: " + cursor);
+        }
+    }
+}
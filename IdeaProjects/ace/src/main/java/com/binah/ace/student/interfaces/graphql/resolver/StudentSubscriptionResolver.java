@@ -0,0 +1,94 @@
+package com.binah.ace.student.interfaces.graphql.resolver;
+
+import com.binah.ace.student.application.service.StudentApplicationService;
+import com.binah.ace.student.domain.port.GradeFeedPort;
+import com.binah.ace.student.domain.valueobject.AcademicPeriod;
+import com.binah.ace.student.interfaces.graphql.dto.GradeDTO;
+import com.binah.ace.student.interfaces.graphql.dto.ReportCardDTO;
+import org.springframework.graphql.data.method.annotation.Argument;
+import org.springframework.graphql.data.method.annotation.SubscriptionMapping;
+import org.springframework.stereotype.Controller;
+import reactor.adapter.JdkFlowAdapter;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.UUID;
+
+/**
+ * GraphQL resolver for subscriptions of the Student module (graphql-ws).
+ *
+ * Replaces polling reportCard around grade release: the client is told
+ * when something changed instead of asking every few seconds.
+ *
+ * @author Marcos Gustavo
+ */
+@Controller
+public class StudentSubscriptionResolver {
+
+    private final GradeFeedPort gradeFeed;
+    private final StudentApplicationService applicationService;
+
+    public StudentSubscriptionResolver(
+            GradeFeedPort gradeFeed,
+            StudentApplicationService applicationService
+    ) {
+        this.gradeFeed = gradeFeed;
+        this.applicationService = applicationService;
+    }
+
+    /**
+     * Subscription: gradePosted
+     *
+     * Grades posted for the student.
+     *
+     * GraphQL:
+     * subscription {
+     *   gradePosted(studentId: "uuid") {
+     *     id
+     *     score
+     *     isPassing
+     *   }
+     * }
+     */
+    @SubscriptionMapping
+    public Flux<GradeDTO> gradePosted(@Argument UUID studentId) {
+        return JdkFlowAdapter.flowPublisherToFlux(gradeFeed.gradesPosted(studentId))
+                .map(GradeDTO::from);
+    }
+
+    /**
+     * Subscription: reportCardChanged
+     *
+     * The student's report card, sent again whenever it changes: a grade of
+     * the period is posted, updated or deleted, or attendance is recorded.
+     * Changes that arrive while a card is being loaded are merged into the
+     * next one.
+     *
+     * GraphQL:
+     * subscription {
+     *   reportCardChanged(studentId: "uuid", year: 2026, semester: 1) {
+     *     gpa
+     *     isApproved
+     *   }
+     * }
+     */
+    @SubscriptionMapping
+    public Flux<ReportCardDTO> reportCardChanged(
+            @Argument UUID studentId,
+            @Argument Integer year,
+            @Argument Integer semester,
+            @Argument Integer bimester
+    ) {
+        AcademicPeriod period = bimester != null
+                ? AcademicPeriod.of(year, semester, bimester)
+                : AcademicPeriod.of(year, semester);
+
+        return JdkFlowAdapter.flowPublisherToFlux(gradeFeed.reportCardChanges(studentId))
+                .filter(period::contains)
+                .onBackpressureLatest()
+                .concatMap(changed -> Mono.fromCallable(() ->
+                                ReportCardDTO.from(applicationService.viewReportCard(studentId, period)))
+                        .subscribeOn(Schedulers.boundedElastic()), 1);
+    }
+}
@@ -0,0 +1,172 @@
+package com.binah.ace.student.interfaces.rest;
+
+import com.binah.ace.student.application.service.StudentApplicationService;
+import com.binah.ace.student.domain.valueobject.AcademicPeriod;
+import com.binah.ace.student.interfaces.graphql.dto.ReportCardDTO;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * REST endpoint for exporting report cards (end of period).
+ *
+ * The response is written chunk by chunk as the students are read, so a
+ * whole school year is exported without holding it in memory, and no
+ * database connection is held while the client downloads.
+ * Without semester, both semesters of the year are exported (first, then second).
+ * Requires authentication (JWT).
+ *
+ * Formats:
+ * - csv: one line per student and subject
+ * - jsonl: one ReportCard JSON (same shape as the GraphQL type) per line
+ *
+ * Example:
+ * curl -H "Authorization: Bearer $TOKEN" \
+ *   "http://localhost:8080/api/report-cards/export?year=2026&semester=1&format=csv" -o boletins.csv
+ * curl -H "Authorization: Bearer $TOKEN" \
+ *   "http://localhost:8080/api/report-cards/export?year=2026&format=jsonl" -o boletins-2026.jsonl
+ *
+ * @author Marcos Gustavo
+ */
+@RestController
+@RequestMapping("/api/report-cards")
+public class ReportCardExportController {
+
+    private static final MediaType TEXT_CSV = MediaType.parseMediaType("text/csv;charset=UTF-8");
+    private static final MediaType APPLICATION_JSON_LINES = MediaType.parseMediaType("application/jsonl;charset=UTF-8");
+
+    private static final String CSV_HEADER = "studentId,studentName,enrollmentNumber,year,semester,bimester," +
+            "gpa,attendancePercentage,isApproved,subjectId,subjectAverage,gradeCount";
+
+    private final StudentApplicationService applicationService;
+    private final ObjectMapper objectMapper;
+
+    public ReportCardExportController(StudentApplicationService applicationService, ObjectMapper objectMapper) {
+        this.applicationService = applicationService;
+        this.objectMapper = objectMapper;
+    }
+
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> export(
+            @RequestParam int year,
+            @RequestParam(required = false) Integer semester,
+            @RequestParam(required = false) Integer bimester,
+            @RequestParam(required = false) UUID classroomSubjectId,
+            @RequestParam(defaultValue = "csv") String format
+    ) {
+        if (semester == null && bimester != null) {
+            throw new IllegalArgumentException("bimester requires semester");
+        }
+        List<AcademicPeriod> periods = semester != null
+                ? List.of(new AcademicPeriod(year, semester, bimester))
+                : List.of(AcademicPeriod.of(year, 1), AcademicPeriod.of(year, 2));
+        boolean csv = switch (format.toLowerCase()) {
+            case "csv" -> true;
+            case "jsonl" -> false;
+            default -> throw new IllegalArgumentException("Format must be csv or jsonl, got: " + format);
+        };
+
+        StreamingResponseBody body = outputStream -> {
+            Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8), 64 * 1024);
+            if (csv) {
+                writer.write(CSV_HEADER);
+                writer.write('\n');
+            }
+
+            for (AcademicPeriod period : periods) {
+                applicationService.exportReportCards(period, classroomSubjectId, reportCard -> {
+                    try {
+                        ReportCardDTO dto = ReportCardDTO.from(reportCard);
+                        if (csv) {
+                            writeCsv(writer, dto);
+                        } else {
+                            writer.write(objectMapper.writeValueAsString(dto));
+                            writer.write('\n');
+                        }
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+            }
+            writer.flush();
+        };
+
+        String fileName = "report-cards-" + year
+                + (semester != null ? "-" + semester : "")
+                + (bimester != null ? "-" + bimester : "")
+                + (csv ? ".csv" : ".jsonl");
+
+        return ResponseEntity.ok()
+                .contentType(csv ? TEXT_CSV : APPLICATION_JSON_LINES)
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        ContentDisposition.attachment().filename(fileName).build().toString())
+                .body(body);
+    }
+
+    /**
+     * Invalid period or format.
+     */
+    @ExceptionHandler(IllegalArgumentException.class)
+    public ResponseEntity<Map<String, String>> handleInvalidInput(IllegalArgumentException e) {
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                .body(Map.of("code", "INVALID_INPUT", "message", e.getMessage()));
+    }
+
+    /**
+     * One line per subject; students without subjects are not possible
+     * here, since only students with grades are exported.
+     */
+    private void writeCsv(Writer writer, ReportCardDTO dto) throws IOException {
+        for (ReportCardDTO.SubjectGradesDTO subject : dto.subjectGrades()) {
+            writer.write(String.join(",",
+                    dto.studentId().toString(),
+                    csvField(dto.studentName()),
+                    csvField(dto.enrollmentNumber()),
+                    String.valueOf(dto.year()),
+                    String.valueOf(dto.semester()),
+                    dto.bimester() != null ? dto.bimester().toString() : "",
+                    decimal(dto.gpa()),
+                    decimal(dto.attendancePercentage()),
+                    dto.isApproved().toString(),
+                    subject.subjectId().toString(),
+                    decimal(subject.average()),
+                    String.valueOf(subject.grades().size())
+            ));
+            writer.write('\n');
+        }
+    }
+
+    private static String decimal(BigDecimal value) {
+        return value != null ? value.toPlainString() : "";
+    }
+
+    private static String csvField(String value) {
+        if (value == null) {
+            return "";
+        }
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0) {
+            return value;
+        }
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+}
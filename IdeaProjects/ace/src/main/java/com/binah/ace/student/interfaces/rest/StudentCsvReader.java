@@ -0,0 +1,307 @@
+package com.binah.ace.student.interfaces.rest;
+
+import com.binah.ace.student.application.usecase.ImportStudentsUseCase.ImportRow;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NoSuchElementException;
+
+/**
+ * Reads the rows of a student import CSV as they are consumed.
+ *
+ * Only the current record is kept in memory, so the size of the
+ * file does not matter. Follows RFC 4180 (quoted fields may contain
+ * separators, quotes and line breaks); the separator (',' or ';',
+ * as exported by spreadsheets with a Brazilian locale) is taken
+ * from the header.
+ *
+ * Columns are matched by name, ignoring case, accents, spaces and
+ * underscores (fullName, full_name and "Full Name" are the same column).
+ *
+ * A record with a field longer than maxFieldLength or longer than
+ * maxRecordLength as a whole (quoted line breaks included) is skipped
+ * without being buffered and comes out as a malformed row, like an
+ * unterminated quoted field (which takes the rest of the file with it):
+ * the rows before it are still imported. Only an unusable header
+ * rejects the whole file.
+ *
+ * @author Marcos Gustavo
+ */
+public class StudentCsvReader implements Iterator<ImportRow> {
+
+    private static final List<String> COLUMNS = List.of(
+            "fullname", "cpf", "email", "birthdate", "phone", "address",
+            "guardianname", "guardianphone", "guardianemail"
+    );
+
+    private static final List<String> REQUIRED_COLUMNS = List.of(
+            "fullname", "cpf", "email", "birthdate", "guardianname", "guardianemail"
+    );
+
+    public static final int DEFAULT_MAX_FIELD_LENGTH = 1000;
+    public static final int DEFAULT_MAX_RECORD_LENGTH = 8192;
+
+    private final Reader reader;
+    private final int maxFieldLength;
+    private final int maxRecordLength;
+    private final int[] positions = new int[COLUMNS.size()];
+    private char separator;
+    private long line = 1;
+    private int pending = -2;
+    private boolean started;
+    private ImportRow next;
+
+    // Estado do registro sendo lido
+    private long recordLength;
+    private String recordError;
+
+    public StudentCsvReader(Reader reader) {
+        this(reader, DEFAULT_MAX_FIELD_LENGTH, DEFAULT_MAX_RECORD_LENGTH);
+    }
+
+    /**
+     * @param maxFieldLength Longest accepted field, in characters
+     * @param maxRecordLength Longest accepted record, in characters
+     */
+    public StudentCsvReader(Reader reader, int maxFieldLength, int maxRecordLength) {
+        this.reader = reader;
+        this.maxFieldLength = maxFieldLength;
+        this.maxRecordLength = maxRecordLength;
+        readHeader();
+        this.next = readRow();
+    }
+
+    @Override
+    public boolean hasNext() {
+        return next != null;
+    }
+
+    @Override
+    public ImportRow next() {
+        if (next == null) {
+            throw new NoSuchElementException();
+        }
+        ImportRow current = next;
+        next = readRow();
+        return current;
+    }
+
+    private void readHeader() {
+        String firstLine = peekLine();
+        separator = count(firstLine, ';') > count(firstLine, ',') ? ';' : ',';
+
+        List<String> header = readRecord();
+        if (header == null) {
+            throw new IllegalArgumentException("The file is empty");
+        }
+        if (recordError != null) {
+            throw new IllegalArgumentException("Invalid header: " + recordError);
+        }
+
+        Map<String, Integer> indexes = new HashMap<>();
+        for (int i = 0; i < header.size(); i++) {
+            indexes.putIfAbsent(normalize(header.get(i)), i);
+        }
+
+        for (String column : REQUIRED_COLUMNS) {
+            if (!indexes.containsKey(column)) {
+                throw new IllegalArgumentException("Missing column: " + column);
+            }
+        }
+        for (int i = 0; i < COLUMNS.size(); i++) {
+            positions[i] = indexes.getOrDefault(COLUMNS.get(i), -1);
+        }
+    }
+
+    private ImportRow readRow() {
+        while (true) {
+            long recordLine = line;
+            List<String> fields = readRecord();
+            if (fields == null) {
+                return null;
+            }
+            if (recordError != null) {
+                return ImportRow.malformed(recordLine, recordError);
+            }
+            // skips blank lines (usually at the end of the file)
+            if (fields.size() == 1 && fields.get(0).isBlank()) {
+                continue;
+            }
+
+            return new ImportRow(
+                    recordLine,
+                    field(fields, 0),
+                    field(fields, 1),
+                    field(fields, 2),
+                    field(fields, 3),
+                    field(fields, 4),
+                    field(fields, 5),
+                    field(fields, 6),
+                    field(fields, 7),
+                    field(fields, 8),
+                    null
+            );
+        }
+    }
+
+    private String field(List<String> fields, int column) {
+        int position = positions[column];
+        return position >= 0 && position < fields.size() ? fields.get(position) : null;
+    }
+
+    /**
+     * Reads the next record, or null at the end of the file.
+     * When recordError is set afterwards, the record was malformed and
+     * its fields are incomplete.
+     */
+    private List<String> readRecord() {
+        recordLength = 0;
+        recordError = null;
+
+        int c = read();
+        if (c == -1) {
+            return null;
+        }
+
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+
+        while (true) {
+            if (quoted) {
+                if (c == -1) {
+                    recordError = "Unterminated quoted field (the rest of the file was skipped)";
+                    return fields;
+                }
+                if (c == '"') {
+                    int following = read();
+                    if (following == '"') {
+                        append(field, '"');
+                    } else {
+                        quoted = false;
+                        c = following;
+                        continue;
+                    }
+                } else {
+                    if (c == '\n') {
+                        line++;
+                    }
+                    append(field, c);
+                }
+            } else if (c == '"' && field.isEmpty()) {
+                quoted = true;
+            } else if (c == separator) {
+                if (countCharacter()) {
+                    fields.add(field.toString());
+                }
+                field.setLength(0);
+            } else if (c == '\r' || c == '\n' || c == -1) {
+                if (c == '\r') {
+                    int following = read();
+                    if (following != '\n') {
+                        pending = following;
+                    }
+                }
+                if (c != -1) {
+                    line++;
+                }
+                fields.add(field.toString());
+                return fields;
+            } else {
+                append(field, c);
+            }
+            c = read();
+        }
+    }
+
+    /**
+     * Adds a character to the current field, unless the record is already
+     * malformed: its remaining characters are only counted and dropped.
+     */
+    private void append(StringBuilder field, int c) {
+        if (!countCharacter()) {
+            return;
+        }
+        if (field.length() == maxFieldLength) {
+            recordError = "Field longer than " + maxFieldLength + " characters";
+            field.setLength(0);
+            return;
+        }
+        field.append((char) c);
+    }
+
+    /**
+     * Counts one character of the current record.
+     *
+     * @return Whether the record is still well-formed
+     */
+    private boolean countCharacter() {
+        recordLength++;
+        if (recordError == null && recordLength > maxRecordLength) {
+            recordError = "Row longer than " + maxRecordLength + " characters";
+        }
+        return recordError == null;
+    }
+
+    /**
+     * Returns the first line without consuming it (the header is small,
+     * so it fits in the mark buffer).
+     */
+    private String peekLine() {
+        try {
+            if (!reader.markSupported()) {
+                throw new IllegalArgumentException("Reader must support mark");
+            }
+            reader.mark(8192);
+            StringBuilder first = new StringBuilder();
+            int c;
+            while ((c = reader.read()) != -1 && c != '\n' && c != '\r' && first.length() < 8192 - 1) {
+                first.append((char) c);
+            }
+            reader.reset();
+            return first.toString();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private int read() {
+        if (pending != -2) {
+            int c = pending;
+            pending = -2;
+            return c;
+        }
+        try {
+            int c = reader.read();
+            // ignores the BOM written by Excel
+            if (!started) {
+                started = true;
+                if (c == '\uFEFF') {
+                    return reader.read();
+                }
+            }
+            return c;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static int count(String value, char c) {
+        return (int) value.chars().filter(ch -> ch == c).count();
+    }
+
+    private static String normalize(String column) {
+        return Normalizer.normalize(column, Normalizer.Form.NFD)
+                .replaceAll("\\p{M}", "")
+                .replaceAll("[\\s_\\-\"]", "")
+                .toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,89 @@
+package com.binah.ace.student.interfaces.rest;
+
+import com.binah.ace.student.application.service.StudentApplicationService;
+import com.binah.ace.student.application.usecase.ImportStudentsUseCase;
+import com.binah.ace.student.interfaces.rest.dto.StudentImportResultDTO;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * REST endpoint for the bulk student import.
+ *
+ * Lives outside GraphQL because the file is read straight from the
+ * request body, row by row, instead of being loaded as a whole
+ * argument. Requires authentication (JWT).
+ *
+ * Example:
+ * curl -X POST http://localhost:8080/api/students/import \
+ *   -H "Authorization: Bearer $TOKEN" -H "Content-Type: text/csv" \
+ *   --data-binary @students.csv
+ *
+ * Header: fullName;cpf;email;birthDate;phone;address;guardianName;guardianPhone;guardianEmail
+ *
+ * Malformed rows (unterminated quotes, fields or rows past the length
+ * limits) are reported with the other row errors in the result; only a
+ * file without a usable header is answered with 400.
+ *
+ * @author Marcos Gustavo
+ */
+@RestController
+@RequestMapping("/api/students")
+public class StudentImportController {
+
+    private final StudentApplicationService applicationService;
+    private final int maxFieldLength;
+    private final int maxRecordLength;
+
+    public StudentImportController(
+            StudentApplicationService applicationService,
+            @Value("${ace.student-import.max-field-length:" + StudentCsvReader.DEFAULT_MAX_FIELD_LENGTH + "}") int maxFieldLength,
+            @Value("${ace.student-import.max-row-length:" + StudentCsvReader.DEFAULT_MAX_RECORD_LENGTH + "}") int maxRecordLength
+    ) {
+        this.applicationService = applicationService;
+        this.maxFieldLength = maxFieldLength;
+        this.maxRecordLength = maxRecordLength;
+    }
+
+    @PostMapping(
+            path = "/import",
+            consumes = {"text/csv", MediaType.TEXT_PLAIN_VALUE, MediaType.APPLICATION_OCTET_STREAM_VALUE},
+            produces = MediaType.APPLICATION_JSON_VALUE
+    )
+    public StudentImportResultDTO importStudents(
+            InputStream body,
+            Authentication authentication
+    ) throws IOException {
+        // Extract ID of the authenticated user
+        UUID createdBy = (UUID) authentication.getPrincipal();
+
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(body, StandardCharsets.UTF_8))) {
+            ImportStudentsUseCase.Result result =
+                    applicationService.importStudents(new StudentCsvReader(reader, maxFieldLength, maxRecordLength), createdBy);
+            return StudentImportResultDTO.from(result);
+        }
+    }
+
+    /**
+     * Unusable header (empty file, missing columns).
+     */
+    @ExceptionHandler(IllegalArgumentException.class)
+    public ResponseEntity<Map<String, String>> handleInvalidFile(IllegalArgumentException e) {
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                .body(Map.of("code", "INVALID_INPUT", "message", e.getMessage()));
+    }
+}
@@ -0,0 +1,46 @@
+package com.binah.ace.student.interfaces.rest.dto;
+
+import com.binah.ace.student.application.usecase.ImportStudentsUseCase;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * DTO representing the result of a student import.
+ *
+ * @author Marcos Gustavo
+ */
+public record StudentImportResultDTO(
+        Long totalRows,
+        Long importedCount,
+        Long failedCount,
+        List<RowErrorDTO> errors,
+        Boolean errorsTruncated
+) {
+    /**
+     * Converts the import result to DTO.
+     */
+    public static StudentImportResultDTO from(ImportStudentsUseCase.Result result) {
+        List<RowErrorDTO> errors = result.errors().stream()
+                .map(error -> new RowErrorDTO(error.line(), error.cpf(), error.code(), error.message()))
+                .collect(Collectors.toList());
+
+        return new StudentImportResultDTO(
+                result.totalRows(),
+                result.importedCount(),
+                result.failedCount(),
+                errors,
+                result.errorsTruncated()
+        );
+    }
+
+    /**
+     * Error of a rejected row, with its line in the file.
+     */
+    public record RowErrorDTO(
+            Long line,
+            String cpf,
+            String code,
+            String message
+    ) {}
+}
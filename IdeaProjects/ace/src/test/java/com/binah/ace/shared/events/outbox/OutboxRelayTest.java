@@ -0,0 +1,261 @@
+package com.binah.ace.shared.events.outbox;
+
+import com.binah.ace.shared.events.DomainEvent;
+import com.binah.ace.shared.events.DomainEventBatch;
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.transaction.SavepointManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.AbstractPlatformTransactionManager;
+import org.springframework.transaction.support.DefaultTransactionStatus;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Relay delivery and bookkeeping, with the outbox table and the transaction
+ * manager replaced by in-memory fakes that record what they are asked to do.
+ */
+class OutboxRelayTest {
+
+    private final FakeJdbcTemplate jdbcTemplate = new FakeJdbcTemplate();
+    private final SavepointTransactionManager transactionManager = new SavepointTransactionManager();
+    private final List<List<String>> deliveries = new ArrayList<>();
+
+    @Test
+    void marksADeliveredGroupProcessedInOneSavepoint() {
+        jdbcTemplate.claimable(row(1, "a", 0), row(2, "b", 0));
+
+        relay("poison", 10).poll();
+
+        assertEquals(List.of(List.of("a", "b")), deliveries);
+        assertEquals(List.of(1L, 2L), jdbcTemplate.processed);
+        assertTrue(jdbcTemplate.retried.isEmpty());
+        assertEquals(1, transactionManager.savepoints);
+        assertEquals(0, transactionManager.rolledBackToSavepoint);
+        assertTrue(transactionManager.committed);
+    }
+
+    @Test
+    void retriesOnlyTheEventWhoseListenerFailedWithASqlError() {
+        jdbcTemplate.claimable(row(1, "a", 0), row(2, "poison", 3), row(3, "c", 0));
+
+        relay("poison", 10).poll();
+
+        // the group fails, then each event is delivered on its own
+        assertEquals(List.of(
+                List.of("a", "poison", "c"),
+                List.of("a"),
+                List.of("poison"),
+                List.of("c")
+        ), deliveries);
+        assertEquals(List.of(1L, 3L), jdbcTemplate.processed);
+        assertEquals(List.of(new Retry(2L, 4, "PENDING")), jdbcTemplate.retried);
+
+        // the failed deliveries were rolled back to their savepoints, the relay transaction still commits
+        assertEquals(4, transactionManager.savepoints);
+        assertEquals(2, transactionManager.rolledBackToSavepoint);
+        assertTrue(transactionManager.committed);
+        assertFalse(transactionManager.rolledBack);
+    }
+
+    @Test
+    void marksTheEventFailedAfterMaxAttempts() {
+        jdbcTemplate.claimable(row(7, "poison", 2));
+
+        relay("poison", 3).poll();
+
+        assertEquals(List.of(new Retry(7L, 3, "FAILED")), jdbcTemplate.retried);
+        assertTrue(jdbcTemplate.processed.isEmpty());
+        assertTrue(transactionManager.committed);
+    }
+
+    private OutboxRelay relay(String poison, int maxAttempts) {
+        ApplicationEventPublisher publisher = event -> {
+            List<String> names = ((DomainEventBatch<?>) event).events().stream()
+                    .map(e -> ((ProbeEvent) e).getName())
+                    .toList();
+            deliveries.add(names);
+            if (names.contains(poison)) {
+                throw new DataIntegrityViolationException("duplicate key value violates unique constraint");
+            }
+        };
+
+        return new OutboxRelay(
+                jdbcTemplate,
+                JsonMapper.builder().findAndAddModules().build(),
+                publisher,
+                transactionManager,
+                100,
+                maxAttempts,
+                1000,
+                7
+        );
+    }
+
+    private ClaimedRow row(long position, String name, int attempts) {
+        String payload = "{\"eventId\":\"" + UUID.randomUUID() + "\","
+                + "\"occurredOn\":\"2026-10-17T10:00:00\","
+                + "\"name\":\"" + name + "\"}";
+        return new ClaimedRow(position, payload, attempts);
+    }
+
+    private record ClaimedRow(long position, String payload, int attempts) {
+    }
+
+    private record Retry(long position, int attempts, String status) {
+    }
+
+    public static class ProbeEvent extends DomainEvent {
+
+        private final String name;
+
+        @JsonCreator
+        public ProbeEvent(
+                @JsonProperty("eventId") UUID eventId,
+                @JsonProperty("occurredOn") LocalDateTime occurredOn,
+                @JsonProperty("name") String name
+        ) {
+            super(eventId, occurredOn);
+            this.name = name;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        @Override
+        public UUID getAggregateId() {
+            return UUID.nameUUIDFromBytes(name.getBytes());
+        }
+    }
+
+    /**
+     * Serves the claimed rows once and records the PROCESSED and retry updates.
+     */
+    private static class FakeJdbcTemplate extends JdbcTemplate {
+
+        private final List<Long> processed = new ArrayList<>();
+        private final List<Retry> retried = new ArrayList<>();
+        private List<ClaimedRow> claimable = List.of();
+
+        void claimable(ClaimedRow... rows) {
+            claimable = List.of(rows);
+        }
+
+        @Override
+        public <T> List<T> query(String sql, RowMapper<T> rowMapper, Object... args) {
+            List<T> mapped = new ArrayList<>();
+            try {
+                for (ClaimedRow row : claimable) {
+                    ResultSet rs = mock(ResultSet.class);
+                    when(rs.getLong("position")).thenReturn(row.position());
+                    when(rs.getString("event_type")).thenReturn(ProbeEvent.class.getName());
+                    when(rs.getString("payload")).thenReturn(row.payload());
+                    when(rs.getInt("attempts")).thenReturn(row.attempts());
+                    mapped.add(rowMapper.mapRow(rs, mapped.size()));
+                }
+            } catch (SQLException e) {
+                throw new IllegalStateException(e);
+            }
+            claimable = List.of();
+            return mapped;
+        }
+
+        @Override
+        public int update(String sql, Object... args) {
+            if (sql.contains("status = 'PROCESSED'")) {
+                processed.add((Long) args[0]);
+            } else {
+                retried.add(new Retry((Long) args[4], (Integer) args[0], (String) args[2]));
+            }
+            return 1;
+        }
+    }
+
+    /**
+     * Single-connection transaction manager whose nested transactions are savepoints.
+     */
+    private static class SavepointTransactionManager extends AbstractPlatformTransactionManager {
+
+        private boolean active;
+        private boolean committed;
+        private boolean rolledBack;
+        private int savepoints;
+        private int rolledBackToSavepoint;
+
+        SavepointTransactionManager() {
+            setNestedTransactionAllowed(true);
+        }
+
+        @Override
+        protected Object doGetTransaction() {
+            return new Transaction(active);
+        }
+
+        @Override
+        protected boolean isExistingTransaction(Object transaction) {
+            return ((Transaction) transaction).existing;
+        }
+
+        @Override
+        protected void doBegin(Object transaction, TransactionDefinition definition) {
+            active = true;
+        }
+
+        @Override
+        protected void doCommit(DefaultTransactionStatus status) {
+            committed = true;
+        }
+
+        @Override
+        protected void doRollback(DefaultTransactionStatus status) {
+            rolledBack = true;
+        }
+
+        @Override
+        protected void doCleanupAfterCompletion(Object transaction) {
+            active = false;
+        }
+
+        private class Transaction implements SavepointManager {
+
+            private final boolean existing;
+
+            Transaction(boolean existing) {
+                this.existing = existing;
+            }
+
+            @Override
+            public Object createSavepoint() {
+                savepoints++;
+                return new Object();
+            }
+
+            @Override
+            public void rollbackToSavepoint(Object savepoint) {
+                rolledBackToSavepoint++;
+            }
+
+            @Override
+            public void releaseSavepoint(Object savepoint) {
+            }
+        }
+    }
+}
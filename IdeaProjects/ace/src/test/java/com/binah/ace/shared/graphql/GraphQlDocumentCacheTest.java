@@ -0,0 +1,87 @@
+package com.binah.ace.shared.graphql;
+
+import graphql.ExecutionResult;
+import graphql.GraphQL;
+import graphql.GraphQLError;
+import graphql.schema.idl.RuntimeWiring;
+import graphql.schema.idl.SchemaGenerator;
+import graphql.schema.idl.SchemaParser;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Persisted queries and the allow-list, through a real GraphQL engine.
+ */
+class GraphQlDocumentCacheTest {
+
+    private static final String QUERY = "{ greeting }";
+    private static final String OTHER_QUERY = "{ greeting __typename }";
+
+    @TempDir
+    Path operations;
+
+    @Test
+    void registersPersistedQueriesAfterCheckingTheHash() {
+        GraphQL graphQL = graphQL(false);
+        String hash = GraphQlDocumentCache.sha256(QUERY);
+
+        assertEquals("PersistedQueryNotFound", error(execute(graphQL, null, hash)));
+        // o texto já está no cache de documentos, mas não corresponde ao hash
+        assertTrue(execute(graphQL, OTHER_QUERY, null).getErrors().isEmpty());
+        assertEquals("PersistedQueryIdInvalid", error(execute(graphQL, OTHER_QUERY, hash)));
+
+        assertEquals(Map.of("greeting", "olá"), execute(graphQL, QUERY, hash).getData());
+        assertEquals(Map.of("greeting", "olá"), execute(graphQL, null, hash).getData());
+    }
+
+    @Test
+    void acceptsOnlyAllowListedOperations() throws Exception {
+        Files.writeString(operations.resolve("greeting.graphql"), QUERY);
+        GraphQL graphQL = graphQL(true);
+
+        assertEquals(Map.of("greeting", "olá"), execute(graphQL, null, GraphQlDocumentCache.sha256(QUERY)).getData());
+        assertTrue(execute(graphQL, QUERY, null).getErrors().isEmpty());
+        assertEquals("OPERATION_NOT_ALLOWED", error(execute(graphQL, OTHER_QUERY, null)));
+        assertEquals("OPERATION_NOT_ALLOWED",
+                error(execute(graphQL, OTHER_QUERY, GraphQlDocumentCache.sha256(OTHER_QUERY))));
+    }
+
+    private GraphQL graphQL(boolean allowListedOnly) {
+        GraphQlDocumentCache documentCache = new GraphQlDocumentCache(new SimpleMeterRegistry(), 100, 100,
+                operations.toUri() + "*.graphql", allowListedOnly);
+
+        return GraphQL.newGraphQL(new SchemaGenerator().makeExecutableSchema(
+                        new SchemaParser().parse("type Query { greeting: String }"),
+                        RuntimeWiring.newRuntimeWiring()
+                                .type("Query", wiring -> wiring.dataFetcher("greeting", env -> "olá"))
+                                .build()))
+                .preparsedDocumentProvider(documentCache)
+                .build();
+    }
+
+    private ExecutionResult execute(GraphQL graphQL, String query, String hash) {
+        return graphQL.execute(builder -> {
+            builder.query(query == null ? "PersistedQueryMarker" : query);
+            if (hash != null) {
+                builder.extensions(Map.of("persistedQuery", Map.of("version", 1, "sha256Hash", hash)));
+            }
+            return builder;
+        });
+    }
+
+    private String error(ExecutionResult result) {
+        assertEquals(1, result.getErrors().size(), result.getErrors().toString());
+        // erros de persisted query vêm no formato do Apollo: o código é a mensagem
+        GraphQLError error = result.getErrors().get(0);
+        Map<String, Object> extensions = error.getExtensions();
+        return extensions != null && extensions.containsKey("code") ? (String) extensions.get("code") : error.getMessage();
+    }
+}
@@ -0,0 +1,157 @@
+package com.binah.ace.shared.graphql;
+
+import graphql.ExecutionResult;
+import graphql.GraphQL;
+import graphql.GraphQLError;
+import graphql.schema.GraphQLSchema;
+import graphql.schema.idl.RuntimeWiring;
+import graphql.schema.idl.SchemaGenerator;
+import graphql.schema.idl.SchemaParser;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Cost, depth and alias limits against a slice of the student schema.
+ */
+class QueryCostInstrumentationTest {
+
+    private static final String SCHEMA = """
+            type Query {
+              studentsConnection(first: Int, after: String): StudentConnection!
+              reportCard(studentId: ID!, year: Int!, semester: Int!): ReportCard!
+            }
+            type StudentConnection { edges: [StudentEdge!]! }
+            type StudentEdge { cursor: String! node: Student! }
+            type Student {
+              id: ID!
+              fullName: String!
+              grades(year: Int!, semester: Int!): [Grade!]!
+              reportCard(year: Int!, semester: Int!): ReportCard
+            }
+            type Grade { score: Float! student: Student }
+            type ReportCard { gpa: Float! subjectGrades: [SubjectGrades!]! }
+            type SubjectGrades { average: Float! grades: [Grade!]! }
+            """;
+
+    // studentsConnection 5 + first * (edges 1 + node 1 + reportCard (10 + subjectGrades 1))
+    private static final String STUDENTS_WITH_REPORT_CARDS = """
+            query($first: Int) {
+              studentsConnection(first: $first) {
+                edges { node { id reportCard(year: 2026, semester: 1) { gpa subjectGrades { average } } } }
+              }
+            }
+            """;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final GraphQL graphQL = GraphQL.newGraphQL(schema())
+            .instrumentation(new QueryCostInstrumentation(
+                    new MockEnvironment()
+                            .withProperty("ace.graphql.cost.budget.anonymous", "100")
+                            .withProperty("ace.graphql.cost.budget.admin", "2000"),
+                    meterRegistry, 6, 2, 10, 500, 10, 5, 10, 5))
+            .build();
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void chargesPagesByFirstAndBudgetsByRole() {
+        // 5 + 20 * 13 = 265 (default page size)
+        assertEquals("QUERY_TOO_COMPLEX", errorCode(execute(STUDENTS_WITH_REPORT_CARDS, Map.of())));
+        // 5 + 7 * 13 = 96
+        assertTrue(execute(STUDENTS_WITH_REPORT_CARDS, Map.of("first", 7)).getErrors().isEmpty());
+
+        authenticate("ROLE_ADMIN");
+        // 5 + 100 * 13 = 1305 (first is capped at the maximum page size)
+        assertTrue(execute(STUDENTS_WITH_REPORT_CARDS, Map.of("first", 5000)).getErrors().isEmpty());
+
+        assertEquals(1.0, meterRegistry.counter("ace.graphql.rejected", "reason", "cost", "role", "anonymous").count());
+    }
+
+    @Test
+    void chargesStudentGradesByWeight() {
+        String grades = "query($first: Int) { studentsConnection(first: $first) "
+                + "{ edges { node { grades(year: 2026, semester: 1) { score } } } } }";
+
+        // 5 + 10 * (edges 1 + node 1 + grades 5) = 75
+        assertTrue(execute(grades, Map.of("first", 10)).getErrors().isEmpty());
+        // 5 + 15 * 7 = 110
+        assertEquals("QUERY_TOO_COMPLEX", errorCode(execute(grades, Map.of("first", 15))));
+    }
+
+    @Test
+    void rejectsDeepQueriesAndAliases() {
+        authenticate("ROLE_ADMIN");
+
+        ExecutionResult deep = execute("""
+                { studentsConnection(first: 1) { edges { node { grades(year: 2026, semester: 1) {
+                  student { grades(year: 2026, semester: 1) { student { id } } } } } } } }
+                """, Map.of());
+        ExecutionResult aliased = execute("""
+                { a: studentsConnection(first: 1) { edges { cursor } }
+                  b: studentsConnection(first: 1) { edges { cursor } }
+                  c: studentsConnection(first: 1) { edges { cursor } } }
+                """, Map.of());
+
+        assertEquals("QUERY_TOO_DEEP", errorCode(deep));
+        assertEquals("TOO_MANY_ALIASES", errorCode(aliased));
+        assertTrue(execute("{ __schema { types { fields { type { ofType { ofType { name } } } } } } }", Map.of())
+                .getErrors().isEmpty());
+    }
+
+    @Test
+    void analyzesNestedFragmentSpreadsInLinearTime() {
+        // F1 spreads F0 twice, F2 spreads F1 twice...: 2^40 report cards if expanded
+        StringBuilder query = new StringBuilder("{ ...F40 }\n")
+                .append("fragment F0 on Query { r: reportCard(studentId: 1, year: 2026, semester: 1) { gpa } }\n");
+        for (int i = 1; i <= 40; i++) {
+            query.append("fragment F").append(i).append(" on Query { ...F").append(i - 1)
+                    .append(" ...F").append(i - 1).append(" }\n");
+        }
+
+        ExecutionResult result = assertTimeoutPreemptively(Duration.ofSeconds(10),
+                () -> execute(query.toString(), Map.of()));
+
+        assertEquals("TOO_MANY_ALIASES", errorCode(result));
+    }
+
+    private ExecutionResult execute(String query, Map<String, Object> variables) {
+        return graphQL.execute(builder -> builder.query(query).variables(variables));
+    }
+
+    private String errorCode(ExecutionResult result) {
+        assertEquals(1, result.getErrors().size(), result.getErrors().toString());
+        GraphQLError error = result.getErrors().get(0);
+        return (String) error.getExtensions().get("code");
+    }
+
+    private void authenticate(String role) {
+        SecurityContextHolder.getContext().setAuthentication(new UsernamePasswordAuthenticationToken(
+                UUID.randomUUID(), null, List.of(new SimpleGrantedAuthority(role))));
+    }
+
+    private static GraphQLSchema schema() {
+        return new SchemaGenerator().makeExecutableSchema(
+                new SchemaParser().parse(SCHEMA),
+                RuntimeWiring.newRuntimeWiring()
+                        .type("Query", wiring -> wiring.dataFetcher("studentsConnection",
+                                env -> Map.of("edges", List.of())))
+                        .build());
+    }
+}
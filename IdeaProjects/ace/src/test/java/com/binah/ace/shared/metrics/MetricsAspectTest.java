@@ -0,0 +1,62 @@
+package com.binah.ace.shared.metrics;
+
+import com.binah.ace.student.application.usecase.CalculateGPAUseCase;
+import com.binah.ace.student.domain.exception.StudentNotFoundException;
+import com.binah.ace.student.domain.repository.GradeAggregateRepository;
+import com.binah.ace.student.domain.repository.StudentRepository;
+import com.binah.ace.student.domain.valueobject.AcademicPeriod;
+import com.binah.ace.student.domain.valueobject.GradeAggregate;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Use case timers and error counters, through a Spring AOP proxy.
+ */
+class MetricsAspectTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final StudentRepository studentRepository = mock(StudentRepository.class);
+    private final GradeAggregateRepository gradeAggregateRepository = mock(GradeAggregateRepository.class);
+
+    @Test
+    void timesCallsAndCountsFailuresByErrorType() {
+        UUID maria = UUID.randomUUID();
+        UUID unknown = UUID.randomUUID();
+        AcademicPeriod period = AcademicPeriod.of(2026, 1);
+        when(studentRepository.findById(maria)).thenReturn(Optional.of(mock()));
+        when(studentRepository.findById(unknown)).thenReturn(Optional.empty());
+        when(gradeAggregateRepository.findByStudentIdAndPeriod(any(), any())).thenReturn(GradeAggregate.empty(maria));
+
+        CalculateGPAUseCase useCase = proxy(new CalculateGPAUseCase(studentRepository, gradeAggregateRepository));
+        useCase.execute(maria, period);
+        useCase.execute(maria, period);
+        assertThrows(StudentNotFoundException.class, () -> useCase.execute(unknown, period));
+
+        assertEquals(2, meterRegistry.get("ace.usecase")
+                .tags("class", "CalculateGPAUseCase", "method", "execute", "outcome", "success")
+                .timer().count());
+        assertEquals(1, meterRegistry.get("ace.usecase")
+                .tags("class", "CalculateGPAUseCase", "method", "execute", "outcome", "error")
+                .timer().count());
+        assertEquals(1.0, meterRegistry.get("ace.usecase.errors")
+                .tags("exception", "StudentNotFoundException", "error", "NOT_FOUND")
+                .counter().count());
+    }
+
+    private <T> T proxy(T target) {
+        AspectJProxyFactory factory = new AspectJProxyFactory(target);
+        factory.setProxyTargetClass(true);
+        factory.addAspect(new MetricsAspect(meterRegistry));
+        return factory.getProxy();
+    }
+}
@@ -0,0 +1,138 @@
+package com.binah.ace.student.application.service;
+
+import com.binah.ace.student.domain.repository.EnrollmentSequenceRepository;
+import com.binah.ace.student.domain.valueobject.Enrollment;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * More concurrent enrollments than pooled connections: every allocation
+ * must run on the connection its transaction already holds.
+ */
+class EnrollmentNumberAllocatorTest {
+
+    private static final int CONNECTIONS = 4;
+    private static final int THREADS = 16;
+    private static final int ENROLLMENTS_PER_THREAD = 50;
+
+    private final Semaphore pool = new Semaphore(CONNECTIONS);
+    private final ThreadLocal<Boolean> holdsConnection = ThreadLocal.withInitial(() -> false);
+    private final CounterRow counter = new CounterRow();
+
+    @Test
+    void allocatesOnTheCallersConnectionWithoutReusingNumbers() throws Exception {
+        assertUniqueNumbers(new EnrollmentNumberAllocator(counter, 1));
+    }
+
+    @Test
+    void sharesBlocksOnlyAfterTheyAreCommitted() throws Exception {
+        assertUniqueNumbers(new EnrollmentNumberAllocator(counter, 5));
+    }
+
+    @Test
+    void rejectsABlockSizeBelowOne() {
+        assertThrows(IllegalArgumentException.class, () -> new EnrollmentNumberAllocator(counter, 0));
+        assertThrows(IllegalArgumentException.class, () -> new EnrollmentNumberAllocator(counter, -1));
+    }
+
+    private void assertUniqueNumbers(EnrollmentNumberAllocator allocator) throws Exception {
+        ExecutorService threads = Executors.newFixedThreadPool(THREADS);
+        List<Future<List<String>>> results = new ArrayList<>();
+        for (int t = 0; t < THREADS; t++) {
+            results.add(threads.submit(() -> enroll(allocator)));
+        }
+
+        Set<String> committed = new HashSet<>();
+        int count = 0;
+        for (Future<List<String>> result : results) {
+            // sem deadlock: todas as threads terminam mesmo com o pool esgotado
+            List<String> numbers = result.get(10, TimeUnit.SECONDS);
+            committed.addAll(numbers);
+            count += numbers.size();
+        }
+        threads.shutdownNow();
+
+        assertEquals(count, committed.size(), "an enrollment number was handed out twice");
+        assertTrue(counter.allocationsWithoutConnection == 0, "allocated outside the caller's connection");
+    }
+
+    // Cada iteração é uma transação: pega uma conexão, matricula, faz commit (ou rollback a cada 7)
+    private List<String> enroll(EnrollmentNumberAllocator allocator) throws InterruptedException {
+        List<String> committed = new ArrayList<>();
+        for (int i = 0; i < ENROLLMENTS_PER_THREAD; i++) {
+            pool.acquire();
+            holdsConnection.set(true);
+            TransactionSynchronizationManager.initSynchronization();
+            boolean commit = i % 7 != 6;
+            try {
+                Enrollment enrollment = allocator.next();
+                if (commit) {
+                    committed.add(enrollment.enrollmentNumber());
+                }
+            } finally {
+                counter.endTransaction(commit);
+                for (TransactionSynchronization synchronization : TransactionSynchronizationManager.getSynchronizations()) {
+                    synchronization.afterCompletion(commit
+                            ? TransactionSynchronization.STATUS_COMMITTED
+                            : TransactionSynchronization.STATUS_ROLLED_BACK);
+                }
+                TransactionSynchronizationManager.clearSynchronization();
+                holdsConnection.set(false);
+                pool.release();
+            }
+        }
+        return committed;
+    }
+
+    /**
+     * The counter row: locked by the first allocation of a transaction
+     * until it ends; a rollback undoes its allocations.
+     */
+    private class CounterRow implements EnrollmentSequenceRepository {
+
+        private final ReentrantLock rowLock = new ReentrantLock();
+        private final ThreadLocal<Long> uncommitted = ThreadLocal.withInitial(() -> 0L);
+        private long lastValue;
+        private volatile int allocationsWithoutConnection;
+
+        @Override
+        public long allocate(LocalDate enrollmentDate, int count) {
+            if (!holdsConnection.get()) {
+                allocationsWithoutConnection++;
+            }
+            if (!rowLock.isHeldByCurrentThread()) {
+                rowLock.lock();
+            }
+            uncommitted.set(uncommitted.get() + count);
+            lastValue += count;
+            return lastValue;
+        }
+
+        void endTransaction(boolean commit) {
+            if (rowLock.isHeldByCurrentThread()) {
+                if (!commit) {
+                    lastValue -= uncommitted.get();
+                }
+                uncommitted.set(0L);
+                rowLock.unlock();
+            }
+        }
+    }
+}
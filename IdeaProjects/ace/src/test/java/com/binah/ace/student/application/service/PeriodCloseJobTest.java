@@ -0,0 +1,103 @@
+package com.binah.ace.student.application.service;
+
+import com.binah.ace.student.domain.entity.PeriodClosure;
+import com.binah.ace.student.domain.enums.PeriodClosureStatus;
+import com.binah.ace.student.domain.repository.AcademicHistoryRepository;
+import com.binah.ace.student.domain.repository.AttendanceRepository;
+import com.binah.ace.student.domain.repository.GradeAggregateRepository;
+import com.binah.ace.student.domain.repository.PeriodClosureRepository;
+import com.binah.ace.student.domain.repository.ReportCardViewRepository;
+import com.binah.ace.student.domain.repository.StudentRepository;
+import com.binah.ace.student.domain.valueobject.AcademicPeriod;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * A run must always leave RUNNING, whatever fails along the way.
+ */
+class PeriodCloseJobTest {
+
+    private static final AcademicPeriod PERIOD = AcademicPeriod.of(2026, 1);
+
+    private final StudentRepository studentRepository = mock(StudentRepository.class);
+    private final PeriodClosureRepository periodClosureRepository = mock(PeriodClosureRepository.class);
+
+    private PeriodCloseJob job;
+
+    @AfterEach
+    void tearDown() {
+        if (job != null) {
+            job.shutdown();
+        }
+    }
+
+    @Test
+    void finishesARunThatFailedBeforeRecordingItsError() {
+        PeriodClosure closure = closure(PeriodClosureStatus.RUNNING);
+        when(studentRepository.findActiveStudentIds())
+                .thenThrow(new DataAccessResourceFailureException("connection reset"));
+        doThrow(new DataAccessResourceFailureException("connection reset"))
+                .when(periodClosureRepository).addProgress(eq(closure.getId()), anyInt(), anyInt(), any());
+        when(periodClosureRepository.finish(closure.getId())).thenReturn(closure(PeriodClosureStatus.FAILED));
+
+        job = job(Duration.ofMinutes(1));
+        job.submit(closure);
+
+        verify(periodClosureRepository, timeout(5_000)).finish(closure.getId());
+    }
+
+    @Test
+    void rejectsAHeartbeatIntervalBelowOneMillisecond() {
+        assertThrows(IllegalArgumentException.class, () -> job(Duration.ZERO));
+        assertThrows(IllegalArgumentException.class, () -> job(Duration.ofNanos(500)));
+        assertThrows(IllegalArgumentException.class, () -> job(Duration.ofSeconds(-1)));
+    }
+
+    private PeriodCloseJob job(Duration heartbeatInterval) {
+        return new PeriodCloseJob(
+                studentRepository,
+                mock(GradeAggregateRepository.class),
+                mock(AttendanceRepository.class),
+                mock(AcademicHistoryRepository.class),
+                periodClosureRepository,
+                mock(ReportCardViewRepository.class),
+                mock(PlatformTransactionManager.class),
+                new SimpleMeterRegistry(),
+                2,
+                100,
+                heartbeatInterval
+        );
+    }
+
+    private PeriodClosure closure(PeriodClosureStatus status) {
+        return new PeriodClosure(
+                UUID.nameUUIDFromBytes("2026-1".getBytes()),
+                PERIOD,
+                status,
+                0,
+                0,
+                0,
+                null,
+                UUID.randomUUID(),
+                LocalDateTime.of(2026, 7, 1, 8, 0),
+                null
+        );
+    }
+}
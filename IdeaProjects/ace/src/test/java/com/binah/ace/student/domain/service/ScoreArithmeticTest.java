@@ -0,0 +1,139 @@
+package com.binah.ace.student.domain.service;
+
+import com.binah.ace.student.domain.entity.AcademicHistory;
+import com.binah.ace.student.domain.entity.Grade;
+import com.binah.ace.student.domain.enums.AssessmentType;
+import com.binah.ace.student.domain.valueobject.AcademicPeriod;
+import com.binah.ace.student.domain.valueobject.GPA;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * The fixed-point paths must return exactly the BigDecimal they replace
+ * (same value AND same scale).
+ */
+class ScoreArithmeticTest {
+
+    private static final AcademicPeriod PERIOD = AcademicPeriod.of(2026, 1);
+
+    private final Random random = new Random(20260215);
+
+    @Test
+    void divideHalfUpMatchesBigDecimal() {
+        for (int i = 0; i < 100_000; i++) {
+            long dividend = random.nextInt(2_000_001) - 1_000_000;
+            long divisor = random.nextInt(2_001) - 1_000;
+            if (divisor == 0) {
+                continue;
+            }
+
+            BigDecimal expected = BigDecimal.valueOf(dividend)
+                    .divide(BigDecimal.valueOf(divisor), 0, RoundingMode.HALF_UP);
+
+            assertEquals(expected.longValueExact(), ScoreArithmetic.divideHalfUp(dividend, divisor),
+                    dividend + " / " + divisor);
+        }
+    }
+
+    @Test
+    void weightedAverageMatchesBigDecimal() {
+        for (int run = 0; run < 2_000; run++) {
+            List<Grade> grades = randomGrades(1 + random.nextInt(60));
+
+            assertEquals(referenceWeightedAverage(grades), GpaCalculator.weightedAverage(grades));
+        }
+    }
+
+    @Test
+    void weightedScoreMatchesBigDecimal() {
+        for (Grade grade : randomGrades(10_000)) {
+            BigDecimal expected = grade.getScore().multiply(grade.getWeight());
+
+            assertEquals(expected, grade.getWeightedScore());
+        }
+    }
+
+    @Test
+    void attendancePercentageMatchesBigDecimal() {
+        for (int i = 0; i < 20_000; i++) {
+            int total = 1 + random.nextInt(400);
+            int attended = random.nextInt(total + 1);
+
+            AcademicHistory history = new AcademicHistory(UUID.randomUUID(), UUID.randomUUID(), PERIOD);
+            history.updateAttendance(total, attended);
+
+            BigDecimal expected = BigDecimal.valueOf(attended)
+                    .multiply(BigDecimal.valueOf(100))
+                    .divide(BigDecimal.valueOf(total), 2, RoundingMode.HALF_UP);
+
+            assertEquals(expected, history.getAttendancePercentage());
+        }
+    }
+
+    @Test
+    void gradesWithMoreDecimalsFallBackToBigDecimal() {
+        List<Grade> grades = List.of(
+                grade(new BigDecimal("8.555"), new BigDecimal("1.5")),
+                grade(new BigDecimal("6.25"), BigDecimal.ONE)
+        );
+
+        assertEquals(referenceWeightedAverage(grades), GpaCalculator.weightedAverage(grades));
+        assertEquals(new BigDecimal("8.555").multiply(new BigDecimal("1.5")), grades.get(0).getWeightedScore());
+    }
+
+    private List<Grade> randomGrades(int count) {
+        List<Grade> grades = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            // mixes scales 0..2, as scores arrive from GraphQL (8.5) and from the database (8.50)
+            int scoreScale = random.nextInt(3);
+            int weightScale = random.nextInt(3);
+            BigDecimal score = BigDecimal.valueOf(random.nextInt(1_001), 2).setScale(scoreScale, RoundingMode.DOWN);
+            BigDecimal weight = BigDecimal.valueOf(1 + random.nextInt(500), 2).setScale(weightScale, RoundingMode.UP);
+            grades.add(grade(score, weight));
+        }
+        return grades;
+    }
+
+    private Grade grade(BigDecimal score, BigDecimal weight) {
+        return new Grade(
+                UUID.randomUUID(),
+                UUID.randomUUID(),
+                UUID.randomUUID(),
+                AssessmentType.EXAM,
+                PERIOD,
+                score,
+                weight,
+                null,
+                LocalDate.of(2026, 3, 10),
+                UUID.randomUUID()
+        );
+    }
+
+    /**
+     * The BigDecimal implementation before the fixed-point engine.
+     */
+    private GPA referenceWeightedAverage(List<Grade> grades) {
+        BigDecimal totalWeightedScore = BigDecimal.ZERO;
+        BigDecimal totalWeight = BigDecimal.ZERO;
+
+        for (Grade grade : grades) {
+            totalWeightedScore = totalWeightedScore.add(grade.getScore().multiply(grade.getWeight()));
+            totalWeight = totalWeight.add(grade.getWeight());
+        }
+
+        if (totalWeight.compareTo(BigDecimal.ZERO) == 0) {
+            return GPA.of(0.0);
+        }
+
+        return new GPA(totalWeightedScore.divide(totalWeight, 2, RoundingMode.HALF_UP));
+    }
+}
@@ -0,0 +1,36 @@
+package com.binah.ace.student.domain.valueobject;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * A bimester must fall inside its semester, in dates and in contains().
+ */
+class AcademicPeriodTest {
+
+    @Test
+    void rejectsBimestersOfTheOtherSemester() {
+        assertThrows(IllegalArgumentException.class, () -> AcademicPeriod.of(2026, 1, 3));
+        assertThrows(IllegalArgumentException.class, () -> AcademicPeriod.of(2026, 2, 2));
+    }
+
+    @Test
+    void bimesterDatesFallInsideTheSemester() {
+        for (int bimester = 1; bimester <= 4; bimester++) {
+            AcademicPeriod period = AcademicPeriod.of(2026, (bimester + 1) / 2, bimester);
+            AcademicPeriod semester = period.semesterPeriod();
+
+            assertTrue(!period.startDate().isBefore(semester.startDate()));
+            assertTrue(!period.endDate().isAfter(semester.endDate()));
+            assertEquals(period, AcademicPeriod.containing(period.startDate()));
+            assertEquals(period, AcademicPeriod.containing(period.endDate()));
+        }
+
+        assertEquals(LocalDate.of(2026, 7, 1), AcademicPeriod.of(2026, 2, 3).startDate());
+    }
+}
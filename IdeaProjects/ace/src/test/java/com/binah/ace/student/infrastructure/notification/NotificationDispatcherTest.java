@@ -0,0 +1,325 @@
+package com.binah.ace.student.infrastructure.notification;
+
+import com.icegreen.greenmail.junit5.GreenMailExtension;
+import com.icegreen.greenmail.util.ServerSetupTest;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.mail.MessagingException;
+import jakarta.mail.internet.MimeMessage;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.SimpleMailMessage;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+
+/**
+ * Dispatcher + SMTP transport against an in-process fake SMTP server,
+ * with the database queue replaced by an in-memory one.
+ */
+class NotificationDispatcherTest {
+
+    @RegisterExtension
+    static final GreenMailExtension greenMail = new GreenMailExtension(ServerSetupTest.SMTP);
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final InMemoryQueue queue = new InMemoryQueue();
+
+    @Test
+    void deliversEverythingQueuedBeforeShutdown() throws Exception {
+        NotificationDispatcher dispatcher = dispatcher(smtp(), 10);
+        dispatcher.start();
+
+        List<EmailMessage> messages = new ArrayList<>();
+        for (int i = 0; i < 30; i++) {
+            String domain = i % 2 == 0 ? "escola.com.br" : "example.com";
+            messages.add(new EmailMessage("aluno" + i + "@" + domain, "Nota " + i, "Corpo " + i));
+        }
+        dispatcher.dispatchAll(messages);
+
+        // stop() drains the queue before returning
+        dispatcher.stop();
+
+        MimeMessage[] received = greenMail.getReceivedMessages();
+        assertEquals(30, received.length);
+        assertEquals(
+                messages.stream().map(EmailMessage::subject).sorted().collect(Collectors.toList()),
+                Arrays.stream(received).map(this::subject).sorted().collect(Collectors.toList())
+        );
+        assertEquals(30.0, meterRegistry.counter("ace.notification.sent").count());
+        assertEquals(0.0, meterRegistry.counter("ace.notification.failed").count());
+        assertEquals(0, queue.pending());
+    }
+
+    @Test
+    void keepsMessagesQueuedWhileStopped() {
+        NotificationDispatcher dispatcher = dispatcher(smtp(), 10);
+
+        // never started: the message waits in the queue instead of being dropped
+        dispatcher.dispatch(new EmailMessage("a@example.com", "s", "b"));
+        assertEquals(0, greenMail.getReceivedMessages().length);
+        assertEquals(1, queue.pending());
+
+        dispatcher.start();
+        dispatcher.stop();
+
+        assertEquals(1, greenMail.getReceivedMessages().length);
+        assertEquals(0, queue.pending());
+    }
+
+    @Test
+    void removesMessagesOnlyAfterTheSendSucceeds() {
+        // the first send fails (SMTP down), the retry goes through
+        AtomicInteger calls = new AtomicInteger();
+        MailTransport smtp = smtp();
+        MailTransport flaky = messages -> {
+            if (calls.getAndIncrement() == 0) {
+                throw new MailSendException("connection refused");
+            }
+            smtp.send(messages);
+        };
+
+        NotificationDispatcher dispatcher = dispatcher(flaky, 10);
+        dispatcher.dispatch(new EmailMessage("a@example.com", "s", "b"));
+        dispatcher.start();
+        awaitEmptyQueue();
+        dispatcher.stop();
+
+        assertEquals(1, greenMail.getReceivedMessages().length);
+        assertEquals(1.0, meterRegistry.counter("ace.notification.failed").count());
+        assertEquals(1.0, meterRegistry.counter("ace.notification.sent").count());
+        assertEquals(0, queue.pending());
+    }
+
+    @Test
+    void givesUpAfterMaxAttempts() {
+        NotificationDispatcher dispatcher = dispatcher(messages -> {
+            throw new MailSendException("mailbox unavailable");
+        }, 3);
+
+        dispatcher.dispatch(new EmailMessage("a@example.com", "s", "b"));
+        dispatcher.start();
+        awaitEmptyQueue();
+        dispatcher.stop();
+
+        assertEquals(3.0, meterRegistry.counter("ace.notification.failed").count());
+        assertEquals(0, queue.pending());
+        assertEquals(List.of("FAILED"), queue.statuses());
+    }
+
+    @Test
+    void retriesOnlyTheMessagesTheServerRefused() {
+        // the first send delivers messages 0 and 2 and refuses message 1
+        AtomicInteger calls = new AtomicInteger();
+        MailTransport smtp = smtp();
+        MailTransport partial = messages -> {
+            if (calls.getAndIncrement() == 0) {
+                smtp.send(List.of(messages.get(0), messages.get(2)));
+                throw new PartialSendException(Set.of(1), new MailSendException("mailbox full"));
+            }
+            smtp.send(messages);
+        };
+
+        NotificationDispatcher dispatcher = dispatcher(partial, 10);
+        dispatcher.dispatchAll(List.of(
+                new EmailMessage("a@example.com", "s0", "b"),
+                new EmailMessage("b@example.com", "s1", "b"),
+                new EmailMessage("c@example.com", "s2", "b")
+        ));
+        dispatcher.start();
+        awaitEmptyQueue();
+        dispatcher.stop();
+
+        assertEquals(
+                List.of("s0", "s1", "s2"),
+                Arrays.stream(greenMail.getReceivedMessages()).map(this::subject).sorted().toList()
+        );
+        assertEquals(1.0, meterRegistry.counter("ace.notification.failed").count());
+        assertEquals(3.0, meterRegistry.counter("ace.notification.sent").count());
+        assertEquals(0, queue.pending());
+    }
+
+    @Test
+    void smtpTransportNamesTheRefusedMessages() {
+        JavaMailSender mailSender = mock(JavaMailSender.class);
+        doAnswer(invocation -> {
+            SimpleMailMessage[] mails = invocation.getArgument(0);
+            throw new MailSendException(Map.of(mails[1], new MessagingException("550 mailbox unavailable")));
+        }).when(mailSender).send(any(SimpleMailMessage[].class));
+
+        MailTransport transport = new SmtpMailTransport(mailSender, "no-reply@ace.local");
+        PartialSendException error = assertThrows(PartialSendException.class, () -> transport.send(List.of(
+                new EmailMessage("a@example.com", "s0", "b"),
+                new EmailMessage("b@example.com", "s1", "b"),
+                new EmailMessage("c@example.com", "s2", "b")
+        )));
+
+        assertEquals(Set.of(1), error.getFailedPositions());
+    }
+
+    @Test
+    void refusesNewMessagesWhenTheQueueIsFull() {
+        NotificationDispatcher dispatcher = dispatcher(smtp(), 10, 2);
+        dispatcher.dispatchAll(List.of(
+                new EmailMessage("a@example.com", "s", "b"),
+                new EmailMessage("b@example.com", "s", "b")
+        ));
+
+        assertThrows(NotificationQueueFullException.class,
+                () -> dispatcher.dispatch(new EmailMessage("c@example.com", "s", "b")));
+        assertEquals(1.0, meterRegistry.counter("ace.notification.rejected").count());
+        assertEquals(2, queue.pending());
+    }
+
+    @Test
+    void rejectsSettingsThatAreNotPositive() {
+        assertThrows(IllegalArgumentException.class, () -> dispatcher(smtp(), 10, 0));
+        assertThrows(IllegalArgumentException.class, () -> dispatcher(smtp(), 0));
+        assertThrows(IllegalArgumentException.class, () -> new NotificationDispatcher(
+                smtp(), queue, meterRegistry, 10, 0, 10,
+                Duration.ofMillis(50), Duration.ofMinutes(5), Duration.ofMillis(1), 10, Duration.ofSeconds(10)));
+        assertThrows(IllegalArgumentException.class, () -> new NotificationDispatcher(
+                smtp(), queue, meterRegistry, 10, 2, 10,
+                Duration.ofMillis(50), Duration.ofMinutes(5), Duration.ZERO, 10, Duration.ofSeconds(10)));
+    }
+
+    // stop() only drains what is already due, so retries scheduled after a backoff are awaited first
+    private void awaitEmptyQueue() {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (queue.pending() > 0 && System.nanoTime() < deadline) {
+            try {
+                Thread.sleep(10);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    private MailTransport smtp() {
+        JavaMailSenderImpl mailSender = new JavaMailSenderImpl();
+        mailSender.setHost("localhost");
+        mailSender.setPort(ServerSetupTest.SMTP.getPort());
+        return new SmtpMailTransport(mailSender, "no-reply@ace.local");
+    }
+
+    private NotificationDispatcher dispatcher(MailTransport transport, int maxAttempts) {
+        return dispatcher(transport, maxAttempts, 10_000);
+    }
+
+    private NotificationDispatcher dispatcher(MailTransport transport, int maxAttempts, long queueCapacity) {
+        return new NotificationDispatcher(
+                transport,
+                queue,
+                meterRegistry,
+                queueCapacity,
+                2,
+                10,
+                Duration.ofMillis(50),
+                Duration.ofMinutes(5),
+                Duration.ofMillis(1),
+                maxAttempts,
+                Duration.ofSeconds(10)
+        );
+    }
+
+    private String subject(MimeMessage message) {
+        try {
+            return message.getSubject();
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Same claim/lease/retry rules as JdbcNotificationQueue.
+     */
+    private static class InMemoryQueue implements NotificationQueue {
+
+        private final Map<Long, Row> rows = new LinkedHashMap<>();
+        private long nextId = 1;
+
+        @Override
+        public synchronized void addAll(List<EmailMessage> messages) {
+            for (EmailMessage message : messages) {
+                rows.put(nextId, new Row(nextId, message));
+                nextId++;
+            }
+        }
+
+        @Override
+        public synchronized List<QueuedEmail> claim(int limit, Duration lease) {
+            Instant now = Instant.now();
+            List<QueuedEmail> claimed = new ArrayList<>();
+            for (Row row : rows.values()) {
+                if (claimed.size() == limit) {
+                    break;
+                }
+                if (row.status.equals("PENDING") && !row.availableAt.isAfter(now)) {
+                    row.attempts++;
+                    row.availableAt = now.plus(lease);
+                    claimed.add(new QueuedEmail(row.id, row.message, row.attempts));
+                }
+            }
+            return claimed;
+        }
+
+        @Override
+        public synchronized void remove(List<QueuedEmail> emails) {
+            emails.forEach(email -> rows.remove(email.id()));
+        }
+
+        @Override
+        public synchronized void retry(List<QueuedEmail> emails, String error, Duration backoff, int maxAttempts) {
+            for (QueuedEmail email : emails) {
+                Row row = rows.get(email.id());
+                row.status = row.attempts >= maxAttempts ? "FAILED" : "PENDING";
+                row.availableAt = Instant.now().plus(backoff.multipliedBy(row.attempts));
+            }
+        }
+
+        @Override
+        public synchronized long pending() {
+            return rows.values().stream().filter(row -> row.status.equals("PENDING")).count();
+        }
+
+        @Override
+        public synchronized long pending(long limit) {
+            return Math.min(pending(), limit);
+        }
+
+        synchronized List<String> statuses() {
+            return rows.values().stream().map(row -> row.status).toList();
+        }
+
+        private static class Row {
+            private final long id;
+            private final EmailMessage message;
+            private String status = "PENDING";
+            private int attempts;
+            private Instant availableAt = Instant.EPOCH;
+
+            Row(long id, EmailMessage message) {
+                this.id = id;
+                this.message = message;
+            }
+        }
+    }
+}
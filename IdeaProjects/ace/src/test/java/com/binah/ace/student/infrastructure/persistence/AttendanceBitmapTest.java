@@ -0,0 +1,88 @@
+package com.binah.ace.student.infrastructure.persistence;
+
+import com.binah.ace.student.domain.enums.AttendanceStatus;
+import com.binah.ace.student.domain.valueobject.AcademicPeriod;
+import com.binah.ace.student.domain.valueobject.AttendanceSummary;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+/**
+ * Counts from bitmap cardinality must match counting the records one by one.
+ */
+class AttendanceBitmapTest {
+
+    private final UUID studentId = UUID.randomUUID();
+    private final UUID classroomSubjectId = UUID.randomUUID();
+
+    @Test
+    void daysAreCountedFromTheStartOfTheSemester() {
+        assertEquals(0, AttendanceBitmap.dayOf(LocalDate.of(2026, 1, 1)));
+        assertEquals(180, AttendanceBitmap.dayOf(LocalDate.of(2026, 6, 30)));
+        assertEquals(0, AttendanceBitmap.dayOf(LocalDate.of(2026, 7, 1)));
+        assertEquals(2, AttendanceBitmap.semesterOf(LocalDate.of(2026, 12, 31)));
+    }
+
+    @Test
+    void recordingADayAgainReplacesItsStatus() {
+        LocalDate day = LocalDate.of(2026, 3, 2);
+        AttendanceBitmap bitmap = AttendanceBitmap.of(studentId, classroomSubjectId, day);
+
+        bitmap.record(day, AttendanceStatus.ABSENT);
+        bitmap.record(day, AttendanceStatus.EXCUSED);
+
+        assertEquals(Optional.of(AttendanceStatus.EXCUSED), bitmap.statusOn(day));
+        assertEquals(Optional.empty(), bitmap.statusOn(day.plusDays(1)));
+        assertEquals(1, bitmap.summarize(day, day).totalClasses());
+    }
+
+    @Test
+    void summarizesOnlyTheDaysOfThePeriod() {
+        AcademicPeriod semester = AcademicPeriod.of(2026, 1);
+        AcademicPeriod secondBimester = AcademicPeriod.of(2026, 1, 2);
+        AttendanceBitmap bitmap = AttendanceBitmap.of(studentId, classroomSubjectId, semester.startDate());
+
+        AttendanceStatus[] statuses = AttendanceStatus.values();
+        long total = 0, attended = 0, unexcused = 0;
+        long bimesterTotal = 0, bimesterAttended = 0, bimesterUnexcused = 0;
+        int i = 0;
+        for (LocalDate day = semester.startDate(); !day.isAfter(semester.endDate()); day = day.plusDays(2), i++) {
+            AttendanceStatus status = statuses[i % statuses.length];
+            bitmap.record(day, status);
+
+            total++;
+            attended += status.countsAsPresent() ? 1 : 0;
+            unexcused += status.isUnexcusedAbsence() ? 1 : 0;
+            if (!day.isBefore(secondBimester.startDate())) {
+                bimesterTotal++;
+                bimesterAttended += status.countsAsPresent() ? 1 : 0;
+                bimesterUnexcused += status.isUnexcusedAbsence() ? 1 : 0;
+            }
+        }
+
+        assertEquals(new AttendanceSummary(studentId, classroomSubjectId, total, attended, unexcused),
+                bitmap.summarize(semester.startDate(), semester.endDate()));
+        assertEquals(new AttendanceSummary(studentId, classroomSubjectId, bimesterTotal, bimesterAttended, bimesterUnexcused),
+                bitmap.summarize(secondBimester.startDate(), secondBimester.endDate()));
+    }
+
+    @Test
+    void survivesSerialization() {
+        LocalDate day = LocalDate.of(2026, 8, 14);
+        AttendanceBitmap bitmap = AttendanceBitmap.of(studentId, classroomSubjectId, day);
+        bitmap.record(day, AttendanceStatus.LATE);
+
+        AttendanceBitmap copy = new AttendanceBitmap(studentId, classroomSubjectId, 2026, 2);
+        for (AttendanceStatus status : AttendanceStatus.values()) {
+            copy.deserialize(status, bitmap.serialize(status));
+        }
+
+        assertEquals(Optional.of(AttendanceStatus.LATE), copy.statusOn(day));
+        assertNull(copy.serialize(AttendanceStatus.ABSENT));
+    }
+}
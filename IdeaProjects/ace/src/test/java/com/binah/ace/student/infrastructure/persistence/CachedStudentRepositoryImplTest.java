@@ -0,0 +1,117 @@
+package com.binah.ace.student.infrastructure.persistence;
+
+import com.binah.ace.shared.valueobject.CPF;
+import com.binah.ace.shared.valueobject.Email;
+import com.binah.ace.student.domain.entity.Student;
+import com.binah.ace.student.domain.enums.StudentStatus;
+import com.binah.ace.student.domain.valueobject.Enrollment;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class CachedStudentRepositoryImplTest {
+
+    private final StudentRepositoryImpl delegate = mock(StudentRepositoryImpl.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private CachedStudentRepositoryImpl repository;
+    private Student maria;
+
+    @BeforeEach
+    void setUp() {
+        repository = new CachedStudentRepositoryImpl(delegate, meterRegistry, 100, Duration.ofMinutes(5));
+
+        maria = new Student(
+                UUID.randomUUID(),
+                "Maria da Silva",
+                new CPF("52998224725"),
+                new Email("maria@example.com"),
+                LocalDate.of(2010, 5, 17),
+                null,
+                null,
+                Enrollment.of("20260215-001", LocalDate.of(2026, 2, 15)),
+                StudentStatus.ACTIVE,
+                LocalDate.of(2026, 2, 15),
+                "Responsável",
+                null,
+                new Email("responsavel@example.com"),
+                LocalDateTime.of(2026, 2, 15, 9, 30),
+                LocalDateTime.of(2026, 2, 15, 9, 30)
+        );
+        when(delegate.findById(maria.getId())).thenAnswer(invocation -> Optional.of(maria));
+        when(delegate.findByCPF(maria.getCpf())).thenAnswer(invocation -> Optional.of(maria));
+        when(delegate.save(any())).thenAnswer(invocation -> invocation.getArgument(0));
+    }
+
+    @Test
+    void loadsOnceAndCountsHits() {
+        repository.findById(maria.getId());
+        repository.findById(maria.getId());
+        repository.findByCPF(maria.getCpf());
+        repository.findByCPF(maria.getCpf());
+
+        verify(delegate, times(1)).findById(maria.getId());
+        verify(delegate, times(1)).findByCPF(maria.getCpf());
+        assertEquals(2.0, meterRegistry.get("cache.gets").tag("cache", "students").tag("result", "hit")
+                .functionCounter().count());
+    }
+
+    @Test
+    void changesAreNotVisibleUntilSaved() {
+        repository.findById(maria.getId()).orElseThrow().inactivate();
+
+        assertEquals(StudentStatus.ACTIVE, repository.findById(maria.getId()).orElseThrow().getStatus());
+    }
+
+    @Test
+    void saveEvictsTheStudent() {
+        repository.findByCPF(maria.getCpf());
+
+        Student changed = repository.findById(maria.getId()).orElseThrow();
+        changed.inactivate();
+        repository.save(changed);
+        maria = changed;
+
+        assertEquals(StudentStatus.INACTIVE, repository.findByCPF(maria.getCpf()).orElseThrow().getStatus());
+        verify(delegate, times(2)).findByCPF(maria.getCpf());
+    }
+
+    @Test
+    void broadcastFromAnotherNodeEvictsTheStudentAndItsKeys() {
+        repository.findByCPF(maria.getCpf());
+
+        // saved on another node: only the broadcast reaches this one
+        Student changed = repository.findById(maria.getId()).orElseThrow();
+        changed.inactivate();
+        maria = changed;
+        new StudentCacheBroadcastListener(repository).onMessages(List.of(maria.getId().toString()));
+
+        assertEquals(StudentStatus.INACTIVE, repository.findById(maria.getId()).orElseThrow().getStatus());
+        assertEquals(StudentStatus.INACTIVE, repository.findByCPF(maria.getCpf()).orElseThrow().getStatus());
+        verify(delegate, times(2)).findByCPF(maria.getCpf());
+    }
+
+    @Test
+    void reconnectingClearsTheCache() {
+        repository.findById(maria.getId());
+
+        new StudentCacheBroadcastListener(repository).onReconnected();
+        repository.findById(maria.getId());
+
+        verify(delegate, times(2)).findById(maria.getId());
+    }
+}
@@ -0,0 +1,84 @@
+package com.binah.ace.student.infrastructure.persistence;
+
+import com.binah.ace.student.domain.entity.Grade;
+import com.binah.ace.student.domain.enums.AssessmentType;
+import com.binah.ace.student.domain.valueobject.AcademicPeriod;
+import com.binah.ace.student.domain.valueobject.GPA;
+import com.binah.ace.student.domain.valueobject.ReportCard;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * The stored document must give back the report card exactly as built.
+ */
+class ReportCardViewRepositoryImplTest {
+
+    private static final AcademicPeriod PERIOD = AcademicPeriod.of(2026, 1);
+
+    private final ReportCardViewRepositoryImpl repository =
+            new ReportCardViewRepositoryImpl(null, Jackson2ObjectMapperBuilder.json().build());
+
+    @Test
+    void documentRoundTripsTheReportCard() {
+        UUID studentId = UUID.randomUUID();
+        UUID math = UUID.randomUUID();
+        UUID history = UUID.randomUUID();
+
+        ReportCard reportCard = ReportCard.of(
+                studentId,
+                "Maria da Conceição Silva",
+                "20260215-001",
+                PERIOD,
+                new GPA(new BigDecimal("7.75")),
+                new BigDecimal("92.50"),
+                true,
+                Map.of(
+                        math, List.of(grade(studentId, math, "8.50", 1), grade(studentId, math, "7.00", 2)),
+                        history, List.of(grade(studentId, history, "7.75", 1))
+                )
+        );
+
+        ReportCard read = repository.read(studentId, PERIOD, repository.write(reportCard));
+
+        assertEquals(reportCard.studentName(), read.studentName());
+        assertEquals(reportCard.gpa(), read.gpa());
+        assertEquals(reportCard.attendancePercentage(), read.attendancePercentage());
+        assertEquals(reportCard.subjectAverages(), read.subjectAverages());
+        assertEquals(new BigDecimal("7.75"), read.subjectAverages().get(math));
+
+        Grade original = reportCard.gradesBySubject().get(math).get(1);
+        Grade copy = read.gradesBySubject().get(math).get(1);
+        assertEquals(original.getId(), copy.getId());
+        assertEquals(original.getScore(), copy.getScore());
+        assertEquals(original.getAcademicPeriod(), copy.getAcademicPeriod());
+        assertEquals(original.getAssessmentDate(), copy.getAssessmentDate());
+        assertEquals(original.getCreatedAt(), copy.getCreatedAt());
+    }
+
+    private Grade grade(UUID studentId, UUID classroomSubjectId, String score, int bimester) {
+        return new Grade(
+                UUID.randomUUID(),
+                studentId,
+                classroomSubjectId,
+                AssessmentType.EXAM,
+                AcademicPeriod.of(2026, 1, bimester),
+                new BigDecimal(score),
+                BigDecimal.ONE,
+                "Prova",
+                LocalDate.of(2026, 3, 10),
+                null,
+                UUID.randomUUID(),
+                LocalDateTime.of(2026, 3, 10, 14, 0),
+                LocalDateTime.of(2026, 3, 10, 14, 0)
+        );
+    }
+}
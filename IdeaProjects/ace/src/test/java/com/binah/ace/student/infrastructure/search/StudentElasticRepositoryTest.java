@@ -0,0 +1,175 @@
+package com.binah.ace.student.infrastructure.search;
+
+import com.binah.ace.shared.valueobject.CPF;
+import com.binah.ace.shared.valueobject.Email;
+import com.binah.ace.student.domain.entity.Student;
+import com.binah.ace.student.domain.enums.StudentStatus;
+import com.binah.ace.student.domain.valueobject.Enrollment;
+import com.binah.ace.student.domain.valueobject.StudentSearchHit;
+import com.binah.ace.student.infrastructure.persistence.jpa.StudentJpaEntity;
+import com.binah.ace.student.infrastructure.persistence.jpa.StudentJpaRepository;
+import com.binah.ace.student.infrastructure.persistence.mapper.StudentMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Search against a real on-disk index; the database is replaced by a map.
+ */
+class StudentElasticRepositoryTest {
+
+    @TempDir
+    Path indexPath;
+
+    private final StudentMapper mapper = new StudentMapper();
+    private final Map<UUID, StudentJpaEntity> database = new HashMap<>();
+    private final StudentJpaRepository jpaRepository = mock(StudentJpaRepository.class);
+
+    private StudentElasticRepository repository;
+    private Student maria;
+    private Student joao;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() throws Exception {
+        when(jpaRepository.findAllById(any())).thenAnswer(invocation ->
+                ((Collection<UUID>) invocation.getArgument(0)).stream()
+                        .map(database::get)
+                        .filter(Objects::nonNull)
+                        .collect(Collectors.toList()));
+
+        repository = new StudentElasticRepository(jpaRepository, mapper, indexPath, 50);
+        repository.open();
+
+        maria = student("Maria da Conceição Silva", "52998224725", "maria@example.com", "20260215-001");
+        joao = student("João Pedro Souza", "11144477735", "joao.souza@example.com", "20260215-002");
+        repository.indexAll(List.of(maria, joao));
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        repository.close();
+    }
+
+    @Test
+    void foldsAccents() {
+        assertEquals(List.of(joao.getId()), ids(repository.search("joao")));
+        assertEquals(List.of(maria.getId()), ids(repository.search("CONCEICAO")));
+    }
+
+    @Test
+    void matchesNamePrefixes() {
+        assertEquals(List.of(maria.getId()), ids(repository.searchByName("mar silv")));
+        assertTrue(repository.searchByName("Pedro Silva").isEmpty());
+    }
+
+    @Test
+    void findsByCpfEmailAndEnrollment() {
+        assertEquals(List.of(maria.getId()), ids(repository.search("529.982")));
+        assertEquals(List.of(joao.getId()), ids(repository.search("Joao.Souza@example.com")));
+        assertEquals(List.of(joao.getId()), ids(repository.search("20260215-002")));
+    }
+
+    @Test
+    void toleratesTypos() {
+        assertEquals(List.of(maria.getId()), ids(repository.fuzzySearch("Mraia Conceicao")));
+    }
+
+    @Test
+    void reindexReplacesAndDeleteRemoves() {
+        maria.inactivate();
+        repository.indexAll(List.of(maria));
+
+        assertEquals(List.of(maria.getId()), ids(repository.searchByStatus("inactive")));
+        assertEquals(2, repository.getStatistics().totalStudents());
+
+        repository.deleteAll(List.of(maria.getId()));
+
+        assertTrue(repository.search("maria").isEmpty());
+        assertEquals(1, repository.getStatistics().activeStudents());
+        assertEquals(List.of(joao.getId()), repository.findIndexedIds(null, 10));
+    }
+
+    @Test
+    void pagesThroughEqualScoresWithoutGapsOrRepeats() {
+        List<String> cpfs = List.of("12345678143", "23456789254", "34567891309", "45678912445", "56789123563");
+        List<Student> anas = new ArrayList<>();
+        for (int i = 0; i < cpfs.size(); i++) {
+            anas.add(student("Ana Souza", cpfs.get(i), "ana" + i + "@example.com", "20260215-01" + i));
+        }
+        repository.indexAll(anas);
+
+        List<UUID> paged = new ArrayList<>();
+        StudentSearchHit.Position after = null;
+        List<StudentSearchHit> page;
+        do {
+            page = repository.search("ana souza", after, 2);
+            page.forEach(hit -> paged.add(hit.student().getId()));
+            after = page.isEmpty() ? null : page.get(page.size() - 1).position();
+        } while (page.size() == 2);
+
+        assertEquals(ids(repository.search("ana souza")), paged);
+        assertEquals(Set.copyOf(ids(anas)), Set.copyOf(paged));
+    }
+
+    @Test
+    void broadcastListenerAppliesUpdatesAndDeletesFromTheDatabase() {
+        database.get(maria.getId()).setFullName("Maria Aparecida Silva");
+        database.remove(joao.getId());
+
+        SearchIndexBroadcastListener listener = new SearchIndexBroadcastListener(
+                jpaRepository, mapper, repository, mock(StudentSearchIndexInitializer.class));
+        listener.onMessages(List.of(maria.getId().toString(), joao.getId().toString()));
+
+        assertEquals(List.of(maria.getId()), ids(repository.search("aparecida")));
+        assertTrue(repository.search("joao").isEmpty());
+        assertEquals(1, repository.count());
+        assertTrue(repository.lastCommitTime().isPresent());
+    }
+
+    private Student student(String name, String cpf, String email, String enrollment) {
+        Student student = new Student(
+                UUID.randomUUID(),
+                name,
+                new CPF(cpf),
+                new Email(email),
+                LocalDate.of(2010, 5, 17),
+                null,
+                null,
+                Enrollment.of(enrollment, LocalDate.of(2026, 2, 15)),
+                StudentStatus.ACTIVE,
+                LocalDate.of(2026, 2, 15),
+                "Responsável",
+                null,
+                new Email("responsavel@example.com"),
+                LocalDateTime.of(2026, 2, 15, 9, 30),
+                LocalDateTime.of(2026, 2, 15, 9, 30)
+        );
+        database.put(student.getId(), mapper.toJpa(student));
+        return student;
+    }
+
+    private List<UUID> ids(List<Student> students) {
+        return students.stream().map(Student::getId).collect(Collectors.toList());
+    }
+}
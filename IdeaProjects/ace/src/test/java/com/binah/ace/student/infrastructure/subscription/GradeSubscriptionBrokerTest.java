@@ -0,0 +1,138 @@
+package com.binah.ace.student.infrastructure.subscription;
+
+import com.binah.ace.student.domain.entity.Grade;
+import com.binah.ace.student.domain.enums.AssessmentType;
+import com.binah.ace.student.domain.valueobject.AcademicPeriod;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.reactivestreams.Subscription;
+import reactor.adapter.JdkFlowAdapter;
+import reactor.core.Disposable;
+import reactor.core.publisher.BaseSubscriber;
+import reactor.core.publisher.Flux;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.BooleanSupplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Fan-out per student and the per-subscription buffer.
+ */
+class GradeSubscriptionBrokerTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final GradeSubscriptionBroker broker = new GradeSubscriptionBroker(meterRegistry, 2);
+
+    private final UUID maria = UUID.randomUUID();
+    private final UUID joao = UUID.randomUUID();
+
+    @Test
+    void deliversOnlyToTheStudentsSubscribers() {
+        List<Grade> received = new CopyOnWriteArrayList<>();
+        Disposable subscription = grades(maria).subscribe(received::add);
+
+        Grade mariaGrade = grade(maria, 0);
+        broker.publish(List.of(grade(joao, 0), mariaGrade));
+
+        waitFor(() -> received.size() == 1);
+        assertEquals(List.of(mariaGrade), received);
+        assertFalse(broker.hasSubscribers(joao));
+
+        subscription.dispose();
+        assertFalse(broker.hasSubscribers(maria));
+    }
+
+    @Test
+    void slowSubscriberDropsItsOldestGradesWithoutHoldingOthers() {
+        List<Grade> fast = new CopyOnWriteArrayList<>();
+        grades(maria).subscribe(fast::add);
+
+        List<Grade> slow = new CopyOnWriteArrayList<>();
+        BaseSubscriber<Grade> paused = new BaseSubscriber<>() {
+            @Override
+            protected void hookOnSubscribe(Subscription subscription) {
+                // não pede nada até o fim do teste
+            }
+
+            @Override
+            protected void hookOnNext(Grade grade) {
+                slow.add(grade);
+            }
+        };
+        grades(maria).subscribe(paused);
+        assertTrue(broker.hasSubscribers(maria));
+
+        List<Grade> posted = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            posted.add(grade(maria, i));
+            broker.publish(List.of(posted.get(i)));
+            int count = i + 1;
+            waitFor(() -> fast.size() == count);
+        }
+        assertEquals(posted, fast);
+
+        // 1 já entregue ao publishOn + as 2 mais recentes no buffer
+        paused.request(Long.MAX_VALUE);
+        waitFor(() -> slow.size() == 3);
+        assertEquals(List.of(posted.get(0), posted.get(8), posted.get(9)), slow);
+        assertEquals(7.0, meterRegistry.counter("ace.subscriptions.dropped").count());
+    }
+
+    @Test
+    void deliversReportCardChangesReceivedFromTheBroadcast() {
+        List<AcademicPeriod> received = new CopyOnWriteArrayList<>();
+        Disposable subscription = JdkFlowAdapter.flowPublisherToFlux(broker.reportCardChanges(maria))
+                .subscribe(received::add);
+        assertTrue(broker.hasReportCardSubscribers(maria));
+
+        ReportCardBroadcastListener listener = new ReportCardBroadcastListener(broker);
+        AcademicPeriod bimester = AcademicPeriod.of(2026, 1, 2);
+        listener.onMessages(List.of(
+                SubscriptionChannels.reportCardChanged(joao, bimester),
+                SubscriptionChannels.reportCardChanged(maria, bimester),
+                SubscriptionChannels.reportCardChanged(maria, AcademicPeriod.of(2026, 2))
+        ));
+
+        waitFor(() -> received.size() == 2);
+        assertEquals(List.of(bimester, AcademicPeriod.of(2026, 2)), received);
+
+        subscription.dispose();
+        assertFalse(broker.hasReportCardSubscribers(maria));
+    }
+
+    private Flux<Grade> grades(UUID studentId) {
+        return JdkFlowAdapter.flowPublisherToFlux(broker.gradesPosted(studentId));
+    }
+
+    private Grade grade(UUID studentId, int score) {
+        return new Grade(
+                UUID.randomUUID(),
+                studentId,
+                UUID.randomUUID(),
+                AssessmentType.EXAM,
+                AcademicPeriod.of(2026, 1, 1),
+                BigDecimal.valueOf(score),
+                BigDecimal.ONE,
+                null,
+                LocalDate.of(2026, 3, 10),
+                UUID.randomUUID()
+        );
+    }
+
+    private void waitFor(BooleanSupplier condition) {
+        long deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+        while (!condition.getAsBoolean()) {
+            assertTrue(System.nanoTime() < deadline, "timed out");
+            Thread.onSpinWait();
+        }
+    }
+}
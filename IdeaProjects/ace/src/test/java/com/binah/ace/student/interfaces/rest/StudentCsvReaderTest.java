@@ -0,0 +1,89 @@
+package com.binah.ace.student.interfaces.rest;
+
+import com.binah.ace.student.application.usecase.ImportStudentsUseCase.ImportRow;
+import org.junit.jupiter.api.Test;
+
+import java.io.BufferedReader;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class StudentCsvReaderTest {
+
+    @Test
+    void readsSpreadsheetExportWithSemicolons() {
+        List<ImportRow> rows = read("\uFEFFFull Name;CPF;Email;Birth Date;Guardian_Name;guardianEmail\r\n"
+                + "Maria da Silva;529.982.247-25;maria@example.com;2010-05-17;Ana Silva;ana@example.com\r\n"
+                + "\r\n");
+
+        assertEquals(1, rows.size());
+        ImportRow maria = rows.get(0);
+        assertEquals(2, maria.line());
+        assertEquals("529.982.247-25", maria.cpf());
+        assertEquals("Ana Silva", maria.guardianName());
+        assertNull(maria.phone());
+    }
+
+    @Test
+    void readsQuotedFieldsAcrossLines() {
+        List<ImportRow> rows = read("fullName,cpf,email,birthDate,address,guardianName,guardianEmail\n"
+                + "\"Souza, João\",11144477735,joao@example.com,2011-01-02,\"Rua A, 10\nApto \"\"3\"\"\",Pedro,p@example.com\n"
+                + "Ana,12345678909,ana@example.com,2012-03-04,,Rita,r@example.com");
+
+        assertEquals(2, rows.size());
+        assertEquals("Souza, João", rows.get(0).fullName());
+        assertEquals("Rua A, 10\nApto \"3\"", rows.get(0).address());
+        assertEquals(4, rows.get(1).line());
+        assertEquals("", rows.get(1).address());
+    }
+
+    @Test
+    void rejectsMissingColumns() {
+        assertThrows(IllegalArgumentException.class, () -> read("fullName,cpf,email\nMaria,1,m@example.com"));
+    }
+
+    @Test
+    void reportsRowsPastTheLengthLimitsAndKeepsReading() {
+        List<ImportRow> rows = read("fullName,cpf,email,birthDate,guardianName,guardianEmail\n"
+                + "Maria,52998224725,m@example.com,2010-05-17,Ana,a@example.com\n"
+                + "\"" + "x".repeat(50) + "\",1,e,d,g,h\n"
+                + "João," + "1,".repeat(60) + "\n"
+                + "Ana,12345678909,ana@example.com,2012-03-04,Rita,r@example.com", 20, 100);
+
+        assertEquals(4, rows.size());
+        assertNull(rows.get(0).parseError());
+        assertEquals(3, rows.get(1).line());
+        assertEquals("Field longer than 20 characters", rows.get(1).parseError());
+        assertEquals("Row longer than 100 characters", rows.get(2).parseError());
+        assertEquals(5, rows.get(3).line());
+        assertEquals("Ana", rows.get(3).fullName());
+    }
+
+    @Test
+    void reportsUnterminatedQuoteAsTheLastRow() {
+        List<ImportRow> rows = read("fullName,cpf,email,birthDate,guardianName,guardianEmail\n"
+                + "Maria,52998224725,m@example.com,2010-05-17,Ana,a@example.com\n"
+                + "\"Souza, João,11144477735\nAna,12345678909");
+
+        assertEquals(2, rows.size());
+        assertEquals("Maria", rows.get(0).fullName());
+        assertEquals(3, rows.get(1).line());
+        assertTrue(rows.get(1).parseError().startsWith("Unterminated quoted field"));
+    }
+
+    private List<ImportRow> read(String csv) {
+        return read(csv, StudentCsvReader.DEFAULT_MAX_FIELD_LENGTH, StudentCsvReader.DEFAULT_MAX_RECORD_LENGTH);
+    }
+
+    private List<ImportRow> read(String csv, int maxFieldLength, int maxRecordLength) {
+        List<ImportRow> rows = new ArrayList<>();
+        new StudentCsvReader(new BufferedReader(new StringReader(csv)), maxFieldLength, maxRecordLength)
+                .forEachRemaining(rows::add);
+        return rows;
+    }
+}